@@ -83,13 +83,13 @@ public class AdvancedExample {
         catalog.put("currency", "USD");
 
         String toon = Toon.encode(catalog);
-        String json = toApproximateJson(catalog);
+        String json = ToonTranscoder.toonToJson(toon, ToonTranscoder.Options.builder().jsonIndent(2).build());
 
         System.out.println("TOON Format:");
         System.out.println(toon);
         System.out.println();
 
-        System.out.println("Approximate JSON Format:");
+        System.out.println("JSON Format:");
         System.out.println(json);
         System.out.println();
 
@@ -242,30 +242,6 @@ public class AdvancedExample {
         return text.length() / 4;
     }
 
-    private static String toApproximateJson(Map<String, Object> data) {
-        // Very simple JSON approximation for comparison
-        StringBuilder json = new StringBuilder();
-        json.append("{\n");
-        json.append("  \"products\": [\n");
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> products = (List<Map<String, Object>>) data.get("products");
-        for (int i = 0; i < products.size(); i++) {
-            Map<String, Object> p = products.get(i);
-            json.append("    {\n");
-            json.append("      \"id\": \"").append(p.get("id")).append("\",\n");
-            json.append("      \"name\": \"").append(p.get("name")).append("\",\n");
-            json.append("      \"price\": ").append(p.get("price")).append(",\n");
-            json.append("      \"inStock\": ").append(p.get("inStock")).append(",\n");
-            json.append("      \"rating\": ").append(p.get("rating")).append("\n");
-            json.append("    }").append(i < products.size() - 1 ? "," : "").append("\n");
-        }
-        json.append("  ],\n");
-        json.append("  \"total\": ").append(data.get("total")).append(",\n");
-        json.append("  \"currency\": \"").append(data.get("currency")).append("\"\n");
-        json.append("}");
-        return json.toString();
-    }
-
     private static void printSectionHeader(String title) {
         System.out.println("═".repeat(65));
         System.out.println(title);
@@ -0,0 +1,32 @@
+package im.arun.toon4j.example;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Bytes allocated by the current thread, for the examples that measure allocation.
+ * Not every JVM reports it; an unsupported reading is {@code -1}, is carried through
+ * {@link #since(long)} and printed as {@code n/a} rather than as zero.
+ */
+final class AllocationCounter {
+
+    private AllocationCounter() {}
+
+    /** Bytes allocated by the current thread so far, or -1 when the JVM does not report it. */
+    static long current() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()) {
+            return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    /** Bytes allocated by the current thread since {@code before} was read, or -1 if it was -1. */
+    static long since(long before) {
+        return before < 0 ? -1 : current() - before;
+    }
+
+    /** {@code bytes} with thousands separators, or {@code n/a} when it is -1. */
+    static String format(long bytes) {
+        return bytes < 0 ? "n/a" : String.format("%,d", bytes);
+    }
+}
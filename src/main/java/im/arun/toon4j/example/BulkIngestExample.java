@@ -0,0 +1,505 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.DecodeOptions;
+import im.arun.toon4j.Toon;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.regex.Matcher;
+
+/**
+ * Examples of bulk ingest that keeps going past malformed input.
+ * Shows error policies (fail, skip the row, null the field), an error sink with
+ * line/column/reason, and resynchronisation at the next row or top-level key.
+ */
+public class BulkIngestExample {
+
+    public static void main(String[] args) {
+        System.out.println("╔════════════════════════════════════════════════════════════════╗");
+        System.out.println("║          TOON4J Bulk Ingest Examples                          ║");
+        System.out.println("║  Collecting Row Errors Instead of Aborting                    ║");
+        System.out.println("╚════════════════════════════════════════════════════════════════╝\n");
+
+        example1_FailFast();
+        example2_SkipRow();
+        example3_NullField();
+        example4_Throughput();
+        example5_ShortStrings();
+    }
+
+    // ==================== Bulk Ingest ====================
+
+    /**
+     * What to do with a malformed row.
+     */
+    public enum ErrorPolicy {
+        /** Throw {@link IngestException} at the first error. */
+        FAIL,
+        /** Report the error and drop the whole row. */
+        SKIP_ROW,
+        /** Report the error and keep the row with the bad field set to {@code null}. */
+        NULL_FIELD
+    }
+
+    /**
+     * Where an error happened and why; lines and columns are 1-based.
+     */
+    public record IngestError(long line, int column, String table, String reason) {
+        @Override
+        public String toString() {
+            return "line " + line + ", column " + column + (table != null ? " [" + table + "]" : "") + ": " + reason;
+        }
+    }
+
+    @FunctionalInterface
+    public interface ErrorSink {
+        void error(IngestError error);
+    }
+
+    /**
+     * Receives ingested data in document order.
+     */
+    public interface IngestHandler {
+        /** One row of a top-level tabular array. */
+        void row(String table, Map<String, Object> row);
+
+        /** Any other top-level entry, decoded as a whole. */
+        default void entry(String key, Object value) {}
+    }
+
+    public record IngestReport(long rows, long rowsSkipped, long fieldsNulled, long entriesSkipped, long errors) {}
+
+    public static class IngestException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final IngestError error;
+
+        public IngestException(IngestError error) {
+            super(error.toString());
+            this.error = error;
+        }
+
+        public IngestError error() {
+            return error;
+        }
+    }
+
+    /**
+     * Streams a TOON document line by line, so memory stays flat however large the input.
+     *
+     * <p>Rows of top-level tabular arrays ({@code key[N]{fields}:}) are parsed one at a time
+     * and handed to the {@link IngestHandler}; a bad row never affects its neighbours, and a
+     * table whose key or field list is malformed is reported once with all of its rows skipped.
+     * Every other top-level entry is buffered up to the next top-level key and decoded with
+     * {@link Toon#decode}; if that fails the entry is reported and skipped, and ingest
+     * resumes at the next sibling key.
+     */
+    public static final class BulkIngester {
+        private final ErrorPolicy policy;
+        private final ErrorSink sink;
+        private final DecodeOptions decodeOptions;
+
+        private long rows;
+        private long rowsSkipped;
+        private long fieldsNulled;
+        private long entriesSkipped;
+        private long errors;
+
+        private BulkIngester(ErrorPolicy policy, ErrorSink sink, DecodeOptions decodeOptions) {
+            this.policy = policy;
+            this.sink = sink;
+            this.decodeOptions = decodeOptions;
+        }
+
+        public static IngestReport ingest(Reader reader, ErrorPolicy policy, ErrorSink sink, IngestHandler handler) {
+            return ingest(reader, policy, sink, null, handler);
+        }
+
+        public static IngestReport ingest(Reader reader, ErrorPolicy policy, ErrorSink sink,
+                                          DecodeOptions decodeOptions, IngestHandler handler) {
+            BulkIngester ingester = new BulkIngester(policy, sink, decodeOptions);
+            try {
+                ingester.run(reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader, 1 << 16),
+                        handler);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new IngestReport(ingester.rows, ingester.rowsSkipped, ingester.fieldsNulled,
+                    ingester.entriesSkipped, ingester.errors);
+        }
+
+        private void run(BufferedReader reader, IngestHandler handler) throws IOException {
+            StringBuilder entry = new StringBuilder();
+            long entryLine = 0;
+            Table table = null;
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                boolean topLevel = line.charAt(0) != ' ';
+                if (!topLevel) {
+                    if (table != null) {
+                        table.row(line, lineNumber, handler);
+                    } else if (entry.length() > 0) {
+                        entry.append('\n').append(line);
+                    } else {
+                        report(new IngestError(lineNumber, 1, null, "Indented line without a parent key"));
+                    }
+                    continue;
+                }
+
+                // A top-level line ends whatever came before it
+                if (table != null) {
+                    table.finish();
+                    table = null;
+                }
+                flushEntry(entry, entryLine, handler);
+
+                Matcher header = RowParser.tableHeader(line);
+                if (header != null) {
+                    table = new Table(header, lineNumber);
+                } else {
+                    entry.append(line);
+                    entryLine = lineNumber;
+                }
+            }
+            if (table != null) {
+                table.finish();
+            }
+            flushEntry(entry, entryLine, handler);
+        }
+
+        private void flushEntry(StringBuilder entry, long line, IngestHandler handler) {
+            if (entry.length() == 0) {
+                return;
+            }
+            String text = entry.toString();
+            entry.setLength(0);
+            Object decoded;
+            try {
+                decoded = decodeOptions == null ? Toon.decode(text) : Toon.decode(text, decodeOptions);
+            } catch (RuntimeException e) {
+                entriesSkipped++;
+                report(new IngestError(line, 1, null, e.getClass().getSimpleName() + ": " + e.getMessage()));
+                return;
+            }
+            if (decoded instanceof Map<?, ?> map) {
+                for (Map.Entry<?, ?> e : map.entrySet()) {
+                    handler.entry(String.valueOf(e.getKey()), e.getValue());
+                }
+            } else {
+                handler.entry(null, decoded);
+            }
+        }
+
+        private void report(IngestError error) {
+            errors++;
+            if (policy == ErrorPolicy.FAIL) {
+                throw new IngestException(error);
+            }
+            sink.error(error);
+        }
+
+        /**
+         * State of the tabular array being ingested.
+         */
+        private final class Table {
+            final String name;
+            final String[] fields;
+            final char delimiter;
+            final int declared;
+            final long headerLine;
+            /** Set when the length, key or field list is malformed; every row of the table is then skipped. */
+            final boolean broken;
+            int seen;
+
+            Table(Matcher header, long headerLine) {
+                String key = header.group("key").strip();
+                this.delimiter = RowParser.delimiter(header);
+                this.headerLine = headerLine;
+                List<Object> names = new ArrayList<>();
+                int length = -1;
+                boolean malformed = true;
+                try {
+                    length = RowParser.length(header);
+                    key = RowParser.unquote(key);
+                    RowParser.parse(header.group("fields"), 0, delimiter, names);
+                    malformed = false;
+                } catch (IllegalArgumentException e) {
+                    String part = length < 0 ? "Bad length: " : "Bad key: ";
+                    report(new IngestError(headerLine, 1, key, part + e.getMessage()));
+                } catch (RowParser.FieldError e) {
+                    report(new IngestError(headerLine, e.column(), key, "Bad field list: " + e.getMessage()));
+                }
+                this.name = key;
+                this.declared = length;
+                this.broken = malformed;
+                this.fields = names.stream().map(String::valueOf).toArray(String[]::new);
+            }
+
+            void row(String line, long lineNumber, IngestHandler handler) {
+                seen++;
+                if (broken) {
+                    rowsSkipped++;
+                    return;
+                }
+                int start = 0;
+                while (start < line.length() && line.charAt(start) == ' ') {
+                    start++;
+                }
+
+                Object[] values = new Object[fields.length];
+                int[] bad = new int[1];
+                int count = RowParser.parse(line, start, delimiter, (index, value, error) -> {
+                    if (error != null) {
+                        bad[0]++;
+                        report(new IngestError(lineNumber, error.column(), name, error.getMessage()));
+                    } else if (index < values.length) {
+                        values[index] = value;
+                    }
+                });
+                boolean malformed = bad[0] > 0 || count != fields.length;
+                if (count != fields.length) {
+                    // An unterminated quote swallows the rest of the row; it is already reported
+                    if (bad[0] == 0) {
+                        report(new IngestError(lineNumber, start + 1, name,
+                                "Expected " + fields.length + " values but found " + count));
+                    }
+                    bad[0] += Math.max(fields.length - count, 0);
+                }
+
+                if (malformed && policy == ErrorPolicy.SKIP_ROW) {
+                    rowsSkipped++;
+                    return;
+                }
+                fieldsNulled += bad[0];
+                Map<String, Object> row = new LinkedHashMap<>(fields.length * 2);
+                for (int i = 0; i < fields.length; i++) {
+                    row.put(fields[i], values[i]);
+                }
+                rows++;
+                handler.row(name, row);
+            }
+
+            void finish() {
+                if (!broken && seen != declared) {
+                    report(new IngestError(headerLine, 1, name,
+                            "Array declares " + declared + " rows but has " + seen));
+                }
+            }
+        }
+    }
+
+    // ==================== Examples ====================
+
+    private static final String MESSY_INPUT = """
+            source: nightly-export
+            orders[6]{id,customer,amount,note}:
+              1,Alice,299.99,ok
+              2,"Bob,150.00,unterminated
+              3,Charlie,599,"bad \\q escape"
+              4,Dana,75.5
+              5,Eve,120,"fine, quoted"
+              6,Frank,80,ok
+            settings:
+              retries: 3
+              "broken: 1
+            summary:
+              total: 6
+            """.trim();
+
+    /**
+     * Example 1: FAIL stops at the first problem
+     */
+    private static void example1_FailFast() {
+        printSectionHeader("Example 1: FAIL Policy");
+
+        System.out.println("TOON Input:");
+        System.out.println(MESSY_INPUT);
+        System.out.println();
+
+        try {
+            BulkIngester.ingest(new StringReader(MESSY_INPUT), ErrorPolicy.FAIL, error -> {}, printingHandler());
+            System.out.println("  Success");
+        } catch (IngestException e) {
+            System.out.println("  Error: " + e.getMessage());
+        }
+        System.out.println();
+    }
+
+    /**
+     * Example 2: SKIP_ROW keeps every good row and reports the rest
+     */
+    private static void example2_SkipRow() {
+        printSectionHeader("Example 2: SKIP_ROW Policy");
+        runWithPolicy(ErrorPolicy.SKIP_ROW);
+    }
+
+    /**
+     * Example 3: NULL_FIELD keeps the row and nulls the bad values
+     */
+    private static void example3_NullField() {
+        printSectionHeader("Example 3: NULL_FIELD Policy");
+        runWithPolicy(ErrorPolicy.NULL_FIELD);
+    }
+
+    /**
+     * Example 4: Streaming a large input with 1% bad rows
+     */
+    private static void example4_Throughput() {
+        printSectionHeader("Example 4: Throughput (1,000,000 rows, 1% bad)");
+
+        int total = 1_000_000;
+        StringBuilder toon = new StringBuilder(total * 32);
+        toon.append("events[").append(total).append("]{id,type,value}:");
+        for (int i = 0; i < total; i++) {
+            toon.append("\n  ").append(i).append(',');
+            toon.append(i % 100 == 42 ? "\"broken" : "click").append(',').append(i % 1000);
+        }
+
+        long[] rows = new long[1];
+        List<IngestError> errors = new ArrayList<>();
+        long start = System.nanoTime();
+        IngestReport report = BulkIngester.ingest(new StringReader(toon.toString()), ErrorPolicy.SKIP_ROW,
+                errors::add, (table, row) -> rows[0]++);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.println("═══════════════════════════════════════════");
+        System.out.printf("Rows ingested: %,d%n", report.rows());
+        System.out.printf("Rows skipped:  %,d%n", report.rowsSkipped());
+        System.out.printf("Errors:        %,d (first: %s)%n", errors.size(), errors.isEmpty() ? "-" : errors.get(0));
+        System.out.printf("Throughput:    %,.0f rows/s, %.1f MB/s%n",
+                total / seconds, toon.length() / seconds / (1024 * 1024));
+        System.out.println("═══════════════════════════════════════════");
+        System.out.println();
+    }
+
+    /**
+     * Example 5: Row parsing cost on tables of short strings
+     */
+    private static void example5_ShortStrings() {
+        printSectionHeader("Example 5: Short Strings (500,000 rows × 6 columns)");
+
+        String[] names = {"alice", "bob", "carol", "dave", "erin", "frank"};
+        String[] cities = {"NYC", "LA", "SF", "\"Austin, TX\"", "Boston", "\"say \\\"hi\\\"\""};
+        List<String> lines = new ArrayList<>(500_000);
+        for (int i = 0; i < 500_000; i++) {
+            lines.add("  " + i + "," + names[i % names.length] + "," + cities[i % cities.length] + ","
+                    + (i % 3 == 0 ? "inactive" : "active") + ",\"" + names[(i / 7) % names.length] + "\",x" + (i % 10));
+        }
+
+        long[] best = {Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE};
+        long[] active = new long[3];
+        for (int round = 0; round < 5; round++) {
+            for (int mode = 0; mode < 3; mode++) {
+                long[] count = new long[1];
+                RowParser.FieldSink sink = (index, value, error) -> {
+                    if (index == 3 && "active".contentEquals((CharSequence) value)) {
+                        count[0]++;
+                    }
+                };
+                long start = System.nanoTime();
+                for (String line : lines) {
+                    switch (mode) {
+                        case 0 -> parseCharByChar(line, 2, ',', sink);
+                        case 1 -> RowParser.parse(line, 2, ',', sink);
+                        default -> RowParser.parseViews(line, 2, ',', sink);
+                    }
+                }
+                best[mode] = Math.min(best[mode], System.nanoTime() - start);
+                active[mode] = count[0];
+            }
+        }
+
+        System.out.println("═══════════════════════════════════════════");
+        System.out.printf("Char by char:      %6.1f ms%n", best[0] / 1_000_000.0);
+        System.out.printf("Bulk copy:         %6.1f ms (%.2fx)%n", best[1] / 1_000_000.0, (double) best[0] / best[1]);
+        System.out.printf("CharSequence view: %6.1f ms (%.2fx)%n", best[2] / 1_000_000.0, (double) best[0] / best[2]);
+        System.out.printf("Active rows:       %,d / %,d / %,d%n", active[0], active[1], active[2]);
+        System.out.println("═══════════════════════════════════════════");
+        System.out.println();
+    }
+
+    // Helper methods
+
+    /**
+     * Row parsing as it was before the bulk-copy fast path: every quoted value built in a
+     * {@code StringBuilder} one character at a time, every token cut and stripped.
+     * Well-formed input only.
+     */
+    private static void parseCharByChar(String line, int start, char delimiter, RowParser.FieldSink sink) {
+        int index = 0;
+        int i = start;
+        while (i <= line.length()) {
+            Object value;
+            if (i < line.length() && line.charAt(i) == '"') {
+                StringBuilder text = new StringBuilder();
+                i++;
+                while (line.charAt(i) != '"') {
+                    char c = line.charAt(i++);
+                    if (c == '\\') {
+                        char next = line.charAt(i++);
+                        text.append(switch (next) {
+                            case 'n' -> '\n';
+                            case 'r' -> '\r';
+                            case 't' -> '\t';
+                            default -> next;
+                        });
+                    } else {
+                        text.append(c);
+                    }
+                }
+                value = text.toString();
+                i++;
+            } else {
+                int end = line.indexOf(delimiter, i);
+                end = end < 0 ? line.length() : end;
+                value = RowParser.primitive(line.substring(i, end).strip());
+                i = end;
+            }
+            sink.field(index++, value, null);
+            i++;
+        }
+    }
+
+    private static void runWithPolicy(ErrorPolicy policy) {
+        List<IngestError> errors = new ArrayList<>();
+        IngestReport report = BulkIngester.ingest(new StringReader(MESSY_INPUT), policy, errors::add, printingHandler());
+        System.out.println();
+
+        System.out.println("Errors:");
+        for (IngestError error : errors) {
+            System.out.println("  " + error);
+        }
+        System.out.println();
+        System.out.println("Report: " + report);
+        System.out.println();
+    }
+
+    private static IngestHandler printingHandler() {
+        return new IngestHandler() {
+            @Override
+            public void row(String table, Map<String, Object> row) {
+                System.out.println("  row " + table + ": " + row);
+            }
+
+            @Override
+            public void entry(String key, Object value) {
+                System.out.println("  entry " + key + ": " + value);
+            }
+        };
+    }
+
+    private static void printSectionHeader(String title) {
+        System.out.println("═".repeat(65));
+        System.out.println(title);
+        System.out.println("═".repeat(65));
+    }
+}
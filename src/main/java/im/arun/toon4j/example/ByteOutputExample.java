@@ -0,0 +1,584 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.EncodeOptions;
+import im.arun.toon4j.Toon;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Examples of writing TOON as UTF-8 bytes without a {@code Writer} in between.
+ * Shows encoding into a caller's {@code ByteBuffer}, and into file and socket channels
+ * through pooled direct buffers flushed with gathering writes.
+ */
+public class ByteOutputExample {
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("╔════════════════════════════════════════════════════════════════╗");
+        System.out.println("║          TOON4J Byte Output Examples                          ║");
+        System.out.println("║  UTF-8 Straight into ByteBuffers and NIO Channels             ║");
+        System.out.println("╚════════════════════════════════════════════════════════════════╝\n");
+
+        Path dir = Files.createTempDirectory("toon-bytes");
+        try {
+            example1_ByteBuffer();
+            example2_FileChannel(dir);
+            example3_SocketChannel();
+            example4_NonAscii();
+        } finally {
+            try (Stream<Path> files = Files.list(dir)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dir);
+        }
+    }
+
+    // ==================== Byte Encoder ====================
+
+    /**
+     * Encodes values as UTF-8 bytes into a {@link ByteBuffer} or a {@link WritableByteChannel}.
+     *
+     * <p>The lines from {@link Toon#encodeLines} are transcoded straight into byte buffers: no
+     * document-sized {@code String}, no {@code OutputStreamWriter} and no {@code CharsetEncoder}.
+     * Runs of ASCII, which is nearly all of a typical document, are copied by a tight loop;
+     * only other characters take the multi-byte path.
+     *
+     * <p>Channel output goes through 64KB direct buffers from a shared pool. Full buffers are
+     * collected and flushed {@value #GATHER} at a time with one gathering write, so the
+     * channel sees few large writes and the bytes never pass through a heap array.
+     */
+    public static final class ToonByteEncoder {
+        static final int BUFFER_SIZE = 64 * 1024;
+        static final int GATHER = 16;
+        static final DirectBufferPool POOL = new DirectBufferPool(BUFFER_SIZE, 4 * GATHER);
+
+        private ToonByteEncoder() {}
+
+        public static int encodeTo(Object value, ByteBuffer target) {
+            return encodeTo(value, target, EncodeOptions.builder().build());
+        }
+
+        /**
+         * Writes the document at the buffer's position and returns the number of bytes written.
+         *
+         * @throws BufferOverflowException if the document does not fit; the position is left
+         *         where it was
+         */
+        public static int encodeTo(Object value, ByteBuffer target, EncodeOptions options) {
+            int start = target.position();
+            boolean first = true;
+            for (String line : Toon.encodeLines(value, options)) {
+                if (!first) {
+                    if (!target.hasRemaining()) {
+                        target.position(start);
+                        throw new BufferOverflowException();
+                    }
+                    target.put((byte) '\n');
+                }
+                first = false;
+                if (Utf8.encode(line, 0, target) < line.length()) {
+                    target.position(start);
+                    throw new BufferOverflowException();
+                }
+            }
+            return target.position() - start;
+        }
+
+        /**
+         * Writes the document to a blocking channel and returns the number of bytes written.
+         */
+        public static long encodeTo(Object value, WritableByteChannel channel, EncodeOptions options) throws IOException {
+            ByteBuffer[] batch = new ByteBuffer[GATHER];
+            int filled = 0;
+            ByteBuffer current = POOL.acquire();
+            long written = 0;
+            try {
+                boolean first = true;
+                for (String line : Toon.encodeLines(value, options)) {
+                    if (!first) {
+                        if (!current.hasRemaining()) {
+                            batch[filled++] = current;
+                            current = null;
+                            if (filled == GATHER) {
+                                written += flush(channel, batch, filled);
+                                filled = 0;
+                            }
+                            current = POOL.acquire();
+                        }
+                        current.put((byte) '\n');
+                    }
+                    first = false;
+                    int from = 0;
+                    while ((from = Utf8.encode(line, from, current)) < line.length()) {
+                        batch[filled++] = current;
+                        current = null;
+                        if (filled == GATHER) {
+                            written += flush(channel, batch, filled);
+                            filled = 0;
+                        }
+                        current = POOL.acquire();
+                    }
+                }
+                batch[filled++] = current;
+                current = null;
+                written += flush(channel, batch, filled);
+                filled = 0;
+                return written;
+            } finally {
+                for (int i = 0; i < filled; i++) {
+                    POOL.release(batch[i]);
+                }
+                if (current != null) {
+                    POOL.release(current);
+                }
+            }
+        }
+
+        /** Writes the buffers in one gathering write where the channel supports it. */
+        private static long flush(WritableByteChannel channel, ByteBuffer[] batch, int count) throws IOException {
+            long total = 0;
+            for (int i = 0; i < count; i++) {
+                batch[i].flip();
+                total += batch[i].remaining();
+            }
+            if (channel instanceof GatheringByteChannel gathering) {
+                long left = total;
+                int offset = 0;
+                while (left > 0) {
+                    left -= gathering.write(batch, offset, count - offset);
+                    while (offset < count && !batch[offset].hasRemaining()) {
+                        offset++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < count; i++) {
+                    while (batch[i].hasRemaining()) {
+                        channel.write(batch[i]);
+                    }
+                }
+            }
+            for (int i = 0; i < count; i++) {
+                POOL.release(batch[i]);
+                batch[i] = null;
+            }
+            return total;
+        }
+    }
+
+    /**
+     * UTF-8 transcoding from chars into a {@link ByteBuffer}.
+     */
+    static final class Utf8 {
+        private static final int SCRATCH_SIZE = 8 * 1024;
+        private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[SCRATCH_SIZE]);
+
+        private Utf8() {}
+
+        /**
+         * Encodes {@code text} from index {@code from} and returns the index of the first char
+         * not written: {@code text.length()} when everything fit. A character is never split
+         * across buffers. Unpaired surrogates become {@code '?'}, as in {@code String.getBytes}.
+         */
+        static int encode(CharSequence text, int from, ByteBuffer out) {
+            int end = text.length();
+            int i = from;
+            while (i < end) {
+                i = copyAscii(text, i, end, out);
+                if (i == end) {
+                    break;
+                }
+                char c = text.charAt(i);
+                if (c < 0x80) {
+                    break; // the buffer is full
+                }
+                if (c < 0x800) {
+                    if (out.remaining() < 2) {
+                        break;
+                    }
+                    out.put((byte) (0xC0 | c >> 6));
+                    out.put((byte) (0x80 | c & 0x3F));
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    if (out.remaining() < 3) {
+                        break;
+                    }
+                    out.put((byte) (0xE0 | c >> 12));
+                    out.put((byte) (0x80 | c >> 6 & 0x3F));
+                    out.put((byte) (0x80 | c & 0x3F));
+                    i++;
+                } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    if (out.remaining() < 4) {
+                        break;
+                    }
+                    int codePoint = Character.toCodePoint(c, text.charAt(i + 1));
+                    out.put((byte) (0xF0 | codePoint >> 18));
+                    out.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                    out.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                    out.put((byte) (0x80 | codePoint & 0x3F));
+                    i += 2;
+                } else {
+                    if (!out.hasRemaining()) {
+                        break;
+                    }
+                    out.put((byte) '?');
+                    i++;
+                }
+            }
+            return i;
+        }
+
+        /**
+         * Copies chars below 0x80 until a wider char, the end of the text or a full buffer.
+         * Heap buffers are written through their array; direct buffers get the run staged in
+         * a scratch array and one bulk {@code put}, which is far cheaper than a put per byte.
+         */
+        private static int copyAscii(CharSequence text, int from, int end, ByteBuffer out) {
+            int i = from;
+            if (out.hasArray()) {
+                byte[] array = out.array();
+                int base = out.arrayOffset() + out.position() - from;
+                int limit = from + Math.min(end - from, out.remaining());
+                for (char c; i < limit && (c = text.charAt(i)) < 0x80; i++) {
+                    array[base + i] = (byte) c;
+                }
+                out.position(out.position() + (i - from));
+                return i;
+            }
+            byte[] scratch = SCRATCH.get();
+            while (i < end && out.hasRemaining()) {
+                int chunk = Math.min(Math.min(end - i, out.remaining()), SCRATCH_SIZE);
+                int n = 0;
+                for (char c; n < chunk && (c = text.charAt(i + n)) < 0x80; n++) {
+                    scratch[n] = (byte) c;
+                }
+                out.put(scratch, 0, n);
+                i += n;
+                if (n < chunk) {
+                    break;
+                }
+            }
+            return i;
+        }
+    }
+
+    /**
+     * A bounded pool of equal-sized direct buffers. Direct buffers are expensive to allocate
+     * and are freed only when collected, so they are kept and reused instead.
+     */
+    static final class DirectBufferPool {
+        private final int bufferSize;
+        private final int maxPooled;
+        private final ConcurrentLinkedQueue<ByteBuffer> free = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pooled = new AtomicInteger();
+        private final AtomicLong allocated = new AtomicLong();
+
+        DirectBufferPool(int bufferSize, int maxPooled) {
+            this.bufferSize = bufferSize;
+            this.maxPooled = maxPooled;
+        }
+
+        ByteBuffer acquire() {
+            ByteBuffer buffer = free.poll();
+            if (buffer == null) {
+                allocated.incrementAndGet();
+                return ByteBuffer.allocateDirect(bufferSize);
+            }
+            pooled.decrementAndGet();
+            return buffer;
+        }
+
+        void release(ByteBuffer buffer) {
+            if (pooled.incrementAndGet() <= maxPooled) {
+                free.offer(buffer.clear());
+            } else {
+                pooled.decrementAndGet();
+            }
+        }
+
+        /** Buffers allocated since the pool was created. */
+        long allocated() {
+            return allocated.get();
+        }
+    }
+
+    // ==================== Examples ====================
+
+    /**
+     * Example 1: Encoding into a ByteBuffer
+     */
+    private static void example1_ByteBuffer() {
+        printSectionHeader("Example 1: Encoding into a ByteBuffer");
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("status", "ok");
+        response.put("users", List.of(
+                Map.of("id", 1, "name", "Alice", "role", "admin"),
+                Map.of("id", 2, "name", "Bob", "role", "user")));
+        byte[] expected = Toon.encode(response).getBytes(StandardCharsets.UTF_8);
+
+        ByteBuffer heap = ByteBuffer.allocate(1024);
+        ByteBuffer direct = ByteBuffer.allocateDirect(1024);
+        int heapBytes = ToonByteEncoder.encodeTo(response, heap);
+        int directBytes = ToonByteEncoder.encodeTo(response, direct);
+
+        System.out.println(new String(heap.array(), 0, heapBytes, StandardCharsets.UTF_8));
+        System.out.println();
+        System.out.println("Heap buffer:   " + heapBytes + " bytes, same as Toon.encode: " + sameBytes(heap, expected));
+        System.out.println("Direct buffer: " + directBytes + " bytes, same as Toon.encode: " + sameBytes(direct, expected));
+
+        ByteBuffer small = ByteBuffer.allocate(16);
+        small.put((byte) '#');
+        try {
+            ToonByteEncoder.encodeTo(response, small);
+        } catch (BufferOverflowException e) {
+            System.out.println("16-byte buffer: BufferOverflowException, position still " + small.position());
+        }
+        System.out.println();
+    }
+
+    /**
+     * Example 2: A large response to a FileChannel
+     */
+    private static void example2_FileChannel(Path dir) throws IOException {
+        printSectionHeader("Example 2: A Large Response to a FileChannel");
+
+        Map<String, Object> response = Map.of("employees", PerfRegressionSuite.employeeRows(100_000));
+        EncodeOptions options = EncodeOptions.builder().build();
+        Path viaWriter = dir.resolve("writer.toon");
+        Path viaChannel = dir.resolve("channel.toon");
+
+        long[] writer = measure(() -> {
+            try (Writer out = Files.newBufferedWriter(viaWriter, StandardCharsets.UTF_8)) {
+                boolean first = true;
+                for (String line : Toon.encodeLines(response, options)) {
+                    if (!first) {
+                        out.write('\n');
+                    }
+                    first = false;
+                    out.write(line);
+                }
+            }
+        });
+        long[] channel = measure(() -> {
+            try (FileChannel out = FileChannel.open(viaChannel, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ToonByteEncoder.encodeTo(response, out, options);
+            }
+        });
+
+        System.out.printf("Document: %,d bytes%n%n", Files.size(viaChannel));
+        System.out.printf("%-28s %10s %14s%n", "", "time", "allocated");
+        System.out.printf("%-28s %8.1fms %12s B%n", "Writer (OutputStreamWriter)", writer[0] / 1e6,
+                AllocationCounter.format(writer[1]));
+        System.out.printf("%-28s %8.1fms %12s B%n", "encodeTo(FileChannel)", channel[0] / 1e6,
+                AllocationCounter.format(channel[1]));
+        System.out.println();
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.printf("Speedup: %.2fx, files identical: %s%n", (double) writer[0] / channel[0],
+                Files.mismatch(viaWriter, viaChannel) == -1);
+        System.out.println("Both include encoding the value; the difference is char-to-byte egress.");
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println();
+    }
+
+    /**
+     * Example 3: Responses over a SocketChannel
+     */
+    private static void example3_SocketChannel() throws IOException {
+        printSectionHeader("Example 3: Responses over a SocketChannel");
+
+        Map<String, Object> response = Map.of("employees", PerfRegressionSuite.employeeRows(20_000));
+        EncodeOptions options = EncodeOptions.builder().build();
+        int responses = 20;
+
+        try (ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress("127.0.0.1", 0));
+            AtomicLong received = new AtomicLong();
+            Thread drain = new Thread(() -> {
+                try (SocketChannel peer = server.accept()) {
+                    ByteBuffer in = ByteBuffer.allocateDirect(1 << 16);
+                    int n;
+                    while ((n = peer.read(in)) >= 0) {
+                        received.addAndGet(n);
+                        in.clear();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, "drain");
+            drain.start();
+
+            long allocatedBefore = ToonByteEncoder.POOL.allocated();
+            long sent = 0;
+            CountingChannel counted;
+            try (SocketChannel client = SocketChannel.open(server.getLocalAddress())) {
+                counted = new CountingChannel(client);
+                for (int i = 0; i < responses; i++) {
+                    sent += ToonByteEncoder.encodeTo(response, counted, options);
+                }
+            }
+            try {
+                drain.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            System.out.printf("Responses sent:         %,d%n", responses);
+            System.out.printf("Bytes sent / received:  %,d / %,d%n", sent, received.get());
+            System.out.printf("Write calls:            %,d (%,d gathering)%n", counted.writes, counted.gatheringWrites);
+            System.out.printf("Bytes per write call:   %,d%n", sent / counted.writes);
+            System.out.printf("Direct buffers created: %,d for %,d responses%n",
+                    ToonByteEncoder.POOL.allocated() - allocatedBefore, responses);
+        }
+        System.out.println();
+        System.out.println("Buffers return to the pool after every flush, so later responses");
+        System.out.println("reuse them instead of allocating direct memory.");
+        System.out.println();
+    }
+
+    /**
+     * Example 4: Characters outside ASCII
+     */
+    private static void example4_NonAscii() {
+        printSectionHeader("Example 4: Characters Outside ASCII");
+
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("city", "Zürich");
+        value.put("greeting", "こんにちは");
+        value.put("reaction", "👍 great");
+        value.put("broken", "half \uD83D pair");
+        String text = Toon.encode(value);
+        byte[] expected = text.getBytes(StandardCharsets.UTF_8);
+
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        ToonByteEncoder.encodeTo(value, buffer);
+        System.out.println(new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8));
+        System.out.println();
+        System.out.println("Same bytes as String.getBytes(UTF_8): " + sameBytes(buffer, expected));
+
+        // Tiny buffers force every character to be split across buffer boundaries
+        Random random = new Random(7);
+        String alphabet = "ab,:é€中😀𐀀\uDBFF";
+        int mismatches = 0;
+        for (int round = 0; round < 10_000; round++) {
+            StringBuilder s = new StringBuilder();
+            for (int i = random.nextInt(40); i > 0; i--) {
+                s.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            byte[] want = s.toString().getBytes(StandardCharsets.UTF_8);
+            ByteBuffer all = ByteBuffer.allocate(want.length + 8);
+            ByteBuffer piece = round % 2 == 0 ? ByteBuffer.allocate(4 + round % 3) : ByteBuffer.allocateDirect(4 + round % 3);
+            int from = 0;
+            while (from < s.length()) {
+                from = Utf8.encode(s, from, piece);
+                all.put(piece.flip());
+                piece.clear();
+            }
+            if (!sameBytes(all, want)) {
+                mismatches++;
+            }
+        }
+        System.out.println("Random strings through 4-6 byte buffers: 10,000 checked, " + mismatches + " mismatches");
+        System.out.println();
+    }
+
+    // Helper methods
+
+    private interface IoTask {
+        void run() throws IOException;
+    }
+
+    /** Best-of-five time in nanoseconds and the bytes allocated by that run. */
+    private static long[] measure(IoTask task) throws IOException {
+        long best = Long.MAX_VALUE;
+        long bytes = 0;
+        for (int run = 0; run < 5; run++) {
+            long before = AllocationCounter.current();
+            long start = System.nanoTime();
+            task.run();
+            long time = System.nanoTime() - start;
+            if (time < best) {
+                best = time;
+                bytes = AllocationCounter.since(before);
+            }
+        }
+        return new long[] {best, bytes};
+    }
+
+    private static boolean sameBytes(ByteBuffer buffer, byte[] expected) {
+        if (buffer.position() != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (buffer.get(i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Counts the write calls that reach the wrapped channel. */
+    private static final class CountingChannel implements GatheringByteChannel {
+        private final SocketChannel channel;
+        long writes;
+        long gatheringWrites;
+
+        CountingChannel(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public long write(ByteBuffer[] sources, int offset, int length) throws IOException {
+            writes++;
+            gatheringWrites++;
+            return channel.write(sources, offset, length);
+        }
+
+        @Override
+        public long write(ByteBuffer[] sources) throws IOException {
+            return write(sources, 0, sources.length);
+        }
+
+        @Override
+        public int write(ByteBuffer source) throws IOException {
+            writes++;
+            return channel.write(source);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    private static void printSectionHeader(String title) {
+        System.out.println("═".repeat(65));
+        System.out.println(title);
+        System.out.println("═".repeat(65));
+    }
+}
@@ -0,0 +1,608 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.EncodeOptions;
+import im.arun.toon4j.Toon;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Examples of deterministic (canonical) encoding and content hashing.
+ * Shows how maps and sets with unspecified iteration order are put into a stable order,
+ * and how a 128-bit hash of the would-be output can key a cache before anything is encoded.
+ */
+public class CanonicalEncodingExample {
+
+    public static void main(String[] args) {
+        System.out.println("╔════════════════════════════════════════════════════════════════╗");
+        System.out.println("║          TOON4J Canonical Encoding Examples                   ║");
+        System.out.println("║  Deterministic Output and Streaming Content Hashes            ║");
+        System.out.println("╚════════════════════════════════════════════════════════════════╝\n");
+
+        example1_OrderIndependence();
+        example2_PojoWithSet();
+        example3_CacheKeys();
+        example4_Cost();
+    }
+
+    // ==================== Canonical Encoding ====================
+
+    /**
+     * A 128-bit content hash, printed as 32 hex digits.
+     */
+    public record Hash128(long high, long low) {
+        @Override
+        public String toString() {
+            return String.format("%016x%016x", high, low);
+        }
+    }
+
+    /**
+     * Canonical encoding and hashing.
+     *
+     * <p>Map keys are sorted by their string form and set elements by value, with the
+     * ordering applied through lightweight views so the data is not copied. Sorting a map's
+     * keys is cached per key set: maps built the same way (same keys, same iteration order)
+     * reuse one precomputed permutation instead of comparing strings again. POJOs and
+     * records become sorted property views through the cached {@link TabularSchemaExample.TableSchema}.
+     */
+    public static final class CanonicalToon {
+        private static final int MAX_CACHED_ORDERS = 4096;
+        private static final EncodeOptions ELEMENT_OPTIONS = EncodeOptions.builder().build();
+        private static final Map<KeySet, int[]> ORDERS = new ConcurrentHashMap<>();
+        private static final ClassValue<TabularSchemaExample.Column[]> SORTED_PROPERTIES = new ClassValue<>() {
+            @Override
+            protected TabularSchemaExample.Column[] computeValue(Class<?> type) {
+                return TabularSchemaExample.TableSchema.of(type).columns().stream()
+                        .sorted(Comparator.comparing(TabularSchemaExample.Column::name))
+                        .toArray(TabularSchemaExample.Column[]::new);
+            }
+        };
+
+        private CanonicalToon() {}
+
+        public static String encode(Object value, EncodeOptions options) {
+            return Toon.encode(canonical(value), options);
+        }
+
+        /**
+         * MurmurHash3 (x64, 128-bit) of the UTF-8 bytes of {@code encode(value, options)},
+         * computed line by line from {@link Toon#encodeLines} without building the document.
+         */
+        public static Hash128 hash(Object value, EncodeOptions options) {
+            Murmur3 hasher = new Murmur3();
+            boolean first = true;
+            for (String line : Toon.encodeLines(canonical(value), options)) {
+                if (!first) {
+                    hasher.update('\n');
+                }
+                hasher.update(line);
+                first = false;
+            }
+            return hasher.finish();
+        }
+
+        /** Hashes an already encoded document; equal to {@link #hash} for the same output. */
+        public static Hash128 hashText(CharSequence toon) {
+            Murmur3 hasher = new Murmur3();
+            hasher.update(toon);
+            return hasher.finish();
+        }
+
+        /** The same data in a deterministic order; primitives are returned as they are. */
+        public static Object canonical(Object value) {
+            if (ToonStrings.isPrimitive(value)) {
+                return value;
+            }
+            if (value instanceof Map<?, ?> map) {
+                return new SortedMapView(map);
+            }
+            if (value instanceof Set<?> set) {
+                // Every set, sorted ones included: a set's own comparator is not part of its content
+                return sortedElements(set);
+            }
+            if (value instanceof List<?> list) {
+                return new CanonicalList(list);
+            }
+            if (value instanceof Collection<?> collection) {
+                return new CanonicalList(new ArrayList<>(collection));
+            }
+            if (value instanceof Object[] array) {
+                return new CanonicalList(Arrays.asList(array));
+            }
+            if (value.getClass().isArray()) {
+                return value;
+            }
+            return new PojoView(value);
+        }
+
+        static int cachedOrders() {
+            return ORDERS.size();
+        }
+
+        /** Position order that sorts {@code keys}; cached per key set. */
+        private static int[] order(String[] keys) {
+            KeySet keySet = new KeySet(keys);
+            int[] order = ORDERS.get(keySet);
+            if (order != null) {
+                return order;
+            }
+            Integer[] boxed = new Integer[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                boxed[i] = i;
+            }
+            Arrays.sort(boxed, Comparator.comparing(i -> keys[i]));
+            order = new int[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                order[i] = boxed[i];
+            }
+            if (ORDERS.size() >= MAX_CACHED_ORDERS) {
+                ORDERS.clear();
+            }
+            ORDERS.put(keySet, order);
+            return order;
+        }
+
+        /**
+         * Set elements in canonical order: null, then booleans, numbers and text by value, then
+         * nested data by the hash of its canonical encoding. Each element's sort key is computed
+         * once, so nested elements are encoded once rather than on every comparison.
+         */
+        private static List<Object> sortedElements(Set<?> set) {
+            List<SortKey> keys = new ArrayList<>(set.size());
+            for (Object element : set) {
+                keys.add(SortKey.of(canonical(element)));
+            }
+            keys.sort(null);
+            List<Object> elements = new ArrayList<>(keys.size());
+            for (SortKey key : keys) {
+                elements.add(key.element);
+            }
+            return elements;
+        }
+
+        private static final class SortKey implements Comparable<SortKey> {
+            final Object element;
+            final int rank;
+            final String text;
+            final Hash128 hash;
+
+            private SortKey(Object element, int rank, String text, Hash128 hash) {
+                this.element = element;
+                this.rank = rank;
+                this.text = text;
+                this.hash = hash;
+            }
+
+            static SortKey of(Object element) {
+                if (element == null) {
+                    return new SortKey(null, 0, null, null);
+                }
+                if (element instanceof Boolean) {
+                    return new SortKey(element, 1, null, null);
+                }
+                if (element instanceof Number) {
+                    return new SortKey(element, 2, element.toString(), null);
+                }
+                if (ToonStrings.isPrimitive(element)) {
+                    return new SortKey(element, 3, element instanceof Enum<?> e ? e.name() : element.toString(), null);
+                }
+                return new SortKey(element, 4, null, hash(element, ELEMENT_OPTIONS));
+            }
+
+            @Override
+            public int compareTo(SortKey other) {
+                if (rank != other.rank) {
+                    return Integer.compare(rank, other.rank);
+                }
+                if (rank == 1) {
+                    return ((Boolean) element).compareTo((Boolean) other.element);
+                }
+                if (rank == 2) {
+                    int byValue = Double.compare(((Number) element).doubleValue(), ((Number) other.element).doubleValue());
+                    return byValue != 0 ? byValue : text.compareTo(other.text);
+                }
+                if (rank == 3) {
+                    return text.compareTo(other.text);
+                }
+                if (rank == 4) {
+                    int high = Long.compareUnsigned(hash.high(), other.hash.high());
+                    return high != 0 ? high : Long.compareUnsigned(hash.low(), other.hash.low());
+                }
+                return 0;
+            }
+        }
+
+        /** Keys in iteration order, compared element by element. */
+        private static final class KeySet {
+            private final String[] keys;
+            private final int hash;
+
+            KeySet(String[] keys) {
+                this.keys = keys;
+                this.hash = Arrays.hashCode(keys);
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return other instanceof KeySet that && hash == that.hash && Arrays.equals(keys, that.keys);
+            }
+
+            @Override
+            public int hashCode() {
+                return hash;
+            }
+        }
+
+        /** A map's entries in sorted key order, with canonical values. */
+        private static final class SortedMapView extends AbstractMap<String, Object> {
+            private final Map<?, ?> source;
+            private final Object[] keys;
+            private final String[] names;
+
+            SortedMapView(Map<?, ?> source) {
+                this.source = source;
+                int size = source.size();
+                Object[] raw = new Object[size];
+                String[] text = new String[size];
+                int i = 0;
+                for (Object key : source.keySet()) {
+                    raw[i] = key;
+                    text[i] = String.valueOf(key);
+                    i++;
+                }
+                int[] order = order(text);
+                this.keys = new Object[size];
+                this.names = new String[size];
+                for (int j = 0; j < size; j++) {
+                    keys[j] = raw[order[j]];
+                    names[j] = text[order[j]];
+                }
+            }
+
+            @Override
+            public Set<Entry<String, Object>> entrySet() {
+                return new AbstractSet<>() {
+                    @Override
+                    public Iterator<Entry<String, Object>> iterator() {
+                        return new Iterator<>() {
+                            private int next;
+
+                            @Override
+                            public boolean hasNext() {
+                                return next < keys.length;
+                            }
+
+                            @Override
+                            public Entry<String, Object> next() {
+                                if (next >= keys.length) {
+                                    throw new NoSuchElementException();
+                                }
+                                int i = next++;
+                                return new SimpleImmutableEntry<>(names[i], canonical(source.get(keys[i])));
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return keys.length;
+                    }
+                };
+            }
+        }
+
+        /** A POJO or record as its properties in name order, read as they are iterated. */
+        private static final class PojoView extends AbstractMap<String, Object> {
+            private final Object source;
+            private final TabularSchemaExample.Column[] columns;
+
+            PojoView(Object source) {
+                this.source = source;
+                this.columns = SORTED_PROPERTIES.get(source.getClass());
+            }
+
+            @Override
+            public Set<Entry<String, Object>> entrySet() {
+                return new AbstractSet<>() {
+                    @Override
+                    public Iterator<Entry<String, Object>> iterator() {
+                        return new Iterator<>() {
+                            private int next;
+
+                            @Override
+                            public boolean hasNext() {
+                                return next < columns.length;
+                            }
+
+                            @Override
+                            public Entry<String, Object> next() {
+                                if (next >= columns.length) {
+                                    throw new NoSuchElementException();
+                                }
+                                TabularSchemaExample.Column column = columns[next++];
+                                return new SimpleImmutableEntry<>(column.name(), canonical(column.read(source)));
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return columns.length;
+                    }
+                };
+            }
+        }
+
+        /** A list with canonical elements, converted as they are read. */
+        private static final class CanonicalList extends AbstractList<Object> implements RandomAccess {
+            private final List<?> source;
+
+            CanonicalList(List<?> source) {
+                this.source = source;
+            }
+
+            @Override
+            public Object get(int index) {
+                return canonical(source.get(index));
+            }
+
+            @Override
+            public int size() {
+                return source.size();
+            }
+        }
+    }
+
+    /**
+     * Incremental MurmurHash3 x64 128-bit over the UTF-8 encoding of the characters fed in.
+     */
+    static final class Murmur3 {
+        private static final long C1 = 0x87c37b91114253d5L;
+        private static final long C2 = 0x4cf5ad432745937fL;
+
+        private final byte[] block = new byte[16];
+        private int filled;
+        private long length;
+        private long h1;
+        private long h2;
+        private char pendingHigh;
+
+        void update(char c) {
+            if (pendingHigh != 0) {
+                char high = pendingHigh;
+                pendingHigh = 0;
+                if (Character.isLowSurrogate(c)) {
+                    int code = Character.toCodePoint(high, c);
+                    put((byte) (0xF0 | (code >>> 18)));
+                    put((byte) (0x80 | ((code >>> 12) & 0x3F)));
+                    put((byte) (0x80 | ((code >>> 6) & 0x3F)));
+                    put((byte) (0x80 | (code & 0x3F)));
+                    return;
+                }
+                put((byte) '?'); // unpaired surrogate, as String.getBytes(UTF_8) writes it
+            }
+            if (c < 0x80) {
+                put((byte) c);
+            } else if (c < 0x800) {
+                put((byte) (0xC0 | (c >>> 6)));
+                put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c)) {
+                pendingHigh = c;
+            } else if (Character.isLowSurrogate(c)) {
+                put((byte) '?');
+            } else {
+                put((byte) (0xE0 | (c >>> 12)));
+                put((byte) (0x80 | ((c >>> 6) & 0x3F)));
+                put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+
+        void update(CharSequence text) {
+            for (int i = 0; i < text.length(); i++) {
+                update(text.charAt(i));
+            }
+        }
+
+        Hash128 finish() {
+            if (pendingHigh != 0) {
+                pendingHigh = 0;
+                put((byte) '?');
+            }
+            long k1 = 0;
+            long k2 = 0;
+            for (int i = filled - 1; i >= 8; i--) {
+                k2 = (k2 << 8) | (block[i] & 0xFFL);
+            }
+            for (int i = Math.min(filled, 8) - 1; i >= 0; i--) {
+                k1 = (k1 << 8) | (block[i] & 0xFFL);
+            }
+            if (filled > 8) {
+                h2 ^= Long.rotateLeft(k2 * C2, 33) * C1;
+            }
+            if (filled > 0) {
+                h1 ^= Long.rotateLeft(k1 * C1, 31) * C2;
+            }
+
+            h1 ^= length;
+            h2 ^= length;
+            h1 += h2;
+            h2 += h1;
+            h1 = fmix(h1);
+            h2 = fmix(h2);
+            h1 += h2;
+            h2 += h1;
+            return new Hash128(h1, h2);
+        }
+
+        private void put(byte b) {
+            block[filled++] = b;
+            length++;
+            if (filled == 16) {
+                mix(littleEndian(0), littleEndian(8));
+                filled = 0;
+            }
+        }
+
+        private void mix(long k1, long k2) {
+            h1 ^= Long.rotateLeft(k1 * C1, 31) * C2;
+            h1 = Long.rotateLeft(h1, 27) + h2;
+            h1 = h1 * 5 + 0x52dce729;
+            h2 ^= Long.rotateLeft(k2 * C2, 33) * C1;
+            h2 = Long.rotateLeft(h2, 31) + h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        private long littleEndian(int offset) {
+            long value = 0;
+            for (int i = offset + 7; i >= offset; i--) {
+                value = (value << 8) | (block[i] & 0xFFL);
+            }
+            return value;
+        }
+
+        private static long fmix(long k) {
+            k ^= k >>> 33;
+            k *= 0xff51afd7ed558ccdL;
+            k ^= k >>> 33;
+            k *= 0xc4ceb9fe1a85ec53L;
+            k ^= k >>> 33;
+            return k;
+        }
+    }
+
+    // ==================== Examples ====================
+
+    /**
+     * Example 1: Same content, different insertion order
+     */
+    private static void example1_OrderIndependence() {
+        printSectionHeader("Example 1: Order Independence");
+
+        Map<String, Object> first = new HashMap<>();
+        Map<String, Object> second = new LinkedHashMap<>();
+        String[] keys = {"zone", "id", "env", "owner", "region", "tier"};
+        Object[] values = {"eu-1", 42, "prod", "platform", "west", "gold"};
+        for (int i = 0; i < keys.length; i++) {
+            first.put(keys[i], values[i]);
+        }
+        for (int i = keys.length - 1; i >= 0; i--) {
+            second.put(keys[i], values[i]);
+        }
+        first.put("labels", Set.of("b", "a", "c"));
+        second.put("labels", new TreeSet<>(Set.of("c", "b", "a")));
+
+        EncodeOptions options = EncodeOptions.builder().build();
+        System.out.println("Plain encodes equal:     " + Toon.encode(first, options).equals(Toon.encode(second, options)));
+        System.out.println("Canonical encodes equal: "
+                + CanonicalToon.encode(first, options).equals(CanonicalToon.encode(second, options)));
+        System.out.println();
+        System.out.println("Canonical form:");
+        System.out.println(CanonicalToon.encode(first, options));
+        System.out.println();
+    }
+
+    /**
+     * Example 2: A POJO with a HashSet field
+     */
+    private static void example2_PojoWithSet() {
+        printSectionHeader("Example 2: POJO with a HashSet");
+
+        PojoExample.Team team = new PojoExample.Team();
+        team.setName("Alpha Team");
+        team.setMembers(List.of("Alice", "Bob", "Charlie"));
+        team.setTags(new HashSet<>(List.of("backend", "java", "microservices", "api", "cloud")));
+
+        System.out.println("Canonical TOON:");
+        System.out.println(CanonicalToon.encode(team, EncodeOptions.builder().build()));
+        System.out.println();
+        System.out.println("Properties are in name order, set elements sorted; list order is kept.");
+        System.out.println();
+    }
+
+    /**
+     * Example 3: Hashing before encoding to look up a response cache
+     */
+    private static void example3_CacheKeys() {
+        printSectionHeader("Example 3: Content Hash as Cache Key");
+
+        EncodeOptions options = EncodeOptions.builder().build();
+        Map<Hash128, String> cache = new HashMap<>();
+        List<Map<String, Object>> requests = List.of(
+                Map.of("user", "alice", "query", "latency p99", "limit", 10),
+                Map.of("limit", 10, "query", "latency p99", "user", "alice"),
+                Map.of("user", "alice", "query", "latency p50", "limit", 10));
+
+        for (Map<String, Object> request : requests) {
+            Hash128 key = CanonicalToon.hash(request, options);
+            String cached = cache.get(key);
+            if (cached == null) {
+                cache.put(key, CanonicalToon.encode(request, options));
+            }
+            System.out.println(key + (cached != null ? "  hit" : "  miss"));
+        }
+        System.out.println();
+
+        String toon = CanonicalToon.encode(requests.get(0), options);
+        System.out.println("Streaming hash equals hash of the encoded text: "
+                + CanonicalToon.hash(requests.get(0), options).equals(CanonicalToon.hashText(toon)));
+        System.out.println();
+    }
+
+    /**
+     * Example 4: The cost of canonical order and of hashing
+     */
+    private static void example4_Cost() {
+        printSectionHeader("Example 4: Cost (20,000 maps)");
+
+        EncodeOptions options = EncodeOptions.builder().build();
+        List<Map<String, Object>> records = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            Map<String, Object> record = new HashMap<>();
+            record.put("id", i);
+            record.put("name", "item-" + i);
+            record.put("price", i * 0.5);
+            record.put("category", "cat-" + (i % 10));
+            record.put("active", i % 2 == 0);
+            records.add(record);
+        }
+        Map<String, Object> data = Map.of("records", records);
+
+        // Warm up
+        for (int i = 0; i < 3; i++) {
+            Toon.encode(data, options);
+            CanonicalToon.encode(data, options);
+            CanonicalToon.hash(data, options);
+        }
+
+        long start = System.nanoTime();
+        String plain = Toon.encode(data, options);
+        long plainNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        CanonicalToon.encode(data, options);
+        long canonicalNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        Hash128 hash = CanonicalToon.hash(data, options);
+        long hashNanos = System.nanoTime() - start;
+
+        System.out.println("═══════════════════════════════════════════");
+        System.out.printf("Plain encode:      %6.1f ms%n", plainNanos / 1_000_000.0);
+        System.out.printf("Canonical encode:  %6.1f ms%n", canonicalNanos / 1_000_000.0);
+        System.out.printf("Canonical hash:    %6.1f ms (%s)%n", hashNanos / 1_000_000.0, hash);
+        System.out.printf("Output size:       %,d bytes%n", plain.getBytes(StandardCharsets.UTF_8).length);
+        System.out.printf("Cached key orders: %d%n", CanonicalToon.cachedOrders());
+        System.out.println("═══════════════════════════════════════════");
+        System.out.println();
+    }
+
+    // Helper methods
+
+    private static void printSectionHeader(String title) {
+        System.out.println("═".repeat(65));
+        System.out.println(title);
+        System.out.println("═".repeat(65));
+    }
+}
@@ -0,0 +1,731 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.Delimiter;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.regex.Matcher;
+
+/**
+ * Examples of streaming CSV ⇄ TOON tabular conversion.
+ * Shows column type inference from a sample, the two ways of filling in the row count
+ * ({@code [N]}) without holding the data, and converting a TOON table back to CSV.
+ */
+public class CsvExample {
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("╔════════════════════════════════════════════════════════════════╗");
+        System.out.println("║          TOON4J CSV Conversion Examples                       ║");
+        System.out.println("║  Streaming CSV ⇄ TOON Tabular Blocks                          ║");
+        System.out.println("╚════════════════════════════════════════════════════════════════╝\n");
+
+        example1_CsvToToon();
+        example2_Delimiters();
+        example3_ToonToCsv();
+        example4_LargeFile();
+    }
+
+    // ==================== CSV Conversion ====================
+
+    /**
+     * Column type inferred from the sample. Values that turn out not to match later are
+     * still written safely, as strings.
+     */
+    public enum ColumnType {
+        NUMBER, BOOLEAN, STRING
+    }
+
+    public static final class CsvOptions {
+        private final String name;
+        private final char csvSeparator;
+        private final boolean header;
+        private final Delimiter delimiter;
+        private final int sampleRows;
+        private final int indent;
+
+        private CsvOptions(Builder builder) {
+            this.name = builder.name;
+            this.csvSeparator = builder.csvSeparator;
+            this.header = builder.header;
+            this.delimiter = builder.delimiter;
+            this.sampleRows = builder.sampleRows;
+            this.indent = builder.indent;
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        public String name() { return name; }
+        public char csvSeparator() { return csvSeparator; }
+        public boolean header() { return header; }
+        public Delimiter delimiter() { return delimiter; }
+        public int sampleRows() { return sampleRows; }
+        public int indent() { return indent; }
+
+        public static final class Builder {
+            private String name = "rows";
+            private char csvSeparator = ',';
+            private boolean header = true;
+            private Delimiter delimiter = Delimiter.COMMA;
+            private int sampleRows = 100;
+            private int indent = 2;
+
+            private Builder() {}
+
+            /** Key of the TOON table. */
+            public Builder name(String name) {
+                this.name = Objects.requireNonNull(name, "name");
+                return this;
+            }
+
+            public Builder csvSeparator(char csvSeparator) {
+                this.csvSeparator = csvSeparator;
+                return this;
+            }
+
+            /** Whether the first CSV record holds the column names; otherwise they are col1, col2, ... */
+            public Builder header(boolean header) {
+                this.header = header;
+                return this;
+            }
+
+            public Builder delimiter(Delimiter delimiter) {
+                this.delimiter = Objects.requireNonNull(delimiter, "delimiter");
+                return this;
+            }
+
+            /** Records inspected to infer the column types. */
+            public Builder sampleRows(int sampleRows) {
+                if (sampleRows < 0) {
+                    throw new IllegalArgumentException("sampleRows must not be negative: " + sampleRows);
+                }
+                this.sampleRows = sampleRows;
+                return this;
+            }
+
+            public Builder indent(int indent) {
+                this.indent = indent;
+                return this;
+            }
+
+            public CsvOptions build() {
+                return new CsvOptions(this);
+            }
+        }
+    }
+
+    public record ConversionResult(long rows, List<String> columns, List<ColumnType> types) {}
+
+    /**
+     * Converts between a CSV file and one TOON tabular block in constant memory.
+     *
+     * <p>TOON states the row count before the rows. {@link #csvToToon(Path, Writer, CsvOptions)}
+     * reads the CSV twice, counting in the first pass. {@link #csvToToon(Reader, FileChannel, CsvOptions)}
+     * reads it once: it reserves room for the widest possible header, writes the rows, then
+     * writes the real header and slides the rows back over the unused bytes.
+     */
+    public static final class CsvConverter {
+        private CsvConverter() {}
+
+        /** Two passes over a re-readable file: count and sample first, then write. */
+        public static ConversionResult csvToToon(Path csv, Writer toon, CsvOptions options) throws IOException {
+            long rows;
+            List<String> columns;
+            ColumnType[] types;
+            try (CsvReader in = new CsvReader(Files.newBufferedReader(csv, StandardCharsets.UTF_8), options.csvSeparator)) {
+                columns = columns(in, options);
+                Sample sample = Sample.read(in, columns.size(), options.sampleRows);
+                types = sample.types;
+                rows = sample.rows.size();
+                while (in.next(null)) {
+                    rows++;
+                }
+            }
+
+            try (CsvReader in = new CsvReader(Files.newBufferedReader(csv, StandardCharsets.UTF_8), options.csvSeparator)) {
+                columns(in, options);
+                RowWriter writer = new RowWriter(toon, options, types);
+                writer.header(columns, rows);
+                List<String> fields = new ArrayList<>(columns.size());
+                while (in.next(fields)) {
+                    writer.row(fields, columns.size(), in.record());
+                }
+            }
+            toon.flush();
+            return new ConversionResult(rows, columns, List.of(types));
+        }
+
+        /** One pass over any reader, patching the row count into the output file afterwards. */
+        public static ConversionResult csvToToon(Reader csv, FileChannel toon, CsvOptions options) throws IOException {
+            CsvReader in = new CsvReader(csv, options.csvSeparator);
+            List<String> columns = columns(in, options);
+            Sample sample = Sample.read(in, columns.size(), options.sampleRows);
+
+            long start = toon.position();
+            int reserved = headerText(options, columns, Integer.MAX_VALUE).getBytes(StandardCharsets.UTF_8).length;
+            toon.position(start + reserved);
+            Writer out = new BufferedWriter(Channels.newWriter(toon, StandardCharsets.UTF_8), 1 << 16);
+            RowWriter writer = new RowWriter(out, options, sample.types);
+            long rows = 0;
+            // Records read before the sample: the header, when the CSV has one
+            long skipped = in.record() - sample.rows.size();
+            for (List<String> fields : sample.rows) {
+                rows++;
+                writer.row(fields, columns.size(), skipped + rows);
+            }
+            List<String> fields = new ArrayList<>(columns.size());
+            while (in.next(fields)) {
+                writer.row(fields, columns.size(), in.record());
+                rows++;
+            }
+            out.flush();
+            long end = toon.position();
+
+            if (rows > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Too many rows for one table: " + rows);
+            }
+            byte[] header = headerText(options, columns, (int) rows).getBytes(StandardCharsets.UTF_8);
+            toon.write(ByteBuffer.wrap(header), start);
+            shiftLeft(toon, start + reserved, end, reserved - header.length);
+            toon.truncate(end - (reserved - header.length));
+            toon.position(toon.size());
+            return new ConversionResult(rows, columns, List.of(sample.types));
+        }
+
+        /** Writes the CSV form of the first tabular block in {@code toon}. */
+        public static long toonToCsv(Reader toon, Writer csv, CsvOptions options) throws IOException {
+            BufferedReader in = toon instanceof BufferedReader buffered ? buffered : new BufferedReader(toon, 1 << 16);
+            String line;
+            Matcher header = null;
+            while ((line = in.readLine()) != null) {
+                header = RowParser.tableHeader(line.strip());
+                if (header != null) {
+                    break;
+                }
+            }
+            if (header == null) {
+                throw new IllegalArgumentException("No tabular array found");
+            }
+            int declared = RowParser.length(header);
+            char delimiter = RowParser.delimiter(header);
+            int rowIndent = line.length() - line.stripLeading().length() + options.indent;
+
+            List<String> tokens = new ArrayList<>();
+            RowParser.tokens(header.group("fields"), 0, delimiter, tokens);
+            StringBuilder record = new StringBuilder();
+            for (int i = 0; i < tokens.size(); i++) {
+                appendCsv(record, i, RowParser.unquote(tokens.get(i)), options.csvSeparator);
+            }
+            int columns = tokens.size();
+            csv.append(record).append("\r\n");
+
+            long rows = 0;
+            while (rows < declared && (line = in.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                rows++;
+                tokens.clear();
+                RowParser.tokens(line, Math.min(rowIndent, line.length()), delimiter, tokens);
+                if (tokens.size() != columns) {
+                    throw new IllegalArgumentException("Row " + rows + " has " + tokens.size()
+                            + " values but the header declares " + columns);
+                }
+                record.setLength(0);
+                for (int i = 0; i < columns; i++) {
+                    String token = tokens.get(i);
+                    appendCsv(record, i, token.equals("null") ? "" : RowParser.unquote(token), options.csvSeparator);
+                }
+                csv.append(record).append("\r\n");
+            }
+            if (rows != declared) {
+                throw new IllegalArgumentException("Array declares " + declared + " rows but has " + rows);
+            }
+            csv.flush();
+            return rows;
+        }
+
+        private static List<String> columns(CsvReader in, CsvOptions options) throws IOException {
+            List<String> first = new ArrayList<>();
+            if (!in.peek(first)) {
+                throw new IllegalArgumentException("Empty CSV input");
+            }
+            if (options.header) {
+                in.next(null);
+                return first;
+            }
+            List<String> names = new ArrayList<>(first.size());
+            for (int i = 1; i <= first.size(); i++) {
+                names.add("col" + i);
+            }
+            return names;
+        }
+
+        private static String headerText(CsvOptions options, List<String> columns, int rows) {
+            StringBuilder out = new StringBuilder();
+            ToonStrings.appendHeader(out, options.name, rows, columns, ToonStrings.delimiterChar(options.delimiter));
+            return out.toString();
+        }
+
+        /** Moves {@code [from, to)} down by {@code distance} bytes; copying forward never overwrites unread data. */
+        private static void shiftLeft(FileChannel channel, long from, long to, long distance) throws IOException {
+            if (distance == 0) {
+                return;
+            }
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16);
+            long read = from;
+            while (read < to) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), to - read));
+                int n = channel.read(buffer, read);
+                buffer.flip();
+                long write = read - distance;
+                while (buffer.hasRemaining()) {
+                    write += channel.write(buffer, write);
+                }
+                read += n;
+            }
+        }
+
+        /** RFC 4180 quoting: only when the value holds the separator, a quote, a line break or edge spaces. */
+        private static void appendCsv(StringBuilder out, int index, String value, char separator) {
+            if (index > 0) {
+                out.append(separator);
+            }
+            boolean quote = !value.isEmpty()
+                    && (value.charAt(0) == ' ' || value.charAt(value.length() - 1) == ' ');
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == separator || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                out.append(value);
+                return;
+            }
+            out.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    out.append('"');
+                }
+                out.append(c);
+            }
+            out.append('"');
+        }
+    }
+
+    /** The first records, kept to infer column types before anything is written. */
+    private static final class Sample {
+        final List<List<String>> rows = new ArrayList<>();
+        final ColumnType[] types;
+
+        private Sample(int columns) {
+            this.types = new ColumnType[columns];
+        }
+
+        static Sample read(CsvReader in, int columns, int limit) throws IOException {
+            Sample sample = new Sample(columns);
+            boolean[] seen = new boolean[columns];
+            Arrays.fill(sample.types, ColumnType.NUMBER);
+            boolean[] booleans = new boolean[columns];
+            Arrays.fill(booleans, true);
+            while (sample.rows.size() < limit) {
+                List<String> fields = new ArrayList<>(columns);
+                if (!in.next(fields)) {
+                    break;
+                }
+                sample.rows.add(fields);
+                for (int i = 0; i < Math.min(columns, fields.size()); i++) {
+                    String value = fields.get(i);
+                    if (value.isEmpty()) {
+                        continue;
+                    }
+                    seen[i] = true;
+                    if (!(value.equals("true") || value.equals("false"))) {
+                        booleans[i] = false;
+                    }
+                    if (!ToonStrings.looksNumeric(value) || RowParser.hasLeadingZero(value)) {
+                        sample.types[i] = ColumnType.STRING;
+                    }
+                }
+            }
+            for (int i = 0; i < columns; i++) {
+                if (!seen[i]) {
+                    sample.types[i] = ColumnType.STRING;
+                } else if (booleans[i]) {
+                    sample.types[i] = ColumnType.BOOLEAN;
+                }
+            }
+            return sample;
+        }
+    }
+
+    /** Writes the TOON header and rows using the encoder's quoting rules. */
+    private static final class RowWriter {
+        private final Writer out;
+        private final ColumnType[] types;
+        private final char delimiter;
+        private final String indent;
+        private final CsvOptions options;
+        private final StringBuilder line = new StringBuilder();
+
+        RowWriter(Writer out, CsvOptions options, ColumnType[] types) {
+            this.out = out;
+            this.options = options;
+            this.types = types;
+            this.delimiter = ToonStrings.delimiterChar(options.delimiter);
+            this.indent = " ".repeat(options.indent);
+        }
+
+        void header(List<String> columns, long rows) throws IOException {
+            if (rows > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Too many rows for one table: " + rows);
+            }
+            out.write(CsvConverter.headerText(options, columns, (int) rows));
+        }
+
+        void row(List<String> fields, int columns, long record) throws IOException {
+            if (fields.size() != columns) {
+                throw new IllegalArgumentException("CSV record " + record + " has " + fields.size()
+                        + " fields but the header has " + columns);
+            }
+            line.setLength(0);
+            line.append('\n').append(indent);
+            for (int i = 0; i < columns; i++) {
+                if (i > 0) {
+                    line.append(delimiter);
+                }
+                String value = fields.get(i);
+                switch (types[i]) {
+                    case NUMBER -> {
+                        if (value.isEmpty()) {
+                            line.append("null");
+                        } else if (ToonStrings.looksNumeric(value) && !RowParser.hasLeadingZero(value)) {
+                            line.append(value);
+                        } else {
+                            ToonStrings.appendString(line, value, delimiter);
+                        }
+                    }
+                    case BOOLEAN -> {
+                        if (value.isEmpty()) {
+                            line.append("null");
+                        } else if (value.equals("true") || value.equals("false")) {
+                            line.append(value);
+                        } else {
+                            ToonStrings.appendString(line, value, delimiter);
+                        }
+                    }
+                    default -> ToonStrings.appendString(line, value, delimiter);
+                }
+            }
+            out.append(line);
+        }
+    }
+
+    /**
+     * RFC 4180 record reader: quoted fields may hold separators, doubled quotes and line
+     * breaks; records end at LF or CRLF.
+     */
+    private static final class CsvReader implements Closeable {
+        private final Reader in;
+        private final char separator;
+        private final char[] buffer = new char[1 << 16];
+        private final StringBuilder field = new StringBuilder();
+        private int pos;
+        private int limit;
+        private long record;
+        private List<String> peeked;
+
+        CsvReader(Reader in, char separator) {
+            this.in = in;
+            this.separator = separator;
+        }
+
+        /** 1-based number of the last record read. */
+        long record() {
+            return record;
+        }
+
+        boolean peek(List<String> fields) throws IOException {
+            if (peeked == null) {
+                peeked = new ArrayList<>();
+                if (!read(peeked)) {
+                    peeked = null;
+                    return false;
+                }
+            }
+            fields.addAll(peeked);
+            return true;
+        }
+
+        /** Reads the next record into {@code fields} (cleared first), or skips it when null. */
+        boolean next(List<String> fields) throws IOException {
+            if (fields != null) {
+                fields.clear();
+            }
+            if (peeked != null) {
+                if (fields != null) {
+                    fields.addAll(peeked);
+                }
+                peeked = null;
+                return true;
+            }
+            return read(fields);
+        }
+
+        private boolean read(List<String> fields) throws IOException {
+            int c = read();
+            if (c == -1) {
+                return false;
+            }
+            record++;
+            while (true) {
+                field.setLength(0);
+                if (c == '"') {
+                    while (true) {
+                        int from = pos;
+                        while (pos < limit && buffer[pos] != '"') {
+                            pos++;
+                        }
+                        field.append(buffer, from, pos - from);
+                        c = read();
+                        if (c == -1) {
+                            throw new IllegalArgumentException("Unterminated quoted field in CSV record " + record);
+                        }
+                        if (c == '"') {
+                            c = read();
+                            if (c != '"') {
+                                break;
+                            }
+                        }
+                        field.append((char) c);
+                    }
+                } else {
+                    while (c != separator && c != '\n' && c != '\r' && c != -1) {
+                        field.append((char) c);
+                        // Copy the rest of the field up to the buffer end in one go
+                        int from = pos;
+                        while (pos < limit) {
+                            char d = buffer[pos];
+                            if (d == separator || d == '\n' || d == '\r') {
+                                break;
+                            }
+                            pos++;
+                        }
+                        field.append(buffer, from, pos - from);
+                        c = read();
+                    }
+                }
+                if (fields != null) {
+                    fields.add(field.toString());
+                }
+                if (c == separator) {
+                    c = read();
+                    continue;
+                }
+                if (c == '\r' && peekChar() == '\n') {
+                    read();
+                } else if (c != '\n' && c != '\r' && c != -1) {
+                    throw new IllegalArgumentException("Unexpected character after quoted field in CSV record " + record);
+                }
+                return true;
+            }
+        }
+
+        private int read() throws IOException {
+            if (pos == limit && !fill()) {
+                return -1;
+            }
+            return buffer[pos++];
+        }
+
+        private int peekChar() throws IOException {
+            if (pos == limit && !fill()) {
+                return -1;
+            }
+            return buffer[pos];
+        }
+
+        private boolean fill() throws IOException {
+            pos = 0;
+            limit = Math.max(in.read(buffer), 0);
+            return limit > 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    // ==================== Examples ====================
+
+    private static final String CUSTOMERS_CSV = """
+            id,name,zip,active,balance,note
+            1,Alice,02139,true,120.50,
+            2,Bob,94105,false,0,"likes ""quotes""\"
+            3,"Smith, Carol",10001,true,-15.25,"multi
+            line"
+            4,Dan,60601,,88,plain
+            """;
+
+    /**
+     * Example 1: CSV to TOON with inferred column types
+     */
+    private static void example1_CsvToToon() throws IOException {
+        printSectionHeader("Example 1: CSV to TOON");
+
+        Path csv = writeTemp(CUSTOMERS_CSV);
+        try {
+            StringWriter toon = new StringWriter();
+            ConversionResult result = CsvConverter.csvToToon(csv, toon,
+                    CsvOptions.builder().name("customers").build());
+
+            System.out.println("CSV Input:");
+            System.out.println(CUSTOMERS_CSV.trim());
+            System.out.println();
+            System.out.println("Inferred types: " + zip(result.columns(), result.types()));
+            System.out.println("(zip stays a string because of the leading zero in 02139)");
+            System.out.println();
+            System.out.println("TOON Output:");
+            System.out.println(toon);
+            System.out.println();
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+    }
+
+    /**
+     * Example 2: Pipe and tab delimiters, with the single-pass seekable mode
+     */
+    private static void example2_Delimiters() throws IOException {
+        printSectionHeader("Example 2: Delimiters and Single-Pass Mode");
+
+        for (Delimiter delimiter : List.of(Delimiter.PIPE, Delimiter.TAB)) {
+            Path toon = Files.createTempFile("customers", ".toon");
+            try (FileChannel channel = FileChannel.open(toon, StandardOpenOption.WRITE, StandardOpenOption.READ)) {
+                CsvConverter.csvToToon(new StringReader(CUSTOMERS_CSV), channel,
+                        CsvOptions.builder().name("customers").delimiter(delimiter).build());
+            }
+            System.out.println(delimiter + ":");
+            System.out.println(Files.readString(toon));
+            System.out.println();
+            Files.deleteIfExists(toon);
+        }
+    }
+
+    /**
+     * Example 3: A TOON table back to CSV
+     */
+    private static void example3_ToonToCsv() throws IOException {
+        printSectionHeader("Example 3: TOON to CSV");
+
+        String toon = """
+            orders[3]{id,customer,total,note}:
+              1,Alice,99.5,null
+              2,"Smith, Carol",12,"said \\"hi\\""
+              3,Dan,0,"two\\nlines"
+            """.trim();
+
+        StringWriter csv = new StringWriter();
+        long rows = CsvConverter.toonToCsv(new StringReader(toon), csv, CsvOptions.builder().build());
+
+        System.out.println("TOON Input:");
+        System.out.println(toon);
+        System.out.println();
+        System.out.println("CSV Output (" + rows + " rows):");
+        System.out.println(csv.toString().trim());
+        System.out.println();
+    }
+
+    /**
+     * Example 4: A large file in both modes, and back
+     */
+    private static void example4_LargeFile() throws IOException {
+        printSectionHeader("Example 4: Large File (1,000,000 rows)");
+
+        Path csv = Files.createTempFile("large", ".csv");
+        Path twoPass = Files.createTempFile("large", ".toon");
+        Path onePass = Files.createTempFile("large", ".toon");
+        Path back = Files.createTempFile("large", ".csv");
+        try {
+            try (Writer out = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+                out.write("id,sku,qty,price,shipped\r\n");
+                for (int i = 0; i < 1_000_000; i++) {
+                    out.write(i + ",SKU-" + (i % 5000) + "," + (i % 7) + "," + (i % 100) + ".99," + (i % 2 == 0) + "\r\n");
+                }
+            }
+            CsvOptions options = CsvOptions.builder().name("orders").build();
+
+            long start = System.nanoTime();
+            try (Writer out = Files.newBufferedWriter(twoPass, StandardCharsets.UTF_8)) {
+                CsvConverter.csvToToon(csv, out, options);
+            }
+            long twoPassNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            try (Reader in = Files.newBufferedReader(csv, StandardCharsets.UTF_8);
+                 FileChannel channel = FileChannel.open(onePass, StandardOpenOption.WRITE, StandardOpenOption.READ)) {
+                CsvConverter.csvToToon(in, channel, options);
+            }
+            long onePassNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            try (Reader in = Files.newBufferedReader(onePass, StandardCharsets.UTF_8);
+                 Writer out = Files.newBufferedWriter(back, StandardCharsets.UTF_8)) {
+                CsvConverter.toonToCsv(in, out, options);
+            }
+            long backNanos = System.nanoTime() - start;
+
+            long csvSize = Files.size(csv);
+            System.out.println("═══════════════════════════════════════════");
+            System.out.printf("CSV size:        %,d bytes%n", csvSize);
+            System.out.printf("TOON size:       %,d bytes%n", Files.size(onePass));
+            System.out.printf("Two-pass:        %d ms (%.0f MB/s)%n", twoPassNanos / 1_000_000, mbPerSecond(csvSize, twoPassNanos));
+            System.out.printf("Single-pass:     %d ms (%.0f MB/s)%n", onePassNanos / 1_000_000, mbPerSecond(csvSize, onePassNanos));
+            System.out.printf("TOON → CSV:      %d ms (%.0f MB/s)%n", backNanos / 1_000_000, mbPerSecond(csvSize, backNanos));
+            System.out.printf("Modes agree:     %s%n", Files.mismatch(twoPass, onePass) == -1);
+            System.out.printf("Round trip:      %s%n", Files.mismatch(csv, back) == -1 ? "identical" : "differs");
+            System.out.println("═══════════════════════════════════════════");
+        } finally {
+            for (Path path : List.of(csv, twoPass, onePass, back)) {
+                Files.deleteIfExists(path);
+            }
+        }
+        System.out.println();
+    }
+
+    // Helper methods
+
+    private static Path writeTemp(String content) throws IOException {
+        Path path = Files.createTempFile("example", ".csv");
+        Files.writeString(path, content);
+        return path;
+    }
+
+    private static String zip(List<String> columns, List<ColumnType> types) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (int i = 0; i < columns.size(); i++) {
+            joiner.add(columns.get(i) + "=" + types.get(i));
+        }
+        return joiner.toString();
+    }
+
+    private static double mbPerSecond(long bytes, long nanos) {
+        return bytes / (nanos / 1_000_000_000.0) / (1024 * 1024);
+    }
+
+    private static void printSectionHeader(String title) {
+        System.out.println("═".repeat(65));
+        System.out.println(title);
+        System.out.println("═".repeat(65));
+    }
+}
@@ -0,0 +1,173 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.example.PojoExample.Person;
+import im.arun.toon4j.example.TypeRefExample.DecodeLimits;
+import im.arun.toon4j.example.TypeRefExample.LimitExceededException;
+import im.arun.toon4j.example.TypeRefExample.TypeRef;
+import im.arun.toon4j.example.TypeRefExample.TypedDecoder;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Examples of decoding untrusted input under resource limits.
+ * Shows oversized {@code [N]} headers rejected before allocation, deep nesting stopped
+ * before it exhausts the stack, string and node budgets, and the cost of the checks.
+ */
+public class DecodeLimitsExample {
+
+    private static final DecodeLimits REQUEST_LIMITS = DecodeLimits.builder()
+            .maxDepth(32)
+            .maxArrayLength(10_000)
+            .maxStringLength(4_096)
+            .maxTotalNodes(100_000)
+            .maxInputChars(1 << 20)
+            .build();
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("╔════════════════════════════════════════════════════════════════╗");
+        System.out.println("║          TOON4J Decode Limits Examples                        ║");
+        System.out.println("║  Predictable Memory per Request                               ║");
+        System.out.println("╚════════════════════════════════════════════════════════════════╝\n");
+
+        example1_DeclaredLength();
+        example2_DeepNesting();
+        example3_StringsAndNodes();
+        example4_Overhead();
+    }
+
+    /**
+     * Example 1: A header that asks for two billion elements
+     */
+    private static void example1_DeclaredLength() {
+        printSectionHeader("Example 1: Declared Array Length");
+
+        String hostile = "ids[2000000000]: 1,2,3";
+        System.out.println("TOON Input: " + hostile);
+        System.out.println();
+
+        tryDecode("With limits", hostile, new TypeRef<Map<String, List<Integer>>>() {}, REQUEST_LIMITS);
+        System.out.println("Rejected at the header, before any list was created.");
+        System.out.println();
+
+        DecodeLimits nodesOnly = DecodeLimits.builder().maxTotalNodes(1_000).build();
+        tryDecode("Node budget only", "ids[5000]: 1,2,3", new TypeRef<Map<String, List<Integer>>>() {}, nodesOnly);
+        System.out.println();
+    }
+
+    /**
+     * Example 2: Nesting deep enough to overflow a small stack
+     */
+    private static void example2_DeepNesting() throws InterruptedException {
+        printSectionHeader("Example 2: Deep Nesting");
+
+        StringBuilder deep = new StringBuilder();
+        int levels = 4_000;
+        for (int i = 0; i < levels; i++) {
+            deep.append(" ".repeat(i * 2)).append("a:\n");
+        }
+        String toon = deep.toString();
+        System.out.printf("Input: %,d nested objects (%,d characters)%n", levels, toon.length());
+        System.out.println();
+
+        // On a worker thread with a 256 KB stack, as a request handler might run
+        Runnable decode = () -> {
+            tryDecode("With maxDepth 32", toon, new TypeRef<Map<String, Object>>() {},
+                    DecodeLimits.builder().maxDepth(32).build());
+            try {
+                TypedDecoder.decode(toon, new TypeRef<Map<String, Object>>() {});
+                System.out.printf("%-20s decoded%n", "Without limits:");
+            } catch (StackOverflowError e) {
+                System.out.printf("%-20s StackOverflowError%n", "Without limits:");
+            }
+        };
+        Thread worker = new Thread(null, decode, "decoder", 256 * 1024);
+        worker.start();
+        worker.join();
+        System.out.println();
+    }
+
+    /**
+     * Example 3: Oversized strings and too many values
+     */
+    private static void example3_StringsAndNodes() {
+        printSectionHeader("Example 3: String Length and Total Nodes");
+
+        String longString = "note: " + "x".repeat(100_000);
+        tryDecode("100,000-char value", longString, new TypeRef<Map<String, String>>() {}, REQUEST_LIMITS);
+
+        StringBuilder wide = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            wide.append("batch").append(i).append("[500]: ");
+            for (int j = 0; j < 500; j++) {
+                wide.append(j == 0 ? "" : ",").append(j);
+            }
+            wide.append('\n');
+        }
+        tryDecode("250,000 numbers", wide.toString(), new TypeRef<Map<String, int[]>>() {}, REQUEST_LIMITS);
+        tryDecode("2 MB of input", "x: 1\n".repeat(400_000), new TypeRef<Map<String, Integer>>() {}, REQUEST_LIMITS);
+
+        Map<String, String> small = TypedDecoder.decode("note: fits\nauthor: alice",
+                new TypeRef<Map<String, String>>() {}, REQUEST_LIMITS);
+        System.out.println("Within limits:       " + small);
+        System.out.println();
+    }
+
+    /**
+     * Example 4: Decoding with limits set against no limits
+     */
+    private static void example4_Overhead() {
+        printSectionHeader("Example 4: Overhead (9,000 rows)");
+
+        StringBuilder toon = new StringBuilder("[9000]{name,age,city,occupation}:");
+        for (int i = 0; i < 9_000; i++) {
+            toon.append("\n  person-").append(i).append(',').append(20 + i % 50)
+                    .append(",City ").append(i % 100).append(",Role ").append(i % 7);
+        }
+        String text = toon.toString();
+        TypeRef<List<Person>> type = new TypeRef<>() {};
+        int iterations = 50;
+
+        // Warm up
+        for (int i = 0; i < 20; i++) {
+            TypedDecoder.decode(text, type);
+            TypedDecoder.decode(text, type, REQUEST_LIMITS);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            TypedDecoder.decode(text, type);
+        }
+        long unlimited = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            TypedDecoder.decode(text, type, REQUEST_LIMITS);
+        }
+        long limited = System.nanoTime() - start;
+
+        System.out.println("═══════════════════════════════════════════");
+        System.out.printf("No limits:     %6.2f ms per decode%n", unlimited / 1_000_000.0 / iterations);
+        System.out.printf("With limits:   %6.2f ms per decode%n", limited / 1_000_000.0 / iterations);
+        System.out.printf("Difference:    %+.1f%%%n", 100.0 * (limited - unlimited) / unlimited);
+        System.out.println("═══════════════════════════════════════════");
+        System.out.println();
+    }
+
+    // Helper methods
+
+    private static void tryDecode(String label, String toon, TypeRef<?> type, DecodeLimits limits) {
+        try {
+            TypedDecoder.decode(toon, type, limits);
+            System.out.printf("%-20s decoded%n", label + ":");
+        } catch (LimitExceededException e) {
+            System.out.printf("%-20s %s (%s)%n", label + ":", e.limit(), e.getMessage());
+        }
+    }
+
+    private static void printSectionHeader(String title) {
+        System.out.println("═".repeat(65));
+        System.out.println(title);
+        System.out.println("═".repeat(65));
+    }
+}
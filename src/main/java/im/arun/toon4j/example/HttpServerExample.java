@@ -0,0 +1,682 @@
+package im.arun.toon4j.example;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import im.arun.toon4j.EncodeOptions;
+import im.arun.toon4j.example.BulkIngestExample.BulkIngester;
+import im.arun.toon4j.example.BulkIngestExample.ErrorPolicy;
+import im.arun.toon4j.example.BulkIngestExample.IngestException;
+import im.arun.toon4j.example.BulkIngestExample.IngestHandler;
+import im.arun.toon4j.example.BulkIngestExample.IngestReport;
+import im.arun.toon4j.example.ByteOutputExample.ToonByteEncoder;
+import im.arun.toon4j.example.LoadTestExample.LoadOptions;
+import im.arun.toon4j.example.LoadTestExample.LoadReport;
+import im.arun.toon4j.example.LoadTestExample.LoadTest;
+import im.arun.toon4j.example.LoadTestExample.ThreadMode;
+import im.arun.toon4j.example.PerfRegressionSuite.Workload;
+import im.arun.toon4j.example.TypeRefExample.TypedDecoder;
+
+import java.io.BufferedWriter;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PipedReader;
+import java.io.PipedWriter;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Examples of serving TOON over HTTP with the JDK's built-in server.
+ * Shows content negotiation between TOON and JSON, streamed chunked responses,
+ * streamed TOON request bodies, and a local load benchmark against JSON.
+ */
+public class HttpServerExample {
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("╔════════════════════════════════════════════════════════════════╗");
+        System.out.println("║          TOON4J HTTP Server Examples                          ║");
+        System.out.println("║  TOON and JSON Endpoints on com.sun.net.httpserver            ║");
+        System.out.println("╚════════════════════════════════════════════════════════════════╝\n");
+
+        ToonServer server = ToonServer.start(0, ThreadMode.VIRTUAL.available() ? ThreadMode.VIRTUAL : ThreadMode.PLATFORM,
+                Map.of("/orders", HttpServerExample::orders, "/orders/import", HttpServerExample::importOrders));
+        try {
+            System.out.println("Listening on " + server.baseUri() + " with " + server.threadMode().name().toLowerCase(Locale.ROOT)
+                    + " request threads");
+            System.out.println();
+
+            example1_ContentNegotiation(server);
+            example2_RequestBodies(server);
+            example3_Benchmark(server);
+        } finally {
+            server.stop();
+        }
+    }
+
+    // ==================== HTTP Handler ====================
+
+    /** Produces the value to send back; {@code null} means 204 No Content. */
+    @FunctionalInterface
+    public interface ToonEndpoint {
+        Object handle(ToonRequest request) throws IOException;
+    }
+
+    /**
+     * An incoming request. The body is read lazily, either as a stream of rows or as one value.
+     * JSON bodies are accepted too and transcoded to TOON as they are read.
+     */
+    public static final class ToonRequest {
+        private final HttpExchange exchange;
+        private final String contentType;
+
+        ToonRequest(HttpExchange exchange, String contentType) {
+            this.exchange = exchange;
+            this.contentType = contentType;
+        }
+
+        public String method() {
+            return exchange.getRequestMethod();
+        }
+
+        public URI uri() {
+            return exchange.getRequestURI();
+        }
+
+        /** The value of a query parameter, or {@code fallback} when it is absent. */
+        public String query(String name, String fallback) {
+            String query = uri().getRawQuery();
+            if (query != null) {
+                for (String pair : query.split("&")) {
+                    int eq = pair.indexOf('=');
+                    if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                        return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+                    }
+                }
+            }
+            return fallback;
+        }
+
+        /**
+         * Streams the body through {@link BulkIngester}, so a large upload of tabular rows is
+         * never held in memory at once.
+         *
+         * @throws IngestException at the first malformed row; the handler answers 400
+         */
+        public IngestReport ingest(IngestHandler handler) throws IOException {
+            try (Reader in = bodyAsToon()) {
+                return BulkIngester.ingest(in, ErrorPolicy.FAIL, error -> {}, handler);
+            }
+        }
+
+        /** Decodes the whole body as one value. */
+        public Object body() throws IOException {
+            StringWriter text = new StringWriter();
+            try (Reader in = bodyAsToon()) {
+                in.transferTo(text);
+            }
+            return TypedDecoder.decode(text.toString(), Object.class);
+        }
+
+        private Reader bodyAsToon() throws IOException {
+            Reader body = new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8);
+            return ToonHttpHandler.JSON.equals(contentType) ? new TranscodedBody(body) : body;
+        }
+    }
+
+    /**
+     * A JSON body read as TOON. A transcoder thread writes into a pipe while the endpoint
+     * reads from it, so only the pipe's buffer is held in memory. A transcoding error is
+     * rethrown from {@code read} after the text written before it; closing the reader early
+     * stops the transcoder at its next write.
+     */
+    private static final class TranscodedBody extends FilterReader {
+        private volatile Exception failure;
+
+        TranscodedBody(Reader json) throws IOException {
+            super(new PipedReader(1 << 16));
+            PipedWriter toon = new PipedWriter((PipedReader) in);
+            Thread transcoder = new Thread(() -> {
+                try {
+                    ToonTranscoder.jsonToToon(json, toon);
+                } catch (IOException | RuntimeException e) {
+                    failure = e;
+                } finally {
+                    try {
+                        toon.close();
+                    } catch (IOException e) {
+                        // The reader is gone; nothing is waiting for the end of the pipe
+                    }
+                }
+            }, "json-to-toon");
+            transcoder.setDaemon(true);
+            transcoder.start();
+        }
+
+        @Override
+        public int read() throws IOException {
+            int c = super.read();
+            return c < 0 ? end() : c;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            return n < 0 ? end() : n;
+        }
+
+        /** End of the pipe: -1 when the transcoder finished, otherwise its error. */
+        private int end() throws IOException {
+            Exception e = failure;
+            if (e instanceof IOException io) {
+                throw io;
+            }
+            if (e instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Serves one {@link ToonEndpoint} as TOON or JSON.
+     *
+     * <p>The response format comes from the {@code Accept} header: {@code text/toon} when
+     * it is absent or ties, JSON when the client prefers it, 406 when neither is acceptable.
+     * An endpoint that fails with anything but a bad request is logged and answered with 500.
+     * Request bodies must be {@code text/toon} or {@code application/json}, otherwise 415.
+     *
+     * <p>Responses are sent with chunked transfer encoding and written as they are encoded:
+     * TOON through {@link ToonByteEncoder} in pooled buffers, JSON through a buffered writer.
+     * A malformed request body is answered with 400 and the reason in the negotiated format.
+     */
+    public static final class ToonHttpHandler implements HttpHandler {
+        public static final String TOON = "text/toon";
+        public static final String JSON = "application/json";
+
+        private static final System.Logger LOG = System.getLogger(ToonHttpHandler.class.getName());
+
+        private final ToonEndpoint endpoint;
+        private final EncodeOptions options;
+
+        public ToonHttpHandler(ToonEndpoint endpoint) {
+            this(endpoint, EncodeOptions.builder().build());
+        }
+
+        public ToonHttpHandler(ToonEndpoint endpoint, EncodeOptions options) {
+            this.endpoint = Objects.requireNonNull(endpoint, "endpoint");
+            this.options = Objects.requireNonNull(options, "options");
+        }
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            try {
+                exchange.getResponseHeaders().set("Vary", "Accept");
+                String responseType = negotiate(exchange.getRequestHeaders().getFirst("Accept"));
+                if (responseType == null) {
+                    send(exchange, 406, TOON, Map.of("error", "Supported types are " + TOON + " and " + JSON));
+                    return;
+                }
+                String requestType = mediaType(exchange.getRequestHeaders().getFirst("Content-Type"));
+                if (requestType != null && !requestType.equals(TOON) && !requestType.equals(JSON)) {
+                    send(exchange, 415, responseType, Map.of("error", "Unsupported content type: " + requestType));
+                    return;
+                }
+
+                Object result;
+                try {
+                    result = endpoint.handle(new ToonRequest(exchange, requestType));
+                } catch (IllegalArgumentException | IngestException e) {
+                    send(exchange, 400, responseType, Map.of("error", String.valueOf(e.getMessage())));
+                    return;
+                } catch (RuntimeException e) {
+                    LOG.log(System.Logger.Level.ERROR, exchange.getRequestMethod() + " "
+                            + exchange.getRequestURI() + " failed", e);
+                    send(exchange, 500, responseType, Map.of("error", "Internal error"));
+                    return;
+                }
+                if (result == null) {
+                    exchange.sendResponseHeaders(204, -1);
+                    return;
+                }
+                send(exchange, 200, responseType, result);
+            } finally {
+                exchange.close();
+            }
+        }
+
+        private void send(HttpExchange exchange, int status, String type, Object value) throws IOException {
+            exchange.getResponseHeaders().set("Content-Type", type + "; charset=utf-8");
+            // A length of 0 selects chunked transfer encoding
+            exchange.sendResponseHeaders(status, 0);
+            OutputStream body = exchange.getResponseBody();
+            if (type.equals(TOON)) {
+                ToonByteEncoder.encodeTo(value, Channels.newChannel(body), options);
+            } else {
+                Writer out = new BufferedWriter(new OutputStreamWriter(body, StandardCharsets.UTF_8), 1 << 16);
+                JsonWriter.write(value, out);
+                out.flush();
+            }
+        }
+
+        /**
+         * Picks TOON or JSON from an {@code Accept} header by quality; TOON wins ties.
+         * Each type takes the quality of the most specific range that matches it, as in
+         * RFC 9110 section 12.5.1, so {@code text/toon;q=0} refuses TOON even next to a
+         * full wildcard.
+         * Returns {@code null} when the header rules out both.
+         */
+        static String negotiate(String accept) {
+            if (accept == null || accept.isBlank()) {
+                return TOON;
+            }
+            // Per type: quality of the most specific match, and its specificity (0 = no match)
+            double toon = 0;
+            double json = 0;
+            int toonMatch = 0;
+            int jsonMatch = 0;
+            for (String range : accept.split(",")) {
+                String[] parts = range.split(";");
+                String type = parts[0].trim().toLowerCase(Locale.ROOT);
+                double quality = 1;
+                for (int i = 1; i < parts.length; i++) {
+                    String parameter = parts[i].trim();
+                    if (parameter.startsWith("q=")) {
+                        try {
+                            quality = Double.parseDouble(parameter.substring(2));
+                        } catch (NumberFormatException e) {
+                            quality = 0;
+                        }
+                    }
+                }
+                int toonSpecificity = specificity(type, TOON);
+                if (toonSpecificity > toonMatch || toonSpecificity == toonMatch && toonSpecificity > 0 && quality > toon) {
+                    toon = quality;
+                    toonMatch = toonSpecificity;
+                }
+                int jsonSpecificity = specificity(type, JSON);
+                if (jsonSpecificity > jsonMatch || jsonSpecificity == jsonMatch && jsonSpecificity > 0 && quality > json) {
+                    json = quality;
+                    jsonMatch = jsonSpecificity;
+                }
+            }
+            if (toon <= 0 && json <= 0) {
+                return null;
+            }
+            return toon >= json ? TOON : JSON;
+        }
+
+        /** How closely {@code range} names {@code type}: 3 exactly, 2 by subtype wildcard, 1 by full wildcard, 0 not at all. */
+        private static int specificity(String range, String type) {
+            if (range.equals(type)) {
+                return 3;
+            }
+            if (range.equals("*/*")) {
+                return 1;
+            }
+            return range.endsWith("/*") && type.startsWith(range.substring(0, range.length() - 1)) ? 2 : 0;
+        }
+
+        private static String mediaType(String contentType) {
+            if (contentType == null || contentType.isBlank()) {
+                return null;
+            }
+            int semicolon = contentType.indexOf(';');
+            return (semicolon < 0 ? contentType : contentType.substring(0, semicolon)).trim().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * An {@link HttpServer} with a {@link ToonHttpHandler} per route. Each request runs on its
+     * own virtual thread when the JDK has them (21+), otherwise on a pool of platform threads.
+     */
+    public static final class ToonServer {
+        private static final int PLATFORM_THREADS = 64;
+
+        private final HttpServer server;
+        private final ExecutorService executor;
+        private final ThreadMode threadMode;
+
+        private ToonServer(HttpServer server, ExecutorService executor, ThreadMode threadMode) {
+            this.server = server;
+            this.executor = executor;
+            this.threadMode = threadMode;
+        }
+
+        /** Starts on 127.0.0.1; port 0 picks a free port. */
+        public static ToonServer start(int port, ThreadMode threadMode, Map<String, ToonEndpoint> routes) throws IOException {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+            routes.forEach((path, endpoint) -> server.createContext(path, new ToonHttpHandler(endpoint)));
+            ExecutorService executor = threadMode.newExecutor(PLATFORM_THREADS);
+            server.setExecutor(executor);
+            server.start();
+            return new ToonServer(server, executor, threadMode);
+        }
+
+        public URI baseUri() {
+            return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+        }
+
+        public ThreadMode threadMode() {
+            return threadMode;
+        }
+
+        public void stop() {
+            server.stop(0);
+            executor.shutdown();
+            try {
+                executor.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Minimal JSON output for the values the endpoints return: maps, collections, strings,
+     * numbers, booleans and null.
+     */
+    static final class JsonWriter {
+        private JsonWriter() {}
+
+        static void write(Object value, Writer out) throws IOException {
+            if (value == null) {
+                out.write("null");
+            } else if (value instanceof String s) {
+                writeString(s, out);
+            } else if (value instanceof Double d && (d.isNaN() || d.isInfinite())
+                    || value instanceof Float f && (f.isNaN() || f.isInfinite())) {
+                out.write("null");
+            } else if (value instanceof Number || value instanceof Boolean) {
+                out.write(value.toString());
+            } else if (value instanceof Map<?, ?> map) {
+                out.write('{');
+                boolean first = true;
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    if (!first) {
+                        out.write(',');
+                    }
+                    first = false;
+                    writeString(String.valueOf(entry.getKey()), out);
+                    out.write(':');
+                    write(entry.getValue(), out);
+                }
+                out.write('}');
+            } else if (value instanceof Iterable<?> items) {
+                out.write('[');
+                boolean first = true;
+                for (Object item : items) {
+                    if (!first) {
+                        out.write(',');
+                    }
+                    first = false;
+                    write(item, out);
+                }
+                out.write(']');
+            } else {
+                writeString(value.toString(), out);
+            }
+        }
+
+        private static void writeString(String s, Writer out) throws IOException {
+            out.write('"');
+            int run = 0;
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (c >= 0x20 && c != '"' && c != '\\') {
+                    continue;
+                }
+                out.write(s, run, i - run);
+                switch (c) {
+                    case '"' -> out.write("\\\"");
+                    case '\\' -> out.write("\\\\");
+                    case '\n' -> out.write("\\n");
+                    case '\r' -> out.write("\\r");
+                    case '\t' -> out.write("\\t");
+                    default -> out.write(String.format("\\u%04x", (int) c));
+                }
+                run = i + 1;
+            }
+            out.write(s, run, s.length() - run);
+            out.write('"');
+        }
+    }
+
+    // ==================== Endpoints ====================
+
+    private static final String[] CUSTOMERS = {"Alice", "Bob", "Charlie", "Dana", "Eve"};
+    private static final String[] STATUSES = {"completed", "pending", "shipped"};
+    private static final int TOTAL_ORDERS = 100_000;
+
+    /** GET /orders?page=N&pageSize=M: the response from EncoderExample's example 9, paged. */
+    private static Object orders(ToonRequest request) {
+        int page = intQuery(request, "page", 1);
+        int pageSize = intQuery(request, "pageSize", 10);
+        if (page < 1 || pageSize < 1 || pageSize > 10_000) {
+            throw new IllegalArgumentException("page must be positive and pageSize between 1 and 10000");
+        }
+        int lastPage = (TOTAL_ORDERS + pageSize - 1) / pageSize;
+        if (page > lastPage) {
+            throw new IllegalArgumentException("page must be at most " + lastPage + " for pageSize " + pageSize);
+        }
+        int from = (page - 1) * pageSize;
+        int to = Math.min(from + pageSize, TOTAL_ORDERS);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("status", "success");
+        response.put("timestamp", "2025-01-04T10:30:00Z");
+        response.put("requestId", "req-" + Integer.toHexString(page * 31 + pageSize));
+
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("page", page);
+        metadata.put("pageSize", pageSize);
+        metadata.put("totalRecords", TOTAL_ORDERS);
+        metadata.put("hasMore", to < TOTAL_ORDERS);
+        response.put("metadata", metadata);
+
+        List<Map<String, Object>> items = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            Map<String, Object> order = new LinkedHashMap<>();
+            order.put("orderId", String.format("ORD-%06d", i + 1));
+            order.put("customer", CUSTOMERS[i % CUSTOMERS.length]);
+            order.put("amount", 100 + i % 900 + (i % 100) / 100.0);
+            order.put("status", STATUSES[i % STATUSES.length]);
+            items.add(order);
+        }
+        response.put("data", items);
+        response.put("warnings", List.of("Rate limit: 45/100 requests remaining"));
+        return response;
+    }
+
+    /** POST /orders/import: streams the uploaded rows and returns a summary. */
+    private static Object importOrders(ToonRequest request) throws IOException {
+        if (!request.method().equals("POST")) {
+            throw new IllegalArgumentException("Use POST to import orders");
+        }
+        double[] total = new double[1];
+        IngestReport report = request.ingest((table, row) -> {
+            if (row.get("amount") instanceof Number amount) {
+                total[0] += amount.doubleValue();
+            }
+        });
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("imported", report.rows());
+        summary.put("total", Math.round(total[0] * 100) / 100.0);
+        return summary;
+    }
+
+    // ==================== Examples ====================
+
+    /**
+     * Example 1: Content negotiation and streamed responses
+     */
+    private static void example1_ContentNegotiation(ToonServer server) {
+        printSectionHeader("Example 1: Content Negotiation");
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        URI uri = server.baseUri().resolve("/orders?pageSize=3");
+        for (String accept : new String[] {null, "application/json", "application/json;q=0.5, text/toon",
+                "text/toon;q=0, */*", "image/png"}) {
+            HttpRequest.Builder request = HttpRequest.newBuilder(uri);
+            if (accept != null) {
+                request.header("Accept", accept);
+            }
+            HttpResponse<String> response = send(client, request.build());
+            System.out.println("Accept: " + (accept == null ? "(none)" : accept));
+            System.out.println("  " + response.statusCode() + " " + response.headers().firstValue("Content-Type").orElse("")
+                    + ", " + response.headers().firstValue("Transfer-Encoding").orElse("fixed length"));
+            String body = response.body();
+            System.out.println("  " + (body.length() > 120 ? body.substring(0, 120).replace("\n", "\n  ") + "..." : body.replace("\n", "\n  ")));
+            System.out.println();
+        }
+    }
+
+    /**
+     * Example 2: TOON and JSON request bodies
+     */
+    private static void example2_RequestBodies(ToonServer server) {
+        printSectionHeader("Example 2: TOON and JSON Request Bodies");
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        URI uri = server.baseUri().resolve("/orders/import");
+        String toon = """
+                orders[3]{orderId,customer,amount,status}:
+                  ORD-001,Alice,299.99,completed
+                  ORD-002,Bob,149.5,pending
+                  ORD-003,Charlie,599,completed""";
+        String json = "{\"orders\":[{\"orderId\":\"ORD-001\",\"customer\":\"Alice\",\"amount\":299.99,\"status\":\"completed\"},"
+                + "{\"orderId\":\"ORD-002\",\"customer\":\"Bob\",\"amount\":149.5,\"status\":\"pending\"}]}";
+        String malformed = """
+                orders[2]{orderId,customer,amount,status}:
+                  ORD-001,Alice,299.99,completed
+                  ORD-002,"Bob,149.5,pending""";
+
+        String[][] cases = {
+                {"TOON body", ToonHttpHandler.TOON, toon},
+                {"JSON body", ToonHttpHandler.JSON, json},
+                {"Malformed TOON", ToonHttpHandler.TOON, malformed},
+                {"XML body", "application/xml", "<orders/>"},
+        };
+        for (String[] c : cases) {
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .header("Content-Type", c[1] + "; charset=utf-8")
+                    .POST(HttpRequest.BodyPublishers.ofString(c[2]))
+                    .build();
+            HttpResponse<String> response = send(client, request);
+            System.out.println(c[0] + " -> " + response.statusCode());
+            System.out.println("  " + response.body().replace("\n", "\n  "));
+            System.out.println();
+        }
+    }
+
+    /**
+     * Example 3: Load benchmark against JSON
+     */
+    private static void example3_Benchmark(ToonServer server) {
+        printSectionHeader("Example 3: Load Benchmark Against JSON");
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        String upload = ordersUpload(500);
+
+        LoadReport toon = LoadTest.run("TOON", benchmark(client, server, ToonHttpHandler.TOON, upload));
+        LoadReport json = LoadTest.run("JSON", benchmark(client, server, ToonHttpHandler.JSON, upload));
+        System.out.println(toon.table());
+        System.out.println(json.table());
+        System.out.println(LoadReport.compare(json, toon));
+
+        HttpResponse<String> toonPage = send(client, HttpRequest.newBuilder(server.baseUri().resolve("/orders?pageSize=100"))
+                .header("Accept", ToonHttpHandler.TOON).build());
+        HttpResponse<String> jsonPage = send(client, HttpRequest.newBuilder(server.baseUri().resolve("/orders?pageSize=100"))
+                .header("Accept", ToonHttpHandler.JSON).build());
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.printf("100-order page: TOON %,d bytes, JSON %,d bytes%n",
+                toonPage.body().getBytes(StandardCharsets.UTF_8).length, jsonPage.body().getBytes(StandardCharsets.UTF_8).length);
+        System.out.println("Latencies are end to end over loopback: client, server, encoder.");
+        System.out.println("JSON uploads are transcoded to TOON before ingest, so only GET /orders is compared.");
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println();
+    }
+
+    // Helper methods
+
+    /**
+     * Pages of 100 orders and 500-row uploads in the given format, at a fixed rate. A JSON
+     * upload is transcoded to TOON before it is ingested, so it is named apart and
+     * {@link LoadReport#compare} leaves it out rather than charge JSON for TOON work.
+     */
+    private static LoadOptions benchmark(HttpClient client, ToonServer server, String type, String toonUpload) {
+        boolean toon = type.equals(ToonHttpHandler.TOON);
+        String body = toon ? toonUpload : ToonTranscoder.toonToJson(toonUpload);
+        HttpRequest get = HttpRequest.newBuilder(server.baseUri().resolve("/orders?pageSize=100"))
+                .header("Accept", type)
+                .build();
+        HttpRequest post = HttpRequest.newBuilder(server.baseUri().resolve("/orders/import"))
+                .header("Accept", type)
+                .header("Content-Type", type)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return LoadOptions.builder()
+                .workload(new Workload("http", "GET /orders", () -> send(client, get).body()), 4)
+                .workload(new Workload("http", toon ? "POST /orders/import" : "POST import (transcoded)", () -> send(client, post).body()), 1)
+                .ratePerSecond(200)
+                .threads(16)
+                .warmup(2, TimeUnit.SECONDS)
+                .duration(3, TimeUnit.SECONDS)
+                .build();
+    }
+
+    private static HttpResponse<String> send(HttpClient client, HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a response", e);
+        }
+    }
+
+    private static int intQuery(ToonRequest request, String name, int fallback) {
+        String value = request.query(name, null);
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be an integer: " + value);
+        }
+    }
+
+    private static String ordersUpload(int count) {
+        StringBuilder toon = new StringBuilder("orders[" + count + "]{orderId,customer,amount,status}:");
+        for (int i = 0; i < count; i++) {
+            toon.append("\n  ").append(String.format("ORD-%06d", i + 1)).append(',')
+                    .append(CUSTOMERS[i % CUSTOMERS.length]).append(',')
+                    .append(100 + i % 900).append('.').append(i % 90 + 10).append(',')
+                    .append(STATUSES[i % STATUSES.length]);
+        }
+        return toon.toString();
+    }
+
+    private static void printSectionHeader(String title) {
+        System.out.println("═".repeat(65));
+        System.out.println(title);
+        System.out.println("═".repeat(65));
+    }
+}
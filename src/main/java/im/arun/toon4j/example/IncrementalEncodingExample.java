@@ -0,0 +1,513 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.EncodeOptions;
+import im.arun.toon4j.Toon;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.regex.Matcher;
+
+/**
+ * Examples of incremental re-encoding for documents that grow turn by turn.
+ * Shows an encode session that appends new list elements to the previous output,
+ * patches the {@code [N]} counts, and reports how much of the output is unchanged.
+ */
+public class IncrementalEncodingExample {
+
+    public static void main(String[] args) {
+        System.out.println("╔════════════════════════════════════════════════════════════════╗");
+        System.out.println("║          TOON4J Incremental Encoding Examples                 ║");
+        System.out.println("║  Re-encoding Only What Changed Between Turns                  ║");
+        System.out.println("╚════════════════════════════════════════════════════════════════╝\n");
+
+        example1_GrowingConversation();
+        example2_ChangedValues();
+        example3_KeyOrderForPrefixCaching();
+        example4_CostPerTurn();
+    }
+
+    // ==================== Encode Session ====================
+
+    /**
+     * What one {@link EncodeSession#encode} call did.
+     *
+     * @param stablePrefixChars characters at the start of the output that did not change
+     * @param stablePrefixBytes the same prefix measured in UTF-8 bytes
+     * @param appendedElements  list elements encoded and appended to existing lists
+     * @param reencodedEntries  top-level entries encoded from scratch
+     * @param changed           false when the output is identical to the previous turn
+     */
+    public record Update(int stablePrefixChars, long stablePrefixBytes, int appendedElements,
+                         int reencodedEntries, boolean changed) {}
+
+    /**
+     * Keeps the previous output of a top-level map together with the offset of each entry,
+     * and on the next call rewrites only the entries that changed.
+     *
+     * <p>Lists are the part expected to grow: when the elements seen last time are still at
+     * the front of the list (the same instances), only the new elements are encoded. They are
+     * appended after the old ones and the header count is patched in place. Elements are
+     * treated as immutable once encoded; replace an element with a new instance to have it
+     * re-encoded. Other values are small, so they are re-encoded each turn and rewritten only
+     * when their text differs.
+     *
+     * <p>Each top-level entry is encoded on its own, as a single-entry map, so its text is
+     * exactly what {@link Toon#encode(Object, EncodeOptions)} writes for it in the full document.
+     */
+    public static final class EncodeSession {
+        private static final Object SENTINEL = 0;
+
+        private final EncodeOptions options;
+        private final StringBuilder text = new StringBuilder();
+        private final List<Entry> entries = new ArrayList<>();
+
+        private int firstChange;
+        private int appended;
+        private int reencoded;
+
+        public EncodeSession(EncodeOptions options) {
+            this.options = options;
+        }
+
+        /** The current output; valid until the next {@link #encode} call. */
+        public CharSequence text() {
+            return text;
+        }
+
+        public Update encode(Map<String, ?> document) {
+            firstChange = Integer.MAX_VALUE;
+            appended = 0;
+            reencoded = 0;
+
+            int index = 0;
+            for (Map.Entry<String, ?> e : document.entrySet()) {
+                if (index < entries.size() && !entries.get(index).key.equals(e.getKey())) {
+                    // Keys were removed or reordered: everything from here on is rewritten
+                    truncate(index);
+                }
+                if (index < entries.size()) {
+                    update(index, e.getValue());
+                } else {
+                    add(e.getKey(), e.getValue());
+                }
+                index++;
+            }
+            truncate(index);
+
+            boolean changed = firstChange != Integer.MAX_VALUE;
+            int prefix = changed ? Math.min(firstChange, text.length()) : text.length();
+            return new Update(prefix, prefixBytes(prefix), appended, reencoded, changed);
+        }
+
+        private void update(int index, Object value) {
+            Entry entry = entries.get(index);
+            if (entry.list != null && value instanceof List<?> list && appendOnly(entry, list)) {
+                if (list.size() > entry.list.size()) {
+                    append(index, entry, list.subList(entry.list.size(), list.size()));
+                }
+                return;
+            }
+            if (entry.list == null && ToonStrings.isPrimitive(value) && Objects.equals(entry.value, value)) {
+                return;
+            }
+            String encoded = encodeEntry(entry.key, value);
+            if (!encoded.contentEquals(text.subSequence(entry.start, entry.end()))) {
+                replace(index, entry, encoded, value);
+            } else {
+                entry.remember(value);
+            }
+        }
+
+        /** True when the elements encoded last time are still the first elements of {@code list}. */
+        private static boolean appendOnly(Entry entry, List<?> list) {
+            List<Object> seen = entry.list;
+            if (list.size() < seen.size()) {
+                return false;
+            }
+            for (int i = 0; i < seen.size(); i++) {
+                if (list.get(i) != seen.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** Encodes only {@code added} and splices it in, or re-encodes the entry if the form changes. */
+        private void append(int index, Entry entry, List<?> added) {
+            Matcher old = header(entry);
+            String chunk = null;
+            if (old != null && old.group("fields") != null) {
+                // Tabular: the new rows must produce exactly the same header fields
+                String encoded = encodeEntry(entry.key, added);
+                Matcher header = RowParser.ARRAY_HEADER.matcher(firstLine(encoded));
+                if (header.matches() && Objects.equals(header.group("fields"), old.group("fields"))
+                        && header.group("delimiter").equals(old.group("delimiter"))) {
+                    chunk = encoded.substring(encoded.indexOf('\n'));
+                }
+            } else if (old != null && !old.group("value").isBlank()) {
+                // Inline primitives: append the new values after the old ones
+                String encoded = encodeEntry(entry.key, added);
+                Matcher header = RowParser.ARRAY_HEADER.matcher(encoded);
+                if (encoded.indexOf('\n') < 0 && header.matches() && header.group("fields") == null
+                        && !header.group("value").isBlank()) {
+                    char delimiter = RowParser.delimiter(old);
+                    chunk = delimiter + header.group("value").strip();
+                }
+            } else if (old != null && entry.list.size() > 0) {
+                // List items: a trailing primitive keeps the new elements in list form; drop its line
+                List<Object> withSentinel = new ArrayList<>(added);
+                withSentinel.add(SENTINEL);
+                String encoded = encodeEntry(entry.key, withSentinel);
+                Matcher header = RowParser.ARRAY_HEADER.matcher(firstLine(encoded));
+                if (header.matches() && header.group("fields") == null && header.group("value").isBlank()) {
+                    chunk = encoded.substring(encoded.indexOf('\n'), encoded.lastIndexOf('\n'));
+                }
+            }
+
+            List<Object> full = new ArrayList<>(entry.list);
+            full.addAll(added);
+            if (chunk == null) {
+                replace(index, entry, encodeEntry(entry.key, full), full);
+                return;
+            }
+
+            int end = entry.end();
+            text.insert(end, chunk);
+            shift(index, chunk.length());
+            entry.bytes += utf8Length(chunk, 0, chunk.length());
+            String count = Integer.toString(full.size());
+            int digitsStart = entry.start + old.start("length");
+            int digitsEnd = entry.start + old.end("length");
+            text.replace(digitsStart, digitsEnd, count);
+            shift(index, count.length() - (digitsEnd - digitsStart));
+            entry.bytes += count.length() - (digitsEnd - digitsStart);
+            changedAt(digitsStart);
+
+            entry.list.addAll(added);
+            appended += added.size();
+        }
+
+        private void add(String key, Object value) {
+            int start = text.length();
+            if (!entries.isEmpty()) {
+                text.append('\n');
+                start++;
+            }
+            String encoded = encodeEntry(key, value);
+            text.append(encoded);
+            Entry entry = new Entry(key, start, encoded.length());
+            entry.bytes = utf8Length(encoded, 0, encoded.length());
+            entry.remember(value);
+            entries.add(entry);
+            changedAt(start == 0 ? 0 : start - 1);
+            reencoded++;
+        }
+
+        private void replace(int index, Entry entry, String encoded, Object value) {
+            int common = commonPrefix(encoded, entry.start);
+            text.replace(entry.start, entry.end(), encoded);
+            int delta = encoded.length() - entry.length;
+            entry.length = encoded.length();
+            entry.bytes = utf8Length(encoded, 0, encoded.length());
+            shiftAfter(index, delta);
+            entry.remember(value);
+            changedAt(entry.start + common);
+            reencoded++;
+        }
+
+        private void truncate(int index) {
+            if (index >= entries.size()) {
+                return;
+            }
+            int cut = index == 0 ? 0 : entries.get(index).start - 1;
+            text.setLength(cut);
+            entries.subList(index, entries.size()).clear();
+            changedAt(cut);
+        }
+
+        /** Grows entry {@code index} by {@code delta} and moves the entries after it. */
+        private void shift(int index, int delta) {
+            entries.get(index).length += delta;
+            shiftAfter(index, delta);
+        }
+
+        private void shiftAfter(int index, int delta) {
+            for (int i = index + 1; i < entries.size(); i++) {
+                entries.get(i).start += delta;
+            }
+        }
+
+        private void changedAt(int position) {
+            firstChange = Math.min(firstChange, position);
+        }
+
+        private int commonPrefix(String encoded, int start) {
+            int limit = Math.min(encoded.length(), text.length() - start);
+            int i = 0;
+            while (i < limit && encoded.charAt(i) == text.charAt(start + i)) {
+                i++;
+            }
+            return i;
+        }
+
+        private Matcher header(Entry entry) {
+            int lineEnd = text.indexOf("\n", entry.start);
+            int end = lineEnd < 0 || lineEnd > entry.end() ? entry.end() : lineEnd;
+            Matcher header = RowParser.ARRAY_HEADER.matcher(text.subSequence(entry.start, end));
+            return header.matches() ? header : null;
+        }
+
+        private String encodeEntry(String key, Object value) {
+            Map<String, Object> single = new LinkedHashMap<>(2);
+            single.put(key, value);
+            return Toon.encode(single, options);
+        }
+
+        /**
+         * UTF-8 length of the first {@code chars} characters, from the byte length kept per
+         * entry; only the entry the prefix ends in is scanned, so the cost follows the change.
+         */
+        private long prefixBytes(int chars) {
+            long bytes = 0;
+            for (Entry entry : entries) {
+                if (chars <= entry.start) {
+                    break;
+                }
+                if (chars < entry.end()) {
+                    return bytes + utf8Length(text, entry.start, chars);
+                }
+                // The entry, plus the newline after it when the prefix reaches the next entry
+                bytes += entry.bytes + (chars > entry.end() ? 1 : 0);
+            }
+            return bytes;
+        }
+
+        private static long utf8Length(CharSequence text, int from, int to) {
+            long bytes = 0;
+            for (int i = from; i < to; i++) {
+                char c = text.charAt(i);
+                if (c < 0x80) {
+                    bytes++;
+                } else if (c < 0x800) {
+                    bytes += 2;
+                } else if (Character.isHighSurrogate(c)) {
+                    bytes += 4;
+                    i++;
+                } else {
+                    bytes += 3;
+                }
+            }
+            return bytes;
+        }
+
+        private static String firstLine(String text) {
+            int newline = text.indexOf('\n');
+            return newline < 0 ? text : text.substring(0, newline);
+        }
+
+        /** One top-level entry: where its text is and what it was encoded from. */
+        private static final class Entry {
+            final String key;
+            int start;
+            int length;
+            long bytes;
+            Object value;
+            List<Object> list;
+
+            Entry(String key, int start, int length) {
+                this.key = key;
+                this.start = start;
+                this.length = length;
+            }
+
+            int end() {
+                return start + length;
+            }
+
+            void remember(Object value) {
+                if (value instanceof List<?> elements) {
+                    this.list = new ArrayList<>(elements);
+                    this.value = null;
+                } else {
+                    this.list = null;
+                    this.value = value;
+                }
+            }
+        }
+    }
+
+    // ==================== Examples ====================
+
+    /**
+     * Example 1: A conversation that grows by one message per turn
+     */
+    private static void example1_GrowingConversation() {
+        printSectionHeader("Example 1: Growing Conversation");
+
+        Map<String, Object> context = new LinkedHashMap<>();
+        context.put("model", "gpt-4");
+        context.put("temperature", 0.7);
+        List<Map<String, Object>> history = new ArrayList<>();
+        history.add(createMessage("system", "You are a helpful coding assistant."));
+        context.put("history", history);
+
+        EncodeSession session = new EncodeSession(EncodeOptions.builder().build());
+        String[][] turns = {
+                {"user", "How do I optimize Java performance?"},
+                {"assistant", "Profile first, then fix the hot spots."},
+                {"user", "What about GC pauses?"}
+        };
+        Update first = session.encode(context);
+        System.out.println("Turn 0: " + describe(first));
+        for (int turn = 0; turn < turns.length; turn++) {
+            history.add(createMessage(turns[turn][0], turns[turn][1]));
+            Update update = session.encode(context);
+            System.out.println("Turn " + (turn + 1) + ": " + describe(update));
+        }
+        System.out.println();
+
+        System.out.println("Final output:");
+        System.out.println(session.text());
+        System.out.println();
+        System.out.println("Matches a full encode: " + session.text().toString().equals(Toon.encode(context)));
+        System.out.println();
+    }
+
+    /**
+     * Example 2: Changed, added and removed top-level values
+     */
+    private static void example2_ChangedValues() {
+        printSectionHeader("Example 2: Changed Values");
+
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("session", "abc-123");
+        state.put("tags", new ArrayList<>(List.of("java", "perf")));
+        state.put("step", 1);
+
+        EncodeSession session = new EncodeSession(EncodeOptions.builder().build());
+        session.encode(state);
+        System.out.println("Initial:");
+        System.out.println(session.text());
+        System.out.println();
+
+        state.put("step", 2);
+        System.out.println("step → 2:        " + describe(session.encode(state)));
+
+        @SuppressWarnings("unchecked")
+        List<String> tags = (List<String>) state.get("tags");
+        tags.add("gc");
+        System.out.println("tags += gc:      " + describe(session.encode(state)));
+
+        state.put("done", false);
+        System.out.println("done added:      " + describe(session.encode(state)));
+
+        state.remove("session");
+        System.out.println("session removed: " + describe(session.encode(state)));
+        System.out.println("Unchanged call:  " + describe(session.encode(state)));
+        System.out.println();
+
+        System.out.println("Final output:");
+        System.out.println(session.text());
+        System.out.println();
+    }
+
+    /**
+     * Example 3: Putting the growing list last keeps the longest stable prefix
+     */
+    private static void example3_KeyOrderForPrefixCaching() {
+        printSectionHeader("Example 3: Key Order and Prefix Caching");
+
+        for (boolean historyLast : new boolean[]{false, true}) {
+            Map<String, Object> context = new LinkedHashMap<>();
+            List<Map<String, Object>> history = new ArrayList<>();
+            history.add(createMessage("system", "You are a helpful coding assistant."));
+            if (!historyLast) {
+                context.put("history", history);
+            }
+            context.put("instructions", "Answer briefly. Cite sources. Prefer standard library APIs.");
+            context.put("snippets", List.of(createSnippet("java", "Performance.java", "public class Performance { ... }")));
+            if (historyLast) {
+                context.put("history", history);
+            }
+
+            EncodeSession session = new EncodeSession(EncodeOptions.builder().build());
+            session.encode(context);
+            history.add(createMessage("user", "How do I optimize Java performance?"));
+            Update update = session.encode(context);
+            System.out.printf("history %-6s stable prefix %4d of %4d bytes%n",
+                    historyLast ? "last:" : "first:", update.stablePrefixBytes(),
+                    session.text().toString().getBytes(StandardCharsets.UTF_8).length);
+        }
+        System.out.println("The [N] count sits in the list header, so everything after the first");
+        System.out.println("list that grows is new to a prefix cache.");
+        System.out.println();
+    }
+
+    /**
+     * Example 4: Cost per turn compared with encoding everything
+     */
+    private static void example4_CostPerTurn() {
+        printSectionHeader("Example 4: Cost per Turn (2,000 turns)");
+
+        Map<String, Object> context = new LinkedHashMap<>();
+        context.put("model", "gpt-4");
+        List<Map<String, Object>> history = new ArrayList<>();
+        context.put("history", history);
+
+        EncodeOptions options = EncodeOptions.builder().build();
+        EncodeSession session = new EncodeSession(options);
+        long incremental = 0;
+        long full = 0;
+        int turns = 2_000;
+        for (int turn = 0; turn < turns; turn++) {
+            history.add(createMessage(turn % 2 == 0 ? "user" : "assistant", "Message number " + turn));
+
+            long start = System.nanoTime();
+            session.encode(context);
+            incremental += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            Toon.encode(context, options);
+            full += System.nanoTime() - start;
+        }
+
+        System.out.println("═══════════════════════════════════════════");
+        System.out.printf("Final size:         %,d chars%n", session.text().length());
+        System.out.printf("Full re-encode:     %,d ms total%n", full / 1_000_000);
+        System.out.printf("Incremental:        %,d ms total%n", incremental / 1_000_000);
+        System.out.printf("Speedup:            %.1fx%n", full / (double) incremental);
+        System.out.println("═══════════════════════════════════════════");
+        System.out.println();
+    }
+
+    // Helper methods
+
+    private static String describe(Update update) {
+        if (!update.changed()) {
+            return "unchanged";
+        }
+        return String.format("stable prefix %d bytes, %d appended, %d re-encoded",
+                update.stablePrefixBytes(), update.appendedElements(), update.reencodedEntries());
+    }
+
+    private static Map<String, Object> createMessage(String role, String content) {
+        Map<String, Object> msg = new LinkedHashMap<>();
+        msg.put("role", role);
+        msg.put("content", content);
+        return msg;
+    }
+
+    private static Map<String, Object> createSnippet(String language, String file, String code) {
+        Map<String, Object> snippet = new LinkedHashMap<>();
+        snippet.put("language", language);
+        snippet.put("file", file);
+        snippet.put("code", code);
+        return snippet;
+    }
+
+    private static void printSectionHeader(String title) {
+        System.out.println("═".repeat(65));
+        System.out.println(title);
+        System.out.println("═".repeat(65));
+    }
+}
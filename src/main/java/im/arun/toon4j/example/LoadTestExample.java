@@ -0,0 +1,714 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.Delimiter;
+import im.arun.toon4j.EncodeOptions;
+import im.arun.toon4j.Toon;
+import im.arun.toon4j.example.PerfRegressionSuite.Workload;
+import im.arun.toon4j.example.PojoExample.User;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Examples of load testing the encoder and decoder under concurrency.
+ * Shows a fixed-arrival-rate load generator with coordinated-omission correction,
+ * log-bucketed latency histograms, GC pause tracking and side-by-side reports.
+ */
+public class LoadTestExample {
+
+    public static void main(String[] args) {
+        System.out.println("╔════════════════════════════════════════════════════════════════╗");
+        System.out.println("║          TOON4J Load Testing Examples                         ║");
+        System.out.println("║  Latency Percentiles Under a Fixed Arrival Rate               ║");
+        System.out.println("╚════════════════════════════════════════════════════════════════╝\n");
+
+        example1_SingleWorkload();
+        example2_WorkloadMix();
+        example3_CoordinatedOmission();
+        example4_Contention();
+    }
+
+    // ==================== Options ====================
+
+    /** How the workers that issue requests are created. */
+    public enum ThreadMode {
+        PLATFORM,
+        /** Needs a JDK with virtual threads (21 or later); see {@link #available()}. */
+        VIRTUAL;
+
+        private static final Method VIRTUAL_EXECUTOR = virtualExecutorFactory();
+
+        public boolean available() {
+            return this == PLATFORM || VIRTUAL_EXECUTOR != null;
+        }
+
+        ExecutorService newExecutor(int threads) {
+            if (this == PLATFORM) {
+                AtomicInteger number = new AtomicInteger();
+                return Executors.newFixedThreadPool(threads, task -> {
+                    Thread thread = new Thread(task, "load-worker-" + number.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            if (VIRTUAL_EXECUTOR == null) {
+                throw new IllegalStateException("Virtual threads are not available on Java " + Runtime.version().feature());
+            }
+            try {
+                return (ExecutorService) VIRTUAL_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot create a virtual thread executor", e);
+            }
+        }
+
+        /** Looked up reflectively so the project still compiles for Java 17. */
+        private static Method virtualExecutorFactory() {
+            try {
+                Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                ((ExecutorService) factory.invoke(null)).shutdown();
+                return factory;
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // Missing before Java 19, and a preview feature that refuses to start before 21
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Settings for {@link LoadTest}: the workload mix, the target arrival rate and the workers.
+     */
+    public static final class LoadOptions {
+        private final List<Workload> workloads;
+        private final int[] cumulativeWeights;
+        private final int ratePerSecond;
+        private final long durationNanos;
+        private final long warmupNanos;
+        private final int threads;
+        private final ThreadMode threadMode;
+
+        private LoadOptions(Builder builder) {
+            this.workloads = List.copyOf(builder.workloads);
+            this.cumulativeWeights = new int[builder.weights.size()];
+            int total = 0;
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                total += builder.weights.get(i);
+                cumulativeWeights[i] = total;
+            }
+            this.ratePerSecond = builder.ratePerSecond;
+            this.durationNanos = builder.durationNanos;
+            this.warmupNanos = builder.warmupNanos;
+            this.threads = builder.threads;
+            this.threadMode = builder.threadMode;
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        /**
+         * The workload for the request with this sequence number. Sequence numbers are spread
+         * with a multiplicative hash, so every run issues the same interleaving.
+         */
+        int pick(long sequence) {
+            int total = cumulativeWeights[cumulativeWeights.length - 1];
+            int slot = (int) (((sequence * 0x9E3779B97F4A7C15L) >>> 32) % total);
+            int index = 0;
+            while (slot >= cumulativeWeights[index]) {
+                index++;
+            }
+            return index;
+        }
+
+        public String describe() {
+            return String.format("%,d req/s, %d %s thread(s), %.1fs", ratePerSecond, threads,
+                    threadMode.name().toLowerCase(Locale.ROOT), durationNanos / 1e9);
+        }
+
+        public static final class Builder {
+            private final List<Workload> workloads = new ArrayList<>();
+            private final List<Integer> weights = new ArrayList<>();
+            private int ratePerSecond = 1_000;
+            private long durationNanos = TimeUnit.SECONDS.toNanos(5);
+            private long warmupNanos = TimeUnit.SECONDS.toNanos(2);
+            private int threads = Runtime.getRuntime().availableProcessors();
+            private ThreadMode threadMode = ThreadMode.PLATFORM;
+
+            private Builder() {}
+
+            /** Adds a workload; each request picks one in proportion to its weight. */
+            public Builder workload(Workload workload, int weight) {
+                if (weight < 1) {
+                    throw new IllegalArgumentException("weight must be positive: " + weight);
+                }
+                workloads.add(Objects.requireNonNull(workload, "workload"));
+                weights.add(weight);
+                return this;
+            }
+
+            /** Requests started per second, whether or not earlier requests have finished. */
+            public Builder ratePerSecond(int ratePerSecond) {
+                if (ratePerSecond < 1) {
+                    throw new IllegalArgumentException("ratePerSecond must be positive: " + ratePerSecond);
+                }
+                this.ratePerSecond = ratePerSecond;
+                return this;
+            }
+
+            public Builder duration(long amount, TimeUnit unit) {
+                if (amount < 1) {
+                    throw new IllegalArgumentException("duration must be positive: " + amount);
+                }
+                this.durationNanos = unit.toNanos(amount);
+                return this;
+            }
+
+            /** Load applied at the same rate before recording starts, so the JIT has settled. */
+            public Builder warmup(long amount, TimeUnit unit) {
+                if (amount < 0) {
+                    throw new IllegalArgumentException("warmup must not be negative: " + amount);
+                }
+                this.warmupNanos = unit.toNanos(amount);
+                return this;
+            }
+
+            /** Workers issuing requests; with virtual threads this is the concurrency limit. */
+            public Builder threads(int threads) {
+                if (threads < 1) {
+                    throw new IllegalArgumentException("threads must be positive: " + threads);
+                }
+                this.threads = threads;
+                return this;
+            }
+
+            public Builder threadMode(ThreadMode threadMode) {
+                this.threadMode = Objects.requireNonNull(threadMode, "threadMode");
+                return this;
+            }
+
+            public LoadOptions build() {
+                if (workloads.isEmpty()) {
+                    throw new IllegalStateException("At least one workload is required");
+                }
+                if (!threadMode.available()) {
+                    throw new IllegalStateException("Thread mode " + threadMode + " is not available on Java "
+                            + Runtime.version().feature());
+                }
+                return new LoadOptions(this);
+            }
+        }
+    }
+
+    // ==================== Load Generator ====================
+
+    /**
+     * Issues requests on a fixed schedule and records how long each one took.
+     *
+     * <p>Request {@code n} is due at {@code start + n / rate}. Workers take the next sequence
+     * number, wait for its due time and run it. Latency is measured from the due time, not
+     * from when a worker got to it: when every worker is busy, the requests that queue up are
+     * charged for the wait, as real callers would be. Measuring from the actual start instead
+     * (coordinated omission) hides exactly the stalls a load test is meant to find. The
+     * service time, from actual start to end, is recorded alongside for comparison.
+     *
+     * <p>Each worker records into its own histograms, merged after the run, so the only state
+     * the workers share is the sequence counter.
+     */
+    public static final class LoadTest {
+        private static volatile long sink;
+
+        private LoadTest() {}
+
+        public static LoadReport run(String label, LoadOptions options) {
+            if (options.warmupNanos > 0) {
+                runPhase(options, options.warmupNanos, false);
+            }
+            GcMonitor gc = GcMonitor.start();
+            Phase phase;
+            try {
+                phase = runPhase(options, options.durationNanos, true);
+            } finally {
+                gc.stop();
+            }
+
+            List<WorkloadStats> stats = new ArrayList<>();
+            for (int w = 0; w < options.workloads.size(); w++) {
+                LatencyHistogram latency = new LatencyHistogram();
+                LatencyHistogram service = new LatencyHistogram();
+                for (Recorder recorder : phase.recorders) {
+                    latency.add(recorder.latency[w]);
+                    service.add(recorder.service[w]);
+                }
+                stats.add(new WorkloadStats(options.workloads.get(w).name(), latency, service));
+            }
+            return new LoadReport(label, options.describe(), phase.requests, phase.elapsedNanos, stats, gc.pauses());
+        }
+
+        private record Phase(long requests, long elapsedNanos, Collection<Recorder> recorders) {}
+
+        private static Phase runPhase(LoadOptions options, long durationNanos, boolean record) {
+            long requests = Math.max(1, durationNanos * options.ratePerSecond / 1_000_000_000L);
+            double intervalNanos = 1e9 / options.ratePerSecond;
+            AtomicLong next = new AtomicLong();
+            Queue<Recorder> recorders = new ConcurrentLinkedQueue<>();
+
+            ExecutorService executor = options.threadMode.newExecutor(options.threads);
+            // Leave the workers time to start before the first request is due
+            long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(20);
+            for (int t = 0; t < options.threads; t++) {
+                executor.execute(() -> {
+                    Recorder recorder = record ? new Recorder(options.workloads.size()) : null;
+                    long consumed = 0;
+                    long sequence;
+                    while ((sequence = next.getAndIncrement()) < requests) {
+                        long due = start + (long) (sequence * intervalNanos);
+                        waitUntil(due);
+                        int w = options.pick(sequence);
+                        long begin = System.nanoTime();
+                        Object result = options.workloads.get(w).operation().get();
+                        long end = System.nanoTime();
+                        consumed += result == null ? 0 : System.identityHashCode(result);
+                        if (recorder != null) {
+                            recorder.latency[w].record(end - due);
+                            recorder.service[w].record(end - begin);
+                        }
+                    }
+                    sink += consumed;
+                    if (recorder != null) {
+                        recorders.add(recorder);
+                    }
+                });
+            }
+            executor.shutdown();
+            try {
+                while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                    System.out.println("  still running: " + next.get() + " of " + requests + " requests started");
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the load test", e);
+            }
+            return new Phase(requests, System.nanoTime() - start, recorders);
+        }
+
+        /** Parks until close to the deadline, then spins, since parking overshoots by tens of µs. */
+        private static void waitUntil(long deadline) {
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > 0) {
+                if (remaining > 100_000) {
+                    LockSupport.parkNanos(remaining - 50_000);
+                } else {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+    }
+
+    /** One worker's histograms, indexed by workload. */
+    private static final class Recorder {
+        final LatencyHistogram[] latency;
+        final LatencyHistogram[] service;
+
+        Recorder(int workloads) {
+            latency = new LatencyHistogram[workloads];
+            service = new LatencyHistogram[workloads];
+            for (int i = 0; i < workloads; i++) {
+                latency[i] = new LatencyHistogram();
+                service[i] = new LatencyHistogram();
+            }
+        }
+    }
+
+    // ==================== Histogram ====================
+
+    /**
+     * Log-linear histogram of nanosecond values, in the style of HdrHistogram.
+     *
+     * <p>Values below 2^7 get a bucket each. Above that, every power of two is split into 128
+     * equal buckets, so a recorded value is off by less than 1% at any magnitude, from
+     * nanoseconds to minutes, in a fixed array of about 7,300 counters. Recording is a few
+     * shifts and an increment. Not thread-safe: record from one thread, then {@link #add}.
+     */
+    public static final class LatencyHistogram {
+        private static final int SUB_BITS = 7;
+        private static final int SUB_BUCKETS = 1 << SUB_BITS;
+        private static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS;
+
+        private final long[] counts = new long[BUCKETS];
+        private long count;
+        private long total;
+        private long max;
+
+        public void record(long value) {
+            long v = Math.max(0, value);
+            counts[index(v)]++;
+            count++;
+            total += v;
+            max = Math.max(max, v);
+        }
+
+        public void add(LatencyHistogram other) {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] += other.counts[i];
+            }
+            count += other.count;
+            total += other.total;
+            max = Math.max(max, other.max);
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public long max() {
+            return max;
+        }
+
+        public double mean() {
+            return count == 0 ? 0 : (double) total / count;
+        }
+
+        /** The value at or below which {@code percentile} percent of recorded values fall. */
+        public long percentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(highestInBucket(i), max);
+                }
+            }
+            return max;
+        }
+
+        static int index(long value) {
+            int magnitude = 63 - Long.numberOfLeadingZeros(value);
+            if (magnitude < SUB_BITS) {
+                return (int) value;
+            }
+            int shift = magnitude - SUB_BITS;
+            return shift * SUB_BUCKETS + (int) (value >>> shift);
+        }
+
+        static long highestInBucket(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+            int shift = (index - SUB_BUCKETS) >> SUB_BITS;
+            long sub = (index - SUB_BUCKETS) & (SUB_BUCKETS - 1);
+            return ((SUB_BUCKETS + sub + 1) << shift) - 1;
+        }
+    }
+
+    // ==================== GC Pauses ====================
+
+    /** A stop-the-world pause reported by a collector. */
+    public record GcPause(String collector, String cause, long durationMillis) {}
+
+    /**
+     * Collects GC pauses from the collectors' JMX notifications while a test runs.
+     * Beans that report concurrent cycles rather than pauses ("ZGC Cycles",
+     * "G1 Concurrent GC", "Shenandoah Cycles") are skipped.
+     */
+    static final class GcMonitor implements NotificationListener {
+        private final Queue<GcPause> pauses = new ConcurrentLinkedQueue<>();
+        private final List<NotificationEmitter> emitters = new ArrayList<>();
+
+        static GcMonitor start() {
+            GcMonitor monitor = new GcMonitor();
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                String name = collector.getName();
+                if (name.contains("Cycles") || name.contains("Concurrent")) {
+                    continue;
+                }
+                if (collector instanceof NotificationEmitter emitter) {
+                    emitter.addNotificationListener(monitor, null, null);
+                    monitor.emitters.add(emitter);
+                }
+            }
+            return monitor;
+        }
+
+        @Override
+        public void handleNotification(Notification notification, Object handback) {
+            if (!notification.getType().equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION)) {
+                return;
+            }
+            GarbageCollectionNotificationInfo info =
+                    GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+            pauses.add(new GcPause(info.getGcName(), info.getGcCause(), info.getGcInfo().getDuration()));
+        }
+
+        void stop() {
+            for (NotificationEmitter emitter : emitters) {
+                try {
+                    emitter.removeNotificationListener(this);
+                } catch (javax.management.ListenerNotFoundException ignored) {
+                    // Already removed
+                }
+            }
+        }
+
+        List<GcPause> pauses() {
+            return List.copyOf(pauses);
+        }
+    }
+
+    // ==================== Report ====================
+
+    /** Latency and service time of one workload over the recorded phase. */
+    public record WorkloadStats(String name, LatencyHistogram latency, LatencyHistogram service) {}
+
+    /**
+     * The outcome of one run. {@link #table()} has one row per workload in a fixed layout,
+     * and {@link #compare} lines two runs up against each other, for example one thread
+     * against many at the same rate.
+     */
+    public record LoadReport(String label, String settings, long requests, long elapsedNanos,
+                             List<WorkloadStats> workloads, List<GcPause> gcPauses) {
+
+        public double achievedRate() {
+            return requests / (elapsedNanos / 1e9);
+        }
+
+        public String table() {
+            StringBuilder out = new StringBuilder();
+            out.append(String.format("%s: %s%n", label, settings));
+            out.append(String.format("%,d requests in %.2fs (%,.0f req/s achieved)%n%n",
+                    requests, elapsedNanos / 1e9, achievedRate()));
+            out.append(String.format("%-24s %9s %11s %11s %11s %11s %12s%n",
+                    "workload (µs)", "count", "p50", "p99", "p99.9", "max", "service p99"));
+            for (WorkloadStats stats : workloads) {
+                LatencyHistogram latency = stats.latency();
+                out.append(String.format("%-24s %,9d %11s %11s %11s %11s %12s%n", stats.name(), latency.count(),
+                        micros(latency.percentile(50)), micros(latency.percentile(99)),
+                        micros(latency.percentile(99.9)), micros(latency.max()),
+                        micros(stats.service().percentile(99))));
+            }
+            out.append(String.format("%nGC: %s%n", gcSummary()));
+            return out.toString();
+        }
+
+        public String gcSummary() {
+            if (gcPauses.isEmpty()) {
+                return "no pauses";
+            }
+            long total = 0;
+            long max = 0;
+            for (GcPause pause : gcPauses) {
+                total += pause.durationMillis();
+                max = Math.max(max, pause.durationMillis());
+            }
+            return String.format("%d pause(s), %d ms total, %d ms max", gcPauses.size(), total, max);
+        }
+
+        /** Percentiles of two runs with the same workloads, and how far the second moved. */
+        public static String compare(LoadReport a, LoadReport b) {
+            StringBuilder out = new StringBuilder();
+            out.append(String.format("A = %s: %s%nB = %s: %s%n%n", a.label, a.settings, b.label, b.settings));
+            out.append(String.format("%-24s %6s %9s %9s %8s%n", "workload (µs)", "", "A", "B", "B/A"));
+            for (WorkloadStats statsA : a.workloads) {
+                WorkloadStats statsB = b.workloads.stream()
+                        .filter(s -> s.name().equals(statsA.name()))
+                        .findFirst()
+                        .orElse(null);
+                if (statsB == null) {
+                    continue;
+                }
+                for (double percentile : new double[] {50, 99, 99.9}) {
+                    long valueA = statsA.latency().percentile(percentile);
+                    long valueB = statsB.latency().percentile(percentile);
+                    out.append(String.format("%-24s %6s %9s %9s %7.2fx%n",
+                            percentile == 50 ? statsA.name() : "", "p" + (percentile == 99.9 ? "99.9" : (int) percentile),
+                            micros(valueA), micros(valueB), valueA == 0 ? 0 : (double) valueB / valueA));
+                }
+            }
+            out.append(String.format("%-24s %6s %9s %9s%n", "GC pauses", "", a.gcPauses.size(), b.gcPauses.size()));
+            return out.toString();
+        }
+
+        private static String micros(long nanos) {
+            return String.format("%,.1f", nanos / 1_000.0);
+        }
+    }
+
+    // ==================== Workloads ====================
+
+    /**
+     * Workloads that go through {@link Toon#encode} and {@link Toon#decode}, including the
+     * paths that touch state shared across threads: options built once and reused, options
+     * built per call, and reflection metadata for POJOs.
+     */
+    static List<Workload> libraryWorkloads() {
+        Map<String, Object> employees = Map.of("employees", PerfRegressionSuite.employeeRows(100));
+        Map<String, Object> users = Map.of("users", PerfRegressionSuite.users(100));
+        EncodeOptions shared = EncodeOptions.builder().delimiter(Delimiter.COMMA).build();
+        String employeesToon = Toon.encode(employees, shared);
+        String userToon = Toon.encode(PerfRegressionSuite.users(1).get(0));
+
+        return List.of(
+                new Workload("toon", "toon/encode-maps", () -> Toon.encode(employees, shared)),
+                new Workload("toon", "toon/encode-new-options",
+                        () -> Toon.encode(employees, EncodeOptions.builder().delimiter(Delimiter.COMMA).build())),
+                new Workload("toon", "toon/encode-pojos", () -> Toon.encode(users, shared)),
+                new Workload("toon", "toon/decode-maps", () -> Toon.decode(employeesToon)),
+                new Workload("toon", "toon/decode-pojo", () -> Toon.decode(userToon, User.class)));
+    }
+
+    private static Workload find(List<Workload> workloads, String name) {
+        return workloads.stream()
+                .filter(w -> w.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No workload named " + name));
+    }
+
+    // ==================== Examples ====================
+
+    /**
+     * Example 1: One workload at a fixed rate
+     */
+    private static void example1_SingleWorkload() {
+        printSectionHeader("Example 1: One Workload at a Fixed Rate");
+
+        List<Workload> library = libraryWorkloads();
+        LoadOptions options = LoadOptions.builder()
+                .workload(find(library, "toon/encode-maps"), 1)
+                .ratePerSecond(1_000)
+                .threads(4)
+                .warmup(1, TimeUnit.SECONDS)
+                .duration(3, TimeUnit.SECONDS)
+                .build();
+
+        LoadReport report = LoadTest.run("encode", options);
+        System.out.println(report.table());
+        System.out.println("Percentiles come from the histogram, so p99.9 reflects the slowest");
+        System.out.println("requests instead of being averaged away.");
+        System.out.println();
+    }
+
+    /**
+     * Example 2: A weighted mix of workloads
+     */
+    private static void example2_WorkloadMix() {
+        printSectionHeader("Example 2: A Weighted Mix of Workloads");
+
+        List<Workload> library = libraryWorkloads();
+        List<Workload> suite = PerfRegressionSuite.workloads();
+        LoadOptions options = LoadOptions.builder()
+                .workload(find(library, "toon/encode-maps"), 40)
+                .workload(find(library, "toon/decode-maps"), 30)
+                .workload(find(library, "toon/decode-pojo"), 20)
+                .workload(find(suite, "pojo/decode-users"), 10)
+                .ratePerSecond(1_000)
+                .threads(4)
+                .warmup(1, TimeUnit.SECONDS)
+                .duration(3, TimeUnit.SECONDS)
+                .build();
+
+        LoadReport report = LoadTest.run("mix", options);
+        System.out.println(report.table());
+        System.out.println("Each request picks a workload by weight; the same sequence is issued");
+        System.out.println("on every run, so reports of two builds are directly comparable.");
+        System.out.println();
+    }
+
+    /**
+     * Example 3: Coordinated omission
+     */
+    private static void example3_CoordinatedOmission() {
+        printSectionHeader("Example 3: Coordinated Omission");
+
+        // Measure how fast one thread can go, then offer 1.5x that
+        Workload workload = PerfRegressionSuite.workloads().stream()
+                .filter(w -> w.name().equals("tabular/encode-maps"))
+                .findFirst()
+                .orElseThrow();
+        long start = System.nanoTime();
+        int ops = 0;
+        while (System.nanoTime() - start < 1_000_000_000L) {
+            workload.operation().get();
+            ops++;
+        }
+        int rate = (int) (ops * 1.5);
+
+        LoadOptions options = LoadOptions.builder()
+                .workload(workload, 1)
+                .ratePerSecond(rate)
+                .threads(1)
+                .warmup(0, TimeUnit.SECONDS)
+                .duration(2, TimeUnit.SECONDS)
+                .build();
+        LoadReport report = LoadTest.run("overload", options);
+        System.out.println(report.table());
+
+        WorkloadStats stats = report.workloads().get(0);
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.printf("Capacity about %,d req/s, offered %,d req/s%n", ops, rate);
+        System.out.printf("p99 from actual start (service time): %,10.1f µs%n", stats.service().percentile(99) / 1_000.0);
+        System.out.printf("p99 from due time (corrected):        %,10.1f µs%n", stats.latency().percentile(99) / 1_000.0);
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println("A closed-loop benchmark only sees the service time. Callers arriving");
+        System.out.println("on schedule see the queue that builds up behind a saturated worker.");
+        System.out.println();
+    }
+
+    /**
+     * Example 4: Looking for contention
+     */
+    private static void example4_Contention() {
+        printSectionHeader("Example 4: Looking for Contention");
+
+        List<Workload> library = libraryWorkloads();
+        LoadOptions.Builder base = LoadOptions.builder()
+                .workload(find(library, "toon/encode-maps"), 1)
+                .workload(find(library, "toon/encode-new-options"), 1)
+                .workload(find(library, "toon/encode-pojos"), 1)
+                .workload(find(library, "toon/decode-pojo"), 1)
+                .ratePerSecond(1_000)
+                .warmup(1, TimeUnit.SECONDS)
+                .duration(3, TimeUnit.SECONDS);
+
+        LoadReport one = LoadTest.run("1 thread", base.threads(1).build());
+        LoadReport many = LoadTest.run("16 threads", base.threads(16).build());
+        System.out.println(LoadReport.compare(one, many));
+
+        if (ThreadMode.VIRTUAL.available()) {
+            LoadReport virtual = LoadTest.run("virtual", base.threads(256).threadMode(ThreadMode.VIRTUAL).build());
+            System.out.println(LoadReport.compare(many, virtual));
+        } else {
+            System.out.println("Virtual threads need Java 21; running on Java " + Runtime.version().feature()
+                    + ", so only platform threads were compared.");
+            System.out.println();
+        }
+
+        System.out.println("Same requests at the same rate, so each request's work is unchanged.");
+        System.out.println("If p99 grows with the thread count beyond what the cores explain,");
+        System.out.println("threads are waiting on shared state: caches, options or reflection.");
+        System.out.println();
+    }
+
+    // Helper methods
+
+    private static void printSectionHeader(String title) {
+        System.out.println("═".repeat(65));
+        System.out.println(title);
+        System.out.println("═".repeat(65));
+    }
+}
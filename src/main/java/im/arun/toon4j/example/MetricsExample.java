@@ -0,0 +1,571 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.DecodeOptions;
+import im.arun.toon4j.EncodeOptions;
+import im.arun.toon4j.Toon;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Examples of observing TOON4J encode/decode cost in production.
+ * Shows JDK Flight Recorder events ({@code toon.Encode}, {@code toon.Decode}) and a
+ * {@link ToonMetrics} listener SPI, both free when nothing is listening.
+ */
+public class MetricsExample {
+
+    /** Keeps benchmark results observable so the JIT cannot drop the measured work. */
+    private static volatile long sink;
+
+    public static void main(String[] args) {
+        System.out.println("╔════════════════════════════════════════════════════════════════╗");
+        System.out.println("║          TOON4J Metrics Examples                              ║");
+        System.out.println("║  Flight Recorder Events and a Metrics Listener SPI            ║");
+        System.out.println("╚════════════════════════════════════════════════════════════════╝\n");
+
+        example1_MetricsListener();
+        example2_FlightRecorderEvents();
+        example3_DisabledOverhead();
+    }
+
+    // ==================== Metrics SPI ====================
+
+    /**
+     * Listener for encode/decode statistics; implement only the callbacks you need.
+     * Callbacks run on the calling thread right after the operation completes.
+     */
+    public interface ToonMetrics {
+        /** Listener that ignores everything; instrumentation is skipped entirely when attached. */
+        ToonMetrics NONE = new ToonMetrics() {};
+
+        default void onEncode(ToonStats stats) {}
+
+        default void onDecode(ToonStats stats) {}
+    }
+
+    /**
+     * Statistics of one operation. For encode, {@code inputSize} counts input values and
+     * {@code outputSize} counts characters; for decode it is the other way round.
+     */
+    public record ToonStats(long durationNanos,
+                            long inputSize,
+                            long outputSize,
+                            int rows,
+                            int tabularArrays,
+                            int expandedArrays,
+                            int quotedStrings,
+                            int maxDepth) {
+    }
+
+    @Name("toon.Encode")
+    @Label("TOON Encode")
+    @Category("TOON")
+    @Description("Encoding of a Java value to TOON text")
+    static class EncodeEvent extends Event {
+        @Label("Input Values")
+        long inputSize;
+
+        @Label("Output Size")
+        @Description("Characters of TOON text produced")
+        long outputSize;
+
+        @Label("Tabular Rows")
+        int rows;
+
+        @Label("Tabular Arrays")
+        int tabularArrays;
+
+        @Label("Expanded Arrays")
+        int expandedArrays;
+
+        @Label("Quoted Strings")
+        int quotedStrings;
+
+        @Label("Max Depth")
+        int maxDepth;
+    }
+
+    @Name("toon.Decode")
+    @Label("TOON Decode")
+    @Category("TOON")
+    @Description("Decoding of TOON text to a Java value")
+    static class DecodeEvent extends Event {
+        @Label("Input Size")
+        @Description("Characters of TOON text consumed")
+        long inputSize;
+
+        @Label("Output Values")
+        long outputSize;
+
+        @Label("Tabular Rows")
+        int rows;
+
+        @Label("Tabular Arrays")
+        int tabularArrays;
+
+        @Label("Expanded Arrays")
+        int expandedArrays;
+
+        @Label("Quoted Strings")
+        int quotedStrings;
+
+        @Label("Max Depth")
+        int maxDepth;
+    }
+
+    /**
+     * Drop-in wrapper around {@link Toon} that feeds JFR events and a {@link ToonMetrics}
+     * listener. When no listener is attached and the events are disabled, each call is a
+     * disabled-event check plus the plain {@link Toon} call; events are only allocated while
+     * a recording enables them, and statistics are only gathered when someone consumes them.
+     */
+    public static final class InstrumentedToon {
+        private static final EventType ENCODE_EVENTS = EventType.getEventType(EncodeEvent.class);
+        private static final EventType DECODE_EVENTS = EventType.getEventType(DecodeEvent.class);
+
+        private final ToonMetrics metrics;
+
+        private InstrumentedToon(ToonMetrics metrics) {
+            this.metrics = Objects.requireNonNull(metrics, "metrics");
+        }
+
+        public static InstrumentedToon with(ToonMetrics metrics) {
+            return new InstrumentedToon(metrics);
+        }
+
+        /** JFR events only, no listener. */
+        public static InstrumentedToon jfrOnly() {
+            return new InstrumentedToon(ToonMetrics.NONE);
+        }
+
+        public String encode(Object data) {
+            return encode(data, null);
+        }
+
+        public String encode(Object data, EncodeOptions options) {
+            EncodeEvent event = ENCODE_EVENTS.isEnabled() ? new EncodeEvent() : null;
+            if (metrics == ToonMetrics.NONE && event == null) {
+                return options == null ? Toon.encode(data) : Toon.encode(data, options);
+            }
+
+            if (event != null) {
+                event.begin();
+            }
+            long start = System.nanoTime();
+            String toon = options == null ? Toon.encode(data) : Toon.encode(data, options);
+            long duration = System.nanoTime() - start;
+
+            boolean commit = event != null && endAndCheck(event);
+            if (commit || metrics != ToonMetrics.NONE) {
+                TextStats text = TextStats.scan(toon);
+                ToonStats stats = text.toStats(duration, countValues(data), toon.length());
+                if (commit) {
+                    event.inputSize = stats.inputSize();
+                    event.outputSize = stats.outputSize();
+                    event.rows = stats.rows();
+                    event.tabularArrays = stats.tabularArrays();
+                    event.expandedArrays = stats.expandedArrays();
+                    event.quotedStrings = stats.quotedStrings();
+                    event.maxDepth = stats.maxDepth();
+                    event.commit();
+                }
+                metrics.onEncode(stats);
+            }
+            return toon;
+        }
+
+        public Object decode(String toon) {
+            return decode(toon, null);
+        }
+
+        public Object decode(String toon, DecodeOptions options) {
+            DecodeEvent event = DECODE_EVENTS.isEnabled() ? new DecodeEvent() : null;
+            if (metrics == ToonMetrics.NONE && event == null) {
+                return options == null ? Toon.decode(toon) : Toon.decode(toon, options);
+            }
+
+            if (event != null) {
+                event.begin();
+            }
+            long start = System.nanoTime();
+            Object decoded = options == null ? Toon.decode(toon) : Toon.decode(toon, options);
+            long duration = System.nanoTime() - start;
+
+            boolean commit = event != null && endAndCheck(event);
+            if (commit || metrics != ToonMetrics.NONE) {
+                TextStats text = TextStats.scan(toon);
+                ToonStats stats = text.toStats(duration, toon.length(), countValues(decoded));
+                if (commit) {
+                    event.inputSize = stats.inputSize();
+                    event.outputSize = stats.outputSize();
+                    event.rows = stats.rows();
+                    event.tabularArrays = stats.tabularArrays();
+                    event.expandedArrays = stats.expandedArrays();
+                    event.quotedStrings = stats.quotedStrings();
+                    event.maxDepth = stats.maxDepth();
+                    event.commit();
+                }
+                metrics.onDecode(stats);
+            }
+            return decoded;
+        }
+
+        private static boolean endAndCheck(Event event) {
+            event.end();
+            return event.shouldCommit();
+        }
+
+        private static long countValues(Object value) {
+            if (value instanceof Map<?, ?> map) {
+                long count = 1;
+                for (Object child : map.values()) {
+                    count += countValues(child);
+                }
+                return count;
+            }
+            if (value instanceof Collection<?> collection) {
+                long count = 1;
+                for (Object child : collection) {
+                    count += countValues(child);
+                }
+                return count;
+            }
+            if (value != null && value.getClass().isArray()) {
+                long count = 1;
+                for (int i = 0; i < Array.getLength(value); i++) {
+                    count += countValues(Array.get(value, i));
+                }
+                return count;
+            }
+            return 1;
+        }
+    }
+
+    /**
+     * Structural statistics read off TOON text in a single pass over its lines.
+     */
+    private static final class TextStats {
+        int rows;
+        int tabularArrays;
+        int expandedArrays;
+        int quotedStrings;
+        int maxIndent;
+        int indentUnit;
+
+        static TextStats scan(String toon) {
+            TextStats stats = new TextStats();
+            int start = 0;
+            int length = toon.length();
+            while (start < length) {
+                int end = toon.indexOf('\n', start);
+                if (end < 0) {
+                    end = length;
+                }
+                stats.line(toon, start, end);
+                start = end + 1;
+            }
+            return stats;
+        }
+
+        private void line(String toon, int start, int end) {
+            int i = start;
+            while (i < end && toon.charAt(i) == ' ') {
+                i++;
+            }
+            int indent = i - start;
+            if (indent > 0 && (indentUnit == 0 || indent < indentUnit)) {
+                indentUnit = indent;
+            }
+            maxIndent = Math.max(maxIndent, indent);
+            if (i + 1 < end && toon.charAt(i) == '-' && toon.charAt(i + 1) == ' ') {
+                i += 2;
+            }
+
+            int colon = -1;
+            boolean inQuotes = false;
+            for (int j = i; j < end; j++) {
+                char c = toon.charAt(j);
+                if (inQuotes) {
+                    if (c == '\\') {
+                        j++;
+                    } else if (c == '"') {
+                        inQuotes = false;
+                    }
+                } else if (c == '"') {
+                    inQuotes = true;
+                    quotedStrings++;
+                } else if (c == ':' && colon < 0) {
+                    colon = j;
+                }
+            }
+            if (colon <= i) {
+                return;
+            }
+
+            char before = toon.charAt(colon - 1);
+            int open = toon.lastIndexOf('[', colon);
+            if (open < i) {
+                return;
+            }
+            if (before == '}' && toon.indexOf("]{", open) < colon) {
+                tabularArrays++;
+                rows += declaredLength(toon, open + 1, colon);
+            } else if (before == ']' && colon == end - 1) {
+                expandedArrays++;
+            }
+        }
+
+        private static int declaredLength(String toon, int from, int limit) {
+            int i = from;
+            if (i < limit && toon.charAt(i) == '#') {
+                i++;
+            }
+            int n = 0;
+            while (i < limit && Character.isDigit(toon.charAt(i))) {
+                n = n * 10 + (toon.charAt(i) - '0');
+                i++;
+            }
+            return n;
+        }
+
+        ToonStats toStats(long durationNanos, long inputSize, long outputSize) {
+            int depth = indentUnit == 0 ? 1 : maxIndent / indentUnit + 1;
+            return new ToonStats(durationNanos, inputSize, outputSize,
+                    rows, tabularArrays, expandedArrays, quotedStrings, depth);
+        }
+    }
+
+    /**
+     * Example listener: power-of-two latency and size histograms, safe to share across threads.
+     */
+    public static final class HistogramMetrics implements ToonMetrics {
+        private final AtomicLongArray encodeLatency = new AtomicLongArray(64);
+        private final AtomicLongArray decodeLatency = new AtomicLongArray(64);
+        private final LongAdder encodedChars = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+
+        @Override
+        public void onEncode(ToonStats stats) {
+            encodeLatency.incrementAndGet(bucket(stats.durationNanos()));
+            encodedChars.add(stats.outputSize());
+            rows.add(stats.rows());
+        }
+
+        @Override
+        public void onDecode(ToonStats stats) {
+            decodeLatency.incrementAndGet(bucket(stats.durationNanos()));
+            rows.add(stats.rows());
+        }
+
+        /** Upper bound (in nanoseconds) of the bucket holding the given percentile. */
+        public long encodePercentile(double percentile) {
+            return percentile(encodeLatency, percentile);
+        }
+
+        public long decodePercentile(double percentile) {
+            return percentile(decodeLatency, percentile);
+        }
+
+        public long encodedChars() { return encodedChars.sum(); }
+        public long rows() { return rows.sum(); }
+
+        private static int bucket(long value) {
+            return 64 - Long.numberOfLeadingZeros(Math.max(1, value)) - 1;
+        }
+
+        private static long percentile(AtomicLongArray buckets, double percentile) {
+            long total = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                total += buckets.get(i);
+            }
+            long target = (long) Math.ceil(total * percentile / 100.0);
+            long seen = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                seen += buckets.get(i);
+                if (seen >= target && seen > 0) {
+                    return 1L << (i + 1);
+                }
+            }
+            return 0;
+        }
+    }
+
+    // ==================== Examples ====================
+
+    /**
+     * Example 1: Exporting histograms through a metrics listener
+     */
+    private static void example1_MetricsListener() {
+        printSectionHeader("Example 1: Metrics Listener");
+
+        HistogramMetrics histogram = new HistogramMetrics();
+        List<ToonStats> last = new ArrayList<>();
+        ToonMetrics metrics = new ToonMetrics() {
+            @Override
+            public void onEncode(ToonStats stats) {
+                histogram.onEncode(stats);
+                last.add(stats);
+            }
+
+            @Override
+            public void onDecode(ToonStats stats) {
+                histogram.onDecode(stats);
+            }
+        };
+
+        InstrumentedToon toon = InstrumentedToon.with(metrics);
+        Map<String, Object> catalog = createCatalog(50);
+        String encoded = null;
+        for (int i = 0; i < 1_000; i++) {
+            encoded = toon.encode(catalog);
+            toon.decode(encoded);
+        }
+
+        ToonStats stats = last.get(last.size() - 1);
+        System.out.println("Last encode:");
+        System.out.println("  Input values: " + stats.inputSize());
+        System.out.println("  Output chars: " + stats.outputSize());
+        System.out.println("  Rows: " + stats.rows());
+        System.out.println("  Tabular arrays: " + stats.tabularArrays());
+        System.out.println("  Expanded arrays: " + stats.expandedArrays());
+        System.out.println("  Quoted strings: " + stats.quotedStrings());
+        System.out.println("  Max depth: " + stats.maxDepth());
+        System.out.println();
+
+        System.out.println("═══════════════════════════════════════════");
+        System.out.printf("Encode p50 <= %,d ns, p99 <= %,d ns%n",
+                histogram.encodePercentile(50), histogram.encodePercentile(99));
+        System.out.printf("Decode p50 <= %,d ns, p99 <= %,d ns%n",
+                histogram.decodePercentile(50), histogram.decodePercentile(99));
+        System.out.printf("Total encoded chars: %,d, rows seen: %,d%n",
+                histogram.encodedChars(), histogram.rows());
+        System.out.println("═══════════════════════════════════════════");
+        System.out.println();
+    }
+
+    /**
+     * Example 2: Recording toon.Encode / toon.Decode with Flight Recorder
+     */
+    private static void example2_FlightRecorderEvents() {
+        printSectionHeader("Example 2: Flight Recorder Events");
+
+        InstrumentedToon toon = InstrumentedToon.jfrOnly();
+        Map<String, Object> catalog = createCatalog(10);
+
+        try (Recording recording = new Recording()) {
+            recording.enable(EncodeEvent.class);
+            recording.enable(DecodeEvent.class);
+            recording.start();
+
+            String encoded = toon.encode(catalog);
+            toon.decode(encoded);
+
+            recording.stop();
+            Path file = Files.createTempFile("toon-metrics", ".jfr");
+            try {
+                recording.dump(file);
+                for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                    System.out.printf("%s: %,d ns, in=%d, out=%d, rows=%d, tabular=%d, expanded=%d, quoted=%d, depth=%d%n",
+                            event.getEventType().getName(),
+                            event.getDuration().toNanos(),
+                            event.getLong("inputSize"),
+                            event.getLong("outputSize"),
+                            event.getInt("rows"),
+                            event.getInt("tabularArrays"),
+                            event.getInt("expandedArrays"),
+                            event.getInt("quotedStrings"),
+                            event.getInt("maxDepth"));
+                }
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            System.out.println("  Error: " + e.getClass().getSimpleName() + " - " + e.getMessage());
+        }
+        System.out.println();
+        System.out.println("✓ In production: java -XX:StartFlightRecording ... and look for the TOON category");
+        System.out.println();
+    }
+
+    /**
+     * Example 3: Overhead with nothing listening
+     */
+    private static void example3_DisabledOverhead() {
+        printSectionHeader("Example 3: Overhead When Disabled");
+
+        Map<String, Object> catalog = createCatalog(5);
+        InstrumentedToon disabled = InstrumentedToon.jfrOnly();
+        InstrumentedToon enabled = InstrumentedToon.with(new HistogramMetrics());
+        int iterations = 200_000;
+
+        // Interleave several rounds so each variant sees the same JIT state
+        double plain = 0;
+        double wrapped = 0;
+        double listening = 0;
+        for (int round = 0; round < 5; round++) {
+            plain = measure(iterations, () -> Toon.encode(catalog));
+            wrapped = measure(iterations, () -> disabled.encode(catalog));
+            listening = measure(iterations, () -> enabled.encode(catalog));
+        }
+
+        System.out.println("═══════════════════════════════════════════");
+        System.out.printf("Toon.encode:                %.0f ns/op%n", plain);
+        System.out.printf("InstrumentedToon (off):     %.0f ns/op (%+.1f%%)%n", wrapped, (wrapped / plain - 1) * 100);
+        System.out.printf("InstrumentedToon (metrics): %.0f ns/op (%+.1f%%)%n", listening, (listening / plain - 1) * 100);
+        System.out.println("═══════════════════════════════════════════");
+        System.out.println();
+    }
+
+    // Helper methods
+
+    private static double measure(int iterations, Supplier<String> operation) {
+        long chars = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            chars += operation.get().length();
+        }
+        long elapsed = System.nanoTime() - start;
+        sink = chars;
+        return elapsed / (double) iterations;
+    }
+
+    private static Map<String, Object> createCatalog(int size) {
+        List<Map<String, Object>> products = new ArrayList<>();
+        for (int i = 1; i <= size; i++) {
+            Map<String, Object> product = new LinkedHashMap<>();
+            product.put("id", "PROD-" + String.format("%03d", i));
+            product.put("name", i % 4 == 0 ? "Bundle, " + i + " items" : "Product " + i);
+            product.put("price", 99.99 + i);
+            product.put("inStock", i % 2 == 0);
+            products.add(product);
+        }
+
+        Map<String, Object> catalog = new LinkedHashMap<>();
+        catalog.put("products", products);
+        catalog.put("tags", List.of("sale", "new"));
+        catalog.put("total", products.size());
+        return catalog;
+    }
+
+    private static void printSectionHeader(String title) {
+        System.out.println("═".repeat(65));
+        System.out.println(title);
+        System.out.println("═".repeat(65));
+    }
+}
@@ -0,0 +1,654 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.Delimiter;
+import im.arun.toon4j.EncodeOptions;
+import im.arun.toon4j.Toon;
+import im.arun.toon4j.example.TypeRefExample.TypedDecoder;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Examples of many TOON documents in one file.
+ * Shows a container with a column-zero document separator and an optional index footer,
+ * a {@code Spliterator} that splits on document boundaries for parallel streams, and
+ * independent readers that each take a byte range of the same file.
+ */
+public class MultiDocumentExample {
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("╔════════════════════════════════════════════════════════════════╗");
+        System.out.println("║          TOON4J Multi-Document Stream Examples                ║");
+        System.out.println("║  Splittable Files of TOON Documents                           ║");
+        System.out.println("╚════════════════════════════════════════════════════════════════╝\n");
+
+        Path dir = Files.createTempDirectory("toon-stream");
+        try {
+            example1_Format(dir);
+            example2_ParallelStreams(dir);
+            example3_ByteRanges(dir);
+        } finally {
+            try (Stream<Path> files = Files.list(dir)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dir);
+        }
+    }
+
+    // ==================== Stream Format ====================
+
+    /**
+     * Ends every document. TOON never writes {@code ---} at column zero: keys and strings
+     * that start with {@code -} are quoted, and list items are indented.
+     */
+    static final String SEPARATOR = "---";
+    static final String INDEX_MARKER = "---index";
+    static final String INDEX_TRAILER = "---index-at ";
+
+    private static final byte[] SEPARATOR_LINE = (SEPARATOR + "\n").getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Writes TOON documents one after another, each followed by a {@code ---} line.
+     *
+     * <p>When indexed, {@link #close()} appends a footer listing every document's offset and
+     * length as a TOON table, then a last line {@code ---index-at <offset>} pointing at it:
+     * <pre>
+     * ---index
+     * documents[2]{offset,length}:
+     *   0,118
+     *   122,131
+     * ---index-at 257
+     * </pre>
+     */
+    public static final class ToonStreamWriter implements Closeable {
+        private final OutputStream out;
+        private final EncodeOptions options;
+        private final boolean indexed;
+        private long[] offsets = new long[64];
+        private long[] lengths = new long[64];
+        private int count;
+        private long position;
+        private boolean closed;
+
+        public ToonStreamWriter(OutputStream out, EncodeOptions options, boolean indexed) {
+            this.out = out;
+            this.options = options;
+            this.indexed = indexed;
+        }
+
+        public static ToonStreamWriter open(Path file, EncodeOptions options, boolean indexed) throws IOException {
+            return new ToonStreamWriter(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16),
+                    options, indexed);
+        }
+
+        /** Encodes {@code value} as the next document. */
+        public void write(Object value) throws IOException {
+            writeDocument(Toon.encode(value, options));
+        }
+
+        /**
+         * Appends already-encoded TOON. Trailing newlines are dropped; a line starting with
+         * {@code ---} would end the document early and is rejected.
+         */
+        public void writeDocument(String toon) throws IOException {
+            if (closed) {
+                throw new IllegalStateException("Stream is closed");
+            }
+            int end = toon.length();
+            while (end > 0 && toon.charAt(end - 1) == '\n') {
+                end--;
+            }
+            if (end == 0) {
+                throw new IllegalArgumentException("Empty document");
+            }
+            String text = toon.substring(0, end);
+            if (text.startsWith(SEPARATOR) || text.contains("\n" + SEPARATOR)) {
+                throw new IllegalArgumentException("Document contains a line starting with " + SEPARATOR);
+            }
+
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+                lengths = Arrays.copyOf(lengths, count * 2);
+            }
+            offsets[count] = position;
+            lengths[count] = bytes.length;
+            count++;
+
+            out.write(bytes);
+            out.write('\n');
+            out.write(SEPARATOR_LINE);
+            position += bytes.length + 1 + SEPARATOR_LINE.length;
+        }
+
+        public int documents() {
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try (out) {
+                if (indexed) {
+                    StringBuilder footer = new StringBuilder(INDEX_MARKER).append('\n');
+                    ToonStrings.appendHeader(footer, "documents", count, List.of("offset", "length"), ',');
+                    for (int i = 0; i < count; i++) {
+                        footer.append("\n  ").append(offsets[i]).append(',').append(lengths[i]);
+                    }
+                    footer.append('\n').append(INDEX_TRAILER).append(position).append('\n');
+                    out.write(footer.toString().getBytes(StandardCharsets.UTF_8));
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a file written by {@link ToonStreamWriter}. Reads are positional, so one reader
+     * can serve any number of streams and threads at once.
+     *
+     * <p>A document belongs to the byte range its first byte falls in, so readers given
+     * {@code [0, n)}, {@code [n, 2n)}, ... together see every document exactly once.
+     */
+    public static final class ToonStreamReader implements Closeable {
+        private static final int MIN_SPLIT_BYTES = 64 * 1024;
+
+        private final FileChannel channel;
+        private final long dataEnd;
+        private final long[] offsets;
+        private final long[] lengths;
+
+        private ToonStreamReader(FileChannel channel, long dataEnd, long[] offsets, long[] lengths) {
+            this.channel = channel;
+            this.dataEnd = dataEnd;
+            this.offsets = offsets;
+            this.lengths = lengths;
+        }
+
+        public static ToonStreamReader open(Path file) throws IOException {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            try {
+                return readFooter(channel);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        /** Whether the file has an index footer; splits are then exact and sizes known. */
+        public boolean indexed() {
+            return offsets != null;
+        }
+
+        /** Bytes of document data, not counting the footer. */
+        public long dataLength() {
+            return dataEnd;
+        }
+
+        public Stream<String> documents() {
+            return StreamSupport.stream(spliterator(), false);
+        }
+
+        /** Documents that start in {@code [from, to)}, for one of several readers of the same file. */
+        public Stream<String> documents(long from, long to) {
+            return StreamSupport.stream(spliterator(from, to), false);
+        }
+
+        public Spliterator<String> spliterator() {
+            return spliterator(0, dataEnd);
+        }
+
+        public Spliterator<String> spliterator(long from, long to) {
+            if (from < 0 || from > to) {
+                throw new IllegalArgumentException("Invalid range [" + from + ", " + to + ")");
+            }
+            long end = Math.min(to, dataEnd);
+            if (offsets != null) {
+                return new IndexedSpliterator(firstAtOrAfter(from), firstAtOrAfter(end));
+            }
+            long start = nextDocumentStart(from);
+            return new ScanningSpliterator(start, Math.max(start, end));
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+
+        private int firstAtOrAfter(long position) {
+            int index = Arrays.binarySearch(offsets, position);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        /** The first document start at or after {@code from}: just past a {@code \n---\n}. */
+        private long nextDocumentStart(long from) {
+            if (from <= 0) {
+                return 0;
+            }
+            long position = Math.max(0, from - SEPARATOR_LINE.length - 1);
+            byte[] bytes = new byte[8 * 1024];
+            int carry = 0;
+            while (position + carry < dataEnd) {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes, carry, (int) Math.min(bytes.length, dataEnd - position) - carry);
+                read(channel, buffer, position);
+                int limit = buffer.position();
+                StructuralScanner scanner = new StructuralScanner(bytes, limit, Delimiter.COMMA);
+                int i = scanner.nextNewline(0);
+                while (i + SEPARATOR_LINE.length < limit) {
+                    long start = position + i + 1 + SEPARATOR_LINE.length;
+                    if (isSeparator(bytes, i + 1) && start >= from) {
+                        return start;
+                    }
+                    i = scanner.nextNewline(i + 1);
+                }
+                if (limit < bytes.length) {
+                    break;
+                }
+                // Keep the last few bytes, which may hold the start of a separator
+                carry = SEPARATOR_LINE.length + 1;
+                System.arraycopy(bytes, limit - carry, bytes, 0, carry);
+                position += limit - carry;
+            }
+            return dataEnd;
+        }
+
+        private String readDocument(int index) {
+            if (lengths[index] > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Document " + index + " is larger than 2 GB");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) lengths[index]);
+            read(channel, buffer, offsets[index]);
+            if (buffer.hasRemaining()) {
+                throw new IllegalArgumentException("Index points past the end of the file: document " + index);
+            }
+            return new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Fills {@code buffer} up to its limit or the end of the file, where {@code base} is
+         * the file offset of buffer index 0.
+         */
+        private static void read(FileChannel channel, ByteBuffer buffer, long base) {
+            try {
+                while (buffer.hasRemaining()) {
+                    int n = channel.read(buffer, base + buffer.position());
+                    if (n < 0) {
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static boolean isSeparator(byte[] bytes, int at) {
+            return Arrays.equals(bytes, at, at + SEPARATOR_LINE.length, SEPARATOR_LINE, 0, SEPARATOR_LINE.length);
+        }
+
+        private static ToonStreamReader readFooter(FileChannel channel) throws IOException {
+            long size = channel.size();
+            int tailLength = (int) Math.min(size, 64);
+            ByteBuffer tail = ByteBuffer.allocate(tailLength);
+            read(channel, tail, size - tailLength);
+            String text = new String(tail.array(), StandardCharsets.UTF_8);
+            String trailer = text.substring(text.lastIndexOf('\n', text.length() - 2) + 1);
+            if (!trailer.endsWith("\n") || !trailer.startsWith(INDEX_TRAILER)) {
+                return new ToonStreamReader(channel, size, null, null);
+            }
+
+            long indexStart;
+            try {
+                indexStart = Long.parseLong(trailer.substring(INDEX_TRAILER.length(), trailer.length() - 1));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid index trailer: " + trailer.strip());
+            }
+            long footerLength = size - trailer.length() - indexStart;
+            if (indexStart < 0 || footerLength < 0 || footerLength > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Index offset " + indexStart + " is outside the file");
+            }
+            ByteBuffer footer = ByteBuffer.allocate((int) footerLength);
+            read(channel, footer, indexStart);
+            String[] lines = new String(footer.array(), StandardCharsets.UTF_8).split("\n");
+            if (lines.length < 2 || !lines[0].equals(INDEX_MARKER) || !lines[1].startsWith("documents[")) {
+                throw new IllegalArgumentException("Missing index block at offset " + indexStart);
+            }
+
+            int count = lines.length - 2;
+            long[] offsets = new long[count];
+            long[] lengths = new long[count];
+            List<Object> values = new ArrayList<>(2);
+            for (int i = 0; i < count; i++) {
+                values.clear();
+                try {
+                    RowParser.parse(lines[i + 2], 2, ',', values);
+                } catch (RowParser.FieldError e) {
+                    throw new IllegalArgumentException("Invalid index row " + (i + 1) + ": " + e.getMessage());
+                }
+                if (values.size() != 2 || !(values.get(0) instanceof Number offset)
+                        || !(values.get(1) instanceof Number length)) {
+                    throw new IllegalArgumentException("Invalid index row " + (i + 1) + ": " + lines[i + 2].strip());
+                }
+                offsets[i] = offset.longValue();
+                lengths[i] = length.longValue();
+                if (i > 0 && offsets[i] <= offsets[i - 1]) {
+                    throw new IllegalArgumentException("Index offsets are not increasing at row " + (i + 1));
+                }
+            }
+            if (!lines[1].equals("documents[" + count + "]{offset,length}:")) {
+                throw new IllegalArgumentException("Index header does not match " + count + " rows: " + lines[1]);
+            }
+            return new ToonStreamReader(channel, indexStart, offsets, lengths);
+        }
+
+        /** Splits on index entries: exact halves, known sizes, one positional read per document. */
+        private final class IndexedSpliterator implements Spliterator<String> {
+            private int next;
+            private final int end;
+
+            IndexedSpliterator(int next, int end) {
+                this.next = next;
+                this.end = end;
+            }
+
+            @Override
+            public boolean tryAdvance(Consumer<? super String> action) {
+                if (next >= end) {
+                    return false;
+                }
+                action.accept(readDocument(next++));
+                return true;
+            }
+
+            @Override
+            public Spliterator<String> trySplit() {
+                int mid = (next + end) >>> 1;
+                if (mid <= next) {
+                    return null;
+                }
+                Spliterator<String> prefix = new IndexedSpliterator(next, mid);
+                next = mid;
+                return prefix;
+            }
+
+            @Override
+            public long estimateSize() {
+                return end - next;
+            }
+
+            @Override
+            public int characteristics() {
+                return ORDERED | NONNULL | IMMUTABLE | SIZED | SUBSIZED;
+            }
+        }
+
+        /**
+         * Splits without an index by scanning forward from the byte midpoint to the next
+         * separator. Documents are read sequentially through a growable buffer; one that
+         * starts in range is read to its end even when that lies past the range.
+         */
+        private final class ScanningSpliterator implements Spliterator<String> {
+            private long next;
+            private final long end;
+            private byte[] buffer;
+            private int start;
+            private int limit;
+            private int scanned;
+
+            ScanningSpliterator(long next, long end) {
+                this.next = next;
+                this.end = end;
+            }
+
+            @Override
+            public boolean tryAdvance(Consumer<? super String> action) {
+                if (next >= end) {
+                    return false;
+                }
+                if (buffer == null) {
+                    buffer = new byte[64 * 1024];
+                }
+                action.accept(nextDocument());
+                return true;
+            }
+
+            @Override
+            public Spliterator<String> trySplit() {
+                if (buffer != null || end - next < 2L * MIN_SPLIT_BYTES) {
+                    return null;
+                }
+                long split = nextDocumentStart(next + (end - next) / 2);
+                if (split >= end) {
+                    return null;
+                }
+                Spliterator<String> prefix = new ScanningSpliterator(next, split);
+                next = split;
+                return prefix;
+            }
+
+            @Override
+            public long estimateSize() {
+                // Bytes left stand in for documents left; only the ratio between halves matters
+                return end - next;
+            }
+
+            @Override
+            public int characteristics() {
+                return ORDERED | NONNULL | IMMUTABLE;
+            }
+
+            private String nextDocument() {
+                while (true) {
+                    StructuralScanner scanner = new StructuralScanner(buffer, limit, Delimiter.COMMA);
+                    int i = scanner.nextNewline(scanned);
+                    while (i + SEPARATOR_LINE.length < limit) {
+                        if (isSeparator(buffer, i + 1)) {
+                            String document = new String(buffer, start, i - start, StandardCharsets.UTF_8);
+                            int consumed = i + 1 + SEPARATOR_LINE.length - start;
+                            next += consumed;
+                            start += consumed;
+                            scanned = start;
+                            return document;
+                        }
+                        i = scanner.nextNewline(i + 1);
+                    }
+                    scanned = Math.max(start, Math.min(i, limit));
+                    if (!fill()) {
+                        // Last document without a separator
+                        int length = limit - start;
+                        while (length > 0 && buffer[start + length - 1] == '\n') {
+                            length--;
+                        }
+                        String document = new String(buffer, start, length, StandardCharsets.UTF_8);
+                        next = dataEnd;
+                        return document;
+                    }
+                }
+            }
+
+            /** Reads more of the file after the current document; false at the end of the data. */
+            private boolean fill() {
+                long position = next + (limit - start);
+                if (position >= dataEnd) {
+                    return false;
+                }
+                if (start > 0) {
+                    System.arraycopy(buffer, start, buffer, 0, limit - start);
+                    limit -= start;
+                    scanned -= start;
+                    start = 0;
+                }
+                if (limit == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                ByteBuffer target = ByteBuffer.wrap(buffer, limit,
+                        (int) Math.min(buffer.length - limit, dataEnd - position)).slice();
+                read(channel, target, position);
+                limit += target.position();
+                return target.position() > 0;
+            }
+        }
+    }
+
+    // ==================== Documents ====================
+
+    public record LogEntry(long ts, String level, String message) {}
+
+    public record LogBatch(String host, int batch, List<LogEntry> entries) {}
+
+    /**
+     * Example 1: Three documents and the index footer
+     */
+    private static void example1_Format(Path dir) throws IOException {
+        printSectionHeader("Example 1: File Layout");
+
+        Path file = dir.resolve("small.toon");
+        try (ToonStreamWriter writer = ToonStreamWriter.open(file, EncodeOptions.builder().build(), true)) {
+            for (int i = 0; i < 3; i++) {
+                writer.write(batch("web-" + (i + 1), i, 2));
+            }
+        }
+        System.out.println("File contents:");
+        System.out.println(Files.readString(file));
+
+        try (ToonStreamReader reader = ToonStreamReader.open(file)) {
+            reader.documents().forEach(document -> {
+                LogBatch batch = TypedDecoder.decode(document, LogBatch.class);
+                System.out.println("  " + batch.host() + ": " + batch.entries().size() + " entries");
+            });
+        }
+
+        try (ToonStreamWriter writer = ToonStreamWriter.open(dir.resolve("bad.toon"), EncodeOptions.builder().build(), false)) {
+            writer.writeDocument("note: ok\n--- not a key");
+        } catch (IllegalArgumentException e) {
+            System.out.println("  Rejected: " + e.getMessage());
+        }
+        System.out.println();
+    }
+
+    /**
+     * Example 2: Parallel streams over indexed and unindexed files
+     */
+    private static void example2_ParallelStreams(Path dir) throws IOException {
+        printSectionHeader("Example 2: Parallel Streams (2,000 documents × 200 entries)");
+
+        Path indexed = dir.resolve("logs-indexed.toon");
+        Path plain = dir.resolve("logs.toon");
+        writeLogs(indexed, true);
+        writeLogs(plain, false);
+        System.out.printf("File size: %,d bytes (index footer %,d bytes)%n%n",
+                Files.size(plain), Files.size(indexed) - Files.size(plain));
+
+        System.out.println("═══════════════════════════════════════════");
+        for (Path file : List.of(indexed, plain)) {
+            try (ToonStreamReader reader = ToonStreamReader.open(file)) {
+                // Warm up
+                for (int i = 0; i < 3; i++) {
+                    countErrors(reader.documents());
+                    countErrors(reader.documents().parallel());
+                }
+                long start = System.nanoTime();
+                long sequential = countErrors(reader.documents());
+                long sequentialNanos = System.nanoTime() - start;
+                start = System.nanoTime();
+                long parallel = countErrors(reader.documents().parallel());
+                long parallelNanos = System.nanoTime() - start;
+
+                System.out.printf("%-9s sequential %6.1f ms | parallel %6.1f ms | %.1fx | errors %,d / %,d%n",
+                        reader.indexed() ? "Indexed:" : "Scanning:",
+                        sequentialNanos / 1_000_000.0, parallelNanos / 1_000_000.0,
+                        (double) sequentialNanos / parallelNanos, sequential, parallel);
+            }
+        }
+        System.out.println("═══════════════════════════════════════════");
+        System.out.printf("Cores: %d%n", Runtime.getRuntime().availableProcessors());
+        System.out.println();
+    }
+
+    /**
+     * Example 3: Four independent readers, one byte range each
+     */
+    private static void example3_ByteRanges(Path dir) throws IOException {
+        printSectionHeader("Example 3: Byte Ranges for Separate Readers");
+
+        Path file = dir.resolve("logs.toon");
+        long size = Files.size(file);
+        int nodes = 4;
+        Set<String> seen = new HashSet<>();
+        int total = 0;
+        for (int node = 0; node < nodes; node++) {
+            long from = size * node / nodes;
+            long to = size * (node + 1) / nodes;
+            // Each node opens its own reader, as it would on another machine
+            try (ToonStreamReader reader = ToonStreamReader.open(file);
+                 Stream<String> documents = reader.documents(from, to)) {
+                List<LogBatch> batches = documents.map(document -> TypedDecoder.decode(document, LogBatch.class)).toList();
+                batches.forEach(batch -> seen.add(batch.host() + "/" + batch.batch()));
+                total += batches.size();
+                System.out.printf("Node %d: bytes [%,9d, %,9d) -> %,4d documents (batches %d..%d)%n",
+                        node, from, to, batches.size(),
+                        batches.isEmpty() ? -1 : batches.get(0).batch(),
+                        batches.isEmpty() ? -1 : batches.get(batches.size() - 1).batch());
+            }
+        }
+        System.out.println();
+        System.out.printf("Total: %,d documents, %,d distinct%n", total, seen.size());
+        System.out.println();
+    }
+
+    // Helper methods
+
+    private static void writeLogs(Path file, boolean indexed) throws IOException {
+        try (ToonStreamWriter writer = ToonStreamWriter.open(file, EncodeOptions.builder().build(), indexed)) {
+            for (int i = 0; i < 2_000; i++) {
+                writer.write(batch("web-" + (i % 8), i, 200));
+            }
+        }
+    }
+
+    private static long countErrors(Stream<String> documents) {
+        return documents
+                .map(document -> TypedDecoder.decode(document, LogBatch.class))
+                .flatMap(batch -> batch.entries().stream())
+                .filter(entry -> entry.level().equals("ERROR"))
+                .count();
+    }
+
+    private static Map<String, Object> batch(String host, int batch, int entries) {
+        List<Map<String, Object>> rows = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("ts", 1_736_000_000_000L + batch * 1_000L + i);
+            row.put("level", i % 50 == 0 ? "ERROR" : i % 5 == 0 ? "WARN" : "INFO");
+            row.put("message", "request " + (batch * entries + i) + " served");
+            rows.add(row);
+        }
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("host", host);
+        document.put("batch", batch);
+        document.put("entries", rows);
+        return document;
+    }
+
+    private static void printSectionHeader(String title) {
+        System.out.println("═".repeat(65));
+        System.out.println(title);
+        System.out.println("═".repeat(65));
+    }
+}
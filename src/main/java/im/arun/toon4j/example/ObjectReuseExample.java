@@ -0,0 +1,1326 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.example.PojoExample.Address;
+import im.arun.toon4j.example.PojoExample.Department;
+import im.arun.toon4j.example.PojoExample.Employee;
+import im.arun.toon4j.example.PojoExample.Team;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * Examples of decoding into existing instances.
+ * Shows fields being overwritten in place, collections refilled without reallocation,
+ * an object pool for nested objects and list elements, and a steady-state decode loop
+ * that allocates next to nothing.
+ */
+public class ObjectReuseExample {
+
+    public static void main(String[] args) {
+        System.out.println("╔════════════════════════════════════════════════════════════════╗");
+        System.out.println("║          TOON4J Object Reuse Examples                         ║");
+        System.out.println("║  Decoding Into Existing Instances                             ║");
+        System.out.println("╚════════════════════════════════════════════════════════════════╝\n");
+
+        example1_DecodeInto();
+        example2_RefilledCollections();
+        example3_ObjectPool();
+        example4_SteadyState();
+    }
+
+    // ==================== Object Pool ====================
+
+    /**
+     * Supplies instances for nested objects and list elements, and takes back the ones a
+     * decode no longer references.
+     */
+    public interface ObjectPool {
+        /** An instance to reuse, or {@code null} to have the binder construct one. */
+        <T> T acquire(Class<T> type);
+
+        /** Takes back an instance that was dropped from the target. */
+        void release(Object instance);
+    }
+
+    /**
+     * A per-type free list holding at most {@code maxPerType} instances.
+     * Not thread-safe; use one pool per decoding thread.
+     */
+    public static final class BoundedPool implements ObjectPool {
+        private final int maxPerType;
+        private final Map<Class<?>, ArrayDeque<Object>> free = new HashMap<>();
+        private long reused;
+        private long released;
+        private long dropped;
+
+        public BoundedPool(int maxPerType) {
+            if (maxPerType < 1) {
+                throw new IllegalArgumentException("maxPerType must be at least 1");
+            }
+            this.maxPerType = maxPerType;
+        }
+
+        @Override
+        public <T> T acquire(Class<T> type) {
+            ArrayDeque<Object> instances = free.get(type);
+            if (instances == null || instances.isEmpty()) {
+                return null;
+            }
+            reused++;
+            return type.cast(instances.pop());
+        }
+
+        @Override
+        public void release(Object instance) {
+            ArrayDeque<Object> instances = free.computeIfAbsent(instance.getClass(), k -> new ArrayDeque<>());
+            if (instances.size() >= maxPerType) {
+                dropped++;
+                return;
+            }
+            instances.push(instance);
+            released++;
+        }
+
+        public long reused() { return reused; }
+        public long released() { return released; }
+        public long dropped() { return dropped; }
+
+        public int available() {
+            int total = 0;
+            for (ArrayDeque<Object> instances : free.values()) {
+                total += instances.size();
+            }
+            return total;
+        }
+    }
+
+    // ==================== Binder ====================
+
+    /** How a property is written. */
+    enum Kind { INT, LONG, DOUBLE, BOOLEAN, VALUE, OBJECT, LIST, SET }
+
+    /** A bean property with its getter and a setter adapted to its {@link Kind}. */
+    static final class Property {
+        final String name;
+        final Kind kind;
+        final Class<?> type;
+        final Class<?> element;
+        final MethodHandle getter;
+        final MethodHandle setter;
+        final Object zero;
+
+        Property(String name, Kind kind, Class<?> type, Class<?> element, MethodHandle getter, MethodHandle setter) {
+            this.name = name;
+            this.kind = kind;
+            this.type = type;
+            this.element = element;
+            this.getter = getter.asType(MethodType.methodType(Object.class, Object.class));
+            Class<?> parameter = switch (kind) {
+                case INT -> int.class;
+                case LONG -> long.class;
+                case DOUBLE -> double.class;
+                case BOOLEAN -> boolean.class;
+                default -> Object.class;
+            };
+            this.setter = setter.asType(MethodType.methodType(void.class, Object.class, parameter));
+            this.zero = type.isPrimitive() ? zeroOf(type) : null;
+        }
+
+        Object get(Object target) {
+            try {
+                return getter.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Cannot read property '" + name + "'", t);
+            }
+        }
+
+        void set(Object target, Object value) {
+            try {
+                setter.invokeExact(target, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Cannot write property '" + name + "'", t);
+            }
+        }
+
+        void setInt(Object target, int value) {
+            try {
+                setter.invokeExact(target, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Cannot write property '" + name + "'", t);
+            }
+        }
+
+        void setLong(Object target, long value) {
+            try {
+                setter.invokeExact(target, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Cannot write property '" + name + "'", t);
+            }
+        }
+
+        void setDouble(Object target, double value) {
+            try {
+                setter.invokeExact(target, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Cannot write property '" + name + "'", t);
+            }
+        }
+
+        void setBoolean(Object target, boolean value) {
+            try {
+                setter.invokeExact(target, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Cannot write property '" + name + "'", t);
+            }
+        }
+
+        boolean isScalar() {
+            return kind != Kind.OBJECT && kind != Kind.LIST && kind != Kind.SET;
+        }
+
+        private static Object zeroOf(Class<?> type) {
+            if (type == boolean.class) return false;
+            if (type == char.class) return '\0';
+            if (type == byte.class) return (byte) 0;
+            if (type == short.class) return (short) 0;
+            if (type == float.class) return 0f;
+            return 0;
+        }
+    }
+
+    /**
+     * Writable properties of a bean type, resolved once per class: fields with a matching
+     * getter and setter (or public non-final fields), in declaration order. Map and array
+     * properties are not bound; their keys are skipped like unknown keys.
+     */
+    static final class BindSchema {
+        private static final int MAX_PROPERTIES = 64;
+        private static final ClassValue<BindSchema> CACHE = new ClassValue<>() {
+            @Override
+            protected BindSchema computeValue(Class<?> type) {
+                return resolve(type);
+            }
+        };
+
+        final Class<?> type;
+        final Property[] properties;
+        private final MethodHandle constructor;
+        private volatile Header header;
+
+        /** The last tabular header seen for this element type and its column mapping. */
+        private record Header(String text, int[] columns, long mask) {}
+
+        private BindSchema(Class<?> type, Property[] properties, MethodHandle constructor) {
+            this.type = type;
+            this.properties = properties;
+            this.constructor = constructor;
+        }
+
+        static BindSchema of(Class<?> type) {
+            return CACHE.get(type);
+        }
+
+        Object construct() {
+            if (constructor == null) {
+                throw new IllegalArgumentException("No public no-arg constructor on " + type.getName());
+            }
+            try {
+                return constructor.invoke();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Cannot construct " + type.getName(), t);
+            }
+        }
+
+        /** Index of the property named by {@code text[start, end)}, searching from {@code hint}. */
+        int find(String text, int start, int end, int hint) {
+            int length = end - start;
+            for (int n = 0; n < properties.length; n++) {
+                int i = (hint + n) % properties.length;
+                String name = properties[i].name;
+                if (name.length() == length && text.regionMatches(start, name, 0, length)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static BindSchema resolve(Class<?> type) {
+            if (type.isRecord() || type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+                throw new IllegalArgumentException("Cannot decode into " + type.getName());
+            }
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            List<Property> properties = new ArrayList<>();
+            MethodHandle constructor;
+            try {
+                constructor = lookup.unreflectConstructor(type.getConstructor());
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                constructor = null;
+            }
+            try {
+                for (Field field : TabularSchemaExample.TableSchema.propertyFields(type)) {
+                    Kind kind = kindOf(field.getType());
+                    if (kind == null) {
+                        continue;
+                    }
+                    MethodHandle[] handles = accessors(lookup, type, field);
+                    if (handles != null) {
+                        properties.add(new Property(field.getName(), kind, field.getType(),
+                                elementType(field), handles[0], handles[1]));
+                    }
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("Type is not accessible: " + type.getName(), e);
+            }
+            if (properties.size() > MAX_PROPERTIES) {
+                throw new IllegalArgumentException(type.getName() + " has more than " + MAX_PROPERTIES + " properties");
+            }
+            return new BindSchema(type, properties.toArray(Property[]::new), constructor);
+        }
+
+        private static MethodHandle[] accessors(MethodHandles.Lookup lookup, Class<?> type, Field field)
+                throws IllegalAccessException {
+            String suffix = Character.toUpperCase(field.getName().charAt(0)) + field.getName().substring(1);
+            try {
+                Method setter = type.getMethod("set" + suffix, field.getType());
+                for (String prefix : new String[]{"get", "is"}) {
+                    try {
+                        Method getter = type.getMethod(prefix + suffix);
+                        if (getter.getReturnType() == field.getType()) {
+                            return new MethodHandle[]{lookup.unreflect(getter), lookup.unreflect(setter)};
+                        }
+                    } catch (NoSuchMethodException ignored) {
+                        // try the next naming convention
+                    }
+                }
+            } catch (NoSuchMethodException ignored) {
+                // fall back to a public field
+            }
+            if (Modifier.isPublic(field.getModifiers()) && !Modifier.isFinal(field.getModifiers())) {
+                return new MethodHandle[]{lookup.unreflectGetter(field), lookup.unreflectSetter(field)};
+            }
+            return null;
+        }
+
+        private static Kind kindOf(Class<?> type) {
+            if (type == int.class) return Kind.INT;
+            if (type == long.class) return Kind.LONG;
+            if (type == double.class) return Kind.DOUBLE;
+            if (type == boolean.class) return Kind.BOOLEAN;
+            if (isValueType(type)) return Kind.VALUE;
+            if (type == List.class || type == Collection.class) return Kind.LIST;
+            if (type == Set.class) return Kind.SET;
+            if (type.isArray() || Map.class.isAssignableFrom(type) || Iterable.class.isAssignableFrom(type)) {
+                return null;
+            }
+            return Kind.OBJECT;
+        }
+
+        private static Class<?> elementType(Field field) {
+            Type generic = field.getGenericType();
+            if (generic instanceof ParameterizedType parameterized
+                    && parameterized.getActualTypeArguments()[0] instanceof Class<?> element) {
+                return element;
+            }
+            return Object.class;
+        }
+
+        /** Column to property mapping for a tabular header, cached while the header repeats. */
+        Header header(String text, int start, int end, char delimiter, int line) {
+            Header cached = header;
+            int length = end - start;
+            if (cached != null && cached.text().length() == length && text.regionMatches(start, cached.text(), 0, length)) {
+                return cached;
+            }
+            String fields = text.substring(start, end);
+            List<String> names = RowParser.tokens(fields, 0, delimiter, new ArrayList<>());
+            int[] columns = new int[names.size()];
+            long mask = 0;
+            for (int c = 0; c < columns.length; c++) {
+                String name = RowParser.unquote(names.get(c));
+                int index = find(name, 0, name.length(), 0);
+                if (index >= 0 && !properties[index].isScalar()) {
+                    throw new IllegalArgumentException("Line " + line + ": column '" + name
+                            + "' is not a primitive property of " + type.getSimpleName());
+                }
+                columns[c] = index;
+                if (index >= 0) {
+                    mask |= 1L << index;
+                }
+            }
+            Header resolved = new Header(fields, columns, mask);
+            header = resolved;
+            return resolved;
+        }
+
+        static boolean isValueType(Class<?> type) {
+            return type.isPrimitive()
+                    || type == String.class
+                    || type == Integer.class || type == Long.class || type == Short.class || type == Byte.class
+                    || type == Double.class || type == Float.class
+                    || type == BigDecimal.class || type == BigInteger.class
+                    || type == Boolean.class
+                    || type == Character.class
+                    || type.isEnum()
+                    || type == Object.class
+                    || ValueAdapters.supports(type);
+        }
+    }
+
+    /**
+     * Decodes TOON into existing bean instances.
+     *
+     * <p>Every property of the target is overwritten: present keys are bound, absent ones
+     * are reset to {@code null}, zero or an empty collection. Nested objects and list elements
+     * already on the target are reused in place; missing ones come from the {@link ObjectPool}
+     * (or are constructed) and dropped ones are released to it. Lists are refilled in place and
+     * sets are cleared and refilled, so their backing storage is kept. Strings and boxed values
+     * equal to the current value are kept rather than re-created, and integers, doubles and
+     * keys are parsed straight from the input without substrings.
+     *
+     * <p>Targets must be mutable beans; unknown keys are skipped. An instance is not
+     * thread-safe, but it holds no per-document state between calls, so one binder per
+     * thread can serve a decode loop indefinitely.
+     */
+    public static final class ToonBinder {
+        private static final ObjectPool NO_POOL = new ObjectPool() {
+            @Override
+            public <T> T acquire(Class<T> type) {
+                return null;
+            }
+
+            @Override
+            public void release(Object instance) {
+            }
+        };
+        private static final double[] POWERS_OF_TEN = {
+                1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+                1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+        private static final ClassValue<Object[]> ENUM_CONSTANTS = new ClassValue<>() {
+            @Override
+            protected Object[] computeValue(Class<?> type) {
+                return type.getEnumConstants();
+            }
+        };
+
+        private final ObjectPool pool;
+
+        // Current line: content is text[start, end), indent counts leading spaces
+        // (plus two for the "- " of a list item being bound as an object).
+        private String text;
+        private int next;
+        private int start;
+        private int end;
+        private int indent;
+        private int lineNumber;
+        private int physicalLine;
+        private boolean hasLine;
+
+        // Current entry, set by parseKey
+        private int keyStart;
+        private int keyEnd;
+        private int count;
+        private char delimiter;
+        private int fieldsStart;
+        private int fieldsEnd;
+        private int valueStart;
+
+        public ToonBinder() {
+            this(null);
+        }
+
+        public ToonBinder(ObjectPool pool) {
+            this.pool = pool != null ? pool : NO_POOL;
+        }
+
+        public static <T> T decodeInto(String toon, T target) {
+            return new ToonBinder().bind(toon, target);
+        }
+
+        public static <T> T decodeInto(String toon, T target, ObjectPool pool) {
+            return new ToonBinder(pool).bind(toon, target);
+        }
+
+        /** Overwrites {@code target} with the document and returns it. */
+        public <T> T bind(String toon, T target) {
+            Objects.requireNonNull(target, "target");
+            BindSchema schema = BindSchema.of(target.getClass());
+            text = toon;
+            next = 0;
+            physicalLine = 0;
+            try {
+                advance();
+                if (hasLine && indent != 0) {
+                    throw error("Unexpected indentation");
+                }
+                bindObject(target, schema, 0);
+                if (hasLine) {
+                    throw error("Unexpected indentation");
+                }
+            } finally {
+                text = null;
+            }
+            return target;
+        }
+
+        private void bindObject(Object target, BindSchema schema, int fieldIndent) {
+            long seen = 0;
+            int hint = 0;
+            while (hasLine && indent == fieldIndent) {
+                parseKey();
+                int index = schema.find(text, keyStart, keyEnd, hint);
+                if (index < 0) {
+                    skipEntry(fieldIndent);
+                    continue;
+                }
+                hint = index + 1;
+                seen |= 1L << index;
+                bindProperty(target, schema.properties[index], fieldIndent);
+            }
+            if (hasLine && indent > fieldIndent) {
+                throw error("Unexpected indentation");
+            }
+            resetAbsent(target, schema, seen);
+        }
+
+        private void bindProperty(Object target, Property property, int fieldIndent) {
+            if (count >= 0) {
+                bindCollection(target, property, fieldIndent);
+                return;
+            }
+            if (valueStart < end) {
+                setScalar(target, property, valueStart, end);
+                advance();
+                return;
+            }
+            if (property.kind != Kind.OBJECT) {
+                throw error("Expected a value for '" + property.name + "'");
+            }
+            advance();
+            Object nested = property.get(target);
+            boolean created = nested == null;
+            BindSchema schema = BindSchema.of(created ? property.type : nested.getClass());
+            if (created) {
+                nested = instantiate(schema);
+            }
+            if (hasLine && indent > fieldIndent) {
+                bindObject(nested, schema, indent);
+            } else {
+                resetAbsent(nested, schema, 0);
+            }
+            if (created) {
+                property.set(target, nested);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void bindCollection(Object target, Property property, int fieldIndent) {
+            if (property.kind != Kind.LIST && property.kind != Kind.SET) {
+                throw error("'" + property.name + "' is not a collection");
+            }
+            boolean objects = !BindSchema.isValueType(property.element);
+            if (property.kind == Kind.SET && (fieldsStart >= 0 || objects)) {
+                throw error("Sets of objects are not supported for '" + property.name + "'");
+            }
+            // Count first, so a length mismatch leaves the target untouched
+            int expected = count;
+            int present = valueStart < end ? countInline() : countChildLines(fieldIndent);
+            if (present != expected) {
+                throw error("'" + property.name + "' declares " + expected + " items but has " + present);
+            }
+            Collection<Object> collection = writable(target, property);
+            if (property.kind == Kind.SET) {
+                collection.clear();
+            }
+            List<Object> list = property.kind == Kind.LIST ? (List<Object>) collection : null;
+            int filled;
+            if (fieldsStart >= 0) {
+                if (!objects) {
+                    throw error("'" + property.name + "' does not hold objects");
+                }
+                filled = bindRows(list, BindSchema.of(property.element), fieldIndent);
+            } else if (valueStart < end) {
+                filled = bindInline(collection, property.element, list);
+                advance();
+            } else {
+                filled = bindItems(collection, property.element, objects, list, fieldIndent);
+            }
+            if (filled != expected) {
+                throw error("'" + property.name + "' declares " + expected + " items but has " + filled);
+            }
+            if (list != null) {
+                truncate(list, filled, objects);
+            }
+        }
+
+        private int countInline() {
+            int values = 0;
+            int i = valueStart;
+            while (i <= end) {
+                i = fieldEnd(i, delimiter) + 1;
+                values++;
+            }
+            return values;
+        }
+
+        /**
+         * Lines after the current one at the first child indent, up to the first line at or
+         * left of {@code fieldIndent}: the rows or list items of the current entry.
+         */
+        private int countChildLines(int fieldIndent) {
+            int length = text.length();
+            int childIndent = -1;
+            int lines = 0;
+            int i = next;
+            while (i < length) {
+                int newline = text.indexOf('\n', i);
+                int lineEnd = newline < 0 ? length : newline;
+                int j = i;
+                while (j < lineEnd && text.charAt(j) == ' ') {
+                    j++;
+                }
+                if (j < lineEnd && !(j == lineEnd - 1 && text.charAt(j) == '\r')) {
+                    int lineIndent = j - i;
+                    if (lineIndent <= fieldIndent) {
+                        break;
+                    }
+                    if (childIndent < 0) {
+                        childIndent = lineIndent;
+                    }
+                    if (lineIndent == childIndent) {
+                        lines++;
+                    }
+                }
+                i = lineEnd + 1;
+            }
+            return lines;
+        }
+
+        /** Tabular rows: element {@code i} of the list is reused for row {@code i}. */
+        private int bindRows(List<Object> list, BindSchema schema, int fieldIndent) {
+            char delim = delimiter;
+            BindSchema.Header header = schema.header(text, fieldsStart, fieldsEnd, delim, lineNumber);
+            int[] columns = header.columns();
+            advance();
+            int rows = 0;
+            int rowIndent = hasLine ? indent : -1;
+            while (hasLine && indent > fieldIndent) {
+                if (indent != rowIndent) {
+                    throw error("Unexpected indentation");
+                }
+                Object element = element(list, rows, schema);
+                int i = start;
+                for (int c = 0; c < columns.length; c++) {
+                    if (i > end) {
+                        throw error("Row has fewer than " + columns.length + " values");
+                    }
+                    int fieldEnd = fieldEnd(i, delim);
+                    if (columns[c] >= 0) {
+                        setScalar(element, schema.properties[columns[c]], i, fieldEnd);
+                    }
+                    i = fieldEnd + 1;
+                }
+                if (i <= end) {
+                    throw error("Row has more than " + columns.length + " values");
+                }
+                resetAbsent(element, schema, header.mask());
+                rows++;
+                advance();
+            }
+            return rows;
+        }
+
+        private int bindInline(Collection<Object> collection, Class<?> element, List<Object> list) {
+            int items = 0;
+            int i = valueStart;
+            while (i <= end) {
+                int fieldEnd = fieldEnd(i, delimiter);
+                add(collection, list, items++, element, i, fieldEnd);
+                i = fieldEnd + 1;
+            }
+            return items;
+        }
+
+        /** List items: {@code - value}, or {@code - key: value} starting an object. */
+        private int bindItems(Collection<Object> collection, Class<?> element, boolean objects,
+                              List<Object> list, int fieldIndent) {
+            advance();
+            int items = 0;
+            int itemIndent = hasLine ? indent : -1;
+            while (hasLine && indent > fieldIndent) {
+                if (indent != itemIndent || text.charAt(start) != '-'
+                        || start + 1 < end && text.charAt(start + 1) != ' ') {
+                    throw error("Expected a list item");
+                }
+                if (!objects) {
+                    add(collection, list, items++, element, start + 1, end);
+                    advance();
+                    continue;
+                }
+                BindSchema schema = BindSchema.of(element);
+                Object target = element(list, items++, schema);
+                if (start + 1 >= end) {
+                    advance();
+                    resetAbsent(target, schema, 0);
+                    continue;
+                }
+                start += 2;
+                indent += 2;
+                bindObject(target, schema, itemIndent + 2);
+            }
+            return items;
+        }
+
+        private void add(Collection<Object> collection, List<Object> list, int index, Class<?> element, int from, int to) {
+            if (list == null) {
+                collection.add(readValue(element, from, to, null));
+            } else if (index < list.size()) {
+                Object previous = list.get(index);
+                Object value = readValue(element, from, to, previous);
+                if (value != previous) {
+                    list.set(index, value);
+                }
+            } else {
+                list.add(readValue(element, from, to, null));
+            }
+        }
+
+        private Object element(List<Object> list, int index, BindSchema schema) {
+            Object element = index < list.size() ? list.get(index) : null;
+            if (element != null && element.getClass() == schema.type) {
+                return element;
+            }
+            Object created = instantiate(schema);
+            if (index < list.size()) {
+                list.set(index, created);
+                if (element != null) {
+                    pool.release(element);
+                }
+            } else {
+                list.add(created);
+            }
+            return created;
+        }
+
+        private void truncate(List<Object> list, int size, boolean release) {
+            for (int i = list.size() - 1; i >= size; i--) {
+                Object removed = list.remove(i);
+                if (release && removed != null) {
+                    pool.release(removed);
+                }
+            }
+        }
+
+        /** The property's collection, replaced by a mutable one if absent or unmodifiable. */
+        @SuppressWarnings("unchecked")
+        private Collection<Object> writable(Object target, Property property) {
+            Object current = property.get(target);
+            if (current instanceof ArrayList<?> || current instanceof LinkedList<?>
+                    || current instanceof HashSet<?> || current instanceof TreeSet<?>) {
+                return (Collection<Object>) current;
+            }
+            Collection<Object> replacement;
+            if (property.kind == Kind.LIST) {
+                replacement = current instanceof Collection<?> c ? new ArrayList<>(c) : new ArrayList<>();
+            } else {
+                replacement = new LinkedHashSet<>();
+            }
+            property.set(target, replacement);
+            return replacement;
+        }
+
+        private Object instantiate(BindSchema schema) {
+            Object instance = pool.acquire(schema.type);
+            return instance != null ? instance : schema.construct();
+        }
+
+        private void resetAbsent(Object target, BindSchema schema, long seen) {
+            Property[] properties = schema.properties;
+            for (int i = 0; i < properties.length; i++) {
+                if ((seen & (1L << i)) != 0) {
+                    continue;
+                }
+                Property property = properties[i];
+                switch (property.kind) {
+                    case INT -> property.setInt(target, 0);
+                    case LONG -> property.setLong(target, 0L);
+                    case DOUBLE -> property.setDouble(target, 0.0);
+                    case BOOLEAN -> property.setBoolean(target, false);
+                    case VALUE -> property.set(target, property.zero);
+                    case OBJECT -> {
+                        Object nested = property.get(target);
+                        if (nested != null) {
+                            pool.release(nested);
+                            property.set(target, null);
+                        }
+                    }
+                    case LIST, SET -> {
+                        Object current = property.get(target);
+                        if (current instanceof Collection<?> collection && !collection.isEmpty()) {
+                            clear(target, property, collection);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void clear(Object target, Property property, Collection<?> collection) {
+            if (!BindSchema.isValueType(property.element)) {
+                for (Object element : collection) {
+                    if (element != null) {
+                        pool.release(element);
+                    }
+                }
+            }
+            try {
+                collection.clear();
+            } catch (UnsupportedOperationException unmodifiable) {
+                property.set(target, null);
+            }
+        }
+
+        private void setScalar(Object target, Property property, int from, int to) {
+            while (from < to && text.charAt(from) == ' ') from++;
+            while (to > from && text.charAt(to - 1) == ' ') to--;
+            switch (property.kind) {
+                case INT -> {
+                    long value = parseLong(from, to);
+                    if (value != (int) value) {
+                        throw error("Value out of range for '" + property.name + "'");
+                    }
+                    property.setInt(target, (int) value);
+                }
+                case LONG -> property.setLong(target, parseLong(from, to));
+                case DOUBLE -> property.setDouble(target, parseDouble(from, to));
+                case BOOLEAN -> property.setBoolean(target, parseBoolean(from, to));
+                case VALUE -> {
+                    Object previous = property.get(target);
+                    Object value = readValue(property.type, from, to, previous);
+                    if (value != previous) {
+                        property.set(target, value);
+                    }
+                }
+                default -> {
+                    if (!isNull(from, to)) {
+                        throw error("Expected nested data for '" + property.name + "'");
+                    }
+                    Object current = property.get(target);
+                    if (property.kind == Kind.OBJECT && current != null) {
+                        pool.release(current);
+                    }
+                    property.set(target, null);
+                }
+            }
+        }
+
+        /** Converts {@code text[from, to)}, returning {@code previous} when it is equal. */
+        private Object readValue(Class<?> type, int from, int to, Object previous) {
+            while (from < to && text.charAt(from) == ' ') from++;
+            while (to > from && text.charAt(to - 1) == ' ') to--;
+            if (isNull(from, to)) {
+                if (type.isPrimitive()) {
+                    throw error("null is not allowed for " + type.getName());
+                }
+                return null;
+            }
+            if (ValueAdapters.supports(type)) {
+                int backslash = text.indexOf('\\', from);
+                boolean plain = backslash < 0 || backslash >= to;
+                Object value;
+                try {
+                    if (plain) {
+                        boolean quoted = to - from >= 2 && text.charAt(from) == '"';
+                        value = quoted ? ValueAdapters.parse(type, text, from + 1, to - 1)
+                                : ValueAdapters.parse(type, text, from, to);
+                    } else {
+                        String unquoted = unquote(text.substring(from, to));
+                        value = ValueAdapters.parse(type, unquoted, 0, unquoted.length());
+                    }
+                } catch (IllegalArgumentException e) {
+                    throw error(e.getMessage());
+                }
+                return value.equals(previous) ? previous : value;
+            }
+            if (from < to && text.charAt(from) == '"') {
+                String value = unquote(text.substring(from, to));
+                if (type == String.class || type == Object.class) {
+                    return value.equals(previous) ? previous : value;
+                }
+                return convert(type, value, previous);
+            }
+            if (type == String.class) {
+                if (previous instanceof String current && current.length() == to - from
+                        && text.regionMatches(from, current, 0, to - from)) {
+                    return current;
+                }
+                return text.substring(from, to);
+            }
+            if (type == Integer.class || type == int.class) {
+                long value = parseLong(from, to);
+                if (value != (int) value) {
+                    throw error("Value out of range for int");
+                }
+                return previous instanceof Integer current && current == value ? current : Integer.valueOf((int) value);
+            }
+            if (type == Long.class || type == long.class) {
+                long value = parseLong(from, to);
+                return previous instanceof Long current && current == value ? current : Long.valueOf(value);
+            }
+            if (type == Double.class || type == double.class) {
+                double value = parseDouble(from, to);
+                return previous instanceof Double current && current.equals(value) ? current : Double.valueOf(value);
+            }
+            if (type == Boolean.class || type == boolean.class) {
+                return parseBoolean(from, to);
+            }
+            if (type.isEnum()) {
+                for (Object constant : ENUM_CONSTANTS.get(type)) {
+                    String name = ((Enum<?>) constant).name();
+                    if (name.length() == to - from && text.regionMatches(from, name, 0, to - from)) {
+                        return constant;
+                    }
+                }
+                throw error("No constant " + text.substring(from, to) + " in " + type.getSimpleName());
+            }
+            if (type == Object.class) {
+                Object value = RowParser.primitive(text.substring(from, to));
+                return value.equals(previous) ? previous : value;
+            }
+            return convert(type, text.substring(from, to), previous);
+        }
+
+        private Object convert(Class<?> type, String value, Object previous) {
+            try {
+                Object converted;
+                if (type == Integer.class || type == int.class) converted = Integer.valueOf(value);
+                else if (type == Long.class || type == long.class) converted = Long.valueOf(value);
+                else if (type == Short.class || type == short.class) converted = Short.valueOf(value);
+                else if (type == Byte.class || type == byte.class) converted = Byte.valueOf(value);
+                else if (type == Double.class || type == double.class) converted = Double.valueOf(value);
+                else if (type == Float.class || type == float.class) converted = Float.valueOf(value);
+                else if (type == BigDecimal.class) converted = new BigDecimal(value);
+                else if (type == BigInteger.class) converted = new BigInteger(value);
+                else if (type == Boolean.class || type == boolean.class) converted = Boolean.valueOf(value);
+                else if (type == String.class) converted = value;
+                else if ((type == Character.class || type == char.class) && value.length() == 1) converted = value.charAt(0);
+                else if (type.isEnum()) converted = ENUM_CONSTANTS.get(type)[enumIndex(type, value)];
+                else throw error("Cannot convert '" + value + "' to " + type.getSimpleName());
+                return converted.equals(previous) ? previous : converted;
+            } catch (NumberFormatException e) {
+                throw error("Invalid number '" + value + "'");
+            }
+        }
+
+        private int enumIndex(Class<?> type, String value) {
+            Object[] constants = ENUM_CONSTANTS.get(type);
+            for (int i = 0; i < constants.length; i++) {
+                if (((Enum<?>) constants[i]).name().equals(value)) {
+                    return i;
+                }
+            }
+            throw error("No constant " + value + " in " + type.getSimpleName());
+        }
+
+        private long parseLong(int from, int to) {
+            int i = from;
+            boolean negative = i < to && text.charAt(i) == '-';
+            if (negative) {
+                i++;
+            }
+            if (i == to || to - i > 18) {
+                try {
+                    return Long.parseLong(text.substring(from, to));
+                } catch (NumberFormatException e) {
+                    throw error("Invalid integer '" + text.substring(from, to) + "'");
+                }
+            }
+            long value = 0;
+            for (; i < to; i++) {
+                char c = text.charAt(i);
+                if (c < '0' || c > '9') {
+                    throw error("Invalid integer '" + text.substring(from, to) + "'");
+                }
+                value = value * 10 + (c - '0');
+            }
+            return negative ? -value : value;
+        }
+
+        /**
+         * Plain decimals with up to 15 significant digits are exact as {@code digits / 10^k};
+         * anything else goes through {@link Double#parseDouble}.
+         */
+        private double parseDouble(int from, int to) {
+            int i = from;
+            boolean negative = i < to && text.charAt(i) == '-';
+            if (negative) {
+                i++;
+            }
+            long digits = 0;
+            int count = 0;
+            int fraction = -1;
+            for (; i < to; i++) {
+                char c = text.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    digits = digits * 10 + (c - '0');
+                    count++;
+                    if (fraction >= 0) {
+                        fraction++;
+                    }
+                } else if (c == '.' && fraction < 0) {
+                    fraction = 0;
+                } else {
+                    count = -1;
+                    break;
+                }
+            }
+            if (count > 0 && count <= 15 && fraction != 0) {
+                double value = fraction > 0 ? digits / POWERS_OF_TEN[fraction] : digits;
+                return negative ? -value : value;
+            }
+            try {
+                return Double.parseDouble(text.substring(from, to));
+            } catch (NumberFormatException e) {
+                throw error("Invalid number '" + text.substring(from, to) + "'");
+            }
+        }
+
+        private boolean parseBoolean(int from, int to) {
+            int length = to - from;
+            if (length == 4 && text.startsWith("true", from)) {
+                return true;
+            }
+            if (length == 5 && text.startsWith("false", from)) {
+                return false;
+            }
+            throw error("Invalid boolean '" + text.substring(from, to) + "'");
+        }
+
+        private boolean isNull(int from, int to) {
+            return to - from == 4 && text.startsWith("null", from);
+        }
+
+        /**
+         * Splits the current line into key, optional {@code [N]} and {@code {fields}},
+         * and the start of the value after the colon.
+         */
+        private void parseKey() {
+            int i = start;
+            if (text.charAt(i) == '"') {
+                keyStart = i + 1;
+                i = closingQuote(i);
+                keyEnd = i;
+                i++;
+            } else {
+                keyStart = i;
+                while (i < end && text.charAt(i) != ':' && text.charAt(i) != '[') {
+                    i++;
+                }
+                keyEnd = i;
+                while (keyEnd > keyStart && text.charAt(keyEnd - 1) == ' ') keyEnd--;
+            }
+            count = -1;
+            delimiter = ',';
+            fieldsStart = -1;
+            if (i < end && text.charAt(i) == '[') {
+                i++;
+                if (i < end && text.charAt(i) == '#') {
+                    i++;
+                }
+                int digits = i;
+                int value = 0;
+                while (i < end && text.charAt(i) >= '0' && text.charAt(i) <= '9') {
+                    value = value * 10 + (text.charAt(i++) - '0');
+                }
+                if (i == digits) {
+                    throw error("Expected an array length");
+                }
+                if (i < end && (text.charAt(i) == '|' || text.charAt(i) == '\t')) {
+                    delimiter = text.charAt(i++);
+                }
+                if (i >= end || text.charAt(i) != ']') {
+                    throw error("Expected ']'");
+                }
+                count = value;
+                i++;
+                if (i < end && text.charAt(i) == '{') {
+                    fieldsStart = i + 1;
+                    fieldsEnd = text.indexOf('}', fieldsStart);
+                    if (fieldsEnd < 0 || fieldsEnd >= end) {
+                        throw error("Expected '}'");
+                    }
+                    i = fieldsEnd + 1;
+                }
+            }
+            if (i >= end || text.charAt(i) != ':') {
+                throw error("Expected ':'");
+            }
+            i++;
+            while (i < end && text.charAt(i) == ' ') i++;
+            valueStart = i;
+        }
+
+        /** End of the value starting at {@code from}: the next delimiter outside quotes, or the line end. */
+        private int fieldEnd(int from, char delim) {
+            int i = from;
+            while (i < end && text.charAt(i) == ' ') i++;
+            if (i < end && text.charAt(i) == '"') {
+                i = closingQuote(i) + 1;
+            }
+            while (i < end && text.charAt(i) != delim) {
+                i++;
+            }
+            return i;
+        }
+
+        private int closingQuote(int quote) {
+            for (int i = quote + 1; i < end; i++) {
+                char c = text.charAt(i);
+                if (c == '\\') {
+                    i++;
+                } else if (c == '"') {
+                    return i;
+                }
+            }
+            throw error("Unterminated quoted string");
+        }
+
+        private void skipEntry(int fieldIndent) {
+            advance();
+            while (hasLine && indent > fieldIndent) {
+                advance();
+            }
+        }
+
+        private void advance() {
+            int length = text.length();
+            while (next < length) {
+                int lineStart = next;
+                int newline = text.indexOf('\n', lineStart);
+                int lineEnd = newline < 0 ? length : newline;
+                next = newline < 0 ? length : newline + 1;
+                physicalLine++;
+                if (lineEnd > lineStart && text.charAt(lineEnd - 1) == '\r') {
+                    lineEnd--;
+                }
+                int i = lineStart;
+                while (i < lineEnd && text.charAt(i) == ' ') {
+                    i++;
+                }
+                if (i < lineEnd) {
+                    start = i;
+                    end = lineEnd;
+                    indent = i - lineStart;
+                    lineNumber = physicalLine;
+                    hasLine = true;
+                    return;
+                }
+            }
+            hasLine = false;
+            indent = -1;
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("Line " + lineNumber + ": " + message);
+        }
+
+        /** {@link RowParser#unquote}, with the line number on errors. */
+        private String unquote(String token) {
+            try {
+                return RowParser.unquote(token);
+            } catch (IllegalArgumentException e) {
+                throw error(e.getMessage());
+            }
+        }
+    }
+
+    // ==================== Examples ====================
+
+    /**
+     * Example 1: Overwriting an existing instance, nested object included
+     */
+    private static void example1_DecodeInto() {
+        printSectionHeader("Example 1: Decode Into an Existing Instance");
+
+        Employee employee = new Employee();
+        String first = """
+            id: 101
+            name: Alice Johnson
+            department: Engineering
+            address:
+              street: 123 Main St
+              city: San Francisco
+              zipCode: "94102"
+              country: USA
+            """;
+        String second = """
+            id: 102
+            name: Bob Smith
+            department: Engineering
+            address:
+              street: 9 Elm Rd
+              city: Oakland
+            """;
+
+        ToonBinder.decodeInto(first, employee);
+        Address address = employee.getAddress();
+        String department = employee.getDepartment();
+        System.out.println("First:  " + describe(employee));
+
+        ToonBinder.decodeInto(second, employee);
+        System.out.println("Second: " + describe(employee));
+        System.out.println();
+        System.out.println("Same Address instance:     " + (employee.getAddress() == address));
+        System.out.println("Same department String:    " + (employee.getDepartment() == department));
+        System.out.println("Absent fields were reset:  zipCode=" + employee.getAddress().getZipCode()
+                + ", country=" + employee.getAddress().getCountry());
+        System.out.println();
+    }
+
+    /**
+     * Example 2: Lists refilled in place, sets cleared and refilled
+     */
+    private static void example2_RefilledCollections() {
+        printSectionHeader("Example 2: Refilled Collections");
+
+        Team team = new Team();
+        team.setMembers(List.of("placeholder"));
+        ToonBinder.decodeInto("""
+            name: Alpha Team
+            members[3]: Alice,Bob,Charlie
+            tags[2]: backend,java
+            """, team);
+        List<String> members = team.getMembers();
+        Set<String> tags = team.getTags();
+        System.out.println("Unmodifiable list replaced once: " + members.getClass().getSimpleName());
+
+        ToonBinder.decodeInto("""
+            name: Alpha Team
+            members[2]: Alice,Dana
+            tags[3]: backend,java,cloud
+            """, team);
+        System.out.println("Members: " + team.getMembers() + " (same list: " + (team.getMembers() == members) + ")");
+        System.out.println("Tags:    " + team.getTags() + " (same set: " + (team.getTags() == tags) + ")");
+        System.out.println();
+
+        Department department = new Department();
+        ToonBinder.decodeInto(departmentToon(3, 0), department);
+        Employee firstRow = department.getEmployees().get(0);
+        ToonBinder.decodeInto(departmentToon(2, 10), department);
+        System.out.println("Employees: " + department.getEmployees().size()
+                + ", first row reused: " + (department.getEmployees().get(0) == firstRow)
+                + ", now " + department.getEmployees().get(0).getName());
+        System.out.println();
+    }
+
+    /**
+     * Example 3: A pool catching list elements that messages drop
+     */
+    private static void example3_ObjectPool() {
+        printSectionHeader("Example 3: Object Pool");
+
+        BoundedPool pool = new BoundedPool(64);
+        ToonBinder binder = new ToonBinder(pool);
+        Department department = new Department();
+        int[] sizes = {8, 3, 12, 5, 8, 1, 10};
+        for (int size : sizes) {
+            binder.bind(departmentToon(size, size), department);
+            System.out.printf("Decoded %2d employees | pool: %2d free, %2d reused, %2d released%n",
+                    department.getEmployees().size(), pool.available(), pool.reused(), pool.released());
+        }
+        System.out.println();
+        System.out.println("Shrinking a list releases the surplus employees (with their addresses);");
+        System.out.println("growing it takes them back before anything is constructed.");
+        System.out.println();
+    }
+
+    /**
+     * Example 4: A steady-state decode loop
+     */
+    private static void example4_SteadyState() {
+        printSectionHeader("Example 4: Steady-State Decode Loop");
+
+        String[] messages = new String[16];
+        for (int i = 0; i < messages.length; i++) {
+            messages[i] = departmentToon(20, i * 20);
+        }
+        ToonBinder binder = new ToonBinder(new BoundedPool(256));
+        Department target = new Department();
+        int iterations = 200_000;
+
+        // Warm up
+        for (int i = 0; i < 20_000; i++) {
+            binder.bind(messages[i % messages.length], target);
+        }
+
+        long allocatedBefore = AllocationCounter.current();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            binder.bind(messages[i % messages.length], target);
+        }
+        long nanos = System.nanoTime() - start;
+        long allocated = AllocationCounter.since(allocatedBefore);
+
+        System.out.println("═══════════════════════════════════════════");
+        System.out.printf("Decodes:             %,d (20 employees each)%n", iterations);
+        System.out.printf("Time per decode:     %.2f µs%n", nanos / 1000.0 / iterations);
+        System.out.printf("Allocated per decode: %s bytes%n",
+                AllocationCounter.format(allocated < 0 ? -1 : allocated / iterations));
+        System.out.println("═══════════════════════════════════════════");
+        System.out.println();
+        System.out.println("What remains is the strings whose values changed between messages;");
+        System.out.println("integers, doubles, enums and keys are parsed without allocating.");
+        System.out.println();
+    }
+
+    // Helper methods
+
+    private static String departmentToon(int employees, int offset) {
+        StringBuilder out = new StringBuilder("name: Engineering\nlocation: Building A\nemployees[")
+                .append(employees).append("]:");
+        for (int i = 0; i < employees; i++) {
+            int id = offset + i;
+            out.append("\n  - id: ").append(id)
+                    .append("\n    name: Employee ").append(id)
+                    .append("\n    department: Engineering")
+                    .append("\n    address:")
+                    .append("\n      street: ").append(id).append(" Main St")
+                    .append("\n      city: San Francisco")
+                    .append("\n      zipCode: \"94102\"")
+                    .append("\n      country: USA");
+        }
+        return out.toString();
+    }
+
+    private static String describe(Employee employee) {
+        return employee.getId() + " " + employee.getName() + " (" + employee.getDepartment() + "), "
+                + employee.getAddress().getStreet() + ", " + employee.getAddress().getCity();
+    }
+
+    private static void printSectionHeader(String title) {
+        System.out.println("═".repeat(65));
+        System.out.println(title);
+        System.out.println("═".repeat(65));
+    }
+}
@@ -0,0 +1,404 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.DecodeOptions;
+import im.arun.toon4j.Delimiter;
+import im.arun.toon4j.Toon;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.regex.Matcher;
+
+/**
+ * Examples of decoding large tabular blocks on several cores.
+ * Shows how row boundaries are found with a quote-aware pre-scan, how row chunks are
+ * decoded concurrently on a {@link ForkJoinPool}, and how the declared {@code [N]} is checked.
+ */
+public class ParallelDecodeExample {
+
+    public static void main(String[] args) {
+        System.out.println("╔════════════════════════════════════════════════════════════════╗");
+        System.out.println("║          TOON4J Parallel Decode Examples                      ║");
+        System.out.println("║  Saturating Cores on Multi-Million-Row Tables                 ║");
+        System.out.println("╚════════════════════════════════════════════════════════════════╝\n");
+
+        example1_ParallelTable();
+        example2_LengthMismatch();
+        example3_Performance();
+    }
+
+    // ==================== Parallel Decoding ====================
+
+    /**
+     * Settings for {@link ParallelDecoder}.
+     */
+    public static final class ParallelOptions {
+        private final int minRows;
+        private final int chunkRows;
+        private final ForkJoinPool pool;
+        private final DecodeOptions decodeOptions;
+
+        private ParallelOptions(Builder builder) {
+            this.minRows = builder.minRows;
+            this.chunkRows = builder.chunkRows;
+            this.pool = builder.pool;
+            this.decodeOptions = builder.decodeOptions;
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        public static ParallelOptions defaults() {
+            return builder().build();
+        }
+
+        public static final class Builder {
+            private int minRows = 10_000;
+            private int chunkRows = 8_192;
+            private ForkJoinPool pool = ForkJoinPool.commonPool();
+            private DecodeOptions decodeOptions;
+
+            private Builder() {}
+
+            /** Tables with fewer rows are left to the regular decoder. */
+            public Builder minRows(int minRows) {
+                if (minRows < 1) {
+                    throw new IllegalArgumentException("minRows must be positive: " + minRows);
+                }
+                this.minRows = minRows;
+                return this;
+            }
+
+            /** Rows handed to one task. */
+            public Builder chunkRows(int chunkRows) {
+                if (chunkRows < 1) {
+                    throw new IllegalArgumentException("chunkRows must be positive: " + chunkRows);
+                }
+                this.chunkRows = chunkRows;
+                return this;
+            }
+
+            public Builder pool(ForkJoinPool pool) {
+                this.pool = Objects.requireNonNull(pool, "pool");
+                return this;
+            }
+
+            /** Options for every chunk and for the rest of the document. */
+            public Builder decodeOptions(DecodeOptions decodeOptions) {
+                this.decodeOptions = decodeOptions;
+                return this;
+            }
+
+            public ParallelOptions build() {
+                return new ParallelOptions(this);
+            }
+        }
+    }
+
+    /**
+     * Decodes top-level tabular blocks in parallel and everything else with {@link Toon#decode}.
+     *
+     * <p>Once a {@code key[N]{fields}:} header is found, the N rows are independent lines at
+     * one indent. Their boundaries come from {@link StructuralScanner#lineEnd}, which skips
+     * newlines inside quoted strings. Chunks of rows are re-headed as root arrays, decoded on
+     * the pool and concatenated in order. The surrounding document is decoded once with the
+     * table replaced by an empty array, and the rows are put back under the same key. A header
+     * whose {@code [N]} does not fit in an {@code int} is rejected with
+     * {@link IllegalArgumentException}, like any other malformed input.
+     */
+    public static final class ParallelDecoder {
+        private ParallelDecoder() {}
+
+        public static Object decode(String toon) {
+            return decode(toon, ParallelOptions.defaults());
+        }
+
+        public static Object decode(String toon, ParallelOptions options) {
+            byte[] bytes = toon.getBytes(StandardCharsets.UTF_8);
+            List<Table> tables = findTables(bytes, options);
+            if (tables.isEmpty()) {
+                return decodeText(toon, options);
+            }
+
+            List<ForkJoinTask<List<Object>>> chunks = new ArrayList<>();
+            for (Table table : tables) {
+                for (int from = 0; from < table.rowCount(); from += options.chunkRows) {
+                    int first = from;
+                    int last = Math.min(table.rowCount(), from + options.chunkRows);
+                    chunks.add(options.pool.submit(() -> decodeChunk(table.chunk(bytes, first, last), options)));
+                }
+            }
+
+            boolean rootTable = tables.size() == 1 && tables.get(0).key == null;
+            // The document without its big tables decodes while the chunks run
+            Object rest = rootTable ? null : decodeText(remainder(bytes, tables), options);
+
+            Iterator<ForkJoinTask<List<Object>>> results = chunks.iterator();
+            Map<Table, List<Object>> rows = new IdentityHashMap<>();
+            for (Table table : tables) {
+                List<Object> list = new ArrayList<>(table.declared);
+                for (int from = 0; from < table.rowCount(); from += options.chunkRows) {
+                    list.addAll(results.next().join());
+                }
+                rows.put(table, list);
+            }
+
+            if (rootTable) {
+                return rows.get(tables.get(0));
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, Object> document = (Map<String, Object>) rest;
+            for (Table table : tables) {
+                document.put(table.key, rows.get(table));
+            }
+            return document;
+        }
+
+        private static List<Object> decodeChunk(String chunk, ParallelOptions options) {
+            Object decoded = decodeText(chunk, options);
+            if (!(decoded instanceof List<?>)) {
+                throw new IllegalStateException("Chunk did not decode to an array");
+            }
+            @SuppressWarnings("unchecked")
+            List<Object> rows = (List<Object>) decoded;
+            return rows;
+        }
+
+        private static Object decodeText(String toon, ParallelOptions options) {
+            return options.decodeOptions == null ? Toon.decode(toon) : Toon.decode(toon, options.decodeOptions);
+        }
+
+        private static List<Table> findTables(byte[] bytes, ParallelOptions options) {
+            List<Table> tables = new ArrayList<>();
+            StructuralScanner newlines = new StructuralScanner(bytes, bytes.length, Delimiter.COMMA);
+            int lineStart = 0;
+            while (lineStart < bytes.length) {
+                int lineEnd = newlines.nextNewline(lineStart);
+                if (lineEnd > lineStart && bytes[lineStart] != ' ' && bytes[lineEnd - 1] == ':') {
+                    String line = new String(bytes, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+                    Matcher header = RowParser.tableHeader(line);
+                    if (header != null && RowParser.length(header) >= options.minRows) {
+                        Table table = Table.scan(bytes, lineStart, lineEnd, header);
+                        tables.add(table);
+                        lineStart = table.end + 1;
+                        continue;
+                    }
+                }
+                lineStart = lineEnd + 1;
+            }
+            return tables;
+        }
+
+        /** The document with each table's rows dropped and its header rewritten as {@code key[0]:}. */
+        private static String remainder(byte[] bytes, List<Table> tables) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            int from = 0;
+            for (Table table : tables) {
+                out.write(bytes, from, table.headerStart - from);
+                if (table.key != null) {
+                    out.writeBytes(table.rawKey.getBytes(StandardCharsets.UTF_8));
+                    out.writeBytes("[0]:".getBytes(StandardCharsets.UTF_8));
+                }
+                from = table.end;
+            }
+            out.write(bytes, from, bytes.length - from);
+            return out.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * A top-level tabular block: its header and the byte range of every row.
+     */
+    private static final class Table {
+        final String key;
+        final String rawKey;
+        final String lengthMarker;
+        final String fieldsSuffix;
+        final int declared;
+        final int headerStart;
+        int[] rowStarts;
+        int[] rowEnds;
+        int end;
+
+        private Table(String rawKey, String lengthMarker, String fieldsSuffix, int declared, int headerStart,
+                      int capacity) {
+            this.rawKey = rawKey;
+            this.key = rawKey.isEmpty() ? null : RowParser.unquote(rawKey.strip());
+            this.lengthMarker = lengthMarker;
+            this.fieldsSuffix = fieldsSuffix;
+            this.declared = declared;
+            this.headerStart = headerStart;
+            this.rowStarts = new int[capacity];
+            this.rowEnds = new int[capacity];
+        }
+
+        static Table scan(byte[] bytes, int headerStart, int headerEnd, Matcher header) {
+            int declared = RowParser.length(header);
+            String delimiterMark = header.group("delimiter");
+            String fieldsSuffix = delimiterMark + "]{" + header.group("fields") + "}:";
+            // [N] is untrusted: every row takes at least two bytes, so size by what the input can hold
+            int capacity = Math.min(declared, (bytes.length - headerEnd) / 2 + 1);
+            Table table = new Table(header.group("key"), header.group("marker"), fieldsSuffix, declared, headerStart, capacity);
+
+            Delimiter delimiter = switch (delimiterMark) {
+                case "|" -> Delimiter.PIPE;
+                case "\t" -> Delimiter.TAB;
+                default -> Delimiter.COMMA;
+            };
+            StructuralScanner scanner = new StructuralScanner(bytes, bytes.length, delimiter);
+
+            int rowIndent = -1;
+            int position = headerEnd + 1;
+            int rows = 0;
+            table.end = headerEnd;
+            while (position < bytes.length) {
+                int indent = 0;
+                while (position + indent < bytes.length && bytes[position + indent] == ' ') {
+                    indent++;
+                }
+                if (rowIndent < 0) {
+                    rowIndent = indent;
+                }
+                if (indent == 0 || indent != rowIndent) {
+                    break;
+                }
+                int rowEnd = scanner.lineEnd(position);
+                if (rows == declared) {
+                    throw new IllegalArgumentException("Array declares " + declared
+                            + " rows but has more at byte " + position);
+                }
+                if (rows == table.rowStarts.length) {
+                    int grown = (int) Math.min(declared, rows * 2L + 16);
+                    table.rowStarts = Arrays.copyOf(table.rowStarts, grown);
+                    table.rowEnds = Arrays.copyOf(table.rowEnds, grown);
+                }
+                table.rowStarts[rows] = position;
+                table.rowEnds[rows] = rowEnd;
+                rows++;
+                table.end = rowEnd;
+                position = rowEnd + 1;
+            }
+            if (rows != declared) {
+                throw new IllegalArgumentException("Array declares " + declared + " rows but has " + rows);
+            }
+            return table;
+        }
+
+        int rowCount() {
+            return declared;
+        }
+
+        /** Rows {@code [from, to)} as a standalone root array with the table's fields. */
+        String chunk(byte[] bytes, int from, int to) {
+            int start = rowStarts[from];
+            int length = rowEnds[to - 1] - start;
+            return "[" + lengthMarker + (to - from) + fieldsSuffix + "\n"
+                    + new String(bytes, start, length, StandardCharsets.UTF_8);
+        }
+    }
+
+    // ==================== Examples ====================
+
+    /**
+     * Example 1: A large table next to regular keys
+     */
+    private static void example1_ParallelTable() {
+        printSectionHeader("Example 1: Parallel Table Decode");
+
+        String toon = "export: orders\n"
+                + "generated: 2025-01-04T10:30:00Z\n"
+                + createTable("orders", 6, Delimiter.COMMA)
+                + "\ncomplete: true";
+
+        System.out.println("TOON Input:");
+        System.out.println(toon);
+        System.out.println();
+
+        ParallelOptions options = ParallelOptions.builder()
+                .minRows(4)
+                .chunkRows(2)
+                .build();
+        Object decoded = ParallelDecoder.decode(toon, options);
+
+        System.out.println("Decoded: " + decoded);
+        System.out.println("Same as Toon.decode: " + decoded.equals(Toon.decode(toon)));
+        System.out.println();
+    }
+
+    /**
+     * Example 2: The declared [N] must match the rows present
+     */
+    private static void example2_LengthMismatch() {
+        printSectionHeader("Example 2: Length Mismatch");
+
+        String toon = createTable("orders", 5, Delimiter.COMMA).replace("orders[5]", "orders[6]");
+        System.out.println("TOON Input:");
+        System.out.println(toon);
+        System.out.println();
+
+        try {
+            ParallelDecoder.decode(toon, ParallelOptions.builder().minRows(1).build());
+            System.out.println("  Success");
+        } catch (Exception e) {
+            System.out.println("  Error: " + e.getClass().getSimpleName() + " - " + e.getMessage());
+        }
+        System.out.println();
+    }
+
+    /**
+     * Example 3: One million rows, sequential vs. parallel
+     */
+    private static void example3_Performance() {
+        printSectionHeader("Example 3: Performance (1,000,000 rows)");
+
+        String toon = createTable("orders", 1_000_000, Delimiter.PIPE);
+        ParallelOptions options = ParallelOptions.defaults();
+
+        for (int i = 0; i < 3; i++) {
+            Toon.decode(toon);
+            ParallelDecoder.decode(toon, options);
+        }
+
+        long start = System.nanoTime();
+        Object sequential = Toon.decode(toon);
+        double sequentialMs = (System.nanoTime() - start) / 1_000_000.0;
+
+        start = System.nanoTime();
+        Object parallel = ParallelDecoder.decode(toon, options);
+        double parallelMs = (System.nanoTime() - start) / 1_000_000.0;
+
+        System.out.println("═══════════════════════════════════════════");
+        System.out.printf("Input size: %,d characters%n", toon.length());
+        System.out.printf("Toon.decode:     %.2f ms%n", sequentialMs);
+        System.out.printf("ParallelDecoder: %.2f ms on %d threads%n", parallelMs, options.pool.getParallelism());
+        System.out.println("Same result: " + sequential.equals(parallel));
+        System.out.println("═══════════════════════════════════════════");
+        System.out.println();
+    }
+
+    // Helper methods
+
+    private static String createTable(String key, int rows, Delimiter delimiter) {
+        char d = ToonStrings.delimiterChar(delimiter);
+        String mark = d == ',' ? "" : String.valueOf(d);
+        StringBuilder out = new StringBuilder(rows * 40);
+        out.append(key).append('[').append(rows).append(mark).append("]{")
+                .append("id").append(d).append("customer").append(d).append("amount").append(d).append("note")
+                .append("}:");
+        for (int i = 1; i <= rows; i++) {
+            out.append("\n  ").append(i).append(d).append("Customer ").append(i % 1000).append(d)
+                    .append(i * 1.5).append(d)
+                    .append(i % 10 == 0 ? "\"gift, wrap \\\"fast\\\"\"" : "none");
+        }
+        return out.toString();
+    }
+
+    private static void printSectionHeader(String title) {
+        System.out.println("═".repeat(65));
+        System.out.println(title);
+        System.out.println("═".repeat(65));
+    }
+}
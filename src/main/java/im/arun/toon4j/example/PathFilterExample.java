@@ -0,0 +1,579 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.EncodeOptions;
+import im.arun.toon4j.EncodeReplacer;
+import im.arun.toon4j.Toon;
+
+import java.util.*;
+
+/**
+ * Examples of compiled include/exclude path filters.
+ * Shows a trie-based alternative to {@link EncodeReplacer} that prunes keys with one
+ * state transition per key and prunes table columns once per table.
+ */
+public class PathFilterExample {
+
+    public static void main(String[] args) {
+        System.out.println("╔════════════════════════════════════════════════════════════════╗");
+        System.out.println("║          TOON4J Path Filter Examples                          ║");
+        System.out.println("║  Compiled Include/Exclude Patterns                            ║");
+        System.out.println("╚════════════════════════════════════════════════════════════════╝\n");
+
+        example1_ExcludeSensitiveFields();
+        example2_IncludeTableColumns();
+        example3_Wildcards();
+        example4_ReplacerComparison();
+    }
+
+    // ==================== Path Filter ====================
+
+    /**
+     * Include/exclude patterns compiled into a deterministic automaton.
+     *
+     * <p>Patterns are dot-separated key paths. {@code *} matches exactly one key and
+     * {@code **} matches any number of keys. List elements do not add a path segment,
+     * so {@code users.name} addresses the {@code name} column of a {@code users} table.
+     * Excludes win over includes; with no includes everything not excluded is kept.
+     */
+    public static final class PathFilter {
+        private static final Object OMIT = new Object();
+
+        private final State root;
+
+        private PathFilter(State root) {
+            this.root = root;
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        /**
+         * Returns a pruned copy of {@code data}. Untouched sub-trees are shared, not copied, and
+         * table rows whose kept cells need no filtering become read-through column views.
+         */
+        public Object apply(Object data) {
+            Object result = filter(data, root);
+            return result == OMIT ? new LinkedHashMap<String, Object>() : result;
+        }
+
+        public String encode(Object data) {
+            return Toon.encode(apply(data));
+        }
+
+        public String encode(Object data, EncodeOptions options) {
+            return Toon.encode(apply(data), options);
+        }
+
+        private static Object filter(Object value, State state) {
+            if (state.passThrough) {
+                return value;
+            }
+            if (value instanceof Map<?, ?> map) {
+                Map<String, Object> result = filterMap(map, state);
+                return result.isEmpty() && !state.included ? OMIT : result;
+            }
+            if (value instanceof List<?> list) {
+                List<Object> result = filterList(list, state);
+                return result.isEmpty() && !state.included ? OMIT : result;
+            }
+            return state.included ? value : OMIT;
+        }
+
+        private static Map<String, Object> filterMap(Map<?, ?> map, State state) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                String key = String.valueOf(entry.getKey());
+                State child = state.step(key);
+                if (child.drop) {
+                    continue;
+                }
+                Object value = filter(entry.getValue(), child);
+                if (value != OMIT) {
+                    result.put(key, value);
+                }
+            }
+            return result;
+        }
+
+        private static List<Object> filterList(List<?> list, State state) {
+            List<Object> result = new ArrayList<>(list.size());
+            if (list.isEmpty() || !(list.get(0) instanceof Map<?, ?> first)) {
+                for (Object element : list) {
+                    Object value = filter(element, state);
+                    if (value != OMIT) {
+                        result.add(value);
+                    }
+                }
+                return result;
+            }
+
+            // Prune the columns once using the first row, then project every row with the same keys
+            int width = first.size();
+            Object[] keys = first.keySet().toArray();
+            Object[] keptKeys = new Object[width];
+            String[] names = new String[width];
+            State[] states = new State[width];
+            int kept = 0;
+            boolean passThrough = true;
+            for (Object key : keys) {
+                String name = String.valueOf(key);
+                State child = state.step(name);
+                if (!child.drop) {
+                    keptKeys[kept] = key;
+                    names[kept] = name;
+                    states[kept] = child;
+                    passThrough &= child.passThrough;
+                    kept++;
+                }
+            }
+            String[] columns = Arrays.copyOf(names, kept);
+            Object[] columnKeys = Arrays.copyOf(keptKeys, kept);
+
+            for (Object element : list) {
+                Object value;
+                if (element instanceof Map<?, ?> row && sameKeys(row, keys)) {
+                    if (passThrough && kept > 0) {
+                        // Kept cells are unchanged, so a view replaces the per-row copy
+                        value = new ColumnView(row, columns, columnKeys);
+                    } else {
+                        Map<String, Object> projected = new LinkedHashMap<>();
+                        for (int i = 0; i < kept; i++) {
+                            Object cell = filter(row.get(keptKeys[i]), states[i]);
+                            if (cell != OMIT) {
+                                projected.put(names[i], cell);
+                            }
+                        }
+                        value = projected.isEmpty() && !state.included ? OMIT : projected;
+                    }
+                } else {
+                    value = filter(element, state);
+                }
+                if (value != OMIT) {
+                    result.add(value);
+                }
+            }
+            return result;
+        }
+
+        /** True when {@code row} has exactly the first row's keys, in any order. */
+        private static boolean sameKeys(Map<?, ?> row, Object[] keys) {
+            if (row.size() != keys.length) {
+                return false;
+            }
+            for (Object key : keys) {
+                if (!row.containsKey(key)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** A row restricted to the kept columns, in the first row's order; cells are read through. */
+        private static final class ColumnView extends AbstractMap<String, Object> {
+            private final Map<?, ?> row;
+            private final String[] columns;
+            private final Object[] keys;
+
+            ColumnView(Map<?, ?> row, String[] columns, Object[] keys) {
+                this.row = row;
+                this.columns = columns;
+                this.keys = keys;
+            }
+
+            @Override
+            public Object get(Object key) {
+                int index = indexOf(key);
+                return index >= 0 ? row.get(keys[index]) : null;
+            }
+
+            @Override
+            public boolean containsKey(Object key) {
+                return indexOf(key) >= 0;
+            }
+
+            private int indexOf(Object key) {
+                for (int i = 0; i < columns.length; i++) {
+                    if (columns[i].equals(key)) {
+                        return i;
+                    }
+                }
+                return -1;
+            }
+
+            @Override
+            public Set<Entry<String, Object>> entrySet() {
+                return new AbstractSet<>() {
+                    @Override
+                    public Iterator<Entry<String, Object>> iterator() {
+                        return new Iterator<>() {
+                            private int next;
+
+                            @Override
+                            public boolean hasNext() {
+                                return next < columns.length;
+                            }
+
+                            @Override
+                            public Entry<String, Object> next() {
+                                if (next >= columns.length) {
+                                    throw new NoSuchElementException();
+                                }
+                                int i = next++;
+                                return new SimpleImmutableEntry<>(columns[i], row.get(keys[i]));
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return columns.length;
+                    }
+                };
+            }
+        }
+
+        public static final class Builder {
+            private final List<String> includes = new ArrayList<>();
+            private final List<String> excludes = new ArrayList<>();
+
+            private Builder() {}
+
+            public Builder include(String... patterns) {
+                includes.addAll(Arrays.asList(patterns));
+                return this;
+            }
+
+            public Builder exclude(String... patterns) {
+                excludes.addAll(Arrays.asList(patterns));
+                return this;
+            }
+
+            public PathFilter build() {
+                Node trie = new Node(0);
+                int[] ids = {1};
+                for (String pattern : includes) {
+                    trie.insert(pattern, ids).includeEnd = true;
+                }
+                for (String pattern : excludes) {
+                    trie.insert(pattern, ids).excludeEnd = true;
+                }
+                trie.computeBelow();
+                return new PathFilter(new Compiler().compile(trie, includes.isEmpty()));
+            }
+        }
+    }
+
+    /**
+     * Pattern trie node; one per distinct pattern prefix.
+     */
+    private static final class Node {
+        final int id;
+        final Map<String, Node> literal = new LinkedHashMap<>();
+        Node any;
+        Node globstar;
+        boolean isGlobstar;
+        boolean includeEnd;
+        boolean excludeEnd;
+        boolean includeBelow;
+        boolean excludeBelow;
+
+        Node(int id) {
+            this.id = id;
+        }
+
+        Node insert(String pattern, int[] ids) {
+            if (pattern == null || pattern.isEmpty()) {
+                throw new IllegalArgumentException("Empty path pattern");
+            }
+            Node node = this;
+            for (String segment : pattern.split("\\.", -1)) {
+                if (segment.isEmpty()) {
+                    throw new IllegalArgumentException("Empty segment in path pattern: " + pattern);
+                }
+                node = switch (segment) {
+                    case "*" -> node.any != null ? node.any : (node.any = new Node(ids[0]++));
+                    case "**" -> node.globstar != null ? node.globstar : (node.globstar = newGlobstar(ids));
+                    default -> node.literal.computeIfAbsent(segment, s -> new Node(ids[0]++));
+                };
+            }
+            return node;
+        }
+
+        private static Node newGlobstar(int[] ids) {
+            Node node = new Node(ids[0]++);
+            node.isGlobstar = true;
+            return node;
+        }
+
+        /** Marks nodes whose strict descendants end an include or exclude pattern. */
+        void computeBelow() {
+            for (Node child : children()) {
+                child.computeBelow();
+                includeBelow |= child.includeEnd || child.includeBelow;
+                excludeBelow |= child.excludeEnd || child.excludeBelow;
+            }
+            if (isGlobstar) {
+                // A globstar loops on every key, so its own ends apply further down as well
+                includeBelow |= includeEnd;
+                excludeBelow |= excludeEnd;
+            }
+        }
+
+        List<Node> children() {
+            List<Node> children = new ArrayList<>(literal.values());
+            if (any != null) {
+                children.add(any);
+            }
+            if (globstar != null) {
+                children.add(globstar);
+            }
+            return children;
+        }
+    }
+
+    /**
+     * One DFA state: the set of trie nodes alive at this depth plus whether an
+     * include pattern already covers the whole sub-tree.
+     */
+    private static final class State {
+        final Map<String, State> next = new HashMap<>();
+        State otherwise;
+        boolean included;
+        boolean excluded;
+        boolean drop;
+        boolean passThrough;
+
+        State step(String key) {
+            State state = next.get(key);
+            return state != null ? state : otherwise;
+        }
+    }
+
+    /**
+     * Subset construction from the pattern trie to {@link State}s, run once per filter.
+     */
+    private static final class Compiler {
+        private final Map<String, State> states = new HashMap<>();
+        private final Deque<Object[]> pending = new ArrayDeque<>();
+
+        State compile(Node trie, boolean includeAll) {
+            State root = state(closure(Set.of(trie)), includeAll, false);
+            while (!pending.isEmpty()) {
+                Object[] work = pending.removeFirst();
+                @SuppressWarnings("unchecked")
+                Set<Node> nodes = (Set<Node>) work[0];
+                boolean inherited = (Boolean) work[1];
+                State state = (State) work[2];
+
+                Set<String> alphabet = new TreeSet<>();
+                for (Node node : nodes) {
+                    alphabet.addAll(node.literal.keySet());
+                }
+                for (String key : alphabet) {
+                    state.next.put(key, transition(nodes, key, inherited));
+                }
+                state.otherwise = transition(nodes, null, inherited);
+            }
+            return root;
+        }
+
+        private State transition(Set<Node> nodes, String key, boolean inherited) {
+            Set<Node> target = new HashSet<>();
+            for (Node node : nodes) {
+                if (key != null && node.literal.containsKey(key)) {
+                    target.add(node.literal.get(key));
+                }
+                if (node.any != null) {
+                    target.add(node.any);
+                }
+                if (node.isGlobstar) {
+                    target.add(node);
+                }
+            }
+            target = closure(target);
+            boolean included = inherited;
+            boolean excluded = false;
+            for (Node node : target) {
+                included |= node.includeEnd;
+                excluded |= node.excludeEnd;
+            }
+            return state(target, included, excluded);
+        }
+
+        /** Adds globstar nodes, which also match zero keys. */
+        private static Set<Node> closure(Set<Node> nodes) {
+            Set<Node> result = new HashSet<>(nodes);
+            Deque<Node> work = new ArrayDeque<>(nodes);
+            while (!work.isEmpty()) {
+                Node node = work.removeFirst();
+                if (node.globstar != null && result.add(node.globstar)) {
+                    work.add(node.globstar);
+                }
+            }
+            return result;
+        }
+
+        private State state(Set<Node> nodes, boolean included, boolean excluded) {
+            List<Integer> ids = new ArrayList<>();
+            boolean includeBelow = false;
+            boolean excludeBelow = false;
+            for (Node node : nodes) {
+                ids.add(node.id);
+                includeBelow |= node.includeBelow;
+                excludeBelow |= node.excludeBelow;
+            }
+            Collections.sort(ids);
+            String key = ids + (included ? "+" : "-") + (excluded ? "x" : "");
+            State state = states.get(key);
+            if (state == null) {
+                state = new State();
+                state.included = included;
+                state.excluded = excluded;
+                state.drop = excluded || (!included && !includeBelow);
+                state.passThrough = !state.drop && included && !excludeBelow;
+                states.put(key, state);
+                pending.add(new Object[]{nodes, included, state});
+            }
+            return state;
+        }
+    }
+
+    // ==================== Examples ====================
+
+    /**
+     * Example 1: Exclude sensitive fields anywhere in the document
+     */
+    private static void example1_ExcludeSensitiveFields() {
+        printSectionHeader("Example 1: Exclude Sensitive Fields");
+
+        Map<String, Object> account = new LinkedHashMap<>();
+        account.put("name", "Example");
+        account.put("secret", "top-secret");
+
+        Map<String, Object> credentials = new LinkedHashMap<>();
+        credentials.put("user", "ada");
+        credentials.put("password", "hunter2");
+        account.put("credentials", credentials);
+        account.put("items", List.of("a", "b", "c"));
+
+        PathFilter filter = PathFilter.builder()
+                .exclude("secret", "**.password")
+                .build();
+
+        System.out.println("Input: " + account);
+        System.out.println("Output:");
+        System.out.println(filter.encode(account));
+        System.out.println();
+    }
+
+    /**
+     * Example 2: Keep only selected columns of a table
+     */
+    private static void example2_IncludeTableColumns() {
+        printSectionHeader("Example 2: Include Table Columns");
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("team", "Platform");
+        data.put("users", createWideRows(3, 8));
+
+        PathFilter filter = PathFilter.builder()
+                .include("team", "users.c0", "users.c1")
+                .build();
+
+        System.out.println("Full table:");
+        System.out.println(Toon.encode(data));
+        System.out.println();
+        System.out.println("Filtered (header pruned once for the whole table):");
+        System.out.println(filter.encode(data));
+        System.out.println();
+    }
+
+    /**
+     * Example 3: Single-key and any-depth wildcards
+     */
+    private static void example3_Wildcards() {
+        printSectionHeader("Example 3: Wildcards");
+
+        Map<String, Object> services = new LinkedHashMap<>();
+        services.put("api", Map.of("host", "api.internal", "port", 8080, "debug", Map.of("trace", true)));
+        services.put("db", Map.of("host", "db.internal", "port", 5432, "debug", Map.of("trace", false)));
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("env", "prod");
+        config.put("services", services);
+
+        System.out.println("include(\"services.*.host\"):");
+        System.out.println(PathFilter.builder().include("services.*.host").build().encode(config));
+        System.out.println();
+
+        System.out.println("exclude(\"**.debug\"):");
+        System.out.println(PathFilter.builder().exclude("**.debug").build().encode(config));
+        System.out.println();
+    }
+
+    /**
+     * Example 4: Compiled filter vs. replacer on a wide table
+     */
+    private static void example4_ReplacerComparison() {
+        printSectionHeader("Example 4: Compiled Filter vs. Replacer");
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("rows", createWideRows(5000, 20));
+
+        Set<String> hidden = new HashSet<>();
+        List<String> patterns = new ArrayList<>();
+        for (int c = 10; c < 20; c++) {
+            hidden.add("c" + c);
+            patterns.add("rows.c" + c);
+        }
+
+        EncodeOptions withReplacer = EncodeOptions.builder()
+                .replacer((key, value, path) -> hidden.contains(key) ? EncodeReplacer.OMIT : value)
+                .build();
+        PathFilter filter = PathFilter.builder()
+                .exclude(patterns.toArray(new String[0]))
+                .build();
+
+        // Warm up both paths before timing
+        for (int i = 0; i < 5; i++) {
+            Toon.encode(data, withReplacer);
+            filter.encode(data);
+        }
+
+        long start = System.nanoTime();
+        String replaced = Toon.encode(data, withReplacer);
+        double replacerMs = (System.nanoTime() - start) / 1_000_000.0;
+
+        start = System.nanoTime();
+        String filtered = filter.encode(data);
+        double filterMs = (System.nanoTime() - start) / 1_000_000.0;
+
+        System.out.println("═══════════════════════════════════════════");
+        System.out.printf("Replacer:        %.2f ms (%d chars)%n", replacerMs, replaced.length());
+        System.out.printf("Compiled filter: %.2f ms (%d chars)%n", filterMs, filtered.length());
+        System.out.println("Same output: " + replaced.equals(filtered));
+        System.out.println("═══════════════════════════════════════════");
+        System.out.println();
+    }
+
+    // Helper methods
+
+    private static List<Map<String, Object>> createWideRows(int rows, int columns) {
+        List<Map<String, Object>> result = new ArrayList<>(rows);
+        for (int r = 0; r < rows; r++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int c = 0; c < columns; c++) {
+                row.put("c" + c, r * columns + c);
+            }
+            result.add(row);
+        }
+        return result;
+    }
+
+    private static void printSectionHeader(String title) {
+        System.out.println("═".repeat(65));
+        System.out.println(title);
+        System.out.println("═".repeat(65));
+    }
+}
@@ -0,0 +1,434 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.Toon;
+import im.arun.toon4j.example.PojoExample.Employee;
+import im.arun.toon4j.example.PojoExample.Person;
+import im.arun.toon4j.example.PojoExample.User;
+import im.arun.toon4j.example.TabularSchemaExample.TabularEncoder;
+import im.arun.toon4j.example.TypeRefExample.TypeRef;
+import im.arun.toon4j.example.TypeRefExample.TypedDecoder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Performance regression suite for the encoders and decoders in this project and the
+ * TOON4J library they sit beside. Runs a fixed set of tabular, nested, POJO, record and
+ * library workloads, measures throughput and bytes allocated per operation, and compares
+ * both against a committed baseline. A baseline workload that no longer runs fails the
+ * check as well, and so does a measured workload with no baseline entry, so a workload
+ * can neither drop out of the suite nor run without a budget unnoticed.
+ *
+ * <p>Run it through the {@code perf} profile:
+ * <pre>
+ * mvn -Pperf verify                      # fail the build on a regression
+ * mvn -Pperf verify -Dperf.mode=report   # write the report, never fail
+ * mvn -Pperf verify -Dperf.mode=update   # record a new baseline
+ * </pre>
+ * Throughput depends on the machine, so record the baseline on the machine that runs the
+ * check. Allocation per operation is stable across machines with the same JDK.
+ */
+public class PerfRegressionSuite {
+
+    /** Keeps workload results observable so the JIT cannot drop the measured work. */
+    private static volatile long sink;
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseArgs(args);
+        Path baselineFile = Path.of(options.getOrDefault("baseline", "perf/baseline.json"));
+        Path reportFile = Path.of(options.getOrDefault("report", "target/perf-report.md"));
+        String mode = options.getOrDefault("mode", "check");
+        if (!List.of("check", "report", "update").contains(mode)) {
+            throw new IllegalArgumentException("mode must be check, report or update: " + mode);
+        }
+
+        System.out.println("╔════════════════════════════════════════════════════════════════╗");
+        System.out.println("║          TOON4J Performance Regression Suite                  ║");
+        System.out.println("║  Throughput and Allocation Against a Stored Baseline          ║");
+        System.out.println("╚════════════════════════════════════════════════════════════════╝\n");
+
+        List<Result> results = new ArrayList<>();
+        for (Workload workload : workloads()) {
+            Result result = measure(workload);
+            results.add(result);
+            System.out.printf("%-26s %,12.0f ops/s %12s B/op%n", workload.name(), result.opsPerSecond(),
+                    AllocationCounter.format(result.bytesPerOp()));
+        }
+        System.out.println();
+
+        if (mode.equals("update")) {
+            Tolerances tolerances = Files.exists(baselineFile) ? Baseline.read(baselineFile).tolerances() : Tolerances.DEFAULT;
+            Files.createDirectories(baselineFile.toAbsolutePath().getParent());
+            Files.writeString(baselineFile, new Baseline(tolerances, results).toJson());
+            System.out.println("Baseline written to " + baselineFile);
+            return;
+        }
+
+        Baseline baseline = Baseline.read(baselineFile);
+        Report report = new Report(baseline, results);
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        Files.writeString(reportFile, report.markdown());
+        System.out.print(report.summary());
+        System.out.println("Report written to " + reportFile);
+
+        if (mode.equals("check") && report.regressions() > 0) {
+            System.out.println();
+            System.out.println("FAILED: " + report.regressions() + " workload(s) over budget, missing or not in the baseline");
+            System.exit(1);
+        }
+    }
+
+    // ==================== Workloads ====================
+
+    /** One operation to measure; {@code category} groups workloads in the report. */
+    record Workload(String category, String name, Supplier<Object> operation) {}
+
+    /** The fixed workload set. Changing it means recording a new baseline. */
+    static List<Workload> workloads() {
+        List<Map<String, Object>> employees = employeeRows(1_000);
+        String employeesToon = TabularEncoder.encodeMaps("employees", employees);
+
+        String configJson = configJson(50);
+        String configToon = ToonTranscoder.jsonToToon(configJson);
+
+        List<User> users = users(1_000);
+        String usersToon = TabularEncoder.encode("users", users, User.class);
+        String employeesWithAddressToon = ToonTranscoder.jsonToToon(employeesWithAddressJson(200));
+
+        List<Person> people = people(1_000);
+        String peopleToon = TabularEncoder.encode("people", people, Person.class);
+
+        Map<String, Object> employeesDocument = Map.of("employees", employees);
+        Map<String, Object> usersDocument = Map.of("users", users);
+
+        TypeRef<Map<String, List<Map<String, Object>>>> tableOfMaps = new TypeRef<>() {};
+        TypeRef<Map<String, Object>> tree = new TypeRef<>() {};
+        TypeRef<Map<String, List<User>>> usersType = new TypeRef<>() {};
+        TypeRef<Map<String, List<Employee>>> employeesType = new TypeRef<>() {};
+        TypeRef<Map<String, List<Person>>> peopleType = new TypeRef<>() {};
+
+        return List.of(
+                new Workload("tabular", "tabular/encode-maps", () -> TabularEncoder.encodeMaps("employees", employees)),
+                new Workload("tabular", "tabular/decode-maps", () -> TypedDecoder.decode(employeesToon, tableOfMaps)),
+                new Workload("tabular", "tabular/toon-to-json", () -> ToonTranscoder.toonToJson(employeesToon)),
+                new Workload("nested", "nested/json-to-toon", () -> ToonTranscoder.jsonToToon(configJson)),
+                new Workload("nested", "nested/decode-tree", () -> TypedDecoder.decode(configToon, tree)),
+                new Workload("pojo", "pojo/encode-users", () -> TabularEncoder.encode("users", users, User.class)),
+                new Workload("pojo", "pojo/decode-users", () -> TypedDecoder.decode(usersToon, usersType)),
+                new Workload("pojo", "pojo/decode-nested", () -> TypedDecoder.decode(employeesWithAddressToon, employeesType)),
+                new Workload("record", "record/encode-people", () -> TabularEncoder.encode("people", people, Person.class)),
+                new Workload("record", "record/decode-people", () -> TypedDecoder.decode(peopleToon, peopleType)),
+                new Workload("library", "library/encode-maps", () -> Toon.encode(employeesDocument)),
+                new Workload("library", "library/decode-maps", () -> Toon.decode(employeesToon)),
+                new Workload("library", "library/encode-users", () -> Toon.encode(usersDocument)),
+                new Workload("library", "library/decode-tree", () -> Toon.decode(configToon)));
+    }
+
+    // ==================== Measurement ====================
+
+    private static final long WARMUP_NANOS = 1_500_000_000L;
+    private static final long ROUND_NANOS = 300_000_000L;
+    private static final int ROUNDS = 7;
+
+    /**
+     * Throughput and bytes per operation of one workload: the best round's throughput, which
+     * is least disturbed by other load on the machine, and the median round's allocation.
+     */
+    public record Result(String category, String name, double opsPerSecond, long bytesPerOp) {}
+
+    static Result measure(Workload workload) {
+        long end = System.nanoTime() + WARMUP_NANOS;
+        while (System.nanoTime() < end) {
+            consume(workload.operation().get());
+        }
+
+        double[] throughput = new double[ROUNDS];
+        long[] allocation = new long[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            long ops = 0;
+            long bytesBefore = AllocationCounter.current();
+            long start = System.nanoTime();
+            long now;
+            do {
+                consume(workload.operation().get());
+                ops++;
+                now = System.nanoTime();
+            } while (now - start < ROUND_NANOS);
+            long bytes = AllocationCounter.since(bytesBefore);
+            throughput[round] = ops / ((now - start) / 1_000_000_000.0);
+            allocation[round] = bytesBefore < 0 ? -1 : bytes / ops;
+        }
+        Arrays.sort(throughput);
+        Arrays.sort(allocation);
+        return new Result(workload.category(), workload.name(), throughput[ROUNDS - 1], allocation[ROUNDS / 2]);
+    }
+
+    private static void consume(Object value) {
+        sink += value == null ? 0 : System.identityHashCode(value);
+    }
+
+    // ==================== Baseline ====================
+
+    /**
+     * How far a result may move before it counts as a regression: throughput may drop by
+     * {@code throughput} (a fraction), allocation may grow by {@code allocation} plus
+     * {@code allocationSlackBytes}.
+     */
+    public record Tolerances(double throughput, double allocation, long allocationSlackBytes) {
+        static final Tolerances DEFAULT = new Tolerances(0.20, 0.05, 256);
+    }
+
+    /**
+     * The committed baseline. Stored as JSON so review diffs stay readable; read back by
+     * transcoding to TOON and decoding into these records.
+     */
+    public record Baseline(Tolerances tolerances, List<Result> workloads) {
+
+        static Baseline read(Path file) throws IOException {
+            if (!Files.exists(file)) {
+                throw new IllegalStateException("No baseline at " + file + "; run with -Dperf.mode=update first");
+            }
+            Baseline baseline = TypedDecoder.decode(ToonTranscoder.jsonToToon(Files.readString(file)), Baseline.class);
+            if (baseline == null || baseline.tolerances() == null || baseline.workloads() == null) {
+                throw new IllegalArgumentException("Baseline " + file + " needs tolerances and workloads");
+            }
+            return baseline;
+        }
+
+        Result find(String name) {
+            for (Result result : workloads) {
+                if (result.name().equals(name)) {
+                    return result;
+                }
+            }
+            return null;
+        }
+
+        String toJson() {
+            StringBuilder json = new StringBuilder("{\n");
+            json.append("  \"tolerances\": {\"throughput\": ").append(tolerances.throughput())
+                    .append(", \"allocation\": ").append(tolerances.allocation())
+                    .append(", \"allocationSlackBytes\": ").append(tolerances.allocationSlackBytes()).append("},\n");
+            json.append("  \"workloads\": [\n");
+            for (int i = 0; i < workloads.size(); i++) {
+                Result result = workloads.get(i);
+                json.append("    {\"category\": \"").append(result.category())
+                        .append("\", \"name\": \"").append(result.name())
+                        .append("\", \"opsPerSecond\": ").append(Math.round(result.opsPerSecond()))
+                        .append(", \"bytesPerOp\": ").append(result.bytesPerOp())
+                        .append(i + 1 < workloads.size() ? "},\n" : "}\n");
+            }
+            return json.append("  ]\n}\n").toString();
+        }
+    }
+
+    // ==================== Report ====================
+
+    /** Current results set against the baseline, grouped by category. */
+    static final class Report {
+        private final Baseline baseline;
+        private final List<Result> results;
+        private final List<Result> missing = new ArrayList<>();
+        private final List<Result> unrecorded = new ArrayList<>();
+        private int regressions;
+
+        Report(Baseline baseline, List<Result> results) {
+            this.baseline = baseline;
+            this.results = results;
+            for (Result result : results) {
+                String status = status(result);
+                if (status.equals("new")) {
+                    unrecorded.add(result);
+                } else if (!status.equals("ok")) {
+                    regressions++;
+                }
+            }
+            Set<String> measured = new HashSet<>();
+            for (Result result : results) {
+                measured.add(result.name());
+            }
+            for (Result base : baseline.workloads()) {
+                if (!measured.contains(base.name())) {
+                    missing.add(base);
+                }
+            }
+            regressions += missing.size() + unrecorded.size();
+        }
+
+        int regressions() {
+            return regressions;
+        }
+
+        String status(Result result) {
+            Result base = baseline.find(result.name());
+            if (base == null) {
+                return "new";
+            }
+            Tolerances tolerances = baseline.tolerances();
+            boolean slower = result.opsPerSecond() < base.opsPerSecond() * (1 - tolerances.throughput());
+            boolean heavier = base.bytesPerOp() >= 0 && result.bytesPerOp() >= 0
+                    && result.bytesPerOp() > base.bytesPerOp() * (1 + tolerances.allocation()) + tolerances.allocationSlackBytes();
+            if (slower && heavier) {
+                return "SLOWER, ALLOCATES MORE";
+            }
+            return slower ? "SLOWER" : heavier ? "ALLOCATES MORE" : "ok";
+        }
+
+        String summary() {
+            StringBuilder out = new StringBuilder();
+            out.append("═══════════════════════════════════════════\n");
+            for (String category : categories()) {
+                int total = 0;
+                int failed = 0;
+                for (Result result : results) {
+                    if (result.category().equals(category)) {
+                        total++;
+                        String status = status(result);
+                        if (!status.equals("ok") && !status.equals("new")) {
+                            failed++;
+                        }
+                    }
+                }
+                out.append(String.format("%-9s %d workload(s), %d over budget%n", category + ":", total, failed));
+            }
+            for (Result base : missing) {
+                out.append("missing:  ").append(base.name()).append(" is in the baseline but was not measured\n");
+            }
+            for (Result result : unrecorded) {
+                out.append("new:      ").append(result.name())
+                        .append(" has no baseline; record one with -Dperf.mode=update\n");
+            }
+            out.append("═══════════════════════════════════════════\n");
+            return out.toString();
+        }
+
+        String markdown() {
+            Tolerances tolerances = baseline.tolerances();
+            StringBuilder out = new StringBuilder("# Performance Report\n\n");
+            out.append(String.format("Budgets: throughput may drop %.0f%%, allocation may grow %.0f%% + %d bytes per op.%n%n",
+                    tolerances.throughput() * 100, tolerances.allocation() * 100, tolerances.allocationSlackBytes()));
+            for (String category : categories()) {
+                out.append("## ").append(category).append("\n\n");
+                out.append("| Workload | Baseline ops/s | Current ops/s | Δ | Baseline B/op | Current B/op | Δ | Status |\n");
+                out.append("|---|---:|---:|---:|---:|---:|---:|---|\n");
+                for (Result result : results) {
+                    if (!result.category().equals(category)) {
+                        continue;
+                    }
+                    Result base = baseline.find(result.name());
+                    out.append("| ").append(result.name())
+                            .append(" | ").append(base == null ? "-" : String.format("%,.0f", base.opsPerSecond()))
+                            .append(" | ").append(String.format("%,.0f", result.opsPerSecond()))
+                            .append(" | ").append(base == null ? "-" : percent(result.opsPerSecond(), base.opsPerSecond()))
+                            .append(" | ").append(base == null ? "-" : AllocationCounter.format(base.bytesPerOp()))
+                            .append(" | ").append(AllocationCounter.format(result.bytesPerOp()))
+                            .append(" | ").append(base == null ? "-" : percent(result.bytesPerOp(), base.bytesPerOp()))
+                            .append(" | ").append(status(result)).append(" |\n");
+                }
+                out.append('\n');
+            }
+            if (!missing.isEmpty()) {
+                out.append("## Missing\n\n");
+                out.append("In the baseline but not measured; record a new baseline if the workload was removed on purpose.\n\n");
+                for (Result base : missing) {
+                    out.append("- ").append(base.name()).append('\n');
+                }
+                out.append('\n');
+            }
+            if (!unrecorded.isEmpty()) {
+                out.append("## Not in the Baseline\n\n");
+                out.append("Measured but never recorded, so no budget applies; record a new baseline to enforce one.\n\n");
+                for (Result result : unrecorded) {
+                    out.append("- ").append(result.name()).append('\n');
+                }
+                out.append('\n');
+            }
+            return out.toString();
+        }
+
+        private List<String> categories() {
+            Set<String> categories = new LinkedHashSet<>();
+            for (Result result : results) {
+                categories.add(result.category());
+            }
+            return new ArrayList<>(categories);
+        }
+
+        private static String percent(double current, double base) {
+            return base == 0 ? "-" : String.format("%+.1f%%", 100 * (current - base) / base);
+        }
+    }
+
+    // Helper methods
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --name value pairs, got " + String.join(" ", args));
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+
+    static List<Map<String, Object>> employeeRows(int count) {
+        String[] departments = {"Engineering", "Sales", "Marketing", "Support", "Finance"};
+        List<Map<String, Object>> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", i + 1);
+            row.put("name", "Employee " + (i + 1));
+            row.put("department", departments[i % departments.length]);
+            row.put("salary", 50_000 + i * 37 % 40_000);
+            row.put("active", i % 7 != 0);
+            row.put("rating", (i % 50) / 10.0);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static String configJson(int services) {
+        StringBuilder json = new StringBuilder("{\"app\":{\"name\":\"toon-service\",\"version\":\"2.1.0\",\"debug\":false},");
+        json.append("\"services\":{");
+        for (int i = 0; i < services; i++) {
+            json.append(i == 0 ? "" : ",").append("\"svc").append(i).append("\":{")
+                    .append("\"host\":\"svc").append(i).append(".internal\",\"port\":").append(8000 + i)
+                    .append(",\"tags\":[\"a\",\"b\",\"c\"],\"limits\":{\"cpu\":").append(0.5 + i % 4)
+                    .append(",\"memory\":\"").append(256 << (i % 3)).append("Mi\"}}");
+        }
+        return json.append("}}").toString();
+    }
+
+    private static String employeesWithAddressJson(int count) {
+        StringBuilder json = new StringBuilder("{\"employees\":[");
+        for (int i = 0; i < count; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"id\":").append(i + 1)
+                    .append(",\"name\":\"Employee ").append(i + 1)
+                    .append("\",\"department\":\"Engineering\",\"address\":{\"street\":\"").append(i + 1)
+                    .append(" Main St\",\"city\":\"Springfield\",\"zipCode\":\"").append(10_000 + i)
+                    .append("\",\"country\":\"USA\"}}");
+        }
+        return json.append("]}").toString();
+    }
+
+    static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(new User(i + 1, "user" + i, "user" + i + "@example.com", i % 3 != 0));
+        }
+        return users;
+    }
+
+    private static List<Person> people(int count) {
+        String[] cities = {"New York", "London", "Tokyo", "Paris"};
+        List<Person> people = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            people.add(new Person("Person " + i, 20 + i % 50, cities[i % cities.length], "Engineer"));
+        }
+        return people;
+    }
+}
@@ -0,0 +1,471 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.Delimiter;
+import im.arun.toon4j.Toon;
+import im.arun.toon4j.example.PojoExample.Address;
+import im.arun.toon4j.example.PojoExample.Employee;
+import im.arun.toon4j.example.PojoExample.Project;
+import im.arun.toon4j.example.TabularSchemaExample.ColumnKind;
+import im.arun.toon4j.example.TabularSchemaExample.TableSchema;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Examples of encoding POJOs and records directly from their property accessors.
+ * Shows nested beans and typed lists written without an intermediate map per object,
+ * tables written row by row from getters, and the allocation left once the maps are gone.
+ */
+public class PojoEncodingExample {
+
+    public static void main(String[] args) {
+        System.out.println("╔════════════════════════════════════════════════════════════════╗");
+        System.out.println("║          TOON4J Direct POJO Encoding Examples                 ║");
+        System.out.println("║  Writing Object Graphs Straight from Their Getters            ║");
+        System.out.println("╚════════════════════════════════════════════════════════════════╝\n");
+
+        example1_NestedProject();
+        example2_EmployeeTable();
+        example3_Allocation();
+    }
+
+    // ==================== Encoder ====================
+
+    /**
+     * Encodes POJOs, records, maps and collections by walking the cached
+     * {@link TableSchema} accessors and writing each value as it is read. The layout comes
+     * from {@link ToonWriter}, the same writer {@link ToonNode} trees go through.
+     *
+     * <p>Properties appear in schema order (record components, or bean fields in declaration
+     * order, superclass fields first) and null properties are written as {@code null}, as
+     * {@link Toon#encode} does. A bean with no readable properties is an empty object.
+     * {@code int}, {@code long}, {@code double} and {@code boolean} properties are read
+     * through typed accessors, so they are never boxed. A list of same-class objects becomes
+     * a table when every value in it is a primitive: the header comes from the schema, and
+     * each row is written from the getters.
+     *
+     * <p>Deciding on a table reads every property whose declared type could hold nested data
+     * (an {@code Object} or a collection, say), and writing the rows reads it again, so those
+     * getters run twice per row. Getters are expected to be cheap and free of side effects;
+     * keeping the values between the two passes would cost an array per table.
+     */
+    public static final class PojoEncoder {
+        private static final int MAX_RETAINED_CAPACITY = 1 << 22;
+        private static final ThreadLocal<StringBuilder> BUFFER = new ThreadLocal<>();
+
+        private static final ClassValue<Property[]> PROPERTIES = new ClassValue<>() {
+            @Override
+            protected Property[] computeValue(Class<?> type) {
+                return Property.of(TableSchema.ofProperties(type));
+            }
+        };
+
+        private PojoEncoder() {}
+
+        public static String encode(Object value) {
+            return encode(value, Delimiter.COMMA);
+        }
+
+        /**
+         * Encodes into a per-thread builder that is kept between calls (up to 4M characters),
+         * so a call allocates little beyond the returned String. A nested call from inside a
+         * getter gets a fresh builder.
+         */
+        public static String encode(Object value, Delimiter delimiter) {
+            StringBuilder out = BUFFER.get();
+            if (out == null) {
+                out = new StringBuilder(256);
+            } else {
+                BUFFER.set(null);
+            }
+            try {
+                return encodeTo(value, out, delimiter).toString();
+            } finally {
+                if (out.capacity() <= MAX_RETAINED_CAPACITY) {
+                    out.setLength(0);
+                    BUFFER.set(out);
+                }
+            }
+        }
+
+        /**
+         * Appends the encoding of {@code value} to {@code out} and returns it, for callers that
+         * write the text on without making a String of it.
+         */
+        public static StringBuilder encodeTo(Object value, StringBuilder out, Delimiter delimiter) {
+            return ToonWriter.write(value, BeanValues.INSTANCE, out, ToonStrings.delimiterChar(delimiter));
+        }
+
+        /** A property's accessor, typed to avoid boxing where the declared type allows. */
+        private record Property(String name, ColumnKind kind, Shape shape, MethodHandle accessor) {
+
+            enum Shape { LONG, DOUBLE, BOOLEAN, OBJECT }
+
+            static Property[] of(TableSchema schema) {
+                Property[] properties = new Property[schema.columns().size()];
+                for (int i = 0; i < properties.length; i++) {
+                    Class<?> type = schema.valueType(i);
+                    Shape shape;
+                    if (type == int.class || type == long.class || type == short.class || type == byte.class) {
+                        shape = Shape.LONG;
+                    } else if (type == double.class) {
+                        shape = Shape.DOUBLE;
+                    } else if (type == boolean.class) {
+                        shape = Shape.BOOLEAN;
+                    } else {
+                        shape = Shape.OBJECT;
+                    }
+                    MethodHandle accessor = switch (shape) {
+                        case LONG -> schema.typedAccessor(i).asType(MethodType.methodType(long.class, Object.class));
+                        case OBJECT -> schema.columns().get(i).accessor();
+                        default -> schema.typedAccessor(i);
+                    };
+                    properties[i] = new Property(schema.names().get(i), schema.columns().get(i).kind(), shape, accessor);
+                }
+                return properties;
+            }
+
+            Object read(Object bean) {
+                try {
+                    return (Object) accessor.invokeExact(bean);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw new IllegalStateException("Cannot read property '" + name + "'", t);
+                }
+            }
+
+            /** Appends a property declared {@code int}, {@code long}, {@code double} or {@code boolean}. */
+            void appendUnboxed(StringBuilder out, Object bean) {
+                try {
+                    switch (shape) {
+                        case LONG -> out.append((long) accessor.invokeExact(bean));
+                        case DOUBLE -> ToonStrings.appendDouble(out, (double) accessor.invokeExact(bean));
+                        case BOOLEAN -> out.append((boolean) accessor.invokeExact(bean));
+                        default -> throw new IllegalStateException("Property '" + name + "' is not unboxed");
+                    }
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw new IllegalStateException("Cannot read property '" + name + "'", t);
+                }
+            }
+
+            /** Appends the property as a table cell, unboxed when its declared type allows. */
+            void appendCell(StringBuilder out, Object bean, char delimiter) {
+                if (shape != Shape.OBJECT) {
+                    appendUnboxed(out, bean);
+                } else {
+                    ToonStrings.appendPrimitive(out, read(bean), delimiter);
+                }
+            }
+        }
+
+        /**
+         * How {@link ToonWriter} sees maps, beans and records, collections and arrays. A bean
+         * without readable properties is an empty object, like an empty map.
+         */
+        private static final class BeanValues implements ToonWriter.Values {
+            static final BeanValues INSTANCE = new BeanValues();
+
+            @Override
+            public ToonWriter.Kind kind(Object value) {
+                if (ToonStrings.isPrimitive(value)) {
+                    return ToonWriter.Kind.PRIMITIVE;
+                }
+                return isArray(value) ? ToonWriter.Kind.ARRAY : ToonWriter.Kind.OBJECT;
+            }
+
+            @Override
+            public void appendPrimitive(StringBuilder out, Object value, char delimiter) {
+                ToonStrings.appendPrimitive(out, value, delimiter);
+            }
+
+            /** Collections as they are; arrays as a list view. */
+            @Override
+            public Collection<?> elements(Object value) {
+                if (value instanceof Collection<?> collection) {
+                    return collection;
+                }
+                if (value instanceof Object[] array) {
+                    return Arrays.asList(array);
+                }
+                return new AbstractList<Object>() {
+                    @Override
+                    public Object get(int index) {
+                        return Array.get(value, index);
+                    }
+
+                    @Override
+                    public int size() {
+                        return Array.getLength(value);
+                    }
+                };
+            }
+
+            @Override
+            public void fields(Object object, ToonWriter.Fields fields) {
+                if (object instanceof Map<?, ?> map) {
+                    for (Map.Entry<?, ?> entry : map.entrySet()) {
+                        fields.field(String.valueOf(entry.getKey()), entry.getValue());
+                    }
+                    return;
+                }
+                for (Property property : PROPERTIES.get(object.getClass())) {
+                    if (property.shape() != Property.Shape.OBJECT) {
+                        property.appendUnboxed(fields.primitiveField(property.name()), object);
+                    } else {
+                        fields.field(property.name(), property.read(object));
+                    }
+                }
+            }
+
+            @Override
+            public boolean isEmpty(Object object) {
+                return object instanceof Map<?, ?> map ? map.isEmpty() : PROPERTIES.get(object.getClass()).length == 0;
+            }
+
+            /**
+             * A table when the elements form one. Objects of one class take their header from
+             * the schema, and only properties whose declared type could hold nested data are
+             * read here; the rows read them again. Maps need the first map's string keys in any
+             * order, with primitive values.
+             */
+            @Override
+            public ToonWriter.Table table(Collection<?> elements) {
+                Object first = elements.iterator().next();
+                if (first == null || ToonStrings.isPrimitive(first) || isArray(first) || isEmpty(first)) {
+                    return null;
+                }
+                if (first instanceof Map<?, ?> firstMap) {
+                    List<String> names = new ArrayList<>(firstMap.size());
+                    for (Object name : firstMap.keySet()) {
+                        if (!(name instanceof String text)) {
+                            return null;
+                        }
+                        names.add(text);
+                    }
+                    for (Object element : elements) {
+                        if (!(element instanceof Map<?, ?> row) || row.size() != names.size()) {
+                            return null;
+                        }
+                        for (Map.Entry<?, ?> entry : row.entrySet()) {
+                            if (!firstMap.containsKey(entry.getKey()) || !ToonStrings.isPrimitive(entry.getValue())) {
+                                return null;
+                            }
+                        }
+                    }
+                    return new MapTable(names);
+                }
+                Class<?> type = first.getClass();
+                Property[] properties = PROPERTIES.get(type);
+                for (Object element : elements) {
+                    if (element == null || element.getClass() != type) {
+                        return null;
+                    }
+                    for (Property property : properties) {
+                        if (property.kind() == ColumnKind.CHECKED && !ToonStrings.isPrimitive(property.read(element))) {
+                            return null;
+                        }
+                    }
+                }
+                return new BeanTable(TableSchema.of(type).names(), properties);
+            }
+
+            private static boolean isArray(Object value) {
+                return value instanceof Collection<?> || value != null && value.getClass().isArray();
+            }
+        }
+
+        private record MapTable(List<String> names) implements ToonWriter.Table {
+            @Override
+            public void appendRow(StringBuilder out, Object row, char delimiter) {
+                Map<?, ?> map = (Map<?, ?>) row;
+                for (int c = 0; c < names.size(); c++) {
+                    if (c > 0) {
+                        out.append(delimiter);
+                    }
+                    ToonStrings.appendPrimitive(out, map.get(names.get(c)), delimiter);
+                }
+            }
+        }
+
+        private record BeanTable(List<String> names, Property[] properties) implements ToonWriter.Table {
+            @Override
+            public void appendRow(StringBuilder out, Object row, char delimiter) {
+                for (int c = 0; c < properties.length; c++) {
+                    if (c > 0) {
+                        out.append(delimiter);
+                    }
+                    properties[c].appendCell(out, row, delimiter);
+                }
+            }
+        }
+    }
+
+    // ==================== Examples ====================
+
+    /**
+     * Example 1: A nested project encoded from its getters
+     */
+    private static void example1_NestedProject() {
+        printSectionHeader("Example 1: Nested Project from Getters");
+
+        Project project = createProject(2);
+        String toon = PojoEncoder.encode(project);
+        System.out.println(toon);
+        System.out.println();
+        System.out.println("Same text as Toon.encode: " + toon.equals(Toon.encode(project)));
+        System.out.println();
+    }
+
+    /**
+     * Example 2: List<Employee> written as table rows
+     */
+    private static void example2_EmployeeTable() {
+        printSectionHeader("Example 2: List<Employee> as Table Rows");
+
+        List<Employee> employees = employees(3);
+        System.out.println(PojoEncoder.encode(Map.of("employees", employees)));
+        System.out.println();
+        System.out.println("Pipe delimiter, root array:");
+        System.out.println(PojoEncoder.encode(employees, Delimiter.PIPE));
+        System.out.println();
+
+        employees.get(1).setAddress(new Address("1 Market St", "San Francisco", "94105", "USA"));
+        System.out.println("One address set (rows become list items):");
+        System.out.println(PojoEncoder.encode(employees));
+        System.out.println();
+    }
+
+    /**
+     * Example 3: Allocation against the output size
+     */
+    private static void example3_Allocation() {
+        printSectionHeader("Example 3: Allocation vs. Output Size");
+
+        Project project = createProject(50_000);
+        String expected = PojoEncoder.encode(project);
+        StringBuilder reused = new StringBuilder(expected.length());
+
+        Measurement generic = measure(() -> Toon.encode(project));
+        Measurement mapsFirst = measure(() -> Toon.encode(toMaps(project)));
+        Measurement direct = measure(() -> PojoEncoder.encode(project));
+        Measurement intoBuilder = measure(() -> {
+            reused.setLength(0);
+            return PojoEncoder.encodeTo(project, reused, Delimiter.COMMA);
+        });
+
+        System.out.printf("Project with %,d contributors: %,d characters of TOON%n%n",
+                project.getContributors().size(), expected.length());
+        System.out.printf("%-28s %10s %16s %10s%n", "", "encode", "allocated", "per char");
+        print("Toon.encode", generic, expected.length());
+        print("Toon.encode(maps first)", mapsFirst, expected.length());
+        print("PojoEncoder.encode", direct, expected.length());
+        print("PojoEncoder.encodeTo(reused)", intoBuilder, expected.length());
+        System.out.println();
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println("Same text as Toon.encode: " + expected.equals(Toon.encode(project)));
+        System.out.println("encode allocates about the returned String (one byte per ASCII char);");
+        System.out.println("typed getters and the schema cache add nothing per row.");
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println();
+    }
+
+    // Helper methods
+
+    private static Project createProject(int contributors) {
+        Project project = new Project();
+        project.setId("PROJ-001");
+        project.setName("TOON4J");
+        project.setDescription("High-performance TOON encoder/decoder for Java");
+        project.setTags(List.of("java", "serialization", "llm", "opensource"));
+
+        Employee owner = new Employee();
+        owner.setId(1);
+        owner.setName("Arun");
+        owner.setDepartment("Engineering");
+        owner.setAddress(new Address("123 Tech St", "Silicon Valley", "94025", "USA"));
+        project.setOwner(owner);
+        project.setContributors(employees(contributors));
+
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("version", "1.0.0");
+        metadata.put("license", "MIT");
+        metadata.put("stars", 150);
+        metadata.put("forks", 23);
+        project.setMetadata(metadata);
+        return project;
+    }
+
+    private static List<Employee> employees(int count) {
+        String[] departments = {"Engineering", "QA", "Design", "Sales, EMEA"};
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Employee employee = new Employee();
+            employee.setId(1000 + i);
+            employee.setName("Employee " + (i + 1));
+            employee.setDepartment(departments[i % departments.length]);
+            employees.add(employee);
+        }
+        return employees;
+    }
+
+    /** The map-first route: every bean and record copied into a LinkedHashMap before encoding. */
+    private static Object toMaps(Object value) {
+        if (ToonStrings.isPrimitive(value)) {
+            return value;
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> copy = new LinkedHashMap<>();
+            map.forEach((k, v) -> copy.put(String.valueOf(k), toMaps(v)));
+            return copy;
+        }
+        if (value instanceof Collection<?> collection) {
+            List<Object> copy = new ArrayList<>(collection.size());
+            for (Object element : collection) {
+                copy.add(toMaps(element));
+            }
+            return copy;
+        }
+        TableSchema schema = TableSchema.of(value.getClass());
+        Map<String, Object> copy = new LinkedHashMap<>();
+        for (TabularSchemaExample.Column column : schema.columns()) {
+            copy.put(column.name(), toMaps(column.read(value)));
+        }
+        return copy;
+    }
+
+    private record Measurement(long nanos, long allocated) {}
+
+    /** Best-of-five time and the bytes allocated by the fastest run. */
+    private static Measurement measure(Supplier<Object> task) {
+        long best = Long.MAX_VALUE;
+        long allocated = 0;
+        for (int run = 0; run < 5; run++) {
+            long before = AllocationCounter.current();
+            long start = System.nanoTime();
+            task.get();
+            long time = System.nanoTime() - start;
+            if (time < best) {
+                best = time;
+                allocated = AllocationCounter.since(before);
+            }
+        }
+        return new Measurement(best, allocated);
+    }
+
+    private static void print(String label, Measurement m, int chars) {
+        String perChar = m.allocated < 0 ? "n/a" : String.format("%.1f", (double) m.allocated / chars);
+        System.out.printf("%-28s %8.1fms %14s B %8s B%n", label, m.nanos / 1e6, AllocationCounter.format(m.allocated), perChar);
+    }
+
+    private static void printSectionHeader(String title) {
+        System.out.println("═".repeat(65));
+        System.out.println(title);
+        System.out.println("═".repeat(65));
+    }
+}
@@ -0,0 +1,693 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.Delimiter;
+import im.arun.toon4j.example.TypeRefExample.TypeRef;
+import im.arun.toon4j.example.TypeRefExample.TypedDecoder;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.stream.Stream;
+
+/**
+ * Examples of random access into large TOON files through a sidecar index.
+ * Shows an index of top-level keys and every K-th tabular row built in one pass,
+ * row and key lookups that read only the region they need, and stale-index detection.
+ */
+public class RandomAccessExample {
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("╔════════════════════════════════════════════════════════════════╗");
+        System.out.println("║          TOON4J Random Access Examples                        ║");
+        System.out.println("║  Sidecar Indexes for Rows and Top-Level Keys                  ║");
+        System.out.println("╚════════════════════════════════════════════════════════════════╝\n");
+
+        Path dir = Files.createTempDirectory("toon-index");
+        try {
+            Path file = dir.resolve("export.toon");
+            writeExport(file, 2_000_000);
+            example1_BuildIndex(file);
+            example2_RowLookup(file);
+            example3_KeyLookup(file);
+            example4_StaleIndex(file);
+        } finally {
+            try (Stream<Path> files = Files.list(dir)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dir);
+        }
+    }
+
+    // ==================== Indexed File ====================
+
+    /**
+     * A TOON file opened through its sidecar index ({@code <file>.idx}).
+     *
+     * <p>The index holds, for every top-level key, the byte range of its lines and, for
+     * top-level tabular arrays, the header and the offset of every {@code stride}-th row.
+     * Offsets are stored as varint deltas, so a checkpoint costs two or three bytes. A row
+     * lookup reads from the nearest checkpoint and skips at most {@code stride - 1} lines;
+     * a key lookup reads and decodes only that key's lines.
+     */
+    public static final class ToonIndexedFile implements Closeable {
+        private static final int MAGIC = 0x544F4958; // "TOIX"
+        private static final int VERSION = 2;
+
+        private final FileChannel channel;
+        private final int stride;
+        private final Map<String, Entry> entries;
+
+        private ToonIndexedFile(FileChannel channel, int stride, Map<String, Entry> entries) {
+            this.channel = channel;
+            this.stride = stride;
+            this.entries = entries;
+        }
+
+        /** Where the index for {@code file} is kept. */
+        public static Path sidecar(Path file) {
+            return file.resolveSibling(file.getFileName() + ".idx");
+        }
+
+        /**
+         * Scans {@code file} once and writes its sidecar index, recording every
+         * {@code stride}-th row of each top-level table. Returns the number of keys indexed.
+         */
+        public static int buildIndex(Path file, int stride) throws IOException {
+            if (stride < 1) {
+                throw new IllegalArgumentException("stride must be at least 1");
+            }
+            Map<String, Entry> entries = new LinkedHashMap<>();
+            long size;
+            long modified;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                size = channel.size();
+                modified = Files.getLastModifiedTime(file).toMillis();
+                new Scan(channel, stride, entries).run();
+            }
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(sidecar(file)), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(size);
+                out.writeLong(modified);
+                out.writeInt(stride);
+                out.writeInt(entries.size());
+                for (Entry entry : entries.values()) {
+                    writeString(out, entry.key);
+                    writeVarLong(out, entry.start);
+                    writeVarLong(out, entry.end - entry.start);
+                    out.writeBoolean(entry.header != null);
+                    if (entry.header != null) {
+                        writeString(out, entry.header);
+                        writeVarLong(out, entry.rows);
+                        writeVarLong(out, entry.checkpointCount);
+                        long previous = entry.start;
+                        for (int i = 0; i < entry.checkpointCount; i++) {
+                            writeVarLong(out, entry.checkpoints[i] - previous);
+                            previous = entry.checkpoints[i];
+                        }
+                    }
+                }
+            }
+            return entries.size();
+        }
+
+        /**
+         * Opens {@code file} with its sidecar index. Throws {@link IllegalStateException}
+         * when the index is missing or was built for a different version of the file.
+         */
+        public static ToonIndexedFile open(Path file) throws IOException {
+            Path sidecar = sidecar(file);
+            if (!Files.exists(sidecar)) {
+                throw new IllegalStateException("No index for " + file.getFileName() + "; call buildIndex first");
+            }
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                    Files.newInputStream(sidecar), 1 << 16))) {
+                if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                    throw new IllegalArgumentException("Not a TOON index: " + sidecar.getFileName());
+                }
+                long size = in.readLong();
+                long modified = in.readLong();
+                if (size != Files.size(file) || modified != Files.getLastModifiedTime(file).toMillis()) {
+                    throw new IllegalStateException("Index for " + file.getFileName()
+                            + " is out of date (indexed " + size + " bytes, file has " + Files.size(file) + ")");
+                }
+                int stride = in.readInt();
+                int count = in.readInt();
+                Map<String, Entry> entries = new LinkedHashMap<>(count * 2);
+                for (int i = 0; i < count; i++) {
+                    Entry entry = new Entry(readString(in), readVarLong(in));
+                    entry.end = entry.start + readVarLong(in);
+                    if (in.readBoolean()) {
+                        entry.table(readString(in));
+                        entry.rows = readVarLong(in);
+                        int checkpoints = Math.toIntExact(readVarLong(in));
+                        entry.checkpoints = new long[checkpoints];
+                        long previous = entry.start;
+                        for (int c = 0; c < checkpoints; c++) {
+                            previous += readVarLong(in);
+                            entry.checkpoints[c] = previous;
+                        }
+                        entry.checkpointCount = checkpoints;
+                    }
+                    entries.put(entry.key, entry);
+                }
+                return new ToonIndexedFile(FileChannel.open(file, StandardOpenOption.READ), stride, entries);
+            } catch (EOFException e) {
+                throw new IllegalArgumentException("Truncated index: " + sidecar.getFileName());
+            }
+        }
+
+        /** Top-level keys in file order; a root table is listed under {@code ""}. */
+        public Set<String> keys() {
+            return Collections.unmodifiableSet(entries.keySet());
+        }
+
+        /** Number of rows of the top-level table {@code key}. */
+        public long rowCount(String key) {
+            return table(key).rows;
+        }
+
+        /** Row {@code index} of the top-level table {@code key}, as field name to value. */
+        public Map<String, Object> row(String key, long index) {
+            return rows(key, index, 1).get(0);
+        }
+
+        /**
+         * Up to {@code count} rows of table {@code key}, starting at row {@code from}; none
+         * when {@code count} is zero.
+         *
+         * @throws IllegalArgumentException if {@code count} is negative
+         */
+        public List<Map<String, Object>> rows(String key, long from, int count) {
+            Entry table = table(key);
+            Objects.checkIndex(from, table.rows);
+            if (count < 0) {
+                throw new IllegalArgumentException("count must not be negative: " + count);
+            }
+            if (count == 0) {
+                return new ArrayList<>();
+            }
+            int wanted = (int) Math.min(count, table.rows - from);
+            long checkpoint = table.checkpoints[(int) (from / stride)];
+            List<String> lines = readLines(checkpoint, table.end, (int) (from % stride), wanted);
+
+            List<Map<String, Object>> rows = new ArrayList<>(lines.size());
+            List<Object> values = new ArrayList<>(table.fields.length);
+            for (int i = 0; i < lines.size(); i++) {
+                String line = lines.get(i);
+                values.clear();
+                try {
+                    RowParser.parse(line, indentOf(line), table.delimiter, values);
+                } catch (RowParser.FieldError e) {
+                    throw new IllegalArgumentException("Row " + (from + i) + " of " + key + ": " + e.getMessage()
+                            + " at column " + e.column());
+                }
+                Map<String, Object> row = new LinkedHashMap<>(table.fields.length * 2);
+                for (int f = 0; f < table.fields.length && f < values.size(); f++) {
+                    row.put(table.fields[f], values.get(f));
+                }
+                rows.add(row);
+            }
+            return rows;
+        }
+
+        /** The decoded value of top-level {@code key}, or {@code null} when it is absent. */
+        public Object get(String key) {
+            if (!entries.containsKey(key)) {
+                return null;
+            }
+            if (key.isEmpty()) {
+                return TypedDecoder.decode(text(key), Object.class);
+            }
+            Map<String, Object> decoded = TypedDecoder.decode(text(key), new TypeRef<Map<String, Object>>() {});
+            return decoded.get(key);
+        }
+
+        /** The TOON lines of top-level {@code key}, exactly as they appear in the file. */
+        public String text(String key) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                throw new NoSuchElementException("No top-level key " + key);
+            }
+            long length = entry.end - entry.start;
+            if (length > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Key " + key + " spans more than 2 GB; read it by rows");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) length);
+            read(buffer, entry.start);
+            return new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+
+        private Entry table(String key) {
+            Entry entry = entries.get(key);
+            if (entry == null || entry.header == null) {
+                throw new NoSuchElementException("No top-level table " + key);
+            }
+            return entry;
+        }
+
+        /** Skips {@code skip} non-blank lines from {@code position}, then returns up to {@code count}. */
+        private List<String> readLines(long position, long end, int skip, int count) {
+            List<String> lines = new ArrayList<>(count);
+            byte[] bytes = new byte[count == 1 && skip < 64 ? 8 * 1024 : 64 * 1024];
+            int start = 0;
+            int limit = 0;
+            long base = position;
+            while (lines.size() < count) {
+                StructuralScanner scanner = new StructuralScanner(bytes, limit, Delimiter.COMMA);
+                int newline = scanner.nextNewline(start);
+                if (newline == limit && base + limit < end) {
+                    // Incomplete line: keep it, then read more
+                    System.arraycopy(bytes, start, bytes, 0, limit - start);
+                    limit -= start;
+                    base += start;
+                    start = 0;
+                    if (limit == bytes.length) {
+                        bytes = Arrays.copyOf(bytes, bytes.length * 2);
+                    }
+                    ByteBuffer buffer = ByteBuffer.wrap(bytes, limit, (int) Math.min(bytes.length - limit, end - base - limit));
+                    read(buffer, base);
+                    limit = buffer.position();
+                    continue;
+                }
+                int lineEnd = contentEnd(bytes, start, newline);
+                if (lineEnd > start) {
+                    if (skip > 0) {
+                        skip--;
+                    } else {
+                        lines.add(new String(bytes, start, lineEnd - start, StandardCharsets.UTF_8));
+                    }
+                }
+                if (newline >= limit) {
+                    break;
+                }
+                start = newline + 1;
+            }
+            return lines;
+        }
+
+        /** Fills {@code buffer} up to its limit or the end of the file; {@code base} is the offset of index 0. */
+        private void read(ByteBuffer buffer, long base) {
+            try {
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, base + buffer.position()) < 0) {
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * End of the line {@code [from, to)} without a trailing carriage return, so a CRLF file
+         * indexes like an LF file and {@code \r\n} alone is a blank line.
+         */
+        private static int contentEnd(byte[] bytes, int from, int to) {
+            return to > from && bytes[to - 1] == '\r' ? to - 1 : to;
+        }
+
+        private static int indentOf(String line) {
+            int i = 0;
+            while (i < line.length() && line.charAt(i) == ' ') {
+                i++;
+            }
+            return i;
+        }
+
+        private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+            while ((value & ~0x7FL) != 0) {
+                out.writeByte((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.writeByte((int) value);
+        }
+
+        /** Keys and headers are stored as a length and their UTF-8 bytes, so neither has a size cap. */
+        private static void writeString(DataOutputStream out, String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        private static String readString(DataInputStream in) throws IOException {
+            int length = in.readInt();
+            if (length < 0) {
+                throw new IllegalArgumentException("Malformed string in index");
+            }
+            byte[] bytes = in.readNBytes(length);
+            if (bytes.length < length) {
+                throw new EOFException();
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private static long readVarLong(DataInputStream in) throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = in.readUnsignedByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in index");
+        }
+
+        /** One top-level key: its byte range and, for a table, its header and row checkpoints. */
+        private static final class Entry {
+            final String key;
+            final long start;
+            long end;
+            String header;
+            String[] fields;
+            char delimiter;
+            long declared;
+            long rows;
+            long[] checkpoints;
+            int checkpointCount;
+
+            Entry(String key, long start) {
+                this.key = key;
+                this.start = start;
+            }
+
+            void table(String header) {
+                Matcher matcher = RowParser.tableHeader(header);
+                if (matcher == null) {
+                    throw new IllegalArgumentException("Invalid table header in index: " + header);
+                }
+                this.header = header;
+                this.delimiter = RowParser.delimiter(matcher);
+                this.declared = Long.parseLong(matcher.group("length"));
+                List<Object> names = new ArrayList<>();
+                try {
+                    RowParser.parse(matcher.group("fields"), 0, delimiter, names);
+                } catch (RowParser.FieldError e) {
+                    throw new IllegalArgumentException("Bad field list in " + header + ": " + e.getMessage());
+                }
+                this.fields = names.stream().map(String::valueOf).toArray(String[]::new);
+                this.checkpoints = new long[16];
+            }
+
+            void row(long offset, int stride) {
+                if (rows % stride == 0) {
+                    if (checkpointCount == checkpoints.length) {
+                        checkpoints = Arrays.copyOf(checkpoints, checkpointCount * 2);
+                    }
+                    checkpoints[checkpointCount++] = offset;
+                }
+                rows++;
+            }
+
+            /** Ends the entry at {@code offset}; a table must have as many rows as its header declares. */
+            void close(long offset) {
+                end = offset;
+                if (header != null && rows != declared) {
+                    throw new IllegalArgumentException("Table '" + key + "' declares " + declared
+                            + " rows but has " + rows);
+                }
+            }
+        }
+
+        /**
+         * The single indexing pass: newlines are found with {@link StructuralScanner}, and
+         * only lines at column zero are decoded to text. Indented lines under a table header
+         * are counted as rows by offset alone.
+         */
+        private static final class Scan {
+            private final FileChannel channel;
+            private final int stride;
+            private final Map<String, Entry> entries;
+            private Entry current;
+
+            Scan(FileChannel channel, int stride, Map<String, Entry> entries) {
+                this.channel = channel;
+                this.stride = stride;
+                this.entries = entries;
+            }
+
+            void run() throws IOException {
+                byte[] bytes = new byte[1 << 20];
+                int start = 0;
+                int limit = 0;
+                long base = 0;
+                boolean eof = false;
+                while (true) {
+                    StructuralScanner scanner = new StructuralScanner(bytes, limit, Delimiter.COMMA);
+                    int newline = scanner.nextNewline(start);
+                    if (newline == limit && !eof) {
+                        System.arraycopy(bytes, start, bytes, 0, limit - start);
+                        limit -= start;
+                        base += start;
+                        start = 0;
+                        if (limit == bytes.length) {
+                            bytes = Arrays.copyOf(bytes, bytes.length * 2);
+                        }
+                        ByteBuffer buffer = ByteBuffer.wrap(bytes, limit, bytes.length - limit);
+                        while (buffer.hasRemaining()) {
+                            if (channel.read(buffer, base + buffer.position()) < 0) {
+                                eof = true;
+                                break;
+                            }
+                        }
+                        limit = buffer.position();
+                        continue;
+                    }
+                    int lineEnd = contentEnd(bytes, start, newline);
+                    if (lineEnd > start) {
+                        line(bytes, start, lineEnd, base + start);
+                    }
+                    if (newline >= limit) {
+                        break;
+                    }
+                    start = newline + 1;
+                }
+                if (current != null) {
+                    current.close(base + limit);
+                }
+            }
+
+            private void line(byte[] bytes, int from, int to, long offset) {
+                byte first = bytes[from];
+                if (first == ' ' || first == '\t') {
+                    if (current != null && current.header != null) {
+                        current.row(offset, stride);
+                    }
+                    return;
+                }
+                if (current != null) {
+                    current.close(offset);
+                }
+                String line = new String(bytes, from, to - from, StandardCharsets.UTF_8);
+                Matcher header = RowParser.tableHeader(line);
+                boolean table = header != null;
+                current = new Entry(keyOf(line, table ? header.group("key") : null), offset);
+                if (table) {
+                    current.table(line.strip());
+                }
+                entries.put(current.key, current);
+            }
+
+            /** The key of a top-level line; {@code tableKey} is the key part of a table header, if any. */
+            private static String keyOf(String line, String tableKey) {
+                String raw;
+                if (tableKey != null) {
+                    raw = tableKey;
+                } else if (line.startsWith("\"")) {
+                    int close = 1;
+                    while (close < line.length() && line.charAt(close) != '"') {
+                        close += line.charAt(close) == '\\' ? 2 : 1;
+                    }
+                    raw = line.substring(0, Math.min(close + 1, line.length()));
+                } else {
+                    int end = line.length();
+                    int colon = line.indexOf(':');
+                    int bracket = line.indexOf('[');
+                    if (colon >= 0) {
+                        end = colon;
+                    }
+                    if (bracket >= 0 && bracket < end) {
+                        end = bracket;
+                    }
+                    raw = line.substring(0, end);
+                }
+                return RowParser.unquote(raw.strip());
+            }
+        }
+    }
+
+    /**
+     * Example 1: Building the sidecar index
+     */
+    private static void example1_BuildIndex(Path file) throws IOException {
+        printSectionHeader("Example 1: Building the Index");
+
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            System.out.println("File head:");
+            for (int i = 0; i < 6; i++) {
+                System.out.println("  " + reader.readLine());
+            }
+            System.out.println("  ...");
+        }
+        System.out.println();
+
+        long start = System.nanoTime();
+        int keys = ToonIndexedFile.buildIndex(file, 1_024);
+        long nanos = System.nanoTime() - start;
+
+        System.out.println("═══════════════════════════════════════════");
+        System.out.printf("File size:     %,d bytes%n", Files.size(file));
+        System.out.printf("Index size:    %,d bytes (every 1,024th row)%n", Files.size(ToonIndexedFile.sidecar(file)));
+        System.out.printf("Keys indexed:  %d%n", keys);
+        System.out.printf("Build time:    %.0f ms%n", nanos / 1_000_000.0);
+        System.out.println("═══════════════════════════════════════════");
+        System.out.println();
+    }
+
+    /**
+     * Example 2: Reading single rows far into a table
+     */
+    private static void example2_RowLookup(Path file) throws IOException {
+        printSectionHeader("Example 2: Row Lookup");
+
+        try (ToonIndexedFile indexed = ToonIndexedFile.open(file)) {
+            System.out.printf("Keys: %s, orders: %,d rows%n%n", indexed.keys(), indexed.rowCount("orders"));
+
+            // Warm up
+            for (int i = 0; i < 1_000; i++) {
+                indexed.row("orders", i * 1_999L);
+            }
+            for (long index : new long[]{0, 1_000_000, 1_999_999}) {
+                long start = System.nanoTime();
+                Map<String, Object> row = indexed.row("orders", index);
+                long nanos = System.nanoTime() - start;
+                System.out.printf("Row %,9d: %-60s %6.1f µs%n", index, row, nanos / 1_000.0);
+            }
+            System.out.println();
+
+            long start = System.nanoTime();
+            String scanned = scanToRow(file, "orders", 1_999_999);
+            long scanNanos = System.nanoTime() - start;
+            System.out.println("═══════════════════════════════════════════");
+            System.out.printf("Scanning to the last row: %6.1f ms%n", scanNanos / 1_000_000.0);
+            System.out.printf("Same row:                 %s%n",
+                    parseRow(scanned).equals(new ArrayList<>(indexed.row("orders", 1_999_999).values())));
+            System.out.println("═══════════════════════════════════════════");
+        }
+        System.out.println();
+    }
+
+    /**
+     * Example 3: Reading one key near the end of the file
+     */
+    private static void example3_KeyLookup(Path file) throws IOException {
+        printSectionHeader("Example 3: Key Lookup");
+
+        try (ToonIndexedFile indexed = ToonIndexedFile.open(file)) {
+            long start = System.nanoTime();
+            Object summary = indexed.get("summary");
+            long nanos = System.nanoTime() - start;
+            System.out.println("summary: " + summary);
+            System.out.println("settings: " + indexed.get("settings"));
+            System.out.println("missing: " + indexed.get("missing"));
+            System.out.println();
+            System.out.printf("Read %,d of %,d bytes in %.2f ms%n",
+                    indexed.text("summary").getBytes(StandardCharsets.UTF_8).length, Files.size(file), nanos / 1_000_000.0);
+        }
+        System.out.println();
+    }
+
+    /**
+     * Example 4: An index that no longer matches its file
+     */
+    private static void example4_StaleIndex(Path file) throws IOException {
+        printSectionHeader("Example 4: Stale Index");
+
+        Files.writeString(file, "appended: true\n", StandardOpenOption.APPEND);
+        try (ToonIndexedFile indexed = ToonIndexedFile.open(file)) {
+            System.out.println("Opened: " + indexed.keys());
+        } catch (IllegalStateException e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+
+        ToonIndexedFile.buildIndex(file, 1_024);
+        try (ToonIndexedFile indexed = ToonIndexedFile.open(file)) {
+            System.out.println("Rebuilt: " + indexed.keys() + ", appended = " + indexed.get("appended"));
+        }
+        System.out.println();
+    }
+
+    // Helper methods
+
+    /** The same lookup without an index: read lines from the start until the row is reached. */
+    private static String scanToRow(Path file, String table, long index) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String line;
+            long row = -1;
+            while ((line = reader.readLine()) != null) {
+                if (row >= 0 && line.startsWith(" ")) {
+                    if (row++ == index) {
+                        return line;
+                    }
+                } else {
+                    row = line.startsWith(table + "[") ? 0 : -1;
+                }
+            }
+        }
+        throw new NoSuchElementException("Row " + index + " not found");
+    }
+
+    private static List<Object> parseRow(String line) {
+        try {
+            return RowParser.parse(line, 2, ',', new ArrayList<>());
+        } catch (RowParser.FieldError e) {
+            throw new IllegalArgumentException(e.getMessage());
+        }
+    }
+
+    private static void writeExport(Path file, int rows) throws IOException {
+        String[] customers = {"Alice", "Bob", "Charlie", "Dana", "\"Eve, Jr.\""};
+        String[] statuses = {"shipped", "pending", "delivered", "returned"};
+        try (BufferedWriter out = Files.newBufferedWriter(file)) {
+            out.write("exported: \"2025-01-04T10:30:00Z\"\nsource: warehouse-eu\n");
+            out.write("orders[" + rows + "]{id,customer,amount,status}:\n");
+            for (int i = 0; i < rows; i++) {
+                out.write("  " + (i + 1) + "," + customers[i % customers.length] + "," + (10 + i % 990) + "."
+                        + (i % 100 < 10 ? "0" : "") + (i % 100) + "," + statuses[i % statuses.length] + "\n");
+            }
+            out.write("settings:\n  retries: 3\n  region: eu-west-1\n");
+            out.write("summary:\n  total: " + rows + "\n  checksum: 9f2c41\n");
+        }
+    }
+
+    private static void printSectionHeader(String title) {
+        System.out.println("═".repeat(65));
+        System.out.println(title);
+        System.out.println("═".repeat(65));
+    }
+}
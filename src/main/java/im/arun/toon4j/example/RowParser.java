@@ -0,0 +1,382 @@
+package im.arun.toon4j.example;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parses the values of one tabular row: delimiter-separated primitives, with quoted
+ * strings using the TOON escapes ({@code \\ \" \n \r \t}). Also holds the array
+ * header pattern and the quoted-token decoding shared by the examples that read TOON
+ * line by line.
+ *
+ * <p>Errors are reported through {@link FieldError} with a 1-based column so callers
+ * can decide whether to fail, drop the row or null out the field.
+ */
+final class RowParser {
+
+    /**
+     * An array header line such as {@code users[#2|]{id|name}:} or {@code tags[3]: a,b,c}.
+     * Named groups: {@code key} (as written, empty for a root array), {@code marker}
+     * ({@code #} or empty), {@code length}, {@code delimiter} (empty for a comma),
+     * {@code fields} (the field list without braces, absent when the array is not
+     * tabular) and {@code value} (whatever follows the colon).
+     */
+    static final Pattern ARRAY_HEADER = Pattern.compile(
+            "^(?<key>\"(?:[^\"\\\\]|\\\\.)*\"|[^\\[\"]*)\\[(?<marker>#?)(?<length>\\d+)(?<delimiter>[|\\t]?)]"
+                    + "(?:\\{(?<fields>.*)})?:(?<value>.*)$");
+
+    private RowParser() {}
+
+    /**
+     * A matcher positioned on {@code line} when it is a tabular header ({@code key[N]{fields}:}
+     * with nothing after the colon), otherwise {@code null}.
+     */
+    static Matcher tableHeader(CharSequence line) {
+        Matcher header = ARRAY_HEADER.matcher(line);
+        return header.matches() && header.group("fields") != null && header.group("value").isBlank()
+                ? header : null;
+    }
+
+    /**
+     * The length a header declares in its {@code length} group.
+     *
+     * @throws IllegalArgumentException if it does not fit in an {@code int}
+     */
+    static int length(Matcher header) {
+        String length = header.group("length");
+        try {
+            return Integer.parseInt(length);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Array length out of range: " + length, e);
+        }
+    }
+
+    /** The delimiter a header declares: its {@code delimiter} group, or a comma. */
+    static char delimiter(Matcher header) {
+        String delimiter = header.group("delimiter");
+        return delimiter.isEmpty() ? ',' : delimiter.charAt(0);
+    }
+
+    /**
+     * A quoted token without its quotes and escapes; a token that does not start with a
+     * quote is returned as it is.
+     *
+     * @throws IllegalArgumentException if the quoted token is unterminated, has an invalid
+     *         escape or is followed by anything
+     */
+    static String unquote(String token) {
+        if (token.isEmpty() || token.charAt(0) != '"') {
+            return token;
+        }
+        try {
+            int close = plainEnd(token, 1);
+            if (close < token.length() && token.charAt(close) == '"') {
+                afterQuote(token, close, '\0');
+                return token.substring(1, close);
+            }
+            StringBuilder text = new StringBuilder(token.length()).append(token, 1, close);
+            readQuoted(token, 0, close, '\0', text);
+            return text.toString();
+        } catch (FieldError e) {
+            throw new IllegalArgumentException(e.getMessage() + " in " + token, e);
+        }
+    }
+
+    /** A malformed value: where it starts, where parsing can resume, and why. */
+    static final class FieldError extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        private final int column;
+        private final int resume;
+
+        FieldError(int column, int resume, String reason) {
+            super(reason, null, false, false);
+            this.column = column;
+            this.resume = resume;
+        }
+
+        /** 1-based column of the problem. */
+        int column() { return column; }
+
+        /** Index of the next delimiter (or end of line) after the bad value. */
+        int resume() { return resume; }
+    }
+
+    /**
+     * Receives each value of a row; {@code error} is non-null when the value was malformed
+     * and {@code value} is then {@code null}.
+     */
+    interface FieldSink {
+        void field(int index, Object value, FieldError error);
+    }
+
+    /**
+     * Parses {@code line} from {@code start} and returns the number of fields seen.
+     * Parsing continues past malformed values, resuming at the next delimiter.
+     */
+    static int parse(String line, int start, char delimiter, FieldSink sink) {
+        return parse(line, start, delimiter, sink, null);
+    }
+
+    /**
+     * Like {@link #parse(String, int, char, FieldSink)}, but strings without escapes are
+     * passed as a {@link Span} over {@code line} instead of a new {@code String}. The same
+     * span is reused for every field, so it is only valid until the sink returns; call
+     * {@code toString()} on it to keep the value. Escaped strings still arrive as strings.
+     */
+    static int parseViews(String line, int start, char delimiter, FieldSink sink) {
+        return parse(line, start, delimiter, sink, new Span(line));
+    }
+
+    private static int parse(String line, int start, char delimiter, FieldSink sink, Span view) {
+        int index = 0;
+        int i = start;
+        int length = line.length();
+        while (true) {
+            try {
+                int end;
+                Object value;
+                if (i < length && line.charAt(i) == '"') {
+                    int close = plainEnd(line, i + 1);
+                    if (close < length && line.charAt(close) == '"') {
+                        // No escapes: one bulk copy, or none for a view
+                        end = afterQuote(line, close, delimiter);
+                        value = view != null ? view.set(i + 1, close) : line.substring(i + 1, close);
+                    } else {
+                        StringBuilder text = new StringBuilder(close - i + 16).append(line, i + 1, close);
+                        end = readQuoted(line, i, close, delimiter, text);
+                        value = text.toString();
+                    }
+                } else {
+                    end = indexOf(line, delimiter, i);
+                    value = unquoted(line, i, end, view);
+                }
+                sink.field(index, value, null);
+                i = end;
+            } catch (FieldError error) {
+                sink.field(index, null, error);
+                i = error.resume();
+            }
+            index++;
+            if (i >= length) {
+                return index;
+            }
+            i++; // skip the delimiter
+        }
+    }
+
+    /** Convenience for callers that want all values or the first error. */
+    static List<Object> parse(String line, int start, char delimiter, List<Object> out) throws FieldError {
+        FieldError[] first = new FieldError[1];
+        parse(line, start, delimiter, (index, value, error) -> {
+            if (error != null && first[0] == null) {
+                first[0] = error;
+            }
+            out.add(value);
+        });
+        if (first[0] != null) {
+            throw first[0];
+        }
+        return out;
+    }
+
+    /**
+     * Splits a row into its raw, stripped tokens, leaving quoted values exactly as written.
+     * Delimiters inside quotes do not split.
+     */
+    static List<String> tokens(String line, int start, char delimiter, List<String> out) {
+        int tokenStart = start;
+        boolean inQuotes = false;
+        int length = line.length();
+        for (int i = start; i < length; i++) {
+            char c = line.charAt(i);
+            if (inQuotes) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == '"') {
+                    inQuotes = false;
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == delimiter) {
+                out.add(line.substring(tokenStart, i).strip());
+                tokenStart = i + 1;
+            }
+        }
+        out.add(line.substring(tokenStart).strip());
+        return out;
+    }
+
+    /** Index of the first quote or backslash at or after {@code from}, or the line length. */
+    private static int plainEnd(String line, int from) {
+        int length = line.length();
+        int i = from;
+        while (i < length) {
+            char c = line.charAt(i);
+            if (c == '"' || c == '\\') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Decodes the rest of a quoted value whose first escape is at {@code from}, copying the
+     * runs between escapes in bulk.
+     */
+    private static int readQuoted(String line, int quote, int from, char delimiter, StringBuilder out)
+            throws FieldError {
+        int length = line.length();
+        int i = from;
+        int run = from;
+        while (i < length) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                out.append(line, run, i);
+                return afterQuote(line, i, delimiter);
+            }
+            if (c == '\\') {
+                out.append(line, run, i);
+                if (i + 1 >= length) {
+                    throw new FieldError(i + 1, length, "Unterminated escape sequence");
+                }
+                char next = line.charAt(i + 1);
+                switch (next) {
+                    case '"', '\\' -> out.append(next);
+                    case 'n' -> out.append('\n');
+                    case 'r' -> out.append('\r');
+                    case 't' -> out.append('\t');
+                    default -> throw new FieldError(i + 1, indexOf(line, delimiter, i + 2),
+                            "Invalid escape sequence \\" + next);
+                }
+                i += 2;
+                run = i;
+            } else {
+                i++;
+            }
+        }
+        throw new FieldError(quote + 1, length, "Unterminated quoted string");
+    }
+
+    private static int afterQuote(String line, int close, char delimiter) throws FieldError {
+        int end = close + 1;
+        if (end < line.length() && line.charAt(end) != delimiter) {
+            throw new FieldError(end + 1, indexOf(line, delimiter, end),
+                    "Unexpected character after closing quote");
+        }
+        return end;
+    }
+
+    /**
+     * An unquoted value between {@code from} and {@code to}. Only tokens that may be numbers
+     * go through {@link #primitive(String)}; the rest are literals or text, taken straight
+     * from the line.
+     */
+    private static Object unquoted(String line, int from, int to, Span view) {
+        while (from < to && Character.isWhitespace(line.charAt(from))) {
+            from++;
+        }
+        while (to > from && Character.isWhitespace(line.charAt(to - 1))) {
+            to--;
+        }
+        int length = to - from;
+        if (length > 0) {
+            char first = line.charAt(from);
+            if (first == '-' || (first >= '0' && first <= '9')) {
+                return primitive(line.substring(from, to));
+            }
+            if (length == 4 && line.startsWith("true", from)) {
+                return Boolean.TRUE;
+            }
+            if (length == 5 && line.startsWith("false", from)) {
+                return Boolean.FALSE;
+            }
+            if (length == 4 && line.startsWith("null", from)) {
+                return null;
+            }
+        }
+        return view != null ? view.set(from, to) : line.substring(from, to);
+    }
+
+    /** Unquoted token to a value: literals, numbers (without leading zeros), else the text. */
+    static Object primitive(String token) {
+        switch (token) {
+            case "true":
+                return Boolean.TRUE;
+            case "false":
+                return Boolean.FALSE;
+            case "null":
+                return null;
+            default:
+                break;
+        }
+        if (token.isEmpty() || !ToonStrings.looksNumeric(token) || hasLeadingZero(token)) {
+            return token;
+        }
+        boolean integral = token.indexOf('.') < 0 && token.indexOf('e') < 0 && token.indexOf('E') < 0;
+        if (integral) {
+            try {
+                long value = Long.parseLong(token);
+                return value == (int) value ? (Object) (int) value : (Object) value;
+            } catch (NumberFormatException tooLarge) {
+                // fall through to double
+            }
+        }
+        return Double.parseDouble(token);
+    }
+
+    static boolean hasLeadingZero(String token) {
+        int i = token.charAt(0) == '-' ? 1 : 0;
+        return token.length() > i + 1 && token.charAt(i) == '0' && Character.isDigit(token.charAt(i + 1));
+    }
+
+    /**
+     * A reusable window onto part of a row, handed out by {@link #parseViews}. Valid only
+     * until the sink that received it returns.
+     */
+    static final class Span implements CharSequence {
+        private final String line;
+        private int from;
+        private int to;
+
+        Span(String line) {
+            this.line = line;
+        }
+
+        Span set(int from, int to) {
+            this.from = from;
+            this.to = to;
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return to - from;
+        }
+
+        @Override
+        public char charAt(int index) {
+            Objects.checkIndex(index, to - from);
+            return line.charAt(from + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            Objects.checkFromToIndex(start, end, to - from);
+            return line.subSequence(from + start, from + end);
+        }
+
+        @Override
+        public String toString() {
+            return line.substring(from, to);
+        }
+    }
+
+    private static int indexOf(String line, char delimiter, int from) {
+        int i = line.indexOf(delimiter, from);
+        return i < 0 ? line.length() : i;
+    }
+}
@@ -0,0 +1,262 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.Delimiter;
+import im.arun.toon4j.EncodeOptions;
+import im.arun.toon4j.Toon;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.IntSupplier;
+
+/**
+ * Examples of word-at-a-time structural scanning for tabular TOON.
+ * Shows how newlines, delimiters, quotes and backslashes are located 64 bytes at a
+ * time and compares the SWAR scanner against a byte-at-a-time loop.
+ */
+public class ScanningExample {
+
+    /** Keeps benchmark results observable so the JIT cannot drop the measured work. */
+    private static volatile long sink;
+
+    public static void main(String[] args) {
+        System.out.println("╔════════════════════════════════════════════════════════════════╗");
+        System.out.println("║          TOON4J Structural Scanning Examples                  ║");
+        System.out.println("║  SWAR Scanning for Newlines, Delimiters and Quotes            ║");
+        System.out.println("╚════════════════════════════════════════════════════════════════╝\n");
+
+        example1_StructuralIndex();
+        example2_WideTables();
+        example3_LongTables();
+        example4_QuotingDecisions();
+    }
+
+    /**
+     * Example 1: The structural positions of a tabular block
+     */
+    private static void example1_StructuralIndex() {
+        printSectionHeader("Example 1: Structural Index");
+
+        String toon = """
+            users[2]{id,name,note}:
+              1,Alice,"likes \\"TOON\\""
+              2,Bob,plain
+            """.trim();
+        byte[] bytes = toon.getBytes(StandardCharsets.UTF_8);
+        StructuralScanner scanner = new StructuralScanner(bytes, bytes.length, Delimiter.COMMA);
+
+        System.out.println("TOON Input:");
+        System.out.println(toon);
+        System.out.println();
+
+        StringBuilder marks = new StringBuilder();
+        for (int block = 0; block < bytes.length; block += StructuralScanner.BLOCK) {
+            long mask = scanner.mask(block);
+            for (int i = 0; i < StructuralScanner.BLOCK && block + i < bytes.length; i++) {
+                char c = (char) bytes[block + i];
+                marks.append((mask & (1L << i)) != 0 ? (c == '\n' ? "⏎" : String.valueOf(c)) : "·");
+            }
+        }
+        System.out.println("Structural bytes (· = skipped):");
+        System.out.println(marks);
+        System.out.println();
+    }
+
+    /**
+     * Example 2: Wide tables (many columns, many delimiters per row)
+     */
+    private static void example2_WideTables() {
+        printSectionHeader("Example 2: Wide Tables (40 columns × 20,000 rows)");
+        benchmark(createRows(20_000, 40));
+    }
+
+    /**
+     * Example 3: Long tables (few columns, many rows)
+     */
+    private static void example3_LongTables() {
+        printSectionHeader("Example 3: Long Tables (4 columns × 500,000 rows)");
+        benchmark(createRows(500_000, 4));
+    }
+
+    /**
+     * Example 4: Deciding whether encoded strings need quotes
+     */
+    private static void example4_QuotingDecisions() {
+        printSectionHeader("Example 4: Quoting Decisions on Encode");
+
+        String[] samples = {"Hello World", "a,b", "a|b", "key: value", "say \"hi\"", " padded", "42", "true",
+                "-dash", "Zürich Straße", "tab\tinside"};
+        System.out.printf("%-18s %-8s %-8s %-8s%n", "Value", "COMMA", "PIPE", "TAB");
+        for (String sample : samples) {
+            System.out.printf("%-18s %-8s %-8s %-8s%n", "'" + sample.replace("\t", "\\t") + "'",
+                    ToonStrings.needsQuoting(sample, ','), ToonStrings.needsQuoting(sample, '|'),
+                    ToonStrings.needsQuoting(sample, '\t'));
+        }
+        System.out.println();
+
+        List<String> values = createValues(200_000);
+        int chars = values.stream().mapToInt(String::length).sum();
+        boolean match = countQuoted(values, false) == countQuoted(values, true);
+        double scalar = throughput(chars, () -> countQuoted(values, false));
+        double table = throughput(chars, () -> countQuoted(values, true));
+
+        System.out.println("═══════════════════════════════════════════");
+        System.out.printf("Strings:         %,d (%,d characters)%n", values.size(), chars);
+        System.out.printf("Scalar checks:   %7.0f MB/s%n", scalar);
+        System.out.printf("Table + SWAR:    %7.0f MB/s%n", table);
+        System.out.printf("Same decisions:  %s%n", match);
+        System.out.println("═══════════════════════════════════════════");
+        System.out.println();
+    }
+
+    // Helper methods
+
+    private static void benchmark(List<Map<String, Object>> rows) {
+        Map<String, Object> data = Map.of("rows", rows);
+
+        System.out.println("═══════════════════════════════════════════");
+        System.out.printf("%-6s %12s %12s %12s %10s%n", "Delim", "Scalar", "SWAR", "Newlines", "Match");
+        for (Delimiter delimiter : List.of(Delimiter.COMMA, Delimiter.PIPE, Delimiter.TAB)) {
+            String toon = Toon.encode(data, EncodeOptions.builder().delimiter(delimiter).build());
+            byte[] bytes = toon.getBytes(StandardCharsets.UTF_8);
+            StructuralScanner scanner = new StructuralScanner(bytes, bytes.length, delimiter);
+
+            int[] scalarOffsets = new int[bytes.length];
+            int[] swarOffsets = new int[bytes.length];
+            int scalarCount = indexScalar(scanner, scalarOffsets);
+            int swarCount = indexSwar(scanner, swarOffsets);
+            boolean match = Arrays.equals(scalarOffsets, 0, scalarCount, swarOffsets, 0, swarCount);
+            double scalar = throughput(bytes.length, () -> indexScalar(scanner, scalarOffsets));
+            double swar = throughput(bytes.length, () -> indexSwar(scanner, swarOffsets));
+            double newlines = throughput(bytes.length, () -> countNewlines(scanner));
+
+            System.out.printf("%-6s %7.0f MB/s %7.0f MB/s %7.0f MB/s %10s%n",
+                    delimiter, scalar, swar, newlines, match);
+        }
+        System.out.println("═══════════════════════════════════════════");
+        System.out.println();
+    }
+
+    /** Writes the offset of every structural byte to {@code offsets}, one byte at a time. */
+    private static int indexScalar(StructuralScanner scanner, int[] offsets) {
+        int count = 0;
+        int i = scanner.nextScalar(0);
+        while (i < scanner.limit()) {
+            offsets[count++] = i;
+            i = scanner.nextScalar(i + 1);
+        }
+        return count;
+    }
+
+    /** The same offsets as {@link #indexScalar}, taken from one mask per 64-byte block. */
+    private static int indexSwar(StructuralScanner scanner, int[] offsets) {
+        int count = 0;
+        for (int block = 0; block < scanner.limit(); block += StructuralScanner.BLOCK) {
+            long mask = scanner.mask(block);
+            while (mask != 0) {
+                offsets[count++] = block + Long.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+            }
+        }
+        return count;
+    }
+
+    private static int countNewlines(StructuralScanner scanner) {
+        int count = 0;
+        int i = scanner.nextNewline(0);
+        while (i < scanner.limit()) {
+            count++;
+            i = scanner.nextNewline(i + 1);
+        }
+        return count;
+    }
+
+    private static int countQuoted(List<String> values, boolean table) {
+        int count = 0;
+        for (String value : values) {
+            if (table ? ToonStrings.needsQuoting(value, ',') : needsQuotingScalar(value, ',')) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /** Character-at-a-time reference for {@code ToonStrings.needsQuoting}. */
+    private static boolean needsQuotingScalar(String value, char delimiter) {
+        int length = value.length();
+        if (length == 0) {
+            return true;
+        }
+        if (Character.isWhitespace(value.charAt(0)) || Character.isWhitespace(value.charAt(length - 1))) {
+            return true;
+        }
+        if (value.charAt(0) == '-' || ToonStrings.isLiteral(value) || ToonStrings.looksNumeric(value)) {
+            return true;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c == delimiter) {
+                return true;
+            }
+            switch (c) {
+                case ':', '"', '\\', '[', ']', '{', '}':
+                    return true;
+                default:
+                    break;
+            }
+        }
+        return false;
+    }
+
+    /** Best of several rounds, in megabytes per second. */
+    private static double throughput(int bytes, IntSupplier scan) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < 10; round++) {
+            long start = System.nanoTime();
+            sink += scan.getAsInt();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return bytes / (best / 1_000_000_000.0) / (1024 * 1024);
+    }
+
+    private static List<Map<String, Object>> createRows(int rows, int columns) {
+        List<Map<String, Object>> result = new ArrayList<>(rows);
+        for (int r = 0; r < rows; r++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int c = 0; c < columns; c++) {
+                row.put("col" + c, switch (c % 4) {
+                    case 0 -> r;
+                    case 1 -> "name-" + r;
+                    case 2 -> r * 0.25;
+                    default -> "value " + (r % 97);
+                });
+            }
+            result.add(row);
+        }
+        return result;
+    }
+
+    /** Mostly plain names and sentences, with about one in twenty needing quotes. */
+    private static List<String> createValues(int count) {
+        String[] words = {"alpha", "bravo", "charlie", "delta", "echo", "foxtrot", "golf", "hotel", "Zürich"};
+        Random random = new Random(42);
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder value = new StringBuilder(words[random.nextInt(words.length)]);
+            int extra = random.nextInt(10);
+            for (int w = 0; w < extra; w++) {
+                value.append(' ').append(words[random.nextInt(words.length)]);
+            }
+            if (random.nextInt(20) == 0) {
+                value.append(random.nextBoolean() ? ": note" : ", more");
+            }
+            values.add(value.toString());
+        }
+        return values;
+    }
+
+    private static void printSectionHeader(String title) {
+        System.out.println("═".repeat(65));
+        System.out.println(title);
+        System.out.println("═".repeat(65));
+    }
+}
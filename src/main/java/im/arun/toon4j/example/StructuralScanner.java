@@ -0,0 +1,166 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.Delimiter;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Finds TOON structural bytes (newline, the active delimiter, quote and backslash)
+ * in UTF-8 text 64 bytes at a time.
+ *
+ * <p>Each 64-byte block is read as eight {@code long} words; every word is compared
+ * against the four targets with SWAR (SIMD within a register) arithmetic and the
+ * per-byte hits are gathered into one 64-bit mask, one bit per byte, in the style of
+ * simdjson's structural index. Multi-byte UTF-8 sequences only contain bytes
+ * {@code >= 0x80}, so they never match an ASCII target.
+ */
+final class StructuralScanner {
+
+    static final int BLOCK = 64;
+
+    private static final VarHandle LONGS =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long ONES = 0x0101010101010101L;
+    private static final long LOW7 = 0x7F7F7F7F7F7F7F7FL;
+    private static final long GATHER = 0x0102040810204080L;
+
+    private static final long NEWLINES = ONES * '\n';
+    private static final long QUOTES = ONES * '"';
+    private static final long BACKSLASHES = ONES * '\\';
+
+    private final byte[] data;
+    private final int limit;
+    private final byte delimiter;
+    private final long delimiters;
+
+    StructuralScanner(byte[] data, int limit, Delimiter delimiter) {
+        if (limit < 0 || limit > data.length) {
+            throw new IndexOutOfBoundsException("limit " + limit + " outside [0, " + data.length + "]");
+        }
+        this.data = data;
+        this.limit = limit;
+        this.delimiter = (byte) ToonStrings.delimiterChar(delimiter);
+        this.delimiters = ONES * (this.delimiter & 0xFF);
+    }
+
+    byte[] data() { return data; }
+    int limit() { return limit; }
+    byte delimiter() { return delimiter; }
+
+    /**
+     * Bit {@code i} is set when {@code data[blockStart + i]} is structural.
+     * Bytes at or past {@link #limit()} are never reported.
+     */
+    long mask(int blockStart) {
+        int end = blockStart + BLOCK;
+        if (end > limit) {
+            return tailMask(blockStart);
+        }
+        long mask = 0;
+        for (int word = 0; word < BLOCK / Long.BYTES; word++) {
+            long bytes = (long) LONGS.get(data, blockStart + word * Long.BYTES);
+            mask |= wordMask(bytes) << (word * Long.BYTES);
+        }
+        return mask;
+    }
+
+    /** Index of the first structural byte at or after {@code from}, or {@link #limit()} when none. */
+    int next(int from) {
+        int block = from;
+        long mask = mask(block);
+        while (true) {
+            if (mask != 0) {
+                return block + Long.numberOfTrailingZeros(mask);
+            }
+            block += BLOCK;
+            if (block >= limit) {
+                return limit;
+            }
+            mask = mask(block);
+        }
+    }
+
+    /** Index of the first newline at or after {@code from}, or {@link #limit()}. */
+    int nextNewline(int from) {
+        int i = from;
+        while (i + Long.BYTES <= limit) {
+            long hits = zeroBytes((long) LONGS.get(data, i) ^ NEWLINES);
+            if (hits != 0) {
+                return i + (Long.numberOfTrailingZeros(hits) >>> 3);
+            }
+            i += Long.BYTES;
+        }
+        while (i < limit && data[i] != '\n') {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * End of the line starting at {@code from}: the first newline outside a quoted string,
+     * or {@link #limit()}. Only structural bytes are visited, taken from the block masks.
+     */
+    int lineEnd(int from) {
+        boolean inQuotes = false;
+        int skip = -1;
+        for (int block = from; block < limit; block += BLOCK) {
+            long mask = mask(block);
+            while (mask != 0) {
+                int i = block + Long.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+                if (i == skip) {
+                    continue;
+                }
+                byte b = data[i];
+                if (b == '"') {
+                    inQuotes = !inQuotes;
+                } else if (b == '\\') {
+                    if (inQuotes) {
+                        skip = i + 1;
+                    }
+                } else if (b == '\n' && !inQuotes) {
+                    return i;
+                }
+            }
+        }
+        return limit;
+    }
+
+    /** Byte-at-a-time reference implementation of {@link #next(int)}. */
+    int nextScalar(int from) {
+        for (int i = from; i < limit; i++) {
+            byte b = data[i];
+            if (b == '\n' || b == delimiter || b == '"' || b == '\\') {
+                return i;
+            }
+        }
+        return limit;
+    }
+
+    private long wordMask(long bytes) {
+        long hits = zeroBytes(bytes ^ NEWLINES)
+                | zeroBytes(bytes ^ delimiters)
+                | zeroBytes(bytes ^ QUOTES)
+                | zeroBytes(bytes ^ BACKSLASHES);
+        // One 0x80 per matching byte; move bit 7 of byte i to bit i
+        return ((hits >>> 7) * GATHER) >>> 56;
+    }
+
+    private long tailMask(int blockStart) {
+        long mask = 0;
+        for (int i = blockStart; i < limit; i++) {
+            byte b = data[i];
+            if (b == '\n' || b == delimiter || b == '"' || b == '\\') {
+                mask |= 1L << (i - blockStart);
+            }
+        }
+        return mask;
+    }
+
+    /** Sets bit 7 of exactly the zero bytes of {@code x}; no carries cross byte lanes. */
+    static long zeroBytes(long x) {
+        return ~(((x & LOW7) + LOW7) | x | LOW7);
+    }
+}
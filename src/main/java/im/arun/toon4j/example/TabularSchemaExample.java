@@ -0,0 +1,466 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.Delimiter;
+import im.arun.toon4j.Toon;
+import im.arun.toon4j.example.PojoExample.Address;
+import im.arun.toon4j.example.PojoExample.Employee;
+import im.arun.toon4j.example.PojoExample.Person;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.*;
+
+/**
+ * Examples of schema-aware tabular encoding.
+ * Shows how a fixed per-class schema lets typed lists skip the per-row uniformity
+ * checks, and a fast key-shape check for lists of maps.
+ */
+public class TabularSchemaExample {
+
+    public static void main(String[] args) {
+        System.out.println("╔════════════════════════════════════════════════════════════════╗");
+        System.out.println("║          TOON4J Tabular Schema Examples                       ║");
+        System.out.println("║  Writing Typed Lists as Tables Without Rescanning Keys        ║");
+        System.out.println("╚════════════════════════════════════════════════════════════════╝\n");
+
+        example1_RecordSchema();
+        example2_BeanSchemaWithCheckedColumn();
+        example3_ListOfMapsFastPath();
+        example4_Performance();
+    }
+
+    // ==================== Schema ====================
+
+    /**
+     * How much a column's static type guarantees about its values.
+     */
+    public enum ColumnKind {
+        /** Declared type is always written inline (primitives, strings, numbers, enums). */
+        PRIMITIVE,
+        /** Declared type may hold nested data; each value is checked before writing. */
+        CHECKED
+    }
+
+    /**
+     * A column of a {@link TableSchema}: name, kind and a cached accessor.
+     */
+    public record Column(String name, ColumnKind kind, MethodHandle accessor) {
+
+        Object read(Object row) {
+            try {
+                return accessor.invokeExact(row);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Cannot read property '" + name + "'", t);
+            }
+        }
+    }
+
+    /**
+     * Fixed column layout for a POJO or record type, resolved once per class.
+     * Records use their component order; beans use field declaration order, superclass
+     * fields first, reading through getters or public fields.
+     */
+    public static final class TableSchema {
+        private static final ClassValue<TableSchema> CACHE = new ClassValue<>() {
+            @Override
+            protected TableSchema computeValue(Class<?> type) {
+                return resolve(type);
+            }
+        };
+
+        private final Class<?> type;
+        private final List<Column> columns;
+        private final List<String> names;
+        private final boolean allPrimitive;
+        private final Class<?>[] valueTypes;
+        private final MethodHandle[] typedAccessors;
+
+        private TableSchema(Class<?> type, List<Column> columns, List<Class<?>> valueTypes,
+                            List<MethodHandle> typedAccessors) {
+            this.type = type;
+            this.columns = List.copyOf(columns);
+            this.valueTypes = valueTypes.toArray(new Class<?>[0]);
+            this.typedAccessors = typedAccessors.toArray(new MethodHandle[0]);
+            this.names = columns.stream().map(Column::name).toList();
+            this.allPrimitive = columns.stream().allMatch(c -> c.kind() == ColumnKind.PRIMITIVE);
+        }
+
+        /** The schema of {@code type}, which must have at least one readable property. */
+        public static TableSchema of(Class<?> type) {
+            TableSchema schema = CACHE.get(type);
+            if (schema.columns.isEmpty()) {
+                throw new IllegalArgumentException("No readable properties on " + type.getName());
+            }
+            return schema;
+        }
+
+        /** Like {@link #of}, but a type without readable properties gets a schema with no columns. */
+        static TableSchema ofProperties(Class<?> type) {
+            return CACHE.get(type);
+        }
+
+        public Class<?> type() { return type; }
+        public List<Column> columns() { return columns; }
+        public List<String> names() { return names; }
+
+        /** True when the static types alone prove every row fits the tabular form. */
+        public boolean allPrimitive() { return allPrimitive; }
+
+        /** Declared type of column {@code index}. */
+        Class<?> valueType(int index) { return valueTypes[index]; }
+
+        /**
+         * Accessor of column {@code index} typed {@code (Object)} to the declared type, so
+         * primitive properties can be read without boxing.
+         */
+        MethodHandle typedAccessor(int index) { return typedAccessors[index]; }
+
+        private static TableSchema resolve(Class<?> type) {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            List<Column> columns = new ArrayList<>();
+            List<Class<?>> valueTypes = new ArrayList<>();
+            List<MethodHandle> typedAccessors = new ArrayList<>();
+            try {
+                if (type.isRecord()) {
+                    for (RecordComponent component : type.getRecordComponents()) {
+                        MethodHandle accessor = lookup.unreflect(component.getAccessor());
+                        columns.add(column(component.getName(), component.getType(), accessor));
+                        valueTypes.add(component.getType());
+                        typedAccessors.add(typed(accessor, component.getType()));
+                    }
+                } else {
+                    for (Field field : propertyFields(type)) {
+                        MethodHandle accessor = accessor(lookup, type, field);
+                        if (accessor != null) {
+                            columns.add(column(field.getName(), field.getType(), accessor));
+                            valueTypes.add(field.getType());
+                            typedAccessors.add(typed(accessor, field.getType()));
+                        }
+                    }
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("Type is not accessible: " + type.getName(), e);
+            }
+            return new TableSchema(type, columns, valueTypes, typedAccessors);
+        }
+
+        /**
+         * Instance fields of {@code type} and its superclasses, superclass fields first and
+         * each class in declaration order. A field hidden by a subclass field of the same
+         * name keeps its position but takes the subclass field.
+         */
+        static List<Field> propertyFields(Class<?> type) {
+            Deque<Class<?>> hierarchy = new ArrayDeque<>();
+            for (Class<?> c = type; c != null && c != Object.class && !c.isRecord(); c = c.getSuperclass()) {
+                hierarchy.push(c);
+            }
+            Map<String, Field> fields = new LinkedHashMap<>();
+            for (Class<?> c : hierarchy) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                        fields.put(field.getName(), field);
+                    }
+                }
+            }
+            return new ArrayList<>(fields.values());
+        }
+
+        private static MethodHandle typed(MethodHandle accessor, Class<?> valueType) {
+            return accessor.asType(MethodType.methodType(valueType, Object.class));
+        }
+
+        private static MethodHandle accessor(MethodHandles.Lookup lookup, Class<?> type, Field field)
+                throws IllegalAccessException {
+            String suffix = Character.toUpperCase(field.getName().charAt(0)) + field.getName().substring(1);
+            for (String prefix : new String[]{"get", "is"}) {
+                try {
+                    Method getter = type.getMethod(prefix + suffix);
+                    if (getter.getReturnType() == field.getType()) {
+                        return lookup.unreflect(getter);
+                    }
+                } catch (NoSuchMethodException ignored) {
+                    // try the next naming convention
+                }
+            }
+            return Modifier.isPublic(field.getModifiers()) ? lookup.unreflectGetter(field) : null;
+        }
+
+        private static Column column(String name, Class<?> type, MethodHandle accessor) {
+            MethodHandle generic = accessor.asType(MethodType.methodType(Object.class, Object.class));
+            return new Column(name, isPrimitiveType(type) ? ColumnKind.PRIMITIVE : ColumnKind.CHECKED, generic);
+        }
+
+        private static boolean isPrimitiveType(Class<?> type) {
+            return type.isPrimitive()
+                    || type == String.class
+                    || Number.class.isAssignableFrom(type)
+                    || type == Boolean.class
+                    || type == Character.class
+                    || type.isEnum()
+                    || ValueAdapters.supports(type);
+        }
+    }
+
+    /**
+     * Writes typed lists and lists of maps straight into the tabular form.
+     * Falls back to {@link Toon#encode} whenever the rows turn out not to be tabular.
+     */
+    public static final class TabularEncoder {
+        private static final int INDENT = 2;
+
+        private TabularEncoder() {}
+
+        public static <T> String encode(String key, List<? extends T> rows, Class<T> type) {
+            return encode(key, rows, type, Delimiter.COMMA);
+        }
+
+        /**
+         * Encodes a typed list as {@code key[N]{...}:}; pass a {@code null} key for a root array.
+         * The header comes from the cached schema, so no row's keys are ever inspected. An
+         * empty list is written as {@code key[0]:}, without a field list.
+         */
+        public static <T> String encode(String key, List<? extends T> rows, Class<T> type, Delimiter delimiter) {
+            TableSchema schema = TableSchema.of(type);
+            if (!schema.allPrimitive() && !checkedColumnsArePrimitive(schema, rows)) {
+                return fallback(key, rows);
+            }
+
+            char delim = ToonStrings.delimiterChar(delimiter);
+            List<Column> columns = schema.columns();
+            StringBuilder out = new StringBuilder(32 + rows.size() * columns.size() * 8);
+            ToonStrings.appendHeader(out, key, rows.size(), rows.isEmpty() ? null : schema.names(), delim);
+            for (T row : rows) {
+                out.append('\n');
+                appendIndent(out);
+                for (int i = 0; i < columns.size(); i++) {
+                    if (i > 0) {
+                        out.append(delim);
+                    }
+                    ToonStrings.appendPrimitive(out, columns.get(i).read(row), delim);
+                }
+            }
+            return out.toString();
+        }
+
+        public static String encodeMaps(String key, List<? extends Map<String, ?>> rows) {
+            return encodeMaps(key, rows, Delimiter.COMMA);
+        }
+
+        /**
+         * Encodes a list of maps as a table when every row has the first row's keys in the
+         * same order. Rows are matched by size, then key by key, comparing by identity first,
+         * which holds whenever rows share key literals. Values are then streamed in iteration
+         * order without per-cell lookups.
+         */
+        public static String encodeMaps(String key, List<? extends Map<String, ?>> rows, Delimiter delimiter) {
+            if (rows.isEmpty() || rows.get(0).isEmpty()) {
+                return fallback(key, rows);
+            }
+            String[] names = rows.get(0).keySet().toArray(new String[0]);
+            for (Map<String, ?> row : rows) {
+                if (row.size() != names.length || !sameKeys(row, names)) {
+                    return fallback(key, rows);
+                }
+                for (Object value : row.values()) {
+                    if (!ToonStrings.isPrimitive(value)) {
+                        return fallback(key, rows);
+                    }
+                }
+            }
+
+            char delim = ToonStrings.delimiterChar(delimiter);
+            StringBuilder out = new StringBuilder(32 + rows.size() * names.length * 8);
+            ToonStrings.appendHeader(out, key, rows.size(), Arrays.asList(names), delim);
+            for (Map<String, ?> row : rows) {
+                out.append('\n');
+                appendIndent(out);
+                boolean first = true;
+                for (Object value : row.values()) {
+                    if (!first) {
+                        out.append(delim);
+                    }
+                    ToonStrings.appendPrimitive(out, value, delim);
+                    first = false;
+                }
+            }
+            return out.toString();
+        }
+
+        private static boolean checkedColumnsArePrimitive(TableSchema schema, List<?> rows) {
+            for (Column column : schema.columns()) {
+                if (column.kind() == ColumnKind.CHECKED) {
+                    for (Object row : rows) {
+                        if (!ToonStrings.isPrimitive(column.read(row))) {
+                            return false;
+                        }
+                    }
+                }
+            }
+            return true;
+        }
+
+        private static boolean sameKeys(Map<String, ?> row, String[] names) {
+            int i = 0;
+            for (String name : row.keySet()) {
+                String expected = names[i++];
+                if (name != expected && !name.equals(expected)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static void appendIndent(StringBuilder out) {
+            for (int i = 0; i < INDENT; i++) {
+                out.append(' ');
+            }
+        }
+
+        private static String fallback(String key, List<?> rows) {
+            if (key == null) {
+                return Toon.encode(rows);
+            }
+            Map<String, Object> wrapper = new LinkedHashMap<>();
+            wrapper.put(key, rows);
+            return Toon.encode(wrapper);
+        }
+    }
+
+    // ==================== Examples ====================
+
+    /**
+     * Example 1: A record schema is fully known from the component types
+     */
+    private static void example1_RecordSchema() {
+        printSectionHeader("Example 1: Record Schema");
+
+        List<Person> people = List.of(
+                new Person("David", 35, "Seattle", "Software Engineer"),
+                new Person("Eve", 29, "Austin", "Data Scientist"),
+                new Person("Frank", 41, "Denver", "Architect")
+        );
+
+        TableSchema schema = TableSchema.of(Person.class);
+        System.out.println("Schema columns: " + schema.names());
+        System.out.println("Statically tabular: " + schema.allPrimitive());
+        System.out.println();
+
+        String toon = TabularEncoder.encode("people", people, Person.class);
+        System.out.println(toon);
+        System.out.println();
+        printVerification(toon, Map.of("people", people));
+    }
+
+    /**
+     * Example 2: A bean with a nested POJO column is checked, not rescanned
+     */
+    private static void example2_BeanSchemaWithCheckedColumn() {
+        printSectionHeader("Example 2: Bean Schema with a Checked Column");
+
+        List<Employee> employees = new ArrayList<>();
+        employees.add(createEmployee(1, "Alice", "Engineering"));
+        employees.add(createEmployee(2, "Bob", "Engineering"));
+        employees.add(createEmployee(3, "Charlie", "QA"));
+
+        TableSchema schema = TableSchema.of(Employee.class);
+        for (Column column : schema.columns()) {
+            System.out.println("  " + column.name() + ": " + column.kind());
+        }
+        System.out.println();
+
+        System.out.println("No addresses set (address column is all null):");
+        System.out.println(TabularEncoder.encode("employees", employees, Employee.class));
+        System.out.println();
+
+        employees.get(0).setAddress(new Address("123 Main St", "Boston", "02101", "USA"));
+        System.out.println("One address set (falls back to the regular encoder):");
+        System.out.println(TabularEncoder.encode("employees", employees, Employee.class));
+        System.out.println();
+    }
+
+    /**
+     * Example 3: Lists of maps with shared keys
+     */
+    private static void example3_ListOfMapsFastPath() {
+        printSectionHeader("Example 3: List<Map> Fast Path");
+
+        List<Map<String, Object>> products = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Map<String, Object> product = new LinkedHashMap<>();
+            product.put("sku", "SKU-00" + i);
+            product.put("name", i == 2 ? "Mouse, wireless" : "Product " + i);
+            product.put("price", 19.99 * i);
+            products.add(product);
+        }
+
+        String comma = TabularEncoder.encodeMaps("products", products);
+        System.out.println(comma);
+        System.out.println();
+        System.out.println(TabularEncoder.encodeMaps("products", products, Delimiter.PIPE));
+        System.out.println();
+        printVerification(comma, Map.of("products", products));
+    }
+
+    /**
+     * Example 4: Schema encoding vs. the generic encoder
+     */
+    private static void example4_Performance() {
+        printSectionHeader("Example 4: Performance Comparison");
+
+        List<Person> people = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            people.add(new Person("Person " + i, 20 + i % 50, "City " + i % 100, "Occupation " + i % 7));
+        }
+        Map<String, Object> wrapper = Map.of("people", people);
+
+        for (int i = 0; i < 5; i++) {
+            Toon.encode(wrapper);
+            TabularEncoder.encode("people", people, Person.class);
+        }
+
+        long start = System.nanoTime();
+        String generic = Toon.encode(wrapper);
+        double genericMs = (System.nanoTime() - start) / 1_000_000.0;
+
+        start = System.nanoTime();
+        String schema = TabularEncoder.encode("people", people, Person.class);
+        double schemaMs = (System.nanoTime() - start) / 1_000_000.0;
+
+        System.out.println("═══════════════════════════════════════════");
+        System.out.printf("Toon.encode:           %.2f ms (%d chars)%n", genericMs, generic.length());
+        System.out.printf("TabularEncoder.encode: %.2f ms (%d chars)%n", schemaMs, schema.length());
+        System.out.println("Same output: " + generic.equals(schema));
+        System.out.println("═══════════════════════════════════════════");
+        System.out.println();
+    }
+
+    // Helper methods
+
+    private static Employee createEmployee(int id, String name, String department) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setName(name);
+        employee.setDepartment(department);
+        return employee;
+    }
+
+    private static void printVerification(String toon, Object expected) {
+        Object decoded = Toon.decode(toon);
+        Object reference = Toon.decode(Toon.encode(expected));
+        System.out.println("Decodes like Toon.encode output: " + Objects.equals(decoded, reference));
+        System.out.println();
+    }
+
+    private static void printSectionHeader(String title) {
+        System.out.println("═".repeat(65));
+        System.out.println(title);
+        System.out.println("═".repeat(65));
+    }
+}
@@ -0,0 +1,532 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.EncodeOptions;
+import im.arun.toon4j.Toon;
+
+import java.util.*;
+
+/**
+ * Examples of budget-aware encoding for LLM context windows.
+ * Shows how to cap the output by characters or tokens, stop encoding once the
+ * budget is spent, and keep the {@code [N]} header in line with the emitted rows.
+ */
+public class TokenBudgetExample {
+
+    /** Same rough approximation as the other examples: ~4 characters per token. */
+    private static final int CHARS_PER_TOKEN = 4;
+
+    public static void main(String[] args) {
+        System.out.println("╔════════════════════════════════════════════════════════════════╗");
+        System.out.println("║          TOON4J Token Budget Examples                         ║");
+        System.out.println("║  Fitting Large Datasets into a Context Window                 ║");
+        System.out.println("╚════════════════════════════════════════════════════════════════╝\n");
+
+        example1_TailTruncation();
+        example2_EvenSampling();
+        example3_DropLowPriorityKeys();
+        example4_TableInsideContext();
+    }
+
+    // ==================== Budget API ====================
+
+    /**
+     * What to give up when the data does not fit the budget.
+     */
+    public enum TruncationPolicy {
+        /** Keep the leading rows and cut the tail. */
+        TAIL,
+        /** Keep rows spread evenly across the whole table. */
+        SAMPLE,
+        /** Drop the lowest-priority columns first, then cut the tail if still over budget. */
+        DROP_KEYS
+    }
+
+    /**
+     * Budget settings for {@link BudgetedEncoder}.
+     */
+    public static final class BudgetOptions {
+        private final int maxChars;
+        private final TruncationPolicy policy;
+        private final List<String> keyPriority;
+        private final String tableKey;
+        private final EncodeOptions encodeOptions;
+
+        private BudgetOptions(Builder builder) {
+            this.maxChars = builder.maxChars;
+            this.policy = builder.policy;
+            this.keyPriority = builder.keyPriority;
+            this.tableKey = builder.tableKey;
+            this.encodeOptions = builder.encodeOptions;
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        public int maxChars() { return maxChars; }
+        public TruncationPolicy policy() { return policy; }
+        public List<String> keyPriority() { return keyPriority; }
+        public String tableKey() { return tableKey; }
+        public EncodeOptions encodeOptions() { return encodeOptions; }
+
+        public static final class Builder {
+            private int maxChars = Integer.MAX_VALUE;
+            private TruncationPolicy policy = TruncationPolicy.TAIL;
+            private List<String> keyPriority = List.of();
+            private String tableKey;
+            private EncodeOptions encodeOptions = EncodeOptions.builder().build();
+
+            private Builder() {}
+
+            public Builder maxChars(int maxChars) {
+                if (maxChars <= 0) {
+                    throw new IllegalArgumentException("maxChars must be positive: " + maxChars);
+                }
+                this.maxChars = maxChars;
+                return this;
+            }
+
+            /** Token budget, converted with the ~4 characters per token estimate. */
+            public Builder maxTokens(int maxTokens) {
+                if (maxTokens <= 0) {
+                    throw new IllegalArgumentException("maxTokens must be positive: " + maxTokens);
+                }
+                return maxChars(Math.multiplyExact(maxTokens, CHARS_PER_TOKEN));
+            }
+
+            public Builder policy(TruncationPolicy policy) {
+                this.policy = Objects.requireNonNull(policy, "policy");
+                return this;
+            }
+
+            /** Columns from most to least important; unlisted columns are dropped first. */
+            public Builder keyPriority(String... keys) {
+                this.keyPriority = List.of(keys);
+                return this;
+            }
+
+            /** Key of the list to truncate; defaults to the largest top-level list. */
+            public Builder tableKey(String tableKey) {
+                this.tableKey = tableKey;
+                return this;
+            }
+
+            public Builder encodeOptions(EncodeOptions encodeOptions) {
+                this.encodeOptions = Objects.requireNonNull(encodeOptions, "encodeOptions");
+                return this;
+            }
+
+            public BudgetOptions build() {
+                return new BudgetOptions(this);
+            }
+        }
+    }
+
+    /**
+     * Outcome of a budgeted encode: the TOON text plus what made it in.
+     */
+    public record BudgetedResult(String toon,
+                                 int rowsIncluded,
+                                 int rowsTotal,
+                                 List<String> fieldsIncluded,
+                                 List<String> fieldsDropped) {
+
+        public boolean truncated() {
+            return rowsIncluded < rowsTotal || !fieldsDropped.isEmpty();
+        }
+    }
+
+    /**
+     * Encodes the largest list in a document within a character budget.
+     *
+     * <p>Rows are measured from {@link Toon#encodeLines} and consumption stops as soon as
+     * the budget is spent, so rows past the cut are never walked. The final text is always
+     * produced by {@link Toon#encode} from the selected rows, which keeps {@code [N]}
+     * equal to the number of rows actually emitted. When the header and envelope alone do
+     * not fit, an {@link IllegalArgumentException} is thrown rather than returning
+     * over-budget text.
+     */
+    public static final class BudgetedEncoder {
+
+        private BudgetedEncoder() {}
+
+        public static BudgetedResult encode(Object data, BudgetOptions options) {
+            Table table = Table.locate(data, options.tableKey());
+            if (table == null) {
+                String toon = Toon.encode(data, options.encodeOptions());
+                if (toon.length() > options.maxChars()) {
+                    throw new IllegalArgumentException("No list to truncate and output exceeds budget: "
+                            + toon.length() + " > " + options.maxChars());
+                }
+                return new BudgetedResult(toon, 0, 0, List.of(), List.of());
+            }
+
+            List<String> columns = table.columns();
+            List<String> dropped = new ArrayList<>();
+            List<?> rows = table.rows;
+            int available = options.maxChars() - table.envelopeCost(options.encodeOptions());
+
+            if (options.policy() == TruncationPolicy.DROP_KEYS) {
+                if (columns.isEmpty()) {
+                    throw new IllegalArgumentException("DROP_KEYS needs a list of maps");
+                }
+                Deque<String> dropOrder = dropOrder(columns, options.keyPriority());
+                List<String> kept = new ArrayList<>(columns);
+                rows = project(table.rows, kept);
+                while (kept.size() > 1 && !scanRows(rows, available, options.encodeOptions()).complete()) {
+                    String column = dropOrder.removeFirst();
+                    kept.remove(column);
+                    dropped.add(column);
+                    rows = project(table.rows, kept);
+                }
+                columns = kept;
+            }
+
+            RowScan scan = scanRows(rows, available, options.encodeOptions());
+            if (scan.complete()) {
+                String toon = Toon.encode(table.wrap(rows), options.encodeOptions());
+                if (toon.length() <= options.maxChars()) {
+                    return new BudgetedResult(toon, rows.size(), rows.size(), columns, dropped);
+                }
+            }
+
+            List<?> source = rows;
+            boolean sample = options.policy() == TruncationPolicy.SAMPLE;
+            int count = scan.complete() ? rows.size() : scan.count();
+            while (true) {
+                List<?> selected = sample ? sample(source, count) : source.subList(0, count);
+                String toon = Toon.encode(table.wrap(selected), options.encodeOptions());
+                int overflow = toon.length() - options.maxChars();
+                if (overflow <= 0) {
+                    return new BudgetedResult(toon, count, source.size(), columns, dropped);
+                }
+                if (count == 0) {
+                    throw new IllegalArgumentException("Output without any rows still exceeds budget: "
+                            + toon.length() + " > " + options.maxChars());
+                }
+                // Header width and envelope are only estimated up front; shrink by whole rows
+                count -= Math.max(1, (int) Math.ceil(overflow / (double) scan.averageCost()));
+                count = Math.max(0, count);
+            }
+        }
+
+        private static Deque<String> dropOrder(List<String> columns, List<String> priority) {
+            Deque<String> order = new ArrayDeque<>();
+            for (String column : columns) {
+                if (!priority.contains(column)) {
+                    order.add(column);
+                }
+            }
+            for (int i = priority.size() - 1; i >= 0; i--) {
+                if (columns.contains(priority.get(i))) {
+                    order.add(priority.get(i));
+                }
+            }
+            return order;
+        }
+
+        /**
+         * Streams the encoded rows and sums their sizes until {@code available} is exceeded.
+         * A row starts at every line indented one level below the header; deeper lines
+         * belong to the current row, so expanded list items are measured as one row too.
+         */
+        private static RowScan scanRows(List<?> rows, int available, EncodeOptions options) {
+            Iterator<String> lines = Toon.encodeLines(rows, options).iterator();
+            if (!lines.hasNext()) {
+                return new RowScan(0, 0, true);
+            }
+            int used = lines.next().length();
+            int rowIndent = -1;
+            int count = 0;
+            long rowTotal = 0;
+            int current = 0;
+            while (lines.hasNext()) {
+                String line = lines.next();
+                int indent = leadingSpaces(line);
+                if (rowIndent < 0) {
+                    rowIndent = indent;
+                } else if (indent == rowIndent) {
+                    if (used + current > available) {
+                        return new RowScan(count, rowTotal, false);
+                    }
+                    used += current;
+                    rowTotal += current;
+                    count++;
+                    current = 0;
+                }
+                current += line.length() + 1;
+            }
+            if (rowIndent < 0 && !rows.isEmpty()) {
+                throw new IllegalArgumentException("Budgeted encoding needs a list of objects, got an inline array");
+            }
+            if (current > 0) {
+                if (used + current > available) {
+                    return new RowScan(count, rowTotal, false);
+                }
+                rowTotal += current;
+                count++;
+            }
+            return new RowScan(count, rowTotal, count == rows.size());
+        }
+
+        private static int leadingSpaces(String line) {
+            int i = 0;
+            while (i < line.length() && line.charAt(i) == ' ') {
+                i++;
+            }
+            return i;
+        }
+
+        private static List<?> sample(List<?> rows, int count) {
+            int size = rows.size();
+            return new AbstractList<Object>() {
+                @Override
+                public Object get(int index) {
+                    return rows.get((int) ((long) index * size / count));
+                }
+
+                @Override
+                public int size() {
+                    return count;
+                }
+            };
+        }
+
+        private static List<?> project(List<?> rows, List<String> columns) {
+            List<String> kept = List.copyOf(columns);
+            return new AbstractList<Object>() {
+                @Override
+                public Object get(int index) {
+                    Map<?, ?> row = (Map<?, ?>) rows.get(index);
+                    Map<String, Object> projected = new LinkedHashMap<>();
+                    for (String column : kept) {
+                        if (row.containsKey(column)) {
+                            projected.put(column, row.get(column));
+                        }
+                    }
+                    return projected;
+                }
+
+                @Override
+                public int size() {
+                    return rows.size();
+                }
+            };
+        }
+    }
+
+    private record RowScan(int count, long totalCost, boolean complete) {
+        int averageCost() {
+            return count == 0 ? 1 : (int) Math.max(1, totalCost / count);
+        }
+    }
+
+    /**
+     * The list being truncated and the document around it.
+     */
+    private static final class Table {
+        private final Map<String, Object> parent;
+        private final String key;
+        private final List<?> rows;
+
+        private Table(Map<String, Object> parent, String key, List<?> rows) {
+            this.parent = parent;
+            this.key = key;
+            this.rows = rows;
+        }
+
+        @SuppressWarnings("unchecked")
+        static Table locate(Object data, String tableKey) {
+            if (data instanceof List<?> list) {
+                return new Table(null, null, list);
+            }
+            if (!(data instanceof Map<?, ?> map)) {
+                return null;
+            }
+            Map<String, Object> parent = (Map<String, Object>) map;
+            if (tableKey != null) {
+                if (!(parent.get(tableKey) instanceof List<?> list)) {
+                    throw new IllegalArgumentException("No list under key: " + tableKey);
+                }
+                return new Table(parent, tableKey, list);
+            }
+            String largestKey = null;
+            List<?> largest = null;
+            for (Map.Entry<String, Object> entry : parent.entrySet()) {
+                if (entry.getValue() instanceof List<?> list && (largest == null || list.size() > largest.size())) {
+                    largestKey = entry.getKey();
+                    largest = list;
+                }
+            }
+            return largest == null ? null : new Table(parent, largestKey, largest);
+        }
+
+        List<String> columns() {
+            if (!rows.isEmpty() && rows.get(0) instanceof Map<?, ?> first) {
+                List<String> columns = new ArrayList<>();
+                for (Object column : first.keySet()) {
+                    columns.add(String.valueOf(column));
+                }
+                return columns;
+            }
+            return List.of();
+        }
+
+        Object wrap(List<?> selected) {
+            if (parent == null) {
+                return selected;
+            }
+            Map<String, Object> copy = new LinkedHashMap<>(parent);
+            copy.put(key, selected);
+            return copy;
+        }
+
+        /** Size of everything except the table rows and header suffix; zero for a root list. */
+        int envelopeCost(EncodeOptions options) {
+            if (parent == null) {
+                return 0;
+            }
+            // `key[0]:` is what the empty table leaves behind; its `[0]:` is re-counted by the row scan
+            return Math.max(0, Toon.encode(wrap(List.of()), options).length() - "[0]:".length());
+        }
+    }
+
+    // ==================== Examples ====================
+
+    /**
+     * Example 1: Cut rows from the tail to fit a token budget
+     */
+    private static void example1_TailTruncation() {
+        printSectionHeader("Example 1: Tail Truncation");
+
+        List<Map<String, Object>> records = createRecords(1000);
+
+        BudgetOptions options = BudgetOptions.builder()
+                .maxTokens(150)
+                .policy(TruncationPolicy.TAIL)
+                .build();
+
+        BudgetedResult result = BudgetedEncoder.encode(records, options);
+        System.out.println(result.toon());
+        System.out.println();
+        printSummary(result, options);
+    }
+
+    /**
+     * Example 2: Sample rows evenly instead of keeping only the head
+     */
+    private static void example2_EvenSampling() {
+        printSectionHeader("Example 2: Even Sampling");
+
+        List<Map<String, Object>> records = createRecords(1000);
+
+        BudgetOptions options = BudgetOptions.builder()
+                .maxTokens(150)
+                .policy(TruncationPolicy.SAMPLE)
+                .build();
+
+        BudgetedResult result = BudgetedEncoder.encode(records, options);
+        System.out.println(result.toon());
+        System.out.println();
+        printSummary(result, options);
+    }
+
+    /**
+     * Example 3: Drop low-priority columns before dropping rows
+     */
+    private static void example3_DropLowPriorityKeys() {
+        printSectionHeader("Example 3: Drop Low-Priority Keys");
+
+        List<Map<String, Object>> products = new ArrayList<>();
+        for (int i = 1; i <= 12; i++) {
+            Map<String, Object> product = new LinkedHashMap<>();
+            product.put("id", "PROD-" + String.format("%03d", i));
+            product.put("name", "Product " + i);
+            product.put("price", 99.99 + i);
+            product.put("description", "Long marketing description for product number " + i);
+            product.put("warehouse", "WH-" + (i % 3));
+            products.add(product);
+        }
+
+        BudgetOptions options = BudgetOptions.builder()
+                .maxChars(320)
+                .policy(TruncationPolicy.DROP_KEYS)
+                .keyPriority("id", "name", "price")
+                .build();
+
+        BudgetedResult result = BudgetedEncoder.encode(products, options);
+        System.out.println(result.toon());
+        System.out.println();
+        printSummary(result, options);
+    }
+
+    /**
+     * Example 4: Truncate a table nested in a larger prompt context
+     */
+    private static void example4_TableInsideContext() {
+        printSectionHeader("Example 4: Table Inside a Prompt Context");
+
+        Map<String, Object> context = new LinkedHashMap<>();
+        context.put("model", "gpt-4");
+        context.put("task", "Summarize the failing records");
+        context.put("records", createRecords(500));
+        context.put("currency", "USD");
+
+        BudgetOptions options = BudgetOptions.builder()
+                .maxTokens(120)
+                .tableKey("records")
+                .build();
+
+        BudgetedResult result = BudgetedEncoder.encode(context, options);
+        System.out.println(result.toon());
+        System.out.println();
+        printSummary(result, options);
+    }
+
+    // Helper methods
+
+    private static List<Map<String, Object>> createRecords(int count) {
+        List<Map<String, Object>> records = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put("id", i);
+            record.put("timestamp", "2025-01-04T" + String.format("%02d", i % 24) + ":00:00Z");
+            record.put("value", Math.round((100.0 + (i * 37 % 900)) * 100) / 100.0);
+            record.put("status", i % 3 == 0 ? "completed" : "pending");
+            records.add(record);
+        }
+        return records;
+    }
+
+    private static void printSummary(BudgetedResult result, BudgetOptions options) {
+        System.out.println("═══════════════════════════════════════════");
+        System.out.printf("Budget: %d characters (~%d tokens)%n",
+                options.maxChars(), options.maxChars() / CHARS_PER_TOKEN);
+        System.out.printf("Output: %d characters%n", result.toon().length());
+        System.out.printf("Rows included: %d of %d%n", result.rowsIncluded(), result.rowsTotal());
+        System.out.println("Fields included: " + result.fieldsIncluded());
+        if (!result.fieldsDropped().isEmpty()) {
+            System.out.println("Fields dropped: " + result.fieldsDropped());
+        }
+        System.out.println("Header matches rows: " + (decodedRowCount(result.toon(), options) == result.rowsIncluded()));
+        System.out.println("═══════════════════════════════════════════");
+        System.out.println();
+    }
+
+    private static int decodedRowCount(String toon, BudgetOptions options) {
+        Object decoded = Toon.decode(toon);
+        if (decoded instanceof Map<?, ?> map) {
+            decoded = options.tableKey() != null ? map.get(options.tableKey()) : map.values().stream()
+                    .filter(List.class::isInstance)
+                    .findFirst()
+                    .orElse(null);
+        }
+        return decoded instanceof List<?> list ? list.size() : -1;
+    }
+
+    private static void printSectionHeader(String title) {
+        System.out.println("═".repeat(65));
+        System.out.println(title);
+        System.out.println("═".repeat(65));
+    }
+}
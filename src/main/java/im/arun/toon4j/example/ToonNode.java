@@ -0,0 +1,701 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.Delimiter;
+import im.arun.toon4j.example.TypeRefExample.DecodeLimits;
+import im.arun.toon4j.example.TypeRefExample.TypedDecoder;
+
+import java.util.*;
+
+/**
+ * A decoded TOON value as a compact, immutable tree.
+ *
+ * <p>Numbers are held as {@code long} or {@code double} fields, booleans and null are
+ * shared singletons, and objects are two parallel arrays of keys and values instead of a
+ * {@code LinkedHashMap}. The rows of a tabular array share one key array, so a table of a
+ * million rows stores its field names once.
+ *
+ * <p>Typed accessors take a dotted path such as {@code "author.name"} or {@code "tags.0"};
+ * numeric segments index arrays. A missing path or a value of another kind throws
+ * {@link IllegalArgumentException}; {@link #path} returns {@code null} instead.
+ *
+ * <p>{@link #toToon()} writes the tree directly, producing the same text as the TOON4J
+ * encoder would for the equivalent maps and lists.
+ */
+public sealed interface ToonNode
+        permits ToonNode.ObjectNode, ToonNode.ArrayNode, ToonNode.StringNode, ToonNode.LongNode,
+                ToonNode.DoubleNode, ToonNode.BooleanNode, ToonNode.NullNode {
+
+    static ToonNode decode(String toon) {
+        return decode(toon, DecodeLimits.NONE);
+    }
+
+    static ToonNode decode(String toon, DecodeLimits limits) {
+        return TypedDecoder.decode(toon, ToonNode.class, limits);
+    }
+
+    static ToonNode of(String value) {
+        return value == null ? NullNode.INSTANCE : new StringNode(value);
+    }
+
+    static ToonNode of(long value) {
+        return new LongNode(value);
+    }
+
+    static ToonNode of(double value) {
+        return new DoubleNode(value);
+    }
+
+    static ToonNode of(boolean value) {
+        return value ? BooleanNode.TRUE : BooleanNode.FALSE;
+    }
+
+    /**
+     * The node for a primitive token as it appears in TOON, quoted or not. Unquoted numbers
+     * become {@link LongNode} when integral and in range, otherwise {@link DoubleNode}.
+     */
+    static ToonNode scalar(String token) {
+        if (token.length() >= 2 && token.charAt(0) == '"') {
+            return new StringNode(RowParser.unquote(token));
+        }
+        switch (token) {
+            case "true":
+                return BooleanNode.TRUE;
+            case "false":
+                return BooleanNode.FALSE;
+            case "null":
+                return NullNode.INSTANCE;
+            default:
+                break;
+        }
+        if (token.isEmpty() || !ToonStrings.looksNumeric(token) || RowParser.hasLeadingZero(token)) {
+            return new StringNode(token);
+        }
+        if (token.indexOf('.') < 0 && token.indexOf('e') < 0 && token.indexOf('E') < 0) {
+            try {
+                return new LongNode(Long.parseLong(token));
+            } catch (NumberFormatException tooLarge) {
+                // fall through to double
+            }
+        }
+        return new DoubleNode(Double.parseDouble(token));
+    }
+
+    // ==================== Navigation ====================
+
+    /** The field {@code key} of an object, or {@code null}. */
+    default ToonNode get(String key) {
+        return null;
+    }
+
+    /** The element at {@code index} of an array, or {@code null}. */
+    default ToonNode get(int index) {
+        return null;
+    }
+
+    /** Fields of an object or elements of an array; 0 for primitives. */
+    default int size() {
+        return 0;
+    }
+
+    /** The node at a dotted path, or {@code null} when any segment is missing. */
+    default ToonNode path(String path) {
+        ToonNode node = this;
+        int from = 0;
+        while (node != null && from <= path.length()) {
+            int dot = path.indexOf('.', from);
+            int to = dot < 0 ? path.length() : dot;
+            node = node instanceof ArrayNode array ? array.get(index(path, from, to)) : node.get(path.substring(from, to));
+            from = to + 1;
+        }
+        return node;
+    }
+
+    default long getLong(String path) {
+        return require(path).asLong();
+    }
+
+    default double getDouble(String path) {
+        return require(path).asDouble();
+    }
+
+    default String getString(String path) {
+        return require(path).asText();
+    }
+
+    default boolean getBoolean(String path) {
+        return require(path).asBoolean();
+    }
+
+    default ObjectNode getObject(String path) {
+        if (require(path) instanceof ObjectNode object) {
+            return object;
+        }
+        throw new IllegalArgumentException("Expected an object at '" + path + "', found " + path(path).kind());
+    }
+
+    default ArrayNode getArray(String path) {
+        if (require(path) instanceof ArrayNode array) {
+            return array;
+        }
+        throw new IllegalArgumentException("Expected an array at '" + path + "', found " + path(path).kind());
+    }
+
+    private ToonNode require(String path) {
+        ToonNode node = path(path);
+        if (node == null) {
+            throw new IllegalArgumentException("No value at '" + path + "'");
+        }
+        return node;
+    }
+
+    /** The array index in {@code path[from, to)}, or -1 unless it is 1 to 9 digits, so it never overflows. */
+    private static int index(String path, int from, int to) {
+        if (to <= from || to - from > 9) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = from; i < to; i++) {
+            char c = path.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+    // ==================== Values ====================
+
+    /** "object", "array", "string", "number", "boolean" or "null", for messages. */
+    String kind();
+
+    default long asLong() {
+        throw new IllegalArgumentException("Expected a number, found " + kind());
+    }
+
+    default double asDouble() {
+        throw new IllegalArgumentException("Expected a number, found " + kind());
+    }
+
+    default String asText() {
+        throw new IllegalArgumentException("Expected a string, found " + kind());
+    }
+
+    default boolean asBoolean() {
+        throw new IllegalArgumentException("Expected a boolean, found " + kind());
+    }
+
+    default boolean isNull() {
+        return false;
+    }
+
+    /** The equivalent {@code Map}/{@code List}/boxed tree, as {@link TypedDecoder} returns for {@code Object}. */
+    Object toJava();
+
+    default String toToon() {
+        return toToon(Delimiter.COMMA);
+    }
+
+    default String toToon(Delimiter delimiter) {
+        return Encoder.encode(this, ToonStrings.delimiterChar(delimiter));
+    }
+
+    // ==================== Node Types ====================
+
+    /** Keys shared by every object built with them, with a hash index for wide objects. */
+    final class Keys {
+        private static final int LINEAR = 8;
+
+        final String[] names;
+        private final int[] index;
+
+        Keys(String[] names) {
+            this.names = names;
+            this.index = names.length > LINEAR ? buildIndex(names) : null;
+        }
+
+        int indexOf(String key) {
+            if (index == null) {
+                for (int i = 0; i < names.length; i++) {
+                    if (names[i].equals(key)) {
+                        return i;
+                    }
+                }
+                return -1;
+            }
+            int mask = index.length - 1;
+            for (int slot = key.hashCode() & mask; index[slot] != 0; slot = (slot + 1) & mask) {
+                if (names[index[slot] - 1].equals(key)) {
+                    return index[slot] - 1;
+                }
+            }
+            return -1;
+        }
+
+        boolean sameAs(String[] keys, int count) {
+            if (names.length != count) {
+                return false;
+            }
+            for (int i = 0; i < count; i++) {
+                if (names[i] != keys[i] && !names[i].equals(keys[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** Open addressing, slot value is position + 1. The first of duplicate keys wins. */
+        private static int[] buildIndex(String[] names) {
+            int[] index = new int[Integer.highestOneBit(names.length * 2 - 1) << 1];
+            int mask = index.length - 1;
+            for (int i = 0; i < names.length; i++) {
+                int slot = names[i].hashCode() & mask;
+                while (index[slot] != 0 && !names[index[slot] - 1].equals(names[i])) {
+                    slot = (slot + 1) & mask;
+                }
+                if (index[slot] == 0) {
+                    index[slot] = i + 1;
+                }
+            }
+            return index;
+        }
+    }
+
+    /** An object: keys in document order and their values. */
+    final class ObjectNode implements ToonNode {
+        static final ObjectNode EMPTY = new ObjectNode(new Keys(new String[0]), new ToonNode[0]);
+
+        final Keys keys;
+        private final ToonNode[] values;
+
+        ObjectNode(Keys keys, ToonNode[] values) {
+            this.keys = keys;
+            this.values = values;
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        @Override
+        public ToonNode get(String key) {
+            int i = keys.indexOf(key);
+            return i < 0 ? null : values[i];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        public String key(int i) {
+            return keys.names[i];
+        }
+
+        public ToonNode value(int i) {
+            return values[i];
+        }
+
+        public List<String> keys() {
+            return Collections.unmodifiableList(Arrays.asList(keys.names));
+        }
+
+        /** True when this object and {@code other} share one key array, as rows of a table do. */
+        public boolean sharesKeysWith(ObjectNode other) {
+            return keys == other.keys;
+        }
+
+        @Override
+        public String kind() {
+            return "object";
+        }
+
+        @Override
+        public Object toJava() {
+            Map<String, Object> map = new LinkedHashMap<>(values.length * 4 / 3 + 1);
+            for (int i = 0; i < values.length; i++) {
+                map.put(keys.names[i], values[i].toJava());
+            }
+            return map;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ObjectNode other) || other.values.length != values.length) {
+                return false;
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (!values[i].equals(other.get(keys.names[i]))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = 0;
+            for (int i = 0; i < values.length; i++) {
+                hash += keys.names[i].hashCode() ^ values[i].hashCode();
+            }
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return toToon();
+        }
+
+        /**
+         * Collects fields, then trims them into arrays. Given the keys of the previous object,
+         * it reuses them when they match, which is how table rows end up sharing one array.
+         */
+        public static final class Builder {
+            private String[] names = new String[8];
+            private ToonNode[] values = new ToonNode[8];
+            private int count;
+
+            Builder() {}
+
+            public Builder put(String key, ToonNode value) {
+                if (count == names.length) {
+                    names = Arrays.copyOf(names, count * 2);
+                    values = Arrays.copyOf(values, count * 2);
+                }
+                names[count] = Objects.requireNonNull(key, "key");
+                values[count++] = value == null ? NullNode.INSTANCE : value;
+                return this;
+            }
+
+            public ObjectNode build() {
+                return build(null);
+            }
+
+            ObjectNode build(Keys previous) {
+                if (count == 0) {
+                    return EMPTY;
+                }
+                Keys keys = previous != null && previous.sameAs(names, count) ? previous : new Keys(Arrays.copyOf(names, count));
+                return new ObjectNode(keys, Arrays.copyOf(values, count));
+            }
+        }
+    }
+
+    /** An array: elements in order. */
+    final class ArrayNode implements ToonNode {
+        private final ToonNode[] items;
+
+        /** Presized from the {@code [N]} header and filled by the decoder. */
+        ArrayNode(int size) {
+            this.items = new ToonNode[size];
+        }
+
+        private ArrayNode(ToonNode[] items) {
+            this.items = items;
+        }
+
+        public static ArrayNode of(ToonNode... items) {
+            ToonNode[] copy = items.clone();
+            for (int i = 0; i < copy.length; i++) {
+                if (copy[i] == null) {
+                    copy[i] = NullNode.INSTANCE;
+                }
+            }
+            return new ArrayNode(copy);
+        }
+
+        public static ArrayNode of(List<? extends ToonNode> items) {
+            return of(items.toArray(new ToonNode[0]));
+        }
+
+        void set(int index, ToonNode value) {
+            items[index] = value;
+        }
+
+        @Override
+        public ToonNode get(int index) {
+            return index >= 0 && index < items.length ? items[index] : null;
+        }
+
+        /** The elements as a fixed-size list view, for {@link Encoder}. */
+        List<ToonNode> elements() {
+            return Arrays.asList(items);
+        }
+
+        @Override
+        public int size() {
+            return items.length;
+        }
+
+        @Override
+        public String kind() {
+            return "array";
+        }
+
+        @Override
+        public Object toJava() {
+            List<Object> list = new ArrayList<>(items.length);
+            for (ToonNode item : items) {
+                list.add(item.toJava());
+            }
+            return list;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof ArrayNode other && Arrays.equals(items, other.items);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(items);
+        }
+
+        @Override
+        public String toString() {
+            return toToon();
+        }
+    }
+
+    record StringNode(String value) implements ToonNode {
+        public StringNode {
+            Objects.requireNonNull(value, "value");
+        }
+
+        @Override
+        public String kind() {
+            return "string";
+        }
+
+        @Override
+        public String asText() {
+            return value;
+        }
+
+        @Override
+        public Object toJava() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return toToon();
+        }
+    }
+
+    record LongNode(long value) implements ToonNode {
+        @Override
+        public String kind() {
+            return "number";
+        }
+
+        @Override
+        public long asLong() {
+            return value;
+        }
+
+        @Override
+        public double asDouble() {
+            return value;
+        }
+
+        /** Boxed as {@code Integer} when it fits, like the map decoder. */
+        @Override
+        public Object toJava() {
+            return value == (int) value ? (Object) (int) value : (Object) value;
+        }
+
+        @Override
+        public String toString() {
+            return Long.toString(value);
+        }
+    }
+
+    record DoubleNode(double value) implements ToonNode {
+        @Override
+        public String kind() {
+            return "number";
+        }
+
+        /** The value when it is integral and in range; a fraction is an error, not truncated. */
+        @Override
+        public long asLong() {
+            if (value != Math.rint(value) || Math.abs(value) >= 0x1p63) {
+                throw new IllegalArgumentException("Expected an integer, found " + value);
+            }
+            return (long) value;
+        }
+
+        @Override
+        public double asDouble() {
+            return value;
+        }
+
+        @Override
+        public Object toJava() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return toToon();
+        }
+    }
+
+    enum BooleanNode implements ToonNode {
+        TRUE, FALSE;
+
+        @Override
+        public String kind() {
+            return "boolean";
+        }
+
+        @Override
+        public boolean asBoolean() {
+            return this == TRUE;
+        }
+
+        @Override
+        public Object toJava() {
+            return this == TRUE;
+        }
+
+        @Override
+        public String toString() {
+            return this == TRUE ? "true" : "false";
+        }
+    }
+
+    enum NullNode implements ToonNode {
+        INSTANCE;
+
+        @Override
+        public String kind() {
+            return "null";
+        }
+
+        @Override
+        public boolean isNull() {
+            return true;
+        }
+
+        @Override
+        public Object toJava() {
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return "null";
+        }
+    }
+
+    // ==================== Encoding ====================
+
+    /**
+     * Lets {@link ToonWriter} write a tree as TOON without converting it to maps. Rows of a
+     * table that share the first row's key array are written by position, without lookups.
+     */
+    final class Encoder implements ToonWriter.Values {
+        private static final Encoder INSTANCE = new Encoder();
+
+        private Encoder() {}
+
+        static String encode(ToonNode node, char delimiter) {
+            return ToonWriter.write(node, INSTANCE, new StringBuilder(), delimiter).toString();
+        }
+
+        @Override
+        public ToonWriter.Kind kind(Object value) {
+            if (value instanceof ObjectNode) {
+                return ToonWriter.Kind.OBJECT;
+            }
+            return value instanceof ArrayNode ? ToonWriter.Kind.ARRAY : ToonWriter.Kind.PRIMITIVE;
+        }
+
+        @Override
+        public void appendPrimitive(StringBuilder out, Object value, char delimiter) {
+            if (value instanceof StringNode s) {
+                ToonStrings.appendString(out, s.value(), delimiter);
+            } else if (value instanceof LongNode l) {
+                out.append(l.value());
+            } else if (value instanceof DoubleNode d) {
+                ToonStrings.appendDouble(out, d.value());
+            } else if (value instanceof BooleanNode b) {
+                out.append(b.asBoolean());
+            } else {
+                out.append("null");
+            }
+        }
+
+        @Override
+        public Collection<?> elements(Object array) {
+            return ((ArrayNode) array).elements();
+        }
+
+        @Override
+        public void fields(Object object, ToonWriter.Fields fields) {
+            ObjectNode node = (ObjectNode) object;
+            for (int i = 0; i < node.size(); i++) {
+                fields.field(node.key(i), node.value(i));
+            }
+        }
+
+        @Override
+        public boolean isEmpty(Object object) {
+            return ((ObjectNode) object).size() == 0;
+        }
+
+        /**
+         * A table headed by the first row when every element is a non-empty object of
+         * primitives with the same keys (in any order) and no duplicates; otherwise {@code null}.
+         */
+        @Override
+        public ToonWriter.Table table(Collection<?> elements) {
+            if (!(elements.iterator().next() instanceof ObjectNode first) || first.size() == 0) {
+                return null;
+            }
+            for (int i = 0; i < first.size(); i++) {
+                if (first.keys.indexOf(first.key(i)) != i) {
+                    return null;
+                }
+            }
+            for (Object element : elements) {
+                if (!(element instanceof ObjectNode row) || row.size() != first.size()) {
+                    return null;
+                }
+                boolean shared = row.sharesKeysWith(first);
+                for (int c = 0; c < row.size(); c++) {
+                    ToonNode value = row.value(c);
+                    if (value instanceof ObjectNode || value instanceof ArrayNode
+                            || !shared && (first.get(row.key(c)) == null || row.keys.indexOf(row.key(c)) != c)) {
+                        return null;
+                    }
+                }
+            }
+            return new Table(first);
+        }
+
+        private record Table(ObjectNode columns) implements ToonWriter.Table {
+            @Override
+            public List<String> names() {
+                return columns.keys();
+            }
+
+            @Override
+            public void appendRow(StringBuilder out, Object row, char delimiter) {
+                ObjectNode node = (ObjectNode) row;
+                boolean shared = node.sharesKeysWith(columns);
+                for (int c = 0; c < columns.size(); c++) {
+                    if (c > 0) {
+                        out.append(delimiter);
+                    }
+                    INSTANCE.appendPrimitive(out, shared ? node.value(c) : node.get(columns.key(c)), delimiter);
+                }
+            }
+        }
+    }
+}
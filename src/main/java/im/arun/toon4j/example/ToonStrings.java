@@ -0,0 +1,348 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.Delimiter;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteOrder;
+import java.util.List;
+
+/**
+ * TOON text helpers shared by the examples that write TOON directly:
+ * primitive formatting, quoting and escaping, and array headers.
+ * Follows the same rules as the TOON4J encoder.
+ */
+final class ToonStrings {
+
+    private ToonStrings() {}
+
+    static char delimiterChar(Delimiter delimiter) {
+        return switch (delimiter) {
+            case PIPE -> '|';
+            case TAB -> '\t';
+            default -> ',';
+        };
+    }
+
+    /**
+     * Values that TOON writes inline: null, strings, numbers, booleans, characters, enums
+     * and the {@link ValueAdapters} types.
+     */
+    static boolean isPrimitive(Object value) {
+        return value == null
+                || value instanceof String
+                || value instanceof Number
+                || value instanceof Boolean
+                || value instanceof Character
+                || value instanceof Enum<?>
+                || ValueAdapters.supports(value.getClass());
+    }
+
+    static void appendPrimitive(StringBuilder out, Object value, char delimiter) {
+        if (value == null) {
+            out.append("null");
+        } else if (value instanceof String s) {
+            appendString(out, s, delimiter);
+        } else if (value instanceof Number n) {
+            appendNumber(out, n);
+        } else if (value instanceof Boolean b) {
+            out.append(b.booleanValue());
+        } else if (value instanceof Enum<?> e) {
+            appendString(out, e.name(), delimiter);
+        } else if (ValueAdapters.supports(value.getClass())) {
+            ValueAdapters.append(out, value);
+        } else {
+            appendString(out, value.toString(), delimiter);
+        }
+    }
+
+    static void appendNumber(StringBuilder out, Number number) {
+        if (number instanceof Integer || number instanceof Long
+                || number instanceof Short || number instanceof Byte) {
+            out.append(number.longValue());
+        } else if (number instanceof Double d) {
+            appendDouble(out, d);
+        } else if (number instanceof Float f) {
+            appendFloating(out, f, Float.toString(f));
+        } else if (number instanceof BigDecimal bd) {
+            ValueAdapters.appendDecimal(out, bd);
+        } else if (number instanceof BigInteger) {
+            out.append(number);
+        } else {
+            appendDouble(out, number.doubleValue());
+        }
+    }
+
+    /** A {@code double} without boxing: integral values without a fraction, never an exponent. */
+    static void appendDouble(StringBuilder out, double d) {
+        appendFloating(out, d, null);
+    }
+
+    private static void appendFloating(StringBuilder out, double d, String floatText) {
+        if (!Double.isFinite(d)) {
+            out.append("null");
+        } else if (d == Math.rint(d) && Math.abs(d) < 1e15) {
+            out.append((long) d);
+        } else {
+            String text = floatText != null ? floatText : Double.toString(d);
+            out.append(text.indexOf('E') >= 0 ? new BigDecimal(text).stripTrailingZeros().toPlainString() : text);
+        }
+    }
+
+    static void appendString(StringBuilder out, String value, char delimiter) {
+        if (needsQuoting(value, delimiter)) {
+            appendQuoted(out, value);
+        } else {
+            out.append(value);
+        }
+    }
+
+    static void appendKey(StringBuilder out, String key) {
+        if (isIdentifierKey(key)) {
+            out.append(key);
+        } else {
+            appendQuoted(out, key);
+        }
+    }
+
+    static void appendQuoted(StringBuilder out, String value) {
+        out.append('"');
+        int run = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < ESCAPES.length && ESCAPES[c] != null) {
+                out.append(value, run, i).append(ESCAPES[c]);
+                run = i + 1;
+            }
+        }
+        out.append(value, run, value.length()).append('"');
+    }
+
+    /**
+     * A string must be quoted when it would otherwise read back as something else:
+     * empty, padded, a literal or number, a list marker, or containing structural
+     * characters or the active delimiter.
+     *
+     * <p>The leading character decides whether the literal and number checks run at all.
+     * The body is checked against a per-delimiter character-class table; strings of 16 or
+     * more characters are first screened eight characters at a time with SWAR arithmetic,
+     * so a plain string costs a few instructions per word.
+     */
+    static boolean needsQuoting(String value, char delimiter) {
+        int length = value.length();
+        if (length == 0) {
+            return true;
+        }
+        char first = value.charAt(0);
+        if (Character.isWhitespace(first) || Character.isWhitespace(value.charAt(length - 1))) {
+            return true;
+        }
+        if (first == '-'
+                || (isDigit(first) && looksNumeric(value))
+                || ((first == 't' || first == 'f' || first == 'n') && isLiteral(value))) {
+            return true;
+        }
+        return containsUnsafe(value, delimiter);
+    }
+
+    static boolean isLiteral(String value) {
+        return value.equals("true") || value.equals("false") || value.equals("null");
+    }
+
+    /** Matches {@code -?\d+(\.\d+)?([eE][+-]?\d+)?}, plus numbers with leading zeros. */
+    static boolean looksNumeric(String value) {
+        int i = 0;
+        int length = value.length();
+        if (value.charAt(0) == '-') {
+            i++;
+        }
+        int digits = i;
+        while (i < length && isDigit(value.charAt(i))) {
+            i++;
+        }
+        if (i == digits) {
+            return false;
+        }
+        if (i < length && value.charAt(i) == '.') {
+            int fraction = ++i;
+            while (i < length && isDigit(value.charAt(i))) {
+                i++;
+            }
+            if (i == fraction) {
+                return false;
+            }
+        }
+        if (i < length && (value.charAt(i) == 'e' || value.charAt(i) == 'E')) {
+            i++;
+            if (i < length && (value.charAt(i) == '+' || value.charAt(i) == '-')) {
+                i++;
+            }
+            int exponent = i;
+            while (i < length && isDigit(value.charAt(i))) {
+                i++;
+            }
+            if (i == exponent) {
+                return false;
+            }
+        }
+        return i == length;
+    }
+
+    static boolean isIdentifierKey(String key) {
+        if (key.isEmpty()) {
+            return false;
+        }
+        char first = key.charAt(0);
+        if (!(Character.isLetter(first) && first < 0x80) && first != '_') {
+            return false;
+        }
+        for (int i = 1; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (!(c < 0x80 && (Character.isLetterOrDigit(c) || c == '_' || c == '.'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Appends an array header such as {@code users[3]{id,name}:} or, for a root array,
+     * {@code [3]{id,name}:}. A non-comma delimiter is declared inside the brackets.
+     */
+    static void appendHeader(StringBuilder out, String key, int length, List<String> fields, char delimiter) {
+        if (key != null) {
+            appendKey(out, key);
+        }
+        out.append('[').append(length);
+        if (delimiter != ',') {
+            out.append(delimiter);
+        }
+        out.append(']');
+        if (fields != null) {
+            out.append('{');
+            for (int i = 0; i < fields.size(); i++) {
+                if (i > 0) {
+                    out.append(delimiter);
+                }
+                appendKey(out, fields.get(i));
+            }
+            out.append('}');
+        }
+        out.append(':');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // ==================== Quoting scan ====================
+
+    private static final String[] ESCAPES = new String['\\' + 1];
+    private static final boolean[] COMMA_UNSAFE = unsafeTable(',');
+    private static final boolean[] PIPE_UNSAFE = unsafeTable('|');
+    private static final boolean[] TAB_UNSAFE = unsafeTable('\t');
+
+    static {
+        ESCAPES['"'] = "\\\"";
+        ESCAPES['\\'] = "\\\\";
+        ESCAPES['\n'] = "\\n";
+        ESCAPES['\r'] = "\\r";
+        ESCAPES['\t'] = "\\t";
+    }
+
+    private static final VarHandle LONGS =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long ONES = 0x0101010101010101L;
+    private static final long LOW7 = 0x7F7F7F7F7F7F7F7FL;
+    private static final long HIGH = 0x8080808080808080L;
+    private static final long COLONS = ONES * ':';
+    private static final long QUOTES = ONES * '"';
+    private static final int SWAR_MIN = 2 * Long.BYTES;
+
+    /** Per-thread window that strings are copied into, one byte per character, for the SWAR screen. */
+    private static final ThreadLocal<byte[]> WINDOW = ThreadLocal.withInitial(() -> new byte[256]);
+
+    /** ASCII characters that force quoting under {@code delimiter}; other characters never do. */
+    private static boolean[] unsafeTable(char delimiter) {
+        if (delimiter >= 0x80) {
+            throw new IllegalArgumentException("Delimiter must be ASCII: " + (int) delimiter);
+        }
+        boolean[] table = new boolean[0x80];
+        for (int c = 0; c < 0x20; c++) {
+            table[c] = true;
+        }
+        for (char c : ":\"\\[]{}".toCharArray()) {
+            table[c] = true;
+        }
+        table[delimiter] = true;
+        return table;
+    }
+
+    private static boolean[] unsafeTableFor(char delimiter) {
+        return switch (delimiter) {
+            case ',' -> COMMA_UNSAFE;
+            case '|' -> PIPE_UNSAFE;
+            case '\t' -> TAB_UNSAFE;
+            default -> unsafeTable(delimiter);
+        };
+    }
+
+    /**
+     * Whether any character of {@code value} is structural or the delimiter.
+     *
+     * <p>{@code String.getBytes(int, int, byte[], int)} copies the low byte of each character
+     * without allocating; for Latin-1 strings it is a plain array copy. The screen masks off
+     * bit 7 first, so a character that does not fit in a byte can only produce a false hit,
+     * which the table check on that word then clears.
+     */
+    @SuppressWarnings("deprecation")
+    private static boolean containsUnsafe(String value, char delimiter) {
+        boolean[] unsafe = unsafeTableFor(delimiter);
+        int length = value.length();
+        int i = 0;
+        if (length >= SWAR_MIN) {
+            byte[] window = WINDOW.get();
+            long delimiters = ONES * delimiter;
+            while (length - i >= Long.BYTES) {
+                int n = Math.min(window.length, (length - i) & -Long.BYTES);
+                value.getBytes(i, i + n, window, 0);
+                for (int w = 0; w < n; w += Long.BYTES) {
+                    if (candidates((long) LONGS.get(window, w), delimiters) != 0
+                            && containsUnsafe(value, i + w, i + w + Long.BYTES, unsafe)) {
+                        return true;
+                    }
+                }
+                i += n;
+            }
+        }
+        return containsUnsafe(value, i, length, unsafe);
+    }
+
+    private static boolean containsUnsafe(String value, int from, int to, boolean[] unsafe) {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80 && unsafe[c]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sets bit 7 of every byte that may need quoting: controls, {@code :}, {@code "},
+     * the delimiter, and {@code [ \ ] { | }}. The last six are found together by
+     * clearing bit 5, which folds {@code { | }} onto {@code [ \ ]}.
+     */
+    private static long candidates(long word, long delimiters) {
+        long ascii = word & LOW7;
+        long controls = ~(ascii + ONES * (0x80 - 0x20)) & HIGH;
+        long folded = ascii & (ONES * 0x5F);
+        long brackets = ((folded + ONES * (0x80 - '[')) & ~(folded + ONES * (0x80 - '^'))) & HIGH;
+        return controls | brackets
+                | StructuralScanner.zeroBytes(ascii ^ COLONS)
+                | StructuralScanner.zeroBytes(ascii ^ QUOTES)
+                | StructuralScanner.zeroBytes(ascii ^ delimiters);
+    }
+}
@@ -0,0 +1,1158 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.Delimiter;
+
+import java.io.*;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Streaming JSON ⇄ TOON conversion that never builds an object tree.
+ *
+ * <p>JSON is read token by token and TOON is written as the tokens arrive. A TOON array
+ * states its length in the header, so each array body is held as encoded text until the
+ * closing bracket; a body larger than the window spills to a temporary file. Arrays of
+ * flat objects with the same keys are written in tabular form, and if a later element
+ * does not fit, the rows written so far are rewritten as a list.
+ *
+ * <p>TOON is read line by line and JSON is written as each line is parsed, so memory is
+ * bounded by the nesting depth.
+ */
+public final class ToonTranscoder {
+
+    private ToonTranscoder() {}
+
+    public static final class Options {
+        public static final Options DEFAULT = builder().build();
+
+        final int indent;
+        final char delimiter;
+        final int window;
+        final int jsonIndent;
+
+        private Options(Builder builder) {
+            this.indent = builder.indent;
+            this.delimiter = ToonStrings.delimiterChar(builder.delimiter);
+            this.window = builder.window;
+            this.jsonIndent = builder.jsonIndent;
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        public static final class Builder {
+            private int indent = 2;
+            private Delimiter delimiter = Delimiter.COMMA;
+            private int window = 1 << 20;
+            private int jsonIndent = 0;
+
+            private Builder() {}
+
+            /** Spaces per TOON indentation level, for both reading and writing. */
+            public Builder indent(int indent) {
+                if (indent < 1) {
+                    throw new IllegalArgumentException("indent must be positive");
+                }
+                this.indent = indent;
+                return this;
+            }
+
+            public Builder delimiter(Delimiter delimiter) {
+                this.delimiter = delimiter;
+                return this;
+            }
+
+            /** Characters an array body may hold in memory before spilling to a temporary file. */
+            public Builder window(int window) {
+                if (window < 1) {
+                    throw new IllegalArgumentException("window must be positive");
+                }
+                this.window = window;
+                return this;
+            }
+
+            /** Spaces per JSON indentation level; 0 writes compact JSON. */
+            public Builder jsonIndent(int jsonIndent) {
+                this.jsonIndent = jsonIndent;
+                return this;
+            }
+
+            public Options build() {
+                return new Options(this);
+            }
+        }
+    }
+
+    public static String jsonToToon(String json) {
+        return jsonToToon(json, Options.DEFAULT);
+    }
+
+    public static String jsonToToon(String json, Options options) {
+        StringWriter out = new StringWriter(json.length() / 2);
+        try {
+            jsonToToon(new StringReader(json), out, options);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    public static void jsonToToon(Reader json, Writer toon) throws IOException {
+        jsonToToon(json, toon, Options.DEFAULT);
+    }
+
+    /**
+     * Converts JSON read from {@code json} into TOON written to {@code toon}, token by token.
+     * The writer is flushed but not closed.
+     */
+    public static void jsonToToon(Reader json, Writer toon, Options options) throws IOException {
+        Writer out = toon instanceof BufferedWriter || toon instanceof StringWriter ? toon : new BufferedWriter(toon, 1 << 16);
+        new JsonToToon(new JsonLexer(json), options).root(new WriterSink(out));
+        out.flush();
+    }
+
+    public static String toonToJson(String toon) {
+        return toonToJson(toon, Options.DEFAULT);
+    }
+
+    public static String toonToJson(String toon, Options options) {
+        StringWriter out = new StringWriter(toon.length() * 2);
+        try {
+            toonToJson(new StringReader(toon), out, options);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    public static void toonToJson(Reader toon, Writer json) throws IOException {
+        toonToJson(toon, json, Options.DEFAULT);
+    }
+
+    /**
+     * Converts TOON read from {@code toon} into JSON written to {@code json}, line by line.
+     * The writer is flushed but not closed.
+     */
+    public static void toonToJson(Reader toon, Writer json, Options options) throws IOException {
+        BufferedReader in = toon instanceof BufferedReader buffered ? buffered : new BufferedReader(toon, 1 << 16);
+        Writer out = json instanceof BufferedWriter || json instanceof StringWriter ? json : new BufferedWriter(json, 1 << 16);
+        new ToonToJson(in, new JsonWriter(out, options.jsonIndent), options.indent).run();
+        out.flush();
+    }
+
+    // ==================== JSON to TOON ====================
+
+    /** Destination for TOON text; every line is appended as {@code "\n" + line}. */
+    private interface Sink {
+        void append(CharSequence text) throws IOException;
+    }
+
+    /** The final output: drops the newline in front of the first line. */
+    private static final class WriterSink implements Sink {
+        private final Writer out;
+        private boolean first = true;
+
+        WriterSink(Writer out) {
+            this.out = out;
+        }
+
+        @Override
+        public void append(CharSequence text) throws IOException {
+            if (first && text.length() > 0) {
+                first = false;
+                if (text.charAt(0) == '\n') {
+                    out.append(text, 1, text.length());
+                    return;
+                }
+            }
+            out.append(text);
+        }
+    }
+
+    /** Encoded body of an open array: in memory up to the window, then in a temporary file. */
+    private static final class Body implements Sink, Closeable {
+        private final int window;
+        private StringBuilder text = new StringBuilder();
+        private Path file;
+        private Writer spill;
+
+        Body(int window) {
+            this.window = window;
+        }
+
+        @Override
+        public void append(CharSequence chars) throws IOException {
+            if (spill != null) {
+                spill.append(chars);
+                return;
+            }
+            text.append(chars);
+            if (text.length() > window) {
+                file = Files.createTempFile("toon-array", ".tmp");
+                spill = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                spill.append(text);
+                text = null;
+            }
+        }
+
+        Reader reader() throws IOException {
+            if (spill == null) {
+                return new StringReader(text.toString());
+            }
+            spill.flush();
+            return Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        }
+
+        void appendTo(Sink sink) throws IOException {
+            if (spill == null) {
+                sink.append(text);
+                return;
+            }
+            try (Reader in = reader()) {
+                char[] buffer = new char[8192];
+                int n;
+                while ((n = in.read(buffer)) > 0) {
+                    sink.append(CharBuffer.wrap(buffer, 0, n));
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (spill != null) {
+                spill.close();
+                Files.deleteIfExists(file);
+                spill = null;
+            }
+        }
+    }
+
+    private static final class JsonToToon {
+        private final JsonLexer lexer;
+        private final int indent;
+        private final char delimiter;
+        private final int window;
+        private final List<String> indents = new ArrayList<>();
+        private final StringBuilder line = new StringBuilder();
+
+        JsonToToon(JsonLexer lexer, Options options) {
+            this.lexer = lexer;
+            this.indent = options.indent;
+            this.delimiter = options.delimiter;
+            this.window = options.window;
+        }
+
+        void root(Sink sink) throws IOException {
+            int token = lexer.next();
+            switch (token) {
+                case '{' -> fields(sink, 0, null, lexer.next(), true);
+                case '[' -> array(sink, "", null, 0);
+                case JsonLexer.EOF -> throw lexer.error("Empty input");
+                default -> {
+                    line.setLength(0);
+                    primitive(line, token);
+                    sink.append(line);
+                }
+            }
+            if (lexer.next() != JsonLexer.EOF) {
+                throw lexer.error("Unexpected content after the root value");
+            }
+        }
+
+        /**
+         * Writes object fields up to the closing brace, starting from {@code token}. The first
+         * field's line starts with {@code firstPrefix} when it is non-null (list items).
+         */
+        private void fields(Sink sink, int depth, String firstPrefix, int token, boolean mayClose) throws IOException {
+            if (token == '}' && mayClose) {
+                return;
+            }
+            boolean first = true;
+            while (true) {
+                String key = name(token);
+                field(sink, first && firstPrefix != null ? firstPrefix : indent(depth), key, lexer.next(), depth);
+                first = false;
+                token = lexer.next();
+                if (token == '}') {
+                    return;
+                }
+                expect(token, ',', "',' or '}'");
+                token = lexer.next();
+            }
+        }
+
+        private String name(int token) throws IOException {
+            expect(token, JsonLexer.STRING, "a field name");
+            String key = lexer.text();
+            expect(lexer.next(), ':', "':'");
+            return key;
+        }
+
+        private void field(Sink sink, String prefix, String key, int token, int depth) throws IOException {
+            if (token == '[') {
+                array(sink, prefix, key, depth);
+                return;
+            }
+            line.setLength(0);
+            line.append('\n').append(prefix);
+            ToonStrings.appendKey(line, key);
+            line.append(':');
+            if (token == '{') {
+                sink.append(line);
+                fields(sink, depth + 1, null, lexer.next(), true);
+            } else {
+                line.append(' ');
+                primitive(line, token);
+                sink.append(line);
+            }
+        }
+
+        /** Reads the array after its opening bracket and writes header and body to {@code sink}. */
+        private void array(Sink sink, String prefix, String key, int depth) throws IOException {
+            try (ArrayState array = new ArrayState(depth)) {
+                int token = lexer.next();
+                if (token != ']') {
+                    while (true) {
+                        element(array, token);
+                        token = lexer.next();
+                        if (token == ']') {
+                            break;
+                        }
+                        expect(token, ',', "',' or ']'");
+                        token = lexer.next();
+                    }
+                }
+
+                line.setLength(0);
+                line.append('\n').append(prefix);
+                ToonStrings.appendHeader(line, key, array.count, array.mode == TABULAR ? array.fields : null, delimiter);
+                if (array.mode == INLINE) {
+                    line.append(' ');
+                }
+                sink.append(line);
+                array.body.appendTo(sink);
+            }
+        }
+
+        private void element(ArrayState array, int token) throws IOException {
+            switch (token) {
+                case '[' -> {
+                    array.toList();
+                    array(array.body, indent(array.depth + 1) + "- ", null, array.depth + 1);
+                    array.count++;
+                }
+                case '{' -> objectElement(array);
+                default -> {
+                    line.setLength(0);
+                    primitive(line, token);
+                    array.primitive(line);
+                }
+            }
+        }
+
+        /**
+         * Collects the object's fields while they are primitives. A flat object becomes a row
+         * (or a list item when the array is not tabular); at the first nested value the array
+         * falls back to list form and the rest of the object is streamed.
+         */
+        private void objectElement(ArrayState array) throws IOException {
+            List<String> keys = array.keys;
+            List<String> values = array.values;
+            keys.clear();
+            values.clear();
+
+            int token = lexer.next();
+            if (token != '}') {
+                while (true) {
+                    String key = name(token);
+                    int value = lexer.next();
+                    if (value == '{' || value == '[') {
+                        array.toList();
+                        String itemPrefix = indent(array.depth + 1) + "- ";
+                        int itemDepth = array.depth + 2;
+                        array.listObject(keys, values);
+                        field(array.body, keys.isEmpty() ? itemPrefix : indent(itemDepth), key, value, itemDepth);
+                        token = lexer.next();
+                        if (token != '}') {
+                            expect(token, ',', "',' or '}'");
+                            fields(array.body, itemDepth, null, lexer.next(), false);
+                        }
+                        array.count++;
+                        return;
+                    }
+                    StringBuilder text = new StringBuilder();
+                    primitive(text, value);
+                    keys.add(key);
+                    values.add(text.toString());
+                    token = lexer.next();
+                    if (token == '}') {
+                        break;
+                    }
+                    expect(token, ',', "',' or '}'");
+                    token = lexer.next();
+                }
+            }
+            array.flatObject(keys, values);
+        }
+
+        private void primitive(StringBuilder out, int token) throws IOException {
+            switch (token) {
+                case JsonLexer.STRING -> ToonStrings.appendString(out, lexer.text(), delimiter);
+                case JsonLexer.NUMBER -> appendNumber(out, lexer.text());
+                case JsonLexer.TRUE -> out.append("true");
+                case JsonLexer.FALSE -> out.append("false");
+                case JsonLexer.NULL -> out.append("null");
+                default -> throw lexer.error("Expected a value");
+            }
+        }
+
+        /** Plain integers are copied; anything else is normalised like the encoder does. */
+        private static void appendNumber(StringBuilder out, String number) {
+            boolean plain = !number.equals("-0");
+            for (int i = 0; i < number.length() && plain; i++) {
+                char c = number.charAt(i);
+                plain = (c >= '0' && c <= '9') || (c == '-' && i == 0);
+            }
+            if (plain) {
+                out.append(number);
+            } else {
+                ToonStrings.appendNumber(out, new java.math.BigDecimal(number));
+            }
+        }
+
+        private void expect(int token, int expected, String what) throws IOException {
+            if (token != expected) {
+                throw lexer.error("Expected " + what);
+            }
+        }
+
+        private String indent(int depth) {
+            while (indents.size() <= depth) {
+                indents.add(" ".repeat(indents.size() * indent));
+            }
+            return indents.get(depth);
+        }
+
+        private static final int EMPTY = 0;
+        private static final int INLINE = 1;
+        private static final int TABULAR = 2;
+        private static final int LIST = 3;
+
+        /** An open array: its form so far, element count and encoded body. */
+        private final class ArrayState implements Closeable {
+            final int depth;
+            final List<String> keys = new ArrayList<>();
+            final List<String> values = new ArrayList<>();
+            Body body = new Body(window);
+            int mode = EMPTY;
+            int count;
+            List<String> fields;
+            Map<String, Integer> columns;
+            String[] row;
+
+            ArrayState(int depth) {
+                this.depth = depth;
+            }
+
+            void primitive(CharSequence value) throws IOException {
+                switch (mode) {
+                    case EMPTY -> {
+                        mode = INLINE;
+                        body.append(value);
+                    }
+                    case INLINE -> body.append(new StringBuilder(value.length() + 1).append(delimiter).append(value));
+                    default -> {
+                        toList();
+                        listItem(value);
+                    }
+                }
+                count++;
+            }
+
+            void flatObject(List<String> keys, List<String> values) throws IOException {
+                if (keys.isEmpty()) {
+                    toList();
+                    body.append("\n" + indent(depth + 1) + "-");
+                } else if (mode == EMPTY) {
+                    mode = TABULAR;
+                    fields = new ArrayList<>(keys);
+                    columns = new HashMap<>();
+                    for (int i = 0; i < fields.size(); i++) {
+                        columns.put(fields.get(i), i);
+                    }
+                    row = new String[fields.size()];
+                    writeRow(values);
+                } else if (mode == TABULAR && fitsColumns(keys, values)) {
+                    writeRow(Arrays.asList(row));
+                } else {
+                    toList();
+                    listObject(keys, values);
+                }
+                count++;
+            }
+
+            /** Orders {@code values} by column into {@link #row}; false when the keys differ. */
+            private boolean fitsColumns(List<String> keys, List<String> values) {
+                if (keys.size() != fields.size()) {
+                    return false;
+                }
+                Arrays.fill(row, null);
+                for (int i = 0; i < keys.size(); i++) {
+                    Integer column = columns.get(keys.get(i));
+                    if (column == null || row[column] != null) {
+                        return false;
+                    }
+                    row[column] = values.get(i);
+                }
+                return true;
+            }
+
+            private void writeRow(List<String> cells) throws IOException {
+                line.setLength(0);
+                line.append('\n').append(indent(depth + 1));
+                for (int i = 0; i < cells.size(); i++) {
+                    if (i > 0) {
+                        line.append(delimiter);
+                    }
+                    line.append(cells.get(i));
+                }
+                body.append(line);
+            }
+
+            private void listItem(CharSequence value) throws IOException {
+                body.append(new StringBuilder().append('\n').append(indent(depth + 1)).append("- ").append(value));
+            }
+
+            /** Writes the fields as a list item: the first on the hyphen line, the rest below it. */
+            void listObject(List<String> keys, List<String> values) throws IOException {
+                StringBuilder out = new StringBuilder();
+                for (int i = 0; i < keys.size(); i++) {
+                    out.setLength(0);
+                    out.append('\n').append(i == 0 ? indent(depth + 1) + "- " : indent(depth + 2));
+                    ToonStrings.appendKey(out, keys.get(i));
+                    out.append(": ").append(values.get(i));
+                    body.append(out);
+                }
+            }
+
+            /** Switches to list form, rewriting the inline values or tabular rows written so far. */
+            void toList() throws IOException {
+                if (mode == LIST) {
+                    return;
+                }
+                if (mode == EMPTY) {
+                    mode = LIST;
+                    return;
+                }
+                Body old = body;
+                body = new Body(window);
+                try (BufferedReader in = new BufferedReader(old.reader())) {
+                    List<String> tokens = new ArrayList<>();
+                    String text;
+                    while ((text = in.readLine()) != null) {
+                        if (text.isEmpty()) {
+                            continue;
+                        }
+                        tokens.clear();
+                        RowParser.tokens(text, mode == TABULAR ? indent(depth + 1).length() : 0, delimiter, tokens);
+                        if (mode == TABULAR) {
+                            listObject(fields, tokens);
+                        } else {
+                            for (String token : tokens) {
+                                listItem(token);
+                            }
+                        }
+                    }
+                } finally {
+                    old.close();
+                }
+                mode = LIST;
+                fields = null;
+                columns = null;
+            }
+
+            @Override
+            public void close() throws IOException {
+                body.close();
+            }
+        }
+    }
+
+    /** Pull tokenizer: structural tokens are returned as their character. */
+    private static final class JsonLexer {
+        static final int EOF = -1;
+        static final int STRING = 1;
+        static final int NUMBER = 2;
+        static final int TRUE = 3;
+        static final int FALSE = 4;
+        static final int NULL = 5;
+
+        private final Reader in;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder text = new StringBuilder();
+        private int pos;
+        private int limit;
+        private long consumed;
+
+        JsonLexer(Reader in) {
+            this.in = in;
+        }
+
+        String text() {
+            return text.toString();
+        }
+
+        int next() throws IOException {
+            int c = read();
+            while (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+                c = read();
+            }
+            switch (c) {
+                case -1:
+                    return EOF;
+                case '{':
+                case '}':
+                case '[':
+                case ']':
+                case ':':
+                case ',':
+                    return c;
+                case '"':
+                    readString();
+                    return STRING;
+                case 't':
+                    literal("rue");
+                    return TRUE;
+                case 'f':
+                    literal("alse");
+                    return FALSE;
+                case 'n':
+                    literal("ull");
+                    return NULL;
+                default:
+                    if (c == '-' || (c >= '0' && c <= '9')) {
+                        readNumber((char) c);
+                        return NUMBER;
+                    }
+                    throw error("Unexpected character '" + (char) c + "'");
+            }
+        }
+
+        IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at offset " + (consumed + pos));
+        }
+
+        private void readString() throws IOException {
+            text.setLength(0);
+            while (true) {
+                // Copy the run up to the next quote or backslash in one go
+                int start = pos;
+                while (pos < limit) {
+                    char c = buffer[pos];
+                    if (c == '"' || c == '\\' || c < 0x20) {
+                        break;
+                    }
+                    pos++;
+                }
+                text.append(buffer, start, pos - start);
+                int c = read();
+                if (c == '"') {
+                    return;
+                }
+                if (c == '\\') {
+                    int escape = read();
+                    switch (escape) {
+                        case '"', '\\', '/' -> text.append((char) escape);
+                        case 'b' -> text.append('\b');
+                        case 'f' -> text.append('\f');
+                        case 'n' -> text.append('\n');
+                        case 'r' -> text.append('\r');
+                        case 't' -> text.append('\t');
+                        case 'u' -> {
+                            int code = 0;
+                            for (int i = 0; i < 4; i++) {
+                                int digit = Character.digit(read(), 16);
+                                if (digit < 0) {
+                                    throw error("Invalid unicode escape");
+                                }
+                                code = code * 16 + digit;
+                            }
+                            text.append((char) code);
+                        }
+                        default -> throw error("Invalid escape sequence");
+                    }
+                } else if (c == -1) {
+                    throw error("Unterminated string");
+                } else if (c < 0x20) {
+                    throw error("Unescaped control character in string");
+                } else {
+                    // The run stopped at the end of the buffer
+                    text.append((char) c);
+                }
+            }
+        }
+
+        private void readNumber(char first) throws IOException {
+            text.setLength(0);
+            text.append(first);
+            while (true) {
+                int c = peek();
+                if ((c >= '0' && c <= '9') || c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-') {
+                    text.append((char) c);
+                    pos++;
+                } else {
+                    break;
+                }
+            }
+            String number = text.toString();
+            if (!ToonStrings.looksNumeric(number) || RowParser.hasLeadingZero(number)) {
+                throw error("Invalid number " + number);
+            }
+        }
+
+        private void literal(String rest) throws IOException {
+            for (int i = 0; i < rest.length(); i++) {
+                if (read() != rest.charAt(i)) {
+                    throw error("Invalid literal");
+                }
+            }
+        }
+
+        private int read() throws IOException {
+            if (pos == limit && !fill()) {
+                return -1;
+            }
+            return buffer[pos++];
+        }
+
+        private int peek() throws IOException {
+            if (pos == limit && !fill()) {
+                return -1;
+            }
+            return buffer[pos];
+        }
+
+        private boolean fill() throws IOException {
+            consumed += limit;
+            pos = 0;
+            limit = 0;
+            int n = in.read(buffer);
+            if (n <= 0) {
+                return false;
+            }
+            limit = n;
+            return true;
+        }
+    }
+
+    // ==================== TOON to JSON ====================
+
+    /** Streaming JSON output with comma and indentation bookkeeping. */
+    static final class JsonWriter {
+        private final Writer out;
+        private final int indent;
+        private boolean[] hasItems = new boolean[16];
+        private int depth;
+        private boolean afterName;
+
+        JsonWriter(Writer out, int indent) {
+            this.out = out;
+            this.indent = indent;
+        }
+
+        void beginObject() throws IOException {
+            open('{');
+        }
+
+        void endObject() throws IOException {
+            close('}');
+        }
+
+        void beginArray() throws IOException {
+            open('[');
+        }
+
+        void endArray() throws IOException {
+            close(']');
+        }
+
+        void name(String name) throws IOException {
+            separator();
+            quote(name);
+            out.write(indent > 0 ? ": " : ":");
+            afterName = true;
+        }
+
+        void string(String value) throws IOException {
+            value();
+            quote(value);
+        }
+
+        /** A number or literal, written as is. */
+        void raw(String value) throws IOException {
+            value();
+            out.write(value);
+        }
+
+        private void open(char bracket) throws IOException {
+            value();
+            out.write(bracket);
+            if (++depth == hasItems.length) {
+                hasItems = Arrays.copyOf(hasItems, depth * 2);
+            }
+            hasItems[depth] = false;
+        }
+
+        private void close(char bracket) throws IOException {
+            boolean items = hasItems[depth--];
+            if (items) {
+                newline();
+            }
+            out.write(bracket);
+        }
+
+        private void value() throws IOException {
+            if (afterName) {
+                afterName = false;
+            } else {
+                separator();
+            }
+        }
+
+        private void separator() throws IOException {
+            if (depth == 0) {
+                return;
+            }
+            if (hasItems[depth]) {
+                out.write(',');
+            }
+            hasItems[depth] = true;
+            newline();
+        }
+
+        private void newline() throws IOException {
+            if (indent > 0) {
+                out.write('\n');
+                for (int i = depth * indent; i > 0; i--) {
+                    out.write(' ');
+                }
+            }
+        }
+
+        private void quote(String value) throws IOException {
+            out.write('"');
+            int start = 0;
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c >= 0x20 && c != '"' && c != '\\') {
+                    continue;
+                }
+                out.write(value, start, i - start);
+                start = i + 1;
+                switch (c) {
+                    case '"' -> out.write("\\\"");
+                    case '\\' -> out.write("\\\\");
+                    case '\n' -> out.write("\\n");
+                    case '\r' -> out.write("\\r");
+                    case '\t' -> out.write("\\t");
+                    case '\b' -> out.write("\\b");
+                    case '\f' -> out.write("\\f");
+                    default -> out.write(String.format("\\u%04x", (int) c));
+                }
+            }
+            out.write(value, start, value.length() - start);
+            out.write('"');
+        }
+    }
+
+    private static final class ToonToJson {
+        private static final int OBJECT = 0;
+        private static final int LIST = 1;
+        private static final int TABULAR = 2;
+
+        /** An open container and the depth its child lines are at. */
+        private static final class Frame {
+            final int kind;
+            final int childDepth;
+            final long line;
+            final int declared;
+            final String[] fields;
+            final char delimiter;
+            int seen;
+
+            Frame(int kind, int childDepth, long line, int declared, String[] fields, char delimiter) {
+                this.kind = kind;
+                this.childDepth = childDepth;
+                this.line = line;
+                this.declared = declared;
+                this.fields = fields;
+                this.delimiter = delimiter;
+            }
+        }
+
+        private final BufferedReader in;
+        private final JsonWriter out;
+        private final int indent;
+        private final ArrayDeque<Frame> frames = new ArrayDeque<>();
+        private final List<String> tokens = new ArrayList<>();
+        private long lineNumber;
+
+        ToonToJson(BufferedReader in, JsonWriter out, int indent) {
+            this.in = in;
+            this.out = out;
+            this.indent = indent;
+        }
+
+        void run() throws IOException {
+            boolean root = true;
+            boolean rootPrimitive = false;
+            String text;
+            while ((text = in.readLine()) != null) {
+                lineNumber++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                int spaces = 0;
+                while (spaces < text.length() && text.charAt(spaces) == ' ') {
+                    spaces++;
+                }
+                if (text.charAt(spaces) == '\t' || spaces % indent != 0) {
+                    throw error("Indentation must be a multiple of " + indent + " spaces");
+                }
+                int depth = spaces / indent;
+                String content = spaces == 0 ? text : text.substring(spaces);
+
+                if (root) {
+                    root = false;
+                    if (depth != 0) {
+                        throw error("The root value must not be indented");
+                    }
+                    if (content.charAt(0) == '[') {
+                        arrayHeader(content, 0, 0);
+                    } else if (isKeyLine(content)) {
+                        out.beginObject();
+                        frames.push(new Frame(OBJECT, 0, lineNumber, 0, null, ','));
+                        entry(content, 0);
+                    } else {
+                        primitive(content);
+                        rootPrimitive = true;
+                    }
+                    continue;
+                }
+                if (rootPrimitive) {
+                    throw error("Unexpected content after the root value");
+                }
+
+                while (!frames.isEmpty() && depth < frames.peek().childDepth) {
+                    close(frames.pop());
+                }
+                Frame frame = frames.peek();
+                if (frame == null || depth != frame.childDepth) {
+                    throw error("Unexpected indentation");
+                }
+                switch (frame.kind) {
+                    case OBJECT -> entry(content, depth);
+                    case LIST -> listItem(frame, content, depth);
+                    default -> row(frame, content);
+                }
+            }
+            if (root) {
+                out.beginObject();
+                out.endObject();
+            }
+            while (!frames.isEmpty()) {
+                close(frames.pop());
+            }
+        }
+
+        /** {@code key: value}, {@code key:} or {@code key[N]...:} at {@code depth}. */
+        private void entry(String content, int depth) throws IOException {
+            int end = keyEnd(content);
+            String key = content.substring(0, end).strip();
+            if (key.startsWith("\"")) {
+                key = unquote(key);
+            }
+            if (end < content.length() && content.charAt(end) == '[') {
+                out.name(key);
+                arrayHeader(content, end, depth);
+                return;
+            }
+            if (end >= content.length() || content.charAt(end) != ':') {
+                throw error("Missing colon after key");
+            }
+            out.name(key);
+            String rest = content.substring(end + 1).strip();
+            if (rest.isEmpty()) {
+                out.beginObject();
+                frames.push(new Frame(OBJECT, depth + 1, lineNumber, 0, null, ','));
+            } else {
+                primitive(rest);
+            }
+        }
+
+        /** {@code [N]:}, {@code [N]: v1,v2}, or {@code [N]{f1,f2}:} starting at {@code start}. */
+        private void arrayHeader(String content, int start, int depth) throws IOException {
+            int i = start + 1;
+            if (i < content.length() && content.charAt(i) == '#') {
+                i++;
+            }
+            int digits = i;
+            while (i < content.length() && Character.isDigit(content.charAt(i))) {
+                i++;
+            }
+            if (i == digits) {
+                throw error("Missing array length");
+            }
+            int declared = Integer.parseInt(content, digits, i, 10);
+            char delimiter = ',';
+            if (i < content.length() && (content.charAt(i) == '|' || content.charAt(i) == '\t')) {
+                delimiter = content.charAt(i++);
+            }
+            if (i >= content.length() || content.charAt(i) != ']') {
+                throw error("Malformed array header");
+            }
+            i++;
+
+            String[] fields = null;
+            if (i < content.length() && content.charAt(i) == '{') {
+                int close = content.lastIndexOf('}');
+                if (close < i) {
+                    throw error("Unterminated field list");
+                }
+                tokens.clear();
+                RowParser.tokens(content.substring(i + 1, close), 0, delimiter, tokens);
+                fields = new String[tokens.size()];
+                for (int f = 0; f < fields.length; f++) {
+                    String field = tokens.get(f);
+                    fields[f] = field.startsWith("\"") ? unquote(field) : field;
+                }
+                i = close + 1;
+            }
+            if (i >= content.length() || content.charAt(i) != ':') {
+                throw error("Missing colon after array header");
+            }
+            String rest = content.substring(i + 1).strip();
+
+            out.beginArray();
+            if (fields == null && !rest.isEmpty()) {
+                tokens.clear();
+                RowParser.tokens(rest, 0, delimiter, tokens);
+                if (tokens.size() != declared) {
+                    throw error("Expected " + declared + " values but found " + tokens.size());
+                }
+                for (String token : tokens) {
+                    primitive(token);
+                }
+                out.endArray();
+            } else {
+                frames.push(new Frame(fields == null ? LIST : TABULAR, depth + 1, lineNumber, declared, fields,
+                        delimiter));
+            }
+        }
+
+        private void listItem(Frame frame, String content, int depth) throws IOException {
+            if (!content.equals("-") && !content.startsWith("- ")) {
+                throw error("Expected a list item");
+            }
+            frame.seen++;
+            String rest = content.length() > 2 ? content.substring(2).strip() : "";
+            if (rest.isEmpty()) {
+                out.beginObject();
+                out.endObject();
+            } else if (rest.charAt(0) == '[') {
+                arrayHeader(rest, 0, depth);
+            } else if (isKeyLine(rest)) {
+                out.beginObject();
+                frames.push(new Frame(OBJECT, depth + 1, lineNumber, 0, null, ','));
+                entry(rest, depth + 1);
+            } else {
+                primitive(rest);
+            }
+        }
+
+        private void row(Frame frame, String content) throws IOException {
+            frame.seen++;
+            tokens.clear();
+            RowParser.tokens(content, 0, frame.delimiter, tokens);
+            String[] fields = frame.fields;
+            if (tokens.size() != fields.length) {
+                throw error("Expected " + fields.length + " values but found " + tokens.size());
+            }
+            out.beginObject();
+            for (int i = 0; i < fields.length; i++) {
+                out.name(fields[i]);
+                primitive(tokens.get(i));
+            }
+            out.endObject();
+        }
+
+        private void close(Frame frame) throws IOException {
+            if (frame.kind == OBJECT) {
+                out.endObject();
+                return;
+            }
+            if (frame.seen != frame.declared) {
+                throw new IllegalArgumentException("Array at line " + frame.line + " declares "
+                        + frame.declared + " items but has " + frame.seen);
+            }
+            out.endArray();
+        }
+
+        private void primitive(String token) throws IOException {
+            if (token.startsWith("\"")) {
+                out.string(unquote(token));
+            } else if (ToonStrings.isLiteral(token)) {
+                out.raw(token);
+            } else if (!token.isEmpty() && ToonStrings.looksNumeric(token) && !RowParser.hasLeadingZero(token)) {
+                out.raw(token);
+            } else {
+                out.string(token);
+            }
+        }
+
+        /** Lines that start with a key: a quoted key followed by ':' or '[', or any unquoted ':' or '['. */
+        private static boolean isKeyLine(String content) {
+            int end = keyEnd(content);
+            return end < content.length() && (content.charAt(end) == ':' || content.charAt(end) == '[');
+        }
+
+        /** Index just past the key: after its closing quote, or at the first ':' or '['. */
+        private static int keyEnd(String content) {
+            if (content.startsWith("\"")) {
+                for (int i = 1; i < content.length(); i++) {
+                    char c = content.charAt(i);
+                    if (c == '\\') {
+                        i++;
+                    } else if (c == '"') {
+                        return i + 1;
+                    }
+                }
+                return content.length();
+            }
+            for (int i = 0; i < content.length(); i++) {
+                char c = content.charAt(i);
+                if (c == ':' || c == '[') {
+                    return i;
+                }
+            }
+            return content.length();
+        }
+
+        /** {@link RowParser#unquote}, with the line number on errors. */
+        private String unquote(String quoted) {
+            try {
+                return RowParser.unquote(quoted);
+            } catch (IllegalArgumentException e) {
+                throw error(e.getMessage());
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at line " + lineNumber);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.Delimiter;
+import im.arun.toon4j.Toon;
+import im.arun.toon4j.example.TabularSchemaExample.TabularEncoder;
+import im.arun.toon4j.example.ToonNode.ArrayNode;
+import im.arun.toon4j.example.ToonNode.ObjectNode;
+import im.arun.toon4j.example.TypeRefExample.TypedDecoder;
+
+import java.lang.ref.Reference;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Examples of decoding into a {@link ToonNode} tree instead of maps and lists.
+ * Shows typed path accessors, the memory saved by primitive-backed nodes and shared
+ * table keys, and encoding a tree straight back to TOON.
+ */
+public class ToonTreeExample {
+
+    public static void main(String[] args) {
+        System.out.println("╔════════════════════════════════════════════════════════════════╗");
+        System.out.println("║          TOON4J Tree Model Examples                           ║");
+        System.out.println("║  Compact Nodes with Typed Accessors                           ║");
+        System.out.println("╚════════════════════════════════════════════════════════════════╝\n");
+
+        example1_TypedAccess();
+        example2_Memory();
+        example3_Encoding();
+    }
+
+    /**
+     * Example 1: Typed access without casts
+     */
+    private static void example1_TypedAccess() {
+        printSectionHeader("Example 1: Typed Access Without Casts");
+
+        String toon = """
+            id: proj-001
+            name: TOON4J
+            version: 1.0.0
+            tags[3]: java,serialization,llm
+            author:
+              name: Arun Prabhakar
+              email: arun@example.com
+              role: Lead Developer
+            dependencies[2]{name,version,scope}:
+              JUnit,5.10.0,test
+              JMH,1.37,test
+            stats:
+              stars: 150
+              forks: 23
+              contributors: 5
+            """.trim();
+
+        ToonNode project = ToonNode.decode(toon);
+
+        // The same reads as DecoderExample's example 6, without a cast per level
+        System.out.println("Project:");
+        System.out.println("  id: " + project.getString("id"));
+        System.out.println("  second tag: " + project.getString("tags.1"));
+        System.out.println("  author: " + project.getString("author.name") + " <" + project.getString("author.email") + ">");
+        System.out.println("  first dependency: " + project.getString("dependencies.0.name")
+                + " " + project.getString("dependencies.0.version"));
+        long stars = project.getLong("stats.stars");
+        System.out.println("  stars: " + stars + " (a long, never boxed)");
+        System.out.println("  dependencies: " + project.getArray("dependencies").size() + " items");
+        System.out.println();
+
+        System.out.println("Missing and mismatched paths:");
+        System.out.println("  path(\"stats.watchers\") = " + project.path("stats.watchers"));
+        for (String path : new String[] {"stats.watchers", "author.name"}) {
+            try {
+                project.getLong(path);
+            } catch (IllegalArgumentException e) {
+                System.out.println("  getLong(\"" + path + "\"): " + e.getMessage());
+            }
+        }
+        System.out.println();
+    }
+
+    /**
+     * Example 2: Memory of a decoded table
+     */
+    private static void example2_Memory() {
+        printSectionHeader("Example 2: Memory of a Decoded Table");
+
+        int rows = 200_000;
+        String toon = TabularEncoder.encodeMaps("employees", PerfRegressionSuite.employeeRows(rows));
+
+        Measurement maps = measure(() -> TypedDecoder.decode(toon, Object.class));
+        Measurement nodes = measure(() -> ToonNode.decode(toon));
+
+        ToonNode tree = ToonNode.decode(toon);
+        ArrayNode employees = tree.getArray("employees");
+        boolean shared = true;
+        for (int i = 1; i < employees.size() && shared; i++) {
+            shared = ((ObjectNode) employees.get(i)).sharesKeysWith((ObjectNode) employees.get(0));
+        }
+
+        System.out.printf("Table: %,d rows, %,d characters of TOON%n%n", rows, toon.length());
+        System.out.printf("%-14s %10s %16s %16s%n", "", "decode", "allocated", "retained");
+        System.out.printf("%-14s %8.1fms %14s B %,14d B%n", "Map/List", maps.nanos / 1e6,
+                AllocationCounter.format(maps.allocated), maps.retained);
+        System.out.printf("%-14s %8.1fms %14s B %,14d B%n", "ToonNode", nodes.nanos / 1e6,
+                AllocationCounter.format(nodes.allocated), nodes.retained);
+        System.out.println();
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.printf("Retained: %.0f%% of the map tree; all rows share one key array: %s%n",
+                100.0 * nodes.retained / Math.max(1, maps.retained), shared);
+        System.out.println("Each row is two arrays instead of a LinkedHashMap with an entry per");
+        System.out.println("field, and numbers are long/double fields instead of Integer/Double.");
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println();
+    }
+
+    /**
+     * Example 3: Encoding a tree
+     */
+    private static void example3_Encoding() {
+        printSectionHeader("Example 3: Encoding a Tree");
+
+        ObjectNode order = ObjectNode.builder()
+                .put("orderId", ToonNode.of("ORD-001"))
+                .put("customer", ObjectNode.builder()
+                        .put("name", ToonNode.of("Alice"))
+                        .put("vip", ToonNode.of(true))
+                        .build())
+                .put("items", ArrayNode.of(
+                        ObjectNode.builder().put("sku", ToonNode.of("A-1")).put("qty", ToonNode.of(2)).put("price", ToonNode.of(9.99)).build(),
+                        ObjectNode.builder().put("sku", ToonNode.of("B-7")).put("qty", ToonNode.of(1)).put("price", ToonNode.of(24.5)).build()))
+                .put("notes", ToonNode.of((String) null))
+                .build();
+
+        System.out.println("Built with the node builders:");
+        System.out.println(order.toToon());
+        System.out.println();
+        System.out.println("Same tree, pipe delimiter:");
+        System.out.println(order.toToon(Delimiter.PIPE));
+        System.out.println();
+
+        String toon = TabularEncoder.encodeMaps("employees", PerfRegressionSuite.employeeRows(50_000));
+        ToonNode tree = ToonNode.decode(toon);
+        Measurement direct = measure(tree::toToon);
+        Measurement viaMaps = measure(() -> Toon.encode(tree.toJava()));
+
+        System.out.println("Re-encoding a decoded 50,000-row table:");
+        System.out.printf("  toToon():               %8.1fms %14s B allocated%n", direct.nanos / 1e6,
+                AllocationCounter.format(direct.allocated));
+        System.out.printf("  Toon.encode(toJava()):  %8.1fms %14s B allocated%n", viaMaps.nanos / 1e6,
+                AllocationCounter.format(viaMaps.allocated));
+        System.out.println("  Same text as the input: " + tree.toToon().equals(toon));
+        System.out.println();
+    }
+
+    // Helper methods
+
+    private record Measurement(long nanos, long allocated, long retained) {}
+
+    /** Best-of-five time, bytes allocated by the fastest run, and heap still held by its result. */
+    private static Measurement measure(Supplier<Object> task) {
+        long best = Long.MAX_VALUE;
+        long allocated = 0;
+        for (int run = 0; run < 5; run++) {
+            long before = AllocationCounter.current();
+            long start = System.nanoTime();
+            Object result = task.get();
+            long time = System.nanoTime() - start;
+            if (time < best) {
+                best = time;
+                allocated = AllocationCounter.since(before);
+            }
+            Reference.reachabilityFence(result);
+        }
+
+        long heapBefore = usedHeap();
+        Object result = task.get();
+        long retained = usedHeap() - heapBefore;
+        Reference.reachabilityFence(result);
+        return new Measurement(best, allocated, retained);
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static void printSectionHeader(String title) {
+        System.out.println("═".repeat(65));
+        System.out.println(title);
+        System.out.println("═".repeat(65));
+    }
+}
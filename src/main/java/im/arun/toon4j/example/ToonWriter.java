@@ -0,0 +1,219 @@
+package im.arun.toon4j.example;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Writes a tree of values as TOON: the layout shared by the encoders that hold the whole
+ * value in memory. Objects become indented {@code key: value} lines, arrays of primitives
+ * are written inline, uniform arrays of flat objects as tables, and anything else as a
+ * {@code -} list.
+ *
+ * <p>The writer never looks inside a value itself. A {@link Values} adapter tells it what
+ * kind each value is and hands it the fields, elements and table rows, so one writer serves
+ * maps and beans as well as {@link ToonNode} trees.
+ */
+final class ToonWriter {
+    private static final int INDENT = 2;
+    private static final int MAX_DEPTH = 1_000;
+
+    enum Kind { PRIMITIVE, ARRAY, OBJECT }
+
+    /** How the writer reads one representation of values. */
+    interface Values {
+        Kind kind(Object value);
+
+        /** Appends a {@link Kind#PRIMITIVE} value, quoted as needed for {@code delimiter}. */
+        void appendPrimitive(StringBuilder out, Object value, char delimiter);
+
+        /** The elements of an {@link Kind#ARRAY} value, in order. */
+        Collection<?> elements(Object array);
+
+        /** Passes each field of an {@link Kind#OBJECT} value to {@code fields}, in order. */
+        void fields(Object object, Fields fields);
+
+        boolean isEmpty(Object object);
+
+        /** The table layout when {@code elements} are uniform flat objects, otherwise {@code null}. */
+        Table table(Collection<?> elements);
+    }
+
+    /** Receives the fields of one object from {@link Values#fields}. */
+    interface Fields {
+        void field(String key, Object value);
+
+        /**
+         * Starts the line of a field whose primitive value the adapter appends itself, for
+         * example without boxing it, and returns the builder to append it to.
+         */
+        StringBuilder primitiveField(String key);
+    }
+
+    /** Header and rows of an array written as a table. */
+    interface Table {
+        List<String> names();
+
+        /** Appends the cells of {@code row}, separated by {@code delimiter}. */
+        void appendRow(StringBuilder out, Object row, char delimiter);
+    }
+
+    private final Values values;
+    private final StringBuilder out;
+    private final int start;
+    private final char delimiter;
+    private final List<String> indents = new ArrayList<>();
+    private final Fields sink = new Fields() {
+        @Override
+        public void field(String key, Object value) {
+            ToonWriter.this.field(key, value);
+        }
+
+        @Override
+        public StringBuilder primitiveField(String key) {
+            return ToonWriter.this.primitiveField(key);
+        }
+    };
+
+    /** Depth and first-line prefix of the object whose fields are being written. */
+    private int fieldDepth;
+    private String firstPrefix;
+
+    private ToonWriter(Values values, StringBuilder out, char delimiter) {
+        this.values = values;
+        this.out = out;
+        this.start = out.length();
+        this.delimiter = delimiter;
+    }
+
+    /** Appends {@code value} to {@code out} and returns it; the text has no trailing newline. */
+    static StringBuilder write(Object value, Values values, StringBuilder out, char delimiter) {
+        ToonWriter writer = new ToonWriter(values, out, delimiter);
+        switch (values.kind(value)) {
+            case PRIMITIVE -> values.appendPrimitive(out, value, delimiter);
+            case ARRAY -> writer.array("", null, values.elements(value), 0);
+            default -> writer.fields(value, 0, null);
+        }
+        return out;
+    }
+
+    /** The first field's line starts with {@code prefix} when it is non-null (list items). */
+    private void fields(Object object, int depth, String prefix) {
+        checkDepth(depth);
+        int savedDepth = fieldDepth;
+        String savedPrefix = firstPrefix;
+        fieldDepth = depth;
+        firstPrefix = prefix;
+        values.fields(object, sink);
+        fieldDepth = savedDepth;
+        firstPrefix = savedPrefix;
+    }
+
+    private void field(String key, Object value) {
+        int depth = fieldDepth;
+        String prefix = linePrefix();
+        Kind kind = values.kind(value);
+        if (kind == Kind.ARRAY) {
+            array(prefix, key, values.elements(value), depth);
+            return;
+        }
+        newline();
+        out.append(prefix);
+        ToonStrings.appendKey(out, key);
+        out.append(':');
+        if (kind == Kind.PRIMITIVE) {
+            out.append(' ');
+            values.appendPrimitive(out, value, delimiter);
+        } else {
+            fields(value, depth + 1, null);
+        }
+    }
+
+    private StringBuilder primitiveField(String key) {
+        newline();
+        out.append(linePrefix());
+        ToonStrings.appendKey(out, key);
+        return out.append(": ");
+    }
+
+    private String linePrefix() {
+        String prefix = firstPrefix != null ? firstPrefix : indent(fieldDepth);
+        firstPrefix = null;
+        return prefix;
+    }
+
+    private void array(String prefix, String key, Collection<?> elements, int depth) {
+        checkDepth(depth);
+        int size = elements.size();
+        boolean inline = size > 0;
+        for (Object element : elements) {
+            if (values.kind(element) != Kind.PRIMITIVE) {
+                inline = false;
+                break;
+            }
+        }
+        Table table = inline || size == 0 ? null : values.table(elements);
+
+        newline();
+        out.append(prefix);
+        ToonStrings.appendHeader(out, key, size, table != null ? table.names() : null, delimiter);
+        if (inline) {
+            out.append(' ');
+            boolean first = true;
+            for (Object element : elements) {
+                if (!first) {
+                    out.append(delimiter);
+                }
+                values.appendPrimitive(out, element, delimiter);
+                first = false;
+            }
+        } else if (table != null) {
+            String rowIndent = indent(depth + 1);
+            for (Object row : elements) {
+                newline();
+                out.append(rowIndent);
+                table.appendRow(out, row, delimiter);
+            }
+        } else {
+            for (Object element : elements) {
+                item(element, depth);
+            }
+        }
+    }
+
+    private void item(Object item, int depth) {
+        String itemPrefix = indent(depth + 1) + "- ";
+        Kind kind = values.kind(item);
+        if (kind == Kind.ARRAY) {
+            array(itemPrefix, null, values.elements(item), depth + 1);
+        } else if (kind == Kind.PRIMITIVE) {
+            newline();
+            out.append(itemPrefix);
+            values.appendPrimitive(out, item, delimiter);
+        } else if (values.isEmpty(item)) {
+            newline();
+            out.append(indent(depth + 1)).append('-');
+        } else {
+            fields(item, depth + 2, itemPrefix);
+        }
+    }
+
+    private void newline() {
+        if (out.length() > start) {
+            out.append('\n');
+        }
+    }
+
+    private void checkDepth(int depth) {
+        if (depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Value is nested deeper than " + MAX_DEPTH + " levels (is it cyclic?)");
+        }
+    }
+
+    private String indent(int depth) {
+        while (indents.size() <= depth) {
+            indents.add(" ".repeat(indents.size() * INDENT));
+        }
+        return indents.get(depth);
+    }
+}
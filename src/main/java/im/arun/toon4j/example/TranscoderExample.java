@@ -0,0 +1,169 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.Delimiter;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Examples of streaming JSON ⇄ TOON conversion without building an object tree.
+ * Shows forwarding upstream JSON as TOON, converting TOON back to JSON, the fallback
+ * from tabular to list form, and file-to-file transcoding of a large payload.
+ */
+public class TranscoderExample {
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("╔════════════════════════════════════════════════════════════════╗");
+        System.out.println("║          TOON4J Transcoder Examples                           ║");
+        System.out.println("║  Streaming JSON ⇄ TOON Without an Object Tree                 ║");
+        System.out.println("╚════════════════════════════════════════════════════════════════╝\n");
+
+        example1_JsonToToon();
+        example2_ToonToJson();
+        example3_TabularFallback();
+        example4_LargePayload();
+    }
+
+    /**
+     * Example 1: Forwarding an upstream JSON response as TOON
+     */
+    private static void example1_JsonToToon() {
+        printSectionHeader("Example 1: JSON to TOON");
+
+        String json = """
+            {
+              "order": "ORD-1001",
+              "customer": {"name": "Alice", "tier": "gold"},
+              "tags": ["priority", "gift"],
+              "items": [
+                {"sku": "A-1", "qty": 2, "price": 19.90},
+                {"sku": "B-7", "qty": 1, "price": 5.00}
+              ]
+            }
+            """;
+
+        String toon = ToonTranscoder.jsonToToon(json);
+        System.out.println("JSON Input:");
+        System.out.println(json.trim());
+        System.out.println();
+        System.out.println("TOON Output:");
+        System.out.println(toon);
+        System.out.println();
+
+        String piped = ToonTranscoder.jsonToToon(json, ToonTranscoder.Options.builder().delimiter(Delimiter.PIPE).build());
+        System.out.println("With pipe delimiter:");
+        System.out.println(piped);
+        System.out.println();
+    }
+
+    /**
+     * Example 2: Turning a TOON reply back into JSON
+     */
+    private static void example2_ToonToJson() {
+        printSectionHeader("Example 2: TOON to JSON");
+
+        String toon = """
+            status: ok
+            results[3]{id,label,score}:
+              1,cat,0.92
+              2,"dog, small",0.81
+              3,bird,0.40
+            """.trim();
+
+        System.out.println("TOON Input:");
+        System.out.println(toon);
+        System.out.println();
+        System.out.println("Compact JSON:");
+        System.out.println(ToonTranscoder.toonToJson(toon));
+        System.out.println();
+        System.out.println("Indented JSON:");
+        System.out.println(ToonTranscoder.toonToJson(toon, ToonTranscoder.Options.builder().jsonIndent(2).build()));
+        System.out.println();
+    }
+
+    /**
+     * Example 3: A late element that does not fit the table
+     */
+    private static void example3_TabularFallback() {
+        printSectionHeader("Example 3: Tabular Fallback");
+
+        String json = """
+            {"events": [
+              {"id": 1, "type": "click"},
+              {"id": 2, "type": "view"},
+              {"id": 3, "type": "buy", "detail": {"sku": "A-1"}}
+            ]}
+            """;
+
+        System.out.println("The first two events are written as rows; the third has a nested");
+        System.out.println("object, so the rows are rewritten as list items:");
+        System.out.println(ToonTranscoder.jsonToToon(json));
+        System.out.println();
+    }
+
+    /**
+     * Example 4: File to file, with array bodies spilling past the window
+     */
+    private static void example4_LargePayload() throws IOException {
+        printSectionHeader("Example 4: Large Payload (200,000 records)");
+
+        Path json = Files.createTempFile("transcoder", ".json");
+        Path toon = Files.createTempFile("transcoder", ".toon");
+        Path back = Files.createTempFile("transcoder", ".json");
+        try {
+            try (Writer out = Files.newBufferedWriter(json, StandardCharsets.UTF_8)) {
+                out.write("{\"source\":\"export\",\"records\":[");
+                for (int i = 0; i < 200_000; i++) {
+                    out.write(i == 0 ? "" : ",");
+                    out.write("{\"id\":" + i + ",\"name\":\"user-" + i + "\",\"active\":" + (i % 3 != 0)
+                            + ",\"score\":" + (i % 100) + ".5}");
+                }
+                out.write("]}");
+            }
+
+            ToonTranscoder.Options options = ToonTranscoder.Options.builder().window(1 << 20).build();
+            long start = System.nanoTime();
+            try (Reader in = Files.newBufferedReader(json, StandardCharsets.UTF_8);
+                 Writer out = Files.newBufferedWriter(toon, StandardCharsets.UTF_8)) {
+                ToonTranscoder.jsonToToon(in, out, options);
+            }
+            long toToon = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            try (Reader in = Files.newBufferedReader(toon, StandardCharsets.UTF_8);
+                 Writer out = Files.newBufferedWriter(back, StandardCharsets.UTF_8)) {
+                ToonTranscoder.toonToJson(in, out, options);
+            }
+            long toJson = System.nanoTime() - start;
+
+            long jsonSize = Files.size(json);
+            long toonSize = Files.size(toon);
+            System.out.println("═══════════════════════════════════════════");
+            System.out.printf("JSON size:     %,d bytes%n", jsonSize);
+            System.out.printf("TOON size:     %,d bytes (%.1f%% smaller)%n", toonSize, 100.0 * (jsonSize - toonSize) / jsonSize);
+            System.out.printf("JSON → TOON:   %d ms (%.0f MB/s)%n", toToon / 1_000_000, mbPerSecond(jsonSize, toToon));
+            System.out.printf("TOON → JSON:   %d ms (%.0f MB/s)%n", toJson / 1_000_000, mbPerSecond(toonSize, toJson));
+            System.out.printf("Round trip:    %s%n", Files.mismatch(json, back) == -1 ? "identical" : "differs");
+            System.out.println("═══════════════════════════════════════════");
+        } finally {
+            Files.deleteIfExists(json);
+            Files.deleteIfExists(toon);
+            Files.deleteIfExists(back);
+        }
+        System.out.println();
+    }
+
+    // Helper methods
+
+    private static double mbPerSecond(long bytes, long nanos) {
+        return bytes / (nanos / 1_000_000_000.0) / (1024 * 1024);
+    }
+
+    private static void printSectionHeader(String title) {
+        System.out.println("═".repeat(65));
+        System.out.println(title);
+        System.out.println("═".repeat(65));
+    }
+}
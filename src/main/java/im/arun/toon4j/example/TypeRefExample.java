@@ -0,0 +1,1514 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.Toon;
+import im.arun.toon4j.example.PojoExample.Address;
+import im.arun.toon4j.example.PojoExample.Employee;
+import im.arun.toon4j.example.PojoExample.Person;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * Examples of decoding into generic top-level types.
+ * Shows a type token for {@code List<Person>} and {@code Map<String, List<Person>>},
+ * elements bound straight into the requested collection implementation, and the cost
+ * of decoding to {@code Object} and converting afterwards.
+ */
+public class TypeRefExample {
+
+    public static void main(String[] args) {
+        System.out.println("╔════════════════════════════════════════════════════════════════╗");
+        System.out.println("║          TOON4J TypeRef Examples                              ║");
+        System.out.println("║  Decoding Generic Top-Level Types                             ║");
+        System.out.println("╚════════════════════════════════════════════════════════════════╝\n");
+
+        example1_ListOfRecords();
+        example2_MapOfLists();
+        example3_CollectionImplementations();
+        example4_Performance();
+    }
+
+    // ==================== Type Tokens ====================
+
+    /**
+     * Captures a generic type through an anonymous subclass:
+     * {@code new TypeRef<List<Person>>() {}}.
+     */
+    public abstract static class TypeRef<T> {
+        private final Type type;
+
+        protected TypeRef() {
+            if (!(getClass().getGenericSuperclass() instanceof ParameterizedType superclass)) {
+                throw new IllegalStateException("TypeRef must be created with a type argument");
+            }
+            this.type = superclass.getActualTypeArguments()[0];
+        }
+
+        public Type type() {
+            return type;
+        }
+
+        @Override
+        public String toString() {
+            return "TypeRef<" + type.getTypeName() + ">";
+        }
+    }
+
+    // ==================== Type Plans ====================
+
+    /**
+     * How to build a value of one resolved type. Plans are resolved once per {@link Type}
+     * and cached; nested plans are looked up on first use, so recursive types resolve too.
+     */
+    interface Plan {
+        String describe();
+
+        /** Converts a primitive token (stripped, possibly quoted). */
+        default Object scalar(String token) {
+            throw new IllegalArgumentException("Expected nested data for " + describe() + ", found '" + token + "'");
+        }
+    }
+
+    /** Arrays and collections: created presized from the {@code [N]} header, then filled. */
+    interface ContainerPlan extends Plan {
+        Object begin(int size);
+
+        Plan element();
+
+        void add(Object container, int index, Object value);
+    }
+
+    /** Objects: a builder state that receives one value per key. */
+    interface ObjectPlan extends Plan {
+        Object begin();
+
+        /** Slot of {@code key}, or -1 to skip the entry. */
+        int slot(String key);
+
+        Plan plan(int slot);
+
+        void put(Object state, int slot, String key, Object value);
+
+        Object end(Object state);
+    }
+
+    /**
+     * Resolves and caches plans by type.
+     */
+    static final class Plans {
+        private static final Map<Type, Plan> CACHE = new ConcurrentHashMap<>();
+
+        private Plans() {}
+
+        static Plan of(Type type) {
+            Plan plan = CACHE.get(type);
+            if (plan == null) {
+                plan = resolve(type);
+                Plan raced = CACHE.putIfAbsent(type, plan);
+                if (raced != null) {
+                    plan = raced;
+                }
+            }
+            return plan;
+        }
+
+        static int cached() {
+            return CACHE.size();
+        }
+
+        private static Plan resolve(Type type) {
+            if (type instanceof Class<?> c) {
+                if (c == Object.class) {
+                    return AnyPlan.INSTANCE;
+                }
+                if (c == ToonNode.class) {
+                    return NodePlan.INSTANCE;
+                }
+                if (ScalarPlan.supports(c)) {
+                    return new ScalarPlan(c);
+                }
+                if (c.isArray()) {
+                    return new ArrayPlan(c.getComponentType(), c.getComponentType());
+                }
+                if (Collection.class.isAssignableFrom(c)) {
+                    return CollectionPlan.of(c, Object.class);
+                }
+                if (Map.class.isAssignableFrom(c)) {
+                    return MapPlan.of(c, String.class, Object.class);
+                }
+                return c.isRecord() ? RecordPlan.of(c) : BeanPlan.of(c);
+            }
+            if (type instanceof ParameterizedType parameterized && parameterized.getRawType() instanceof Class<?> raw) {
+                Type[] arguments = parameterized.getActualTypeArguments();
+                if (Collection.class.isAssignableFrom(raw) && arguments.length == 1) {
+                    return CollectionPlan.of(raw, arguments[0]);
+                }
+                if (Map.class.isAssignableFrom(raw) && arguments.length == 2) {
+                    return MapPlan.of(raw, arguments[0], arguments[1]);
+                }
+                return of(raw);
+            }
+            if (type instanceof GenericArrayType array) {
+                Type component = array.getGenericComponentType();
+                return new ArrayPlan(rawClass(component), component);
+            }
+            if (type instanceof WildcardType wildcard) {
+                return of(wildcard.getUpperBounds()[0]);
+            }
+            if (type instanceof TypeVariable<?> variable) {
+                return of(variable.getBounds()[0]);
+            }
+            throw new IllegalArgumentException("Unsupported type: " + type.getTypeName());
+        }
+
+        private static Class<?> rawClass(Type type) {
+            if (type instanceof Class<?> c) {
+                return c;
+            }
+            if (type instanceof ParameterizedType parameterized) {
+                return rawClass(parameterized.getRawType());
+            }
+            if (type instanceof GenericArrayType array) {
+                return rawClass(array.getGenericComponentType()).arrayType();
+            }
+            return Object.class;
+        }
+
+        static MethodHandle constructor(Class<?> type) {
+            try {
+                return MethodHandles.publicLookup().findConstructor(type, MethodType.methodType(void.class))
+                        .asType(MethodType.methodType(Object.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new IllegalArgumentException("No public no-arg constructor on " + type.getName(), e);
+            }
+        }
+
+        static Object construct(MethodHandle constructor, Class<?> type) {
+            try {
+                return constructor.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Cannot construct " + type.getName(), t);
+            }
+        }
+    }
+
+    /** Strings, numbers, booleans, characters and enums. */
+    static final class ScalarPlan implements Plan {
+        private final Class<?> type;
+
+        ScalarPlan(Class<?> type) {
+            this.type = type;
+        }
+
+        static boolean supports(Class<?> type) {
+            return type.isPrimitive()
+                    || type == String.class
+                    || type == Integer.class || type == Long.class || type == Short.class || type == Byte.class
+                    || type == Double.class || type == Float.class
+                    || type == BigDecimal.class || type == BigInteger.class
+                    || type == Boolean.class
+                    || type == Character.class
+                    || type.isEnum()
+                    || ValueAdapters.supports(type);
+        }
+
+        @Override
+        public String describe() {
+            return type.getSimpleName();
+        }
+
+        @Override
+        public Object scalar(String token) {
+            boolean quoted = token.length() >= 2 && token.charAt(0) == '"';
+            if (!quoted && token.equals("null")) {
+                if (type.isPrimitive()) {
+                    throw new IllegalArgumentException("null is not allowed for " + type.getName());
+                }
+                return null;
+            }
+            String text = quoted ? RowParser.unquote(token) : token;
+            try {
+                if (type == String.class) return text;
+                if (type == Integer.class || type == int.class) return Integer.valueOf(text);
+                if (type == Long.class || type == long.class) return Long.valueOf(text);
+                if (type == Double.class || type == double.class) return Double.valueOf(text);
+                if (type == Boolean.class || type == boolean.class) return parseBoolean(text);
+                if (type == Short.class || type == short.class) return Short.valueOf(text);
+                if (type == Byte.class || type == byte.class) return Byte.valueOf(text);
+                if (type == Float.class || type == float.class) return Float.valueOf(text);
+                if (type == BigInteger.class) return new BigInteger(text);
+                if ((type == Character.class || type == char.class) && text.length() == 1) return text.charAt(0);
+                if (type.isEnum()) return enumConstant(text);
+                if (ValueAdapters.supports(type)) return ValueAdapters.parse(type, text, 0, text.length());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid " + describe() + " '" + text + "'");
+            }
+            throw new IllegalArgumentException("Cannot convert '" + text + "' to " + describe());
+        }
+
+        private static Boolean parseBoolean(String text) {
+            return switch (text) {
+                case "true" -> Boolean.TRUE;
+                case "false" -> Boolean.FALSE;
+                default -> throw new IllegalArgumentException("Invalid boolean '" + text + "'");
+            };
+        }
+
+        private Object enumConstant(String text) {
+            for (Object constant : type.getEnumConstants()) {
+                if (((Enum<?>) constant).name().equals(text)) {
+                    return constant;
+                }
+            }
+            throw new IllegalArgumentException("No constant " + text + " in " + describe());
+        }
+    }
+
+    /** {@code Object}: primitives as decoded, objects as {@code LinkedHashMap}, arrays as {@code ArrayList}. */
+    static final class AnyPlan implements ContainerPlan, ObjectPlan {
+        static final AnyPlan INSTANCE = new AnyPlan();
+
+        @Override
+        public String describe() {
+            return "Object";
+        }
+
+        @Override
+        public Object scalar(String token) {
+            if (token.length() >= 2 && token.charAt(0) == '"') {
+                return RowParser.unquote(token);
+            }
+            return RowParser.primitive(token);
+        }
+
+        @Override
+        public Object begin(int size) {
+            return new ArrayList<>(size);
+        }
+
+        @Override
+        public Plan element() {
+            return this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void add(Object container, int index, Object value) {
+            ((List<Object>) container).add(value);
+        }
+
+        @Override
+        public Object begin() {
+            return new LinkedHashMap<String, Object>();
+        }
+
+        @Override
+        public int slot(String key) {
+            return 0;
+        }
+
+        @Override
+        public Plan plan(int slot) {
+            return this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void put(Object state, int slot, String key, Object value) {
+            ((Map<String, Object>) state).put(key, value);
+        }
+
+        @Override
+        public Object end(Object state) {
+            return state;
+        }
+    }
+
+    /**
+     * {@link ToonNode}: the same shapes as {@link AnyPlan}, built as compact nodes. Each array
+     * gets its own element plan, which remembers the last object's keys so that table rows
+     * share one key array.
+     */
+    static final class NodePlan implements ContainerPlan, ObjectPlan {
+        static final NodePlan INSTANCE = new NodePlan(false);
+
+        private final boolean shareKeys;
+        private ToonNode.Keys lastKeys;
+
+        private NodePlan(boolean shareKeys) {
+            this.shareKeys = shareKeys;
+        }
+
+        @Override
+        public String describe() {
+            return "ToonNode";
+        }
+
+        @Override
+        public Object scalar(String token) {
+            return ToonNode.scalar(token);
+        }
+
+        @Override
+        public Object begin(int size) {
+            return new ToonNode.ArrayNode(size);
+        }
+
+        @Override
+        public Plan element() {
+            return new NodePlan(true);
+        }
+
+        @Override
+        public void add(Object container, int index, Object value) {
+            ((ToonNode.ArrayNode) container).set(index, (ToonNode) value);
+        }
+
+        @Override
+        public Object begin() {
+            return ToonNode.ObjectNode.builder();
+        }
+
+        @Override
+        public int slot(String key) {
+            return 0;
+        }
+
+        @Override
+        public Plan plan(int slot) {
+            return INSTANCE;
+        }
+
+        @Override
+        public void put(Object state, int slot, String key, Object value) {
+            ((ToonNode.ObjectNode.Builder) state).put(key, (ToonNode) value);
+        }
+
+        @Override
+        public Object end(Object state) {
+            ToonNode.ObjectNode node = ((ToonNode.ObjectNode.Builder) state).build(lastKeys);
+            if (shareKeys && node.size() > 0) {
+                lastKeys = node.keys;
+            }
+            return node;
+        }
+    }
+
+    /** A collection type with its implementation chosen once, and the element type. */
+    static final class CollectionPlan implements ContainerPlan {
+        private final String name;
+        private final IntFunction<Collection<Object>> factory;
+        private final Type elementType;
+        private volatile Plan element;
+
+        private CollectionPlan(String name, IntFunction<Collection<Object>> factory, Type elementType) {
+            this.name = name;
+            this.factory = factory;
+            this.elementType = elementType;
+        }
+
+        static CollectionPlan of(Class<?> raw, Type elementType) {
+            IntFunction<Collection<Object>> factory;
+            if (raw.isAssignableFrom(ArrayList.class)) {
+                factory = ArrayList::new;
+            } else if (raw.isAssignableFrom(LinkedHashSet.class)) {
+                factory = size -> new LinkedHashSet<>(capacity(size));
+            } else if (raw.isAssignableFrom(TreeSet.class)) {
+                factory = size -> new TreeSet<>();
+            } else if (raw.isAssignableFrom(ArrayDeque.class)) {
+                factory = ArrayDeque::new;
+            } else {
+                MethodHandle constructor = Plans.constructor(raw);
+                factory = size -> newCollection(constructor, raw);
+            }
+            return new CollectionPlan(raw.getSimpleName() + "<" + elementType.getTypeName() + ">", factory, elementType);
+        }
+
+        private static int capacity(int size) {
+            return (int) (size / 0.75f) + 1;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Collection<Object> newCollection(MethodHandle constructor, Class<?> raw) {
+            return (Collection<Object>) Plans.construct(constructor, raw);
+        }
+
+        @Override
+        public String describe() {
+            return name;
+        }
+
+        @Override
+        public Object begin(int size) {
+            return factory.apply(size);
+        }
+
+        @Override
+        public Plan element() {
+            Plan plan = element;
+            if (plan == null) {
+                plan = Plans.of(elementType);
+                element = plan;
+            }
+            return plan;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void add(Object container, int index, Object value) {
+            ((Collection<Object>) container).add(value);
+        }
+    }
+
+    /** Java arrays, allocated at the declared length; primitive components are unboxed on store. */
+    static final class ArrayPlan implements ContainerPlan {
+        private final Class<?> component;
+        private final Type componentType;
+        private volatile Plan element;
+
+        ArrayPlan(Class<?> component, Type componentType) {
+            this.component = component;
+            this.componentType = componentType;
+        }
+
+        @Override
+        public String describe() {
+            return componentType.getTypeName() + "[]";
+        }
+
+        @Override
+        public Object begin(int size) {
+            return Array.newInstance(component, size);
+        }
+
+        @Override
+        public Plan element() {
+            Plan plan = element;
+            if (plan == null) {
+                plan = Plans.of(componentType);
+                element = plan;
+            }
+            return plan;
+        }
+
+        @Override
+        public void add(Object container, int index, Object value) {
+            if (value == null && component.isPrimitive()) {
+                throw new IllegalArgumentException("null is not allowed in " + describe());
+            }
+            Array.set(container, index, value);
+        }
+    }
+
+    /** A map type with its implementation, and key and value types. */
+    static final class MapPlan implements ObjectPlan {
+        private final String name;
+        private final MethodHandle constructor;
+        private final Class<?> raw;
+        private final Type keyType;
+        private final Type valueType;
+        private volatile Plan key;
+        private volatile Plan value;
+
+        private MapPlan(String name, MethodHandle constructor, Class<?> raw, Type keyType, Type valueType) {
+            this.name = name;
+            this.constructor = constructor;
+            this.raw = raw;
+            this.keyType = keyType;
+            this.valueType = valueType;
+        }
+
+        static MapPlan of(Class<?> raw, Type keyType, Type valueType) {
+            Class<?> implementation;
+            if (raw.isAssignableFrom(LinkedHashMap.class)) {
+                implementation = LinkedHashMap.class;
+            } else if (raw.isAssignableFrom(TreeMap.class)) {
+                implementation = TreeMap.class;
+            } else if (raw.isAssignableFrom(ConcurrentHashMap.class)) {
+                implementation = ConcurrentHashMap.class;
+            } else {
+                implementation = raw;
+            }
+            String name = raw.getSimpleName() + "<" + keyType.getTypeName() + ", " + valueType.getTypeName() + ">";
+            return new MapPlan(name, Plans.constructor(implementation), implementation, keyType, valueType);
+        }
+
+        @Override
+        public String describe() {
+            return name;
+        }
+
+        @Override
+        public Object begin() {
+            return Plans.construct(constructor, raw);
+        }
+
+        @Override
+        public int slot(String key) {
+            return 0;
+        }
+
+        @Override
+        public Plan plan(int slot) {
+            Plan plan = value;
+            if (plan == null) {
+                plan = Plans.of(valueType);
+                value = plan;
+            }
+            return plan;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void put(Object state, int slot, String name, Object entry) {
+            Plan plan = key;
+            if (plan == null) {
+                plan = Plans.of(keyType);
+                key = plan;
+            }
+            Object converted = plan instanceof AnyPlan || keyType == String.class ? name : plan.scalar(name);
+            ((Map<Object, Object>) state).put(converted, entry);
+        }
+
+        @Override
+        public Object end(Object state) {
+            return state;
+        }
+    }
+
+    /** A property slot of a bean or record: name, declared type and its plan, resolved on first use. */
+    static final class Slot {
+        final String name;
+        final Type type;
+        final MethodHandle setter;
+        final boolean primitive;
+        private volatile Plan plan;
+
+        Slot(String name, Type type, MethodHandle setter) {
+            this.name = name;
+            this.type = type;
+            this.setter = setter;
+            this.primitive = type instanceof Class<?> c && c.isPrimitive();
+        }
+
+        Plan plan() {
+            Plan resolved = plan;
+            if (resolved == null) {
+                resolved = Plans.of(type);
+                plan = resolved;
+            }
+            return resolved;
+        }
+    }
+
+    /** Slots by name, shared by beans and records. */
+    abstract static class SlotPlan implements ObjectPlan {
+        final Class<?> type;
+        final Slot[] slots;
+        private final Map<String, Integer> index = new HashMap<>();
+
+        SlotPlan(Class<?> type, Slot[] slots) {
+            this.type = type;
+            this.slots = slots;
+            for (int i = 0; i < slots.length; i++) {
+                index.put(slots[i].name, i);
+            }
+        }
+
+        @Override
+        public String describe() {
+            return type.getSimpleName();
+        }
+
+        @Override
+        public int slot(String key) {
+            Integer slot = index.get(key);
+            return slot != null ? slot : -1;
+        }
+
+        @Override
+        public Plan plan(int slot) {
+            return slots[slot].plan();
+        }
+    }
+
+    /** Beans: a no-arg constructor and setters (or public non-final fields). */
+    static final class BeanPlan extends SlotPlan {
+        private final MethodHandle constructor;
+
+        private BeanPlan(Class<?> type, Slot[] slots, MethodHandle constructor) {
+            super(type, slots);
+            this.constructor = constructor;
+        }
+
+        static BeanPlan of(Class<?> type) {
+            if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+                throw new IllegalArgumentException("Cannot decode into " + type.getName());
+            }
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            MethodType setterType = MethodType.methodType(void.class, Object.class, Object.class);
+            List<Slot> slots = new ArrayList<>();
+            try {
+                for (Field field : TabularSchemaExample.TableSchema.propertyFields(type)) {
+                    int modifiers = field.getModifiers();
+                    String name = field.getName();
+                    MethodHandle setter = null;
+                    try {
+                        Method method = type.getMethod("set" + Character.toUpperCase(name.charAt(0)) + name.substring(1),
+                                field.getType());
+                        setter = lookup.unreflect(method);
+                    } catch (NoSuchMethodException e) {
+                        if (Modifier.isPublic(modifiers) && !Modifier.isFinal(modifiers)) {
+                            setter = lookup.unreflectSetter(field);
+                        }
+                    }
+                    if (setter != null) {
+                        slots.add(new Slot(name, field.getGenericType(), setter.asType(setterType)));
+                    }
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("Type is not accessible: " + type.getName(), e);
+            }
+            return new BeanPlan(type, slots.toArray(Slot[]::new), Plans.constructor(type));
+        }
+
+        @Override
+        public Object begin() {
+            return Plans.construct(constructor, type);
+        }
+
+        @Override
+        public void put(Object state, int slot, String key, Object value) {
+            Slot target = slots[slot];
+            if (value == null && target.primitive) {
+                return;
+            }
+            try {
+                target.setter.invokeExact(state, value);
+            } catch (ClassCastException e) {
+                throw new IllegalArgumentException("Cannot assign " + value.getClass().getSimpleName()
+                        + " to '" + key + "' of " + describe());
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Cannot write property '" + key + "'", t);
+            }
+        }
+
+        @Override
+        public Object end(Object state) {
+            return state;
+        }
+    }
+
+    /** Records: values collected into an argument array for the canonical constructor. */
+    static final class RecordPlan extends SlotPlan {
+        private final MethodHandle constructor;
+        private final Object[] defaults;
+
+        private RecordPlan(Class<?> type, Slot[] slots, MethodHandle constructor, Object[] defaults) {
+            super(type, slots);
+            this.constructor = constructor;
+            this.defaults = defaults;
+        }
+
+        static RecordPlan of(Class<?> type) {
+            RecordComponent[] components = type.getRecordComponents();
+            Class<?>[] parameterTypes = new Class<?>[components.length];
+            Slot[] slots = new Slot[components.length];
+            Object[] defaults = new Object[components.length];
+            for (int i = 0; i < components.length; i++) {
+                Class<?> componentType = components[i].getType();
+                parameterTypes[i] = componentType;
+                slots[i] = new Slot(components[i].getName(), components[i].getGenericType(), null);
+                defaults[i] = componentType.isPrimitive() ? Array.get(Array.newInstance(componentType, 1), 0) : null;
+            }
+            MethodHandle constructor;
+            try {
+                constructor = MethodHandles.publicLookup()
+                        .findConstructor(type, MethodType.methodType(void.class, parameterTypes))
+                        .asSpreader(Object[].class, components.length)
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new IllegalArgumentException("Record is not accessible: " + type.getName(), e);
+            }
+            return new RecordPlan(type, slots, constructor, defaults);
+        }
+
+        @Override
+        public Object begin() {
+            return defaults.clone();
+        }
+
+        @Override
+        public void put(Object state, int slot, String key, Object value) {
+            if (value != null || defaults[slot] == null) {
+                ((Object[]) state)[slot] = value;
+            }
+        }
+
+        @Override
+        public Object end(Object state) {
+            try {
+                return constructor.invokeExact((Object[]) state);
+            } catch (ClassCastException e) {
+                throw new IllegalArgumentException("Value does not match a component of " + describe());
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Cannot construct " + type.getName(), t);
+            }
+        }
+    }
+
+    // ==================== Decode Limits ====================
+
+    /**
+     * Upper bounds for one decode, so a single oversized or hostile document cannot take an
+     * unbounded share of the heap or stack. Every limit defaults to unlimited; an unset limit
+     * costs one comparison against {@code MAX_VALUE} where it is checked.
+     */
+    public static final class DecodeLimits {
+        public static final DecodeLimits NONE = builder().build();
+
+        private final int maxDepth;
+        private final int maxArrayLength;
+        private final int maxStringLength;
+        private final long maxTotalNodes;
+        private final long maxInputChars;
+
+        private DecodeLimits(Builder builder) {
+            this.maxDepth = builder.maxDepth;
+            this.maxArrayLength = builder.maxArrayLength;
+            this.maxStringLength = builder.maxStringLength;
+            this.maxTotalNodes = builder.maxTotalNodes;
+            this.maxInputChars = builder.maxInputChars;
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        public int maxDepth() { return maxDepth; }
+        public int maxArrayLength() { return maxArrayLength; }
+        public int maxStringLength() { return maxStringLength; }
+        public long maxTotalNodes() { return maxTotalNodes; }
+        public long maxInputChars() { return maxInputChars; }
+
+        public static final class Builder {
+            private int maxDepth = Integer.MAX_VALUE;
+            private int maxArrayLength = Integer.MAX_VALUE;
+            private int maxStringLength = Integer.MAX_VALUE;
+            private long maxTotalNodes = Long.MAX_VALUE;
+            private long maxInputChars = Long.MAX_VALUE;
+
+            private Builder() {}
+
+            /** Nesting of objects and arrays; the root value is depth 1. */
+            public Builder maxDepth(int maxDepth) {
+                this.maxDepth = positive("maxDepth", maxDepth);
+                return this;
+            }
+
+            /** Largest declared {@code [N]}, checked before anything is allocated for it. */
+            public Builder maxArrayLength(int maxArrayLength) {
+                this.maxArrayLength = positive("maxArrayLength", maxArrayLength);
+                return this;
+            }
+
+            /** Longest key or primitive token, measured on the raw text (quotes included). */
+            public Builder maxStringLength(int maxStringLength) {
+                this.maxStringLength = positive("maxStringLength", maxStringLength);
+                return this;
+            }
+
+            /** Objects, arrays and primitives in the whole document, including declared but unread items. */
+            public Builder maxTotalNodes(long maxTotalNodes) {
+                this.maxTotalNodes = positive("maxTotalNodes", maxTotalNodes);
+                return this;
+            }
+
+            public Builder maxInputChars(long maxInputChars) {
+                this.maxInputChars = positive("maxInputChars", maxInputChars);
+                return this;
+            }
+
+            public DecodeLimits build() {
+                return new DecodeLimits(this);
+            }
+
+            private static int positive(String name, int value) {
+                if (value <= 0) {
+                    throw new IllegalArgumentException(name + " must be positive: " + value);
+                }
+                return value;
+            }
+
+            private static long positive(String name, long value) {
+                if (value <= 0) {
+                    throw new IllegalArgumentException(name + " must be positive: " + value);
+                }
+                return value;
+            }
+        }
+    }
+
+    /**
+     * A document exceeded one of the {@link DecodeLimits}; {@link #limit()} names which one.
+     */
+    public static final class LimitExceededException extends IllegalArgumentException {
+        private static final long serialVersionUID = 1L;
+
+        private final String limit;
+
+        LimitExceededException(String limit, String message) {
+            super(message);
+            this.limit = limit;
+        }
+
+        public String limit() {
+            return limit;
+        }
+    }
+
+    // ==================== Decoder ====================
+
+    /**
+     * Decodes TOON straight into the type a plan describes: the root array header sizes the
+     * requested collection, tabular rows become beans or records, and no intermediate
+     * {@code Map}/{@code List} tree is built. One instance per call.
+     *
+     * <p>{@link DecodeLimits} are checked inline: the input length up front, each {@code [N]}
+     * before its collection is created, depth on entering an object or array, and token
+     * lengths before the token is copied out of the input.
+     */
+    public static final class TypedDecoder {
+        private final String text;
+        private final DecodeLimits limits;
+        private final int maxDepth;
+        private final int maxStringLength;
+        private long nodesLeft;
+        private int depth;
+        private int next;
+        private int start;
+        private int end;
+        private int indent;
+        private int lineNumber;
+        private int physicalLine;
+        private boolean hasLine;
+
+        // Current entry, set by parseKey
+        private String key;
+        private int count;
+        private char delimiter;
+        private String fields;
+        private int valueStart;
+
+        private TypedDecoder(String text, DecodeLimits limits) {
+            this.text = text;
+            this.limits = limits;
+            this.maxDepth = limits.maxDepth();
+            this.maxStringLength = limits.maxStringLength();
+            this.nodesLeft = limits.maxTotalNodes();
+        }
+
+        public static <T> T decode(String toon, TypeRef<T> type) {
+            return decode(toon, type, DecodeLimits.NONE);
+        }
+
+        public static <T> T decode(String toon, TypeRef<T> type, DecodeLimits limits) {
+            @SuppressWarnings("unchecked")
+            T value = (T) decode(toon, type.type(), limits);
+            return value;
+        }
+
+        public static <T> T decode(String toon, Class<T> type) {
+            return decode(toon, type, DecodeLimits.NONE);
+        }
+
+        @SuppressWarnings("unchecked")
+        public static <T> T decode(String toon, Class<T> type, DecodeLimits limits) {
+            Object value = decode(toon, (Type) type, limits);
+            return type.isPrimitive() ? (T) value : type.cast(value);
+        }
+
+        public static Object decode(String toon, Type type, DecodeLimits limits) {
+            Objects.requireNonNull(limits, "limits");
+            if (toon.length() > limits.maxInputChars()) {
+                throw new LimitExceededException("maxInputChars", "Input has " + toon.length()
+                        + " characters, limit is " + limits.maxInputChars());
+            }
+            return new TypedDecoder(toon, limits).root(Plans.of(type));
+        }
+
+        private Object root(Plan plan) {
+            advance();
+            if (!hasLine) {
+                if (plan instanceof NodePlan) {
+                    // An empty document is an empty object, which also encodes back to nothing
+                    return ToonNode.ObjectNode.EMPTY;
+                }
+                return plan instanceof ContainerPlan container ? container.begin(0)
+                        : plan instanceof ObjectPlan object ? object.end(object.begin()) : null;
+            }
+            if (indent != 0) {
+                throw error("Unexpected indentation");
+            }
+            Object value;
+            if (text.charAt(start) == '[') {
+                parseKey();
+                value = readArray(plan, 0);
+            } else if (isKeyLine()) {
+                value = readObject(plan, 0);
+            } else {
+                String token = token(start, end);
+                advance();
+                value = scalar(plan, token);
+            }
+            if (hasLine) {
+                throw error("Unexpected content after the root value");
+            }
+            return value;
+        }
+
+        private Object readEntryValue(Plan plan, int fieldIndent) {
+            if (count >= 0) {
+                return readArray(plan, fieldIndent);
+            }
+            if (valueStart < end) {
+                String token = token(valueStart, end);
+                advance();
+                return scalar(plan, token);
+            }
+            advance();
+            return readObject(plan, hasLine && indent > fieldIndent ? indent : -1);
+        }
+
+        /** The object whose keys are at {@code fieldIndent}; -1 for an empty object. */
+        private Object readObject(Plan plan, int fieldIndent) {
+            if (!(plan instanceof ObjectPlan object)) {
+                throw error("Expected " + plan.describe() + ", found an object");
+            }
+            enter();
+            Object state = object.begin();
+            while (fieldIndent >= 0 && hasLine && indent == fieldIndent) {
+                parseKey();
+                int slot = object.slot(key);
+                if (slot < 0) {
+                    skipEntry(fieldIndent);
+                    continue;
+                }
+                String name = key;
+                object.put(state, slot, name, readEntryValue(object.plan(slot), fieldIndent));
+            }
+            if (fieldIndent >= 0 && hasLine && indent > fieldIndent) {
+                throw error("Unexpected indentation");
+            }
+            depth--;
+            return object.end(state);
+        }
+
+        private Object readArray(Plan plan, int fieldIndent) {
+            if (!(plan instanceof ContainerPlan container)) {
+                throw error("Expected " + plan.describe() + ", found an array");
+            }
+            int declared = count;
+            if (declared > limits.maxArrayLength()) {
+                throw limit("maxArrayLength", "Array declares " + declared + " items, limit is " + limits.maxArrayLength());
+            }
+            if (declared > nodesLeft) {
+                throw limit("maxTotalNodes", "Array declares " + declared + " items, more than the "
+                        + nodesLeft + " nodes left of " + limits.maxTotalNodes());
+            }
+            // Every element takes at least two characters, so a header cannot ask for more than that
+            if (declared > (text.length() - start) / 2 + 1) {
+                throw error("Array declares " + declared + " items but the input is too short");
+            }
+            enter();
+            Object result = container.begin(declared);
+            Plan element = container.element();
+            int items = 0;
+            if (fields != null) {
+                items = readRows(container, result, element, fieldIndent);
+            } else if (valueStart < end) {
+                List<String> tokens = split(valueStart, end, delimiter, new ArrayList<>(declared));
+                for (String token : tokens) {
+                    container.add(result, items++, scalar(element, token));
+                }
+                advance();
+            } else {
+                advance();
+                int itemIndent = hasLine ? indent : -1;
+                while (hasLine && indent > fieldIndent) {
+                    if (indent != itemIndent || text.charAt(start) != '-'
+                            || start + 1 < end && text.charAt(start + 1) != ' ') {
+                        throw error("Expected a list item");
+                    }
+                    if (items >= declared) {
+                        throw error("Array declares " + declared + " items but has more");
+                    }
+                    container.add(result, items++, readItem(element, itemIndent));
+                }
+            }
+            if (items != declared) {
+                throw error("Array declares " + declared + " items but has " + items);
+            }
+            depth--;
+            return result;
+        }
+
+        private Object readItem(Plan element, int itemIndent) {
+            if (start + 1 >= end) {
+                advance();
+                return readObject(element, -1);
+            }
+            start += 2;
+            indent += 2;
+            if (text.charAt(start) == '[') {
+                parseKey();
+                return readArray(element, itemIndent);
+            }
+            if (isKeyLine()) {
+                return readObject(element, itemIndent + 2);
+            }
+            String token = token(start, end);
+            advance();
+            return scalar(element, token);
+        }
+
+        /** Tabular rows: each header field is resolved to a slot and plan once per table. */
+        private int readRows(ContainerPlan container, Object result, Plan element, int fieldIndent) {
+            if (!(element instanceof ObjectPlan row)) {
+                throw error("Expected " + element.describe() + ", found table rows");
+            }
+            List<String> names = split(0, fields.length(), delimiter, new ArrayList<>(), fields);
+            int columns = names.size();
+            int[] slots = new int[columns];
+            Plan[] plans = new Plan[columns];
+            for (int c = 0; c < columns; c++) {
+                String name = unquote(names.get(c));
+                names.set(c, name);
+                slots[c] = row.slot(name);
+                plans[c] = slots[c] >= 0 ? row.plan(slots[c]) : null;
+            }
+            char delim = delimiter;
+            int declared = count;
+            List<String> tokens = new ArrayList<>(columns);
+            advance();
+            int rowIndent = hasLine ? indent : -1;
+            int rows = 0;
+            while (hasLine && indent > fieldIndent) {
+                if (indent != rowIndent) {
+                    throw error("Unexpected indentation");
+                }
+                if (rows >= declared) {
+                    throw error("Array declares " + declared + " rows but has more");
+                }
+                tokens.clear();
+                split(start, end, delim, tokens);
+                if (tokens.size() != columns) {
+                    throw error("Row has " + tokens.size() + " values, header has " + columns);
+                }
+                node();
+                Object state = row.begin();
+                for (int c = 0; c < columns; c++) {
+                    if (slots[c] >= 0) {
+                        row.put(state, slots[c], names.get(c), scalar(plans[c], tokens.get(c)));
+                    }
+                }
+                container.add(result, rows++, row.end(state));
+                advance();
+            }
+            return rows;
+        }
+
+        private Object scalar(Plan plan, String token) {
+            node();
+            if (!(plan instanceof ScalarPlan) && !(plan instanceof AnyPlan) && !(plan instanceof NodePlan) && token.equals("null")) {
+                return null;
+            }
+            try {
+                return plan.scalar(token);
+            } catch (IllegalArgumentException e) {
+                throw error(e.getMessage());
+            }
+        }
+
+        /**
+         * Splits the current line into key, optional {@code [N]} and {@code {fields}},
+         * and the start of the value after the colon.
+         */
+        private void parseKey() {
+            int i = start;
+            if (text.charAt(i) == '"') {
+                int close = closingQuote(i);
+                checkLength(close + 1 - i);
+                key = unquote(text.substring(i, close + 1));
+                i = close + 1;
+            } else {
+                while (i < end && text.charAt(i) != ':' && text.charAt(i) != '[') {
+                    i++;
+                }
+                checkLength(i - start);
+                key = text.substring(start, i).strip();
+            }
+            count = -1;
+            delimiter = ',';
+            fields = null;
+            if (i < end && text.charAt(i) == '[') {
+                int close = text.indexOf(']', i);
+                if (close < 0 || close >= end) {
+                    throw error("Expected ']'");
+                }
+                int digits = text.charAt(i + 1) == '#' ? i + 2 : i + 1;
+                int digitsEnd = close;
+                char last = text.charAt(close - 1);
+                if (last == '|' || last == '\t') {
+                    delimiter = last;
+                    digitsEnd--;
+                }
+                // Digits only: parseInt would also take a sign, and [-5] must not reach begin(-5)
+                for (int d = digits; d < digitsEnd; d++) {
+                    char c = text.charAt(d);
+                    if (c < '0' || c > '9') {
+                        throw error("Invalid array length");
+                    }
+                }
+                try {
+                    count = Integer.parseInt(text, digits, digitsEnd, 10);
+                } catch (NumberFormatException e) {
+                    throw error("Invalid array length");
+                }
+                i = close + 1;
+                if (i < end && text.charAt(i) == '{') {
+                    int fieldsEnd = text.indexOf('}', i);
+                    if (fieldsEnd < 0 || fieldsEnd >= end) {
+                        throw error("Expected '}'");
+                    }
+                    fields = text.substring(i + 1, fieldsEnd);
+                    i = fieldsEnd + 1;
+                }
+            }
+            if (i >= end || text.charAt(i) != ':') {
+                throw error("Expected ':'");
+            }
+            i++;
+            while (i < end && text.charAt(i) == ' ') i++;
+            valueStart = i;
+        }
+
+        /** True when the current line starts with a key followed by ':' or '['. */
+        private boolean isKeyLine() {
+            int i = start;
+            if (text.charAt(i) == '"') {
+                i = closingQuote(i) + 1;
+                return i < end && (text.charAt(i) == ':' || text.charAt(i) == '[');
+            }
+            for (; i < end; i++) {
+                char c = text.charAt(i);
+                if (c == ':' || c == '[') {
+                    return true;
+                }
+                if (c == '"') {
+                    return false;
+                }
+            }
+            return false;
+        }
+
+        /** Delimiter-separated tokens of the current line, each checked against the string limit. */
+        private List<String> split(int from, int to, char delim, List<String> out) {
+            int tokenStart = from;
+            boolean inQuotes = false;
+            for (int i = from; i < to; i++) {
+                char c = text.charAt(i);
+                if (inQuotes) {
+                    if (c == '\\') {
+                        i++;
+                    } else if (c == '"') {
+                        inQuotes = false;
+                    }
+                } else if (c == '"') {
+                    inQuotes = true;
+                } else if (c == delim) {
+                    out.add(token(tokenStart, i));
+                    tokenStart = i + 1;
+                }
+            }
+            out.add(token(tokenStart, to));
+            return out;
+        }
+
+        private String token(int from, int to) {
+            checkLength(to - from);
+            return text.substring(from, to).strip();
+        }
+
+        private void checkLength(int length) {
+            if (length > maxStringLength) {
+                throw limit("maxStringLength", "Value of " + length + " characters, limit is " + maxStringLength);
+            }
+        }
+
+        private void enter() {
+            if (++depth > maxDepth) {
+                throw limit("maxDepth", "Nesting deeper than " + maxDepth);
+            }
+            node();
+        }
+
+        private void node() {
+            if (--nodesLeft < 0) {
+                throw limit("maxTotalNodes", "More than " + limits.maxTotalNodes() + " nodes");
+            }
+        }
+
+        /** Delimiter-separated tokens of {@code source[from, to)}, stripped; quoted tokens stay quoted. */
+        private static List<String> split(int from, int to, char delim, List<String> out, String source) {
+            int tokenStart = from;
+            boolean inQuotes = false;
+            for (int i = from; i < to; i++) {
+                char c = source.charAt(i);
+                if (inQuotes) {
+                    if (c == '\\') {
+                        i++;
+                    } else if (c == '"') {
+                        inQuotes = false;
+                    }
+                } else if (c == '"') {
+                    inQuotes = true;
+                } else if (c == delim) {
+                    out.add(source.substring(tokenStart, i).strip());
+                    tokenStart = i + 1;
+                }
+            }
+            out.add(source.substring(tokenStart, to).strip());
+            return out;
+        }
+
+        private int closingQuote(int quote) {
+            for (int i = quote + 1; i < end; i++) {
+                char c = text.charAt(i);
+                if (c == '\\') {
+                    i++;
+                } else if (c == '"') {
+                    return i;
+                }
+            }
+            throw error("Unterminated quoted string");
+        }
+
+        private void skipEntry(int fieldIndent) {
+            advance();
+            while (hasLine && indent > fieldIndent) {
+                advance();
+            }
+        }
+
+        private void advance() {
+            int length = text.length();
+            while (next < length) {
+                int lineStart = next;
+                int newline = text.indexOf('\n', lineStart);
+                int lineEnd = newline < 0 ? length : newline;
+                next = newline < 0 ? length : newline + 1;
+                physicalLine++;
+                if (lineEnd > lineStart && text.charAt(lineEnd - 1) == '\r') {
+                    lineEnd--;
+                }
+                int i = lineStart;
+                while (i < lineEnd && text.charAt(i) == ' ') {
+                    i++;
+                }
+                if (i < lineEnd) {
+                    start = i;
+                    end = lineEnd;
+                    indent = i - lineStart;
+                    lineNumber = physicalLine;
+                    hasLine = true;
+                    return;
+                }
+            }
+            hasLine = false;
+            indent = -1;
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("Line " + lineNumber + ": " + message);
+        }
+
+        private LimitExceededException limit(String name, String message) {
+            return new LimitExceededException(name, "Line " + lineNumber + ": " + message);
+        }
+
+        /** {@link RowParser#unquote}, with the line number on errors. */
+        private String unquote(String token) {
+            try {
+                return RowParser.unquote(token);
+            } catch (IllegalArgumentException e) {
+                throw error(e.getMessage());
+            }
+        }
+    }
+
+    // ==================== Examples ====================
+
+    /**
+     * Example 1: A root array of records
+     */
+    private static void example1_ListOfRecords() {
+        printSectionHeader("Example 1: List<Person>");
+
+        String toon = """
+            [3]{name,age,city,occupation}:
+              Alice,30,New York,Engineer
+              Bob,25,San Francisco,Designer
+              Charlie,35,Boston,Manager
+            """;
+
+        List<Person> people = TypedDecoder.decode(toon, new TypeRef<List<Person>>() {});
+        System.out.println("TOON Input:");
+        System.out.println(toon.trim());
+        System.out.println();
+        System.out.println("Decoded " + people.getClass().getSimpleName() + ":");
+        people.forEach(person -> System.out.println("  " + person));
+        System.out.println();
+
+        List<Employee> employees = TypedDecoder.decode("""
+            [2]:
+              - id: 1
+                name: Alice
+                department: Engineering
+                address:
+                  city: Oakland
+              - id: 2
+                name: Bob
+                department: Design
+            """, new TypeRef<List<Employee>>() {});
+        Address address = employees.get(0).getAddress();
+        System.out.println("List<Employee>: " + employees.get(0).getName() + " (" + address.getCity() + "), "
+                + employees.get(1).getName() + " (address " + employees.get(1).getAddress() + ")");
+        System.out.println();
+    }
+
+    /**
+     * Example 2: A map of typed lists
+     */
+    private static void example2_MapOfLists() {
+        printSectionHeader("Example 2: Map<String, List<Person>>");
+
+        String toon = """
+            engineering[2]{name,age,city,occupation}:
+              Alice,30,New York,Engineer
+              Dana,41,Austin,Architect
+            design[1]{name,age,city,occupation}:
+              Bob,25,San Francisco,Designer
+            """;
+
+        Map<String, List<Person>> teams = TypedDecoder.decode(toon, new TypeRef<Map<String, List<Person>>>() {});
+        teams.forEach((team, members) -> {
+            System.out.println(team + ":");
+            members.forEach(person -> System.out.println("  " + person.name() + ", " + person.age()));
+        });
+        System.out.println();
+
+        Map<Integer, Double> scores = TypedDecoder.decode("""
+            101: 9.5
+            102: 7.25
+            """, new TypeRef<TreeMap<Integer, Double>>() {});
+        System.out.println("TreeMap<Integer, Double>: " + scores + " (keys are "
+                + scores.keySet().iterator().next().getClass().getSimpleName() + ")");
+        System.out.println();
+    }
+
+    /**
+     * Example 3: Elements bound into the requested implementation
+     */
+    private static void example3_CollectionImplementations() {
+        printSectionHeader("Example 3: Collection Implementations");
+
+        Set<String> tags = TypedDecoder.decode("[4]: java,api,java,cloud", new TypeRef<Set<String>>() {});
+        TreeSet<Integer> sorted = TypedDecoder.decode("[4]: 42,7,19,3", new TypeRef<TreeSet<Integer>>() {});
+        Deque<Double> queue = TypedDecoder.decode("[3]: 1.5,2.5,3.5", new TypeRef<Deque<Double>>() {});
+        int[] numbers = TypedDecoder.decode("[5|]: 1|1|2|3|5", int[].class);
+        List<List<String>> nested = TypedDecoder.decode("""
+            [2]:
+              - [2]: a,b
+              - [1]: c
+            """, new TypeRef<List<List<String>>>() {});
+
+        System.out.println("Set<String>:        " + tags + " (" + tags.getClass().getSimpleName() + ")");
+        System.out.println("TreeSet<Integer>:   " + sorted);
+        System.out.println("Deque<Double>:      " + queue + " (" + queue.getClass().getSimpleName() + ")");
+        System.out.println("int[]:              " + Arrays.toString(numbers));
+        System.out.println("List<List<String>>: " + nested);
+        System.out.println();
+    }
+
+    /**
+     * Example 4: Direct binding against decoding to Object and converting
+     */
+    private static void example4_Performance() {
+        printSectionHeader("Example 4: Performance (50,000 rows)");
+
+        StringBuilder toon = new StringBuilder("[50000]{name,age,city,occupation}:");
+        for (int i = 0; i < 50_000; i++) {
+            toon.append("\n  person-").append(i).append(',').append(20 + i % 50)
+                    .append(",City ").append(i % 100).append(",Role ").append(i % 7);
+        }
+        String text = toon.toString();
+        TypeRef<List<Person>> type = new TypeRef<>() {};
+
+        // Warm up
+        for (int i = 0; i < 5; i++) {
+            TypedDecoder.decode(text, type);
+            convert(Toon.decode(text));
+        }
+
+        long start = System.nanoTime();
+        List<Person> direct = TypedDecoder.decode(text, type);
+        long directNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        List<Person> converted = convert(Toon.decode(text));
+        long convertNanos = System.nanoTime() - start;
+
+        System.out.println("═══════════════════════════════════════════");
+        System.out.printf("Toon.decode + convert:      %6.1f ms%n", convertNanos / 1_000_000.0);
+        System.out.printf("Decode with TypeRef:        %6.1f ms%n", directNanos / 1_000_000.0);
+        System.out.printf("Speedup:                    %.2fx%n", (double) convertNanos / directNanos);
+        System.out.printf("Same result:                %s%n", direct.equals(converted));
+        System.out.printf("Cached type plans:          %d%n", Plans.cached());
+        System.out.println("═══════════════════════════════════════════");
+        System.out.println();
+    }
+
+    // Helper methods
+
+    /** The two-pass approach: a generic tree first, then a copy into records. */
+    @SuppressWarnings("unchecked")
+    private static List<Person> convert(Object decoded) {
+        List<Person> people = new ArrayList<>();
+        for (Object row : (List<Object>) decoded) {
+            Map<String, Object> map = (Map<String, Object>) row;
+            people.add(new Person((String) map.get("name"), ((Number) map.get("age")).intValue(),
+                    (String) map.get("city"), (String) map.get("occupation")));
+        }
+        return people;
+    }
+
+    private static void printSectionHeader(String title) {
+        System.out.println("═".repeat(65));
+        System.out.println(title);
+        System.out.println("═".repeat(65));
+    }
+}
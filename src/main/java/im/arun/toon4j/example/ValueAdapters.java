@@ -0,0 +1,467 @@
+package im.arun.toon4j.example;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Canonical TOON text for common value types, written digit by digit into the output and
+ * parsed straight from a character range, without {@code toString()} or substring
+ * intermediates.
+ *
+ * <p>The text is exactly what each type's {@code toString()} produces ({@code Instant} as
+ * ISO-8601 UTC, {@code UUID} lowercase 8-4-4-4-12, and so on), and {@code BigDecimal}
+ * follows {@link ToonStrings#appendNumber}. Values outside the fast paths, such as years
+ * beyond 9999 or exponents, fall back to the {@code java.time} and {@code java.math} parsers
+ * and formatters.
+ */
+final class ValueAdapters {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+            10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L,
+            10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L};
+    private static final int SECONDS_PER_DAY = 86_400;
+
+    private ValueAdapters() {}
+
+    static boolean supports(Class<?> type) {
+        return type == Instant.class
+                || type == UUID.class
+                || type == BigDecimal.class
+                || type == OffsetDateTime.class
+                || type == LocalDate.class
+                || type == LocalDateTime.class
+                || type == LocalTime.class;
+    }
+
+    /** Appends {@code value} as a TOON primitive, quoted when its text contains a colon. */
+    static void append(StringBuilder out, Object value) {
+        if (value instanceof Instant instant) {
+            appendInstant(out, instant);
+        } else if (value instanceof UUID uuid) {
+            appendUuid(out, uuid);
+        } else if (value instanceof BigDecimal decimal) {
+            appendDecimal(out, decimal);
+        } else if (value instanceof OffsetDateTime dateTime) {
+            if (!inRange(dateTime.getYear())) {
+                ToonStrings.appendQuoted(out, dateTime.toString());
+                return;
+            }
+            out.append('"');
+            appendDate(out, dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth());
+            out.append('T');
+            appendTime(out, dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano(), false);
+            appendOffset(out, dateTime.getOffset().getTotalSeconds());
+            out.append('"');
+        } else if (value instanceof LocalDateTime dateTime) {
+            if (!inRange(dateTime.getYear())) {
+                ToonStrings.appendQuoted(out, dateTime.toString());
+                return;
+            }
+            out.append('"');
+            appendDate(out, dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth());
+            out.append('T');
+            appendTime(out, dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano(), false);
+            out.append('"');
+        } else if (value instanceof LocalDate date) {
+            if (!inRange(date.getYear())) {
+                ToonStrings.appendQuoted(out, date.toString());
+                return;
+            }
+            // yyyy-MM-dd has no structural characters and is not numeric, so it stays unquoted
+            appendDate(out, date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+        } else if (value instanceof LocalTime time) {
+            out.append('"');
+            appendTime(out, time.getHour(), time.getMinute(), time.getSecond(), time.getNano(), false);
+            out.append('"');
+        } else {
+            throw new IllegalArgumentException("Unsupported value type: " + value.getClass().getName());
+        }
+    }
+
+    /** {@code Instant.toString()}: seconds always present, fractions in groups of three digits. */
+    static void appendInstant(StringBuilder out, Instant instant) {
+        long seconds = instant.getEpochSecond();
+        long epochDay = Math.floorDiv(seconds, SECONDS_PER_DAY);
+        int secondOfDay = Math.floorMod(seconds, SECONDS_PER_DAY);
+
+        // Days to civil date (proleptic Gregorian), after H. Hinnant
+        long z = epochDay + 719_468;
+        long era = Math.floorDiv(z, 146_097);
+        long dayOfEra = z - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long monthIndex = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * monthIndex + 2) / 5 + 1);
+        int month = (int) (monthIndex < 10 ? monthIndex + 3 : monthIndex - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (!inRange(year)) {
+            ToonStrings.appendQuoted(out, instant.toString());
+            return;
+        }
+
+        out.append('"');
+        appendDate(out, (int) year, month, day);
+        out.append('T');
+        appendTime(out, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60, instant.getNano(), true);
+        out.append('Z').append('"');
+    }
+
+    static void appendUuid(StringBuilder out, UUID uuid) {
+        long most = uuid.getMostSignificantBits();
+        long least = uuid.getLeastSignificantBits();
+        appendHex(out, most >>> 32, 8);
+        out.append('-');
+        appendHex(out, most >>> 16, 4);
+        out.append('-');
+        appendHex(out, most, 4);
+        out.append('-');
+        appendHex(out, least >>> 48, 4);
+        out.append('-');
+        appendHex(out, least, 12);
+    }
+
+    /**
+     * Plain notation without trailing zeros, as {@code stripTrailingZeros().toPlainString()}.
+     * Values with up to 18 digits and a scale of at most 18 are written from the unscaled long.
+     */
+    static void appendDecimal(StringBuilder out, BigDecimal decimal) {
+        if (decimal.signum() == 0) {
+            out.append('0');
+            return;
+        }
+        int scale = decimal.scale();
+        if (decimal.precision() > 18 || scale > 18) {
+            out.append(decimal.stripTrailingZeros().toPlainString());
+            return;
+        }
+        long unscaled = decimal.unscaledValue().longValue();
+        while (scale > 0 && unscaled % 10 == 0) {
+            unscaled /= 10;
+            scale--;
+        }
+        if (unscaled < 0) {
+            out.append('-');
+            unscaled = -unscaled;
+        }
+        if (scale <= 0) {
+            out.append(unscaled);
+            for (int i = scale; i < 0; i++) {
+                out.append('0');
+            }
+            return;
+        }
+        long divisor = POWERS_OF_TEN[scale];
+        out.append(unscaled / divisor).append('.');
+        appendPadded(out, unscaled % divisor, scale);
+    }
+
+    // ==================== Parsing ====================
+
+    /**
+     * Parses the unquoted text in {@code text[from, to)} as {@code type}.
+     *
+     * @throws IllegalArgumentException when the text is not a valid value of the type
+     */
+    static Object parse(Class<?> type, CharSequence text, int from, int to) {
+        try {
+            if (type == Instant.class) {
+                Instant instant = parseInstant(text, from, to);
+                return instant != null ? instant : Instant.parse(text.subSequence(from, to));
+            }
+            if (type == UUID.class) {
+                return parseUuid(text, from, to);
+            }
+            if (type == BigDecimal.class) {
+                return parseDecimal(text, from, to);
+            }
+            Clock clock = new Clock();
+            if (type == LocalDate.class) {
+                int date = date(text, from, to);
+                return date >= 0 && to - from == 10
+                        ? LocalDate.of(date >> 9, (date >> 5) & 0xF, date & 0x1F)
+                        : LocalDate.parse(text.subSequence(from, to));
+            }
+            if (type == LocalTime.class) {
+                return time(text, from, to, clock) && clock.end == to
+                        ? LocalTime.of(clock.hour, clock.minute, clock.second, clock.nano)
+                        : LocalTime.parse(text.subSequence(from, to));
+            }
+            int date = date(text, from, to);
+            boolean fast = date >= 0 && to - from > 11 && text.charAt(from + 10) == 'T'
+                    && time(text, from + 11, to, clock);
+            if (type == LocalDateTime.class) {
+                return fast && clock.end == to
+                        ? LocalDateTime.of(date >> 9, (date >> 5) & 0xF, date & 0x1F,
+                                clock.hour, clock.minute, clock.second, clock.nano)
+                        : LocalDateTime.parse(text.subSequence(from, to));
+            }
+            if (type == OffsetDateTime.class) {
+                int offset = fast ? offset(text, clock.end, to) : Integer.MIN_VALUE;
+                return offset != Integer.MIN_VALUE
+                        ? OffsetDateTime.of(date >> 9, (date >> 5) & 0xF, date & 0x1F,
+                                clock.hour, clock.minute, clock.second, clock.nano, ZoneOffset.ofTotalSeconds(offset))
+                        : OffsetDateTime.parse(text.subSequence(from, to));
+            }
+        } catch (DateTimeException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + type.getSimpleName() + " '" + text.subSequence(from, to) + "'");
+        }
+        throw new IllegalArgumentException("Unsupported value type: " + type.getName());
+    }
+
+    /** {@code yyyy-MM-ddTHH:mm[:ss[.fraction]]Z}, or {@code null} to let {@link Instant#parse} decide. */
+    private static Instant parseInstant(CharSequence text, int from, int to) {
+        int date = date(text, from, to);
+        Clock clock = new Clock();
+        if (date < 0 || to - from < 17 || text.charAt(from + 10) != 'T' || text.charAt(to - 1) != 'Z'
+                || !time(text, from + 11, to - 1, clock) || clock.end != to - 1) {
+            return null;
+        }
+        int year = date >> 9;
+        int month = (date >> 5) & 0xF;
+        int day = date & 0x1F;
+        if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)
+                || clock.hour > 23 || clock.minute > 59 || clock.second > 59) {
+            throw new DateTimeException("Field out of range");
+        }
+        long seconds = epochDay(year, month, day) * SECONDS_PER_DAY
+                + clock.hour * 3600L + clock.minute * 60L + clock.second;
+        return Instant.ofEpochSecond(seconds, clock.nano);
+    }
+
+    private static UUID parseUuid(CharSequence text, int from, int to) {
+        if (to - from != 36 || text.charAt(from + 8) != '-' || text.charAt(from + 13) != '-'
+                || text.charAt(from + 18) != '-' || text.charAt(from + 23) != '-') {
+            return UUID.fromString(text.subSequence(from, to).toString());
+        }
+        long most = hex(text, from, 8) << 32 | hex(text, from + 9, 4) << 16 | hex(text, from + 14, 4);
+        long least = hex(text, from + 19, 4) << 48 | hex(text, from + 24, 12);
+        return new UUID(most, least);
+    }
+
+    /** Plain decimals with up to 18 digits come from the unscaled long; the rest use the constructor. */
+    private static BigDecimal parseDecimal(CharSequence text, int from, int to) {
+        int i = from;
+        boolean negative = i < to && text.charAt(i) == '-';
+        if (negative) {
+            i++;
+        }
+        long unscaled = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; i < to; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                unscaled = unscaled * 10 + (c - '0');
+                digits++;
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                digits = -1;
+                break;
+            }
+        }
+        if (digits > 0 && digits <= 18 && scale != 0) {
+            return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+        }
+        return new BigDecimal(text.subSequence(from, to).toString());
+    }
+
+    /** Time fields read by {@link #time}. */
+    private static final class Clock {
+        int hour;
+        int minute;
+        int second;
+        int nano;
+        int end;
+    }
+
+    /** {@code yyyy-MM-dd} at {@code p} packed as {@code year << 9 | month << 5 | day}, or -1. */
+    private static int date(CharSequence text, int p, int to) {
+        if (to - p < 10 || text.charAt(p + 4) != '-' || text.charAt(p + 7) != '-') {
+            return -1;
+        }
+        int year = digits(text, p, 4);
+        int month = digits(text, p + 5, 2);
+        int day = digits(text, p + 8, 2);
+        if (year < 0 || month < 0 || month > 12 || day < 0 || day > 31) {
+            return -1;
+        }
+        return year << 9 | month << 5 | day;
+    }
+
+    /** {@code HH:mm[:ss[.fraction]]} at {@code p}; false when the text has another shape. */
+    private static boolean time(CharSequence text, int p, int to, Clock clock) {
+        if (to - p < 5 || text.charAt(p + 2) != ':') {
+            return false;
+        }
+        clock.hour = digits(text, p, 2);
+        clock.minute = digits(text, p + 3, 2);
+        clock.second = 0;
+        clock.nano = 0;
+        int i = p + 5;
+        if (i < to && text.charAt(i) == ':') {
+            if (to - i < 3) {
+                return false;
+            }
+            clock.second = digits(text, i + 1, 2);
+            i += 3;
+            if (i < to && text.charAt(i) == '.') {
+                int start = ++i;
+                int nano = 0;
+                while (i < to && i - start < 9 && text.charAt(i) >= '0' && text.charAt(i) <= '9') {
+                    nano = nano * 10 + (text.charAt(i++) - '0');
+                }
+                if (i == start) {
+                    return false;
+                }
+                clock.nano = nano * (int) POWERS_OF_TEN[9 - (i - start)];
+            }
+        }
+        clock.end = i;
+        return clock.hour >= 0 && clock.minute >= 0 && clock.second >= 0;
+    }
+
+    /** {@code Z} or {@code ±HH:MM[:SS]} filling {@code text[p, to)}, in seconds; MIN_VALUE otherwise. */
+    private static int offset(CharSequence text, int p, int to) {
+        if (to - p == 1 && text.charAt(p) == 'Z') {
+            return 0;
+        }
+        if ((to - p != 6 && to - p != 9) || text.charAt(p + 3) != ':') {
+            return Integer.MIN_VALUE;
+        }
+        char sign = text.charAt(p);
+        int hours = digits(text, p + 1, 2);
+        int minutes = digits(text, p + 4, 2);
+        int seconds = 0;
+        if (to - p == 9) {
+            seconds = text.charAt(p + 6) == ':' ? digits(text, p + 7, 2) : -1;
+        }
+        if ((sign != '+' && sign != '-') || hours < 0 || minutes < 0 || seconds < 0) {
+            return Integer.MIN_VALUE;
+        }
+        int total = hours * 3600 + minutes * 60 + seconds;
+        return sign == '-' ? -total : total;
+    }
+
+    private static int digits(CharSequence text, int p, int count) {
+        int value = 0;
+        for (int i = p; i < p + count; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static long hex(CharSequence text, int p, int count) {
+        long value = 0;
+        for (int i = p; i < p + count; i++) {
+            int nibble = Character.digit(text.charAt(i), 16);
+            if (nibble < 0) {
+                throw new NumberFormatException("Invalid hex digit");
+            }
+            value = value << 4 | nibble;
+        }
+        return value;
+    }
+
+    /** Days since 1970-01-01 of a civil date (proleptic Gregorian), after H. Hinnant. */
+    private static long epochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    // ==================== Formatting ====================
+
+    private static boolean inRange(long year) {
+        return year >= 0 && year <= 9999;
+    }
+
+    private static void appendDate(StringBuilder out, int year, int month, int day) {
+        appendPadded(out, year, 4);
+        out.append('-');
+        appendPadded(out, month, 2);
+        out.append('-');
+        appendPadded(out, day, 2);
+    }
+
+    /** {@code LocalTime.toString()}; {@code Instant} always writes the seconds. */
+    private static void appendTime(StringBuilder out, int hour, int minute, int second, int nano, boolean seconds) {
+        appendPadded(out, hour, 2);
+        out.append(':');
+        appendPadded(out, minute, 2);
+        if (!seconds && second == 0 && nano == 0) {
+            return;
+        }
+        out.append(':');
+        appendPadded(out, second, 2);
+        if (nano == 0) {
+            return;
+        }
+        out.append('.');
+        if (nano % 1_000_000 == 0) {
+            appendPadded(out, nano / 1_000_000, 3);
+        } else if (nano % 1_000 == 0) {
+            appendPadded(out, nano / 1_000, 6);
+        } else {
+            appendPadded(out, nano, 9);
+        }
+    }
+
+    /** {@code ZoneOffset.getId()}: {@code Z}, {@code +HH:MM} or {@code +HH:MM:SS}. */
+    private static void appendOffset(StringBuilder out, int totalSeconds) {
+        if (totalSeconds == 0) {
+            out.append('Z');
+            return;
+        }
+        int abs = Math.abs(totalSeconds);
+        out.append(totalSeconds < 0 ? '-' : '+');
+        appendPadded(out, abs / 3600, 2);
+        out.append(':');
+        appendPadded(out, abs / 60 % 60, 2);
+        if (abs % 60 != 0) {
+            out.append(':');
+            appendPadded(out, abs % 60, 2);
+        }
+    }
+
+    private static void appendPadded(StringBuilder out, long value, int width) {
+        for (int i = width - 1; i > 0 && value < POWERS_OF_TEN[i]; i--) {
+            out.append('0');
+        }
+        out.append(value);
+    }
+
+    private static void appendHex(StringBuilder out, long value, int digits) {
+        for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+            out.append(HEX[(int) (value >>> shift) & 0xF]);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package im.arun.toon4j.example;
+
+import im.arun.toon4j.Delimiter;
+import im.arun.toon4j.example.TabularSchemaExample.TabularEncoder;
+import im.arun.toon4j.example.TypeRefExample.TypeRef;
+import im.arun.toon4j.example.TypeRefExample.TypedDecoder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Examples of timestamps, UUIDs and money amounts as first-class TOON values.
+ * Shows records with {@code Instant}, {@code UUID}, {@code BigDecimal} and {@code LocalDate}
+ * fields written and read without string intermediates, and the gain over formatting
+ * each value with {@code String.valueOf}.
+ */
+public class ValueTypesExample {
+
+    public static void main(String[] args) {
+        System.out.println("╔════════════════════════════════════════════════════════════════╗");
+        System.out.println("║          TOON4J Value Types Examples                          ║");
+        System.out.println("║  java.time, UUID and BigDecimal Without Intermediates         ║");
+        System.out.println("╚════════════════════════════════════════════════════════════════╝\n");
+
+        example1_EncodeValueTypes();
+        example2_DecodeValueTypes();
+        example3_EncodePerformance();
+        example4_DecodePerformance();
+    }
+
+    // ==================== Records ====================
+
+    public record Trade(UUID id, Instant executedAt, BigDecimal price, int quantity, LocalDate settles) {}
+
+    public record Booking(String guest, OffsetDateTime arrival, BigDecimal deposit) {}
+
+    /**
+     * Example 1: Writing value types into a table
+     */
+    private static void example1_EncodeValueTypes() {
+        printSectionHeader("Example 1: Encoding Value Types");
+
+        List<Trade> trades = trades(3, new Random(7));
+        System.out.println("TOON Output:");
+        System.out.println(TabularEncoder.encode("trades", trades, Trade.class));
+        System.out.println();
+
+        List<Booking> bookings = List.of(
+                new Booking("alice", OffsetDateTime.of(2025, 1, 4, 15, 0, 0, 0, ZoneOffset.ofHours(1)), new BigDecimal("150.00")),
+                new Booking("bob", OffsetDateTime.of(2025, 1, 5, 9, 30, 0, 0, ZoneOffset.ofHoursMinutes(-5, -30)), new BigDecimal("75.50")));
+        System.out.println(TabularEncoder.encode("bookings", bookings, Booking.class, Delimiter.PIPE));
+        System.out.println();
+        System.out.println("Timestamps contain ':' and are quoted; dates, UUIDs and amounts are not.");
+        System.out.println("Amounts drop trailing zeros, as the encoder does for every BigDecimal.");
+        System.out.println();
+    }
+
+    /**
+     * Example 2: Reading them back into records
+     */
+    private static void example2_DecodeValueTypes() {
+        printSectionHeader("Example 2: Decoding Value Types");
+
+        String toon = """
+            [2]{id,executedAt,price,quantity,settles}:
+              3f2a7c1e-9b4d-4e0a-8c5f-1d2e3f4a5b6c,"2025-01-04T10:30:00.125Z",101.25,40,2025-01-06
+              b81c0d2e-7a3f-4c19-9e8d-0f1a2b3c4d5e,"2025-01-04T10:30:01Z",99.5,15,2025-01-06
+            """;
+        List<Trade> trades = TypedDecoder.decode(toon, new TypeRef<List<Trade>>() {});
+        for (Trade trade : trades) {
+            System.out.println("  " + trade);
+        }
+        System.out.println();
+        System.out.println("Types: " + trades.get(0).id().getClass().getSimpleName() + ", "
+                + trades.get(0).executedAt().getClass().getSimpleName() + ", "
+                + trades.get(0).price().getClass().getSimpleName() + ", "
+                + trades.get(0).settles().getClass().getSimpleName());
+        System.out.println();
+    }
+
+    /**
+     * Example 3: Writing 200,000 trades
+     */
+    private static void example3_EncodePerformance() {
+        printSectionHeader("Example 3: Encode Performance (200,000 rows)");
+
+        List<Trade> trades = trades(200_000, new Random(42));
+
+        // Warm up
+        for (int i = 0; i < 5; i++) {
+            TabularEncoder.encode("trades", trades, Trade.class);
+            encodeWithStrings(trades);
+        }
+
+        long start = System.nanoTime();
+        String direct = TabularEncoder.encode("trades", trades, Trade.class);
+        long directNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        String viaStrings = encodeWithStrings(trades);
+        long stringNanos = System.nanoTime() - start;
+
+        System.out.println("═══════════════════════════════════════════");
+        System.out.printf("String.valueOf path:  %6.1f ms%n", stringNanos / 1_000_000.0);
+        System.out.printf("Value adapters:       %6.1f ms%n", directNanos / 1_000_000.0);
+        System.out.printf("Speedup:              %.2fx%n", (double) stringNanos / directNanos);
+        System.out.printf("Same output:          %s%n", direct.equals(viaStrings));
+        System.out.println("═══════════════════════════════════════════");
+        System.out.println();
+    }
+
+    /**
+     * Example 4: Parsing 200,000 values of each type
+     */
+    private static void example4_DecodePerformance() {
+        printSectionHeader("Example 4: Decode Performance (200,000 values each)");
+
+        List<Trade> trades = trades(200_000, new Random(42));
+        StringBuilder instants = new StringBuilder();
+        StringBuilder uuids = new StringBuilder();
+        StringBuilder prices = new StringBuilder();
+        int[] instantEnds = new int[trades.size()];
+        int[] uuidEnds = new int[trades.size()];
+        int[] priceEnds = new int[trades.size()];
+        for (int i = 0; i < trades.size(); i++) {
+            Trade trade = trades.get(i);
+            instants.append(trade.executedAt());
+            uuids.append(trade.id());
+            prices.append(trade.price().toPlainString());
+            instantEnds[i] = instants.length();
+            uuidEnds[i] = uuids.length();
+            priceEnds[i] = prices.length();
+        }
+
+        System.out.println("═══════════════════════════════════════════");
+        compareParsers("Instant", instants.toString(), instantEnds, Instant.class,
+                (text, from, to) -> Instant.parse(text.substring(from, to)));
+        compareParsers("UUID", uuids.toString(), uuidEnds, UUID.class,
+                (text, from, to) -> UUID.fromString(text.substring(from, to)));
+        compareParsers("BigDecimal", prices.toString(), priceEnds, BigDecimal.class,
+                (text, from, to) -> new BigDecimal(text.substring(from, to)));
+        System.out.println("═══════════════════════════════════════════");
+        System.out.println();
+    }
+
+    // Helper methods
+
+    /** A parser over a character range, for comparing against substring-based parsing. */
+    private interface RangeParser {
+        Object parse(String text, int from, int to);
+    }
+
+    private static void compareParsers(String label, String text, int[] ends, Class<?> type, RangeParser baseline) {
+        RangeParser adapter = (source, from, to) -> ValueAdapters.parse(type, source, from, to);
+        for (int i = 0; i < 5; i++) {
+            parseAll(text, ends, baseline);
+            parseAll(text, ends, adapter);
+        }
+        long start = System.nanoTime();
+        long baselineHash = parseAll(text, ends, baseline);
+        long baselineNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        long adapterHash = parseAll(text, ends, adapter);
+        long adapterNanos = System.nanoTime() - start;
+        System.out.printf("%-11s substring + parse %6.1f ms | adapter %6.1f ms | %.2fx%s%n", label + ":",
+                baselineNanos / 1_000_000.0, adapterNanos / 1_000_000.0, (double) baselineNanos / adapterNanos,
+                baselineHash == adapterHash ? "" : " (results differ)");
+    }
+
+    private static long parseAll(String text, int[] ends, RangeParser parser) {
+        long hash = 0;
+        int from = 0;
+        for (int end : ends) {
+            hash = hash * 31 + parser.parse(text, from, end).hashCode();
+            from = end;
+        }
+        return hash;
+    }
+
+    /** The pre-adapter path: every value formatted to a String, then quoted as needed. */
+    private static String encodeWithStrings(List<Trade> trades) {
+        StringBuilder out = new StringBuilder(trades.size() * 96);
+        ToonStrings.appendHeader(out, "trades", trades.size(),
+                List.of("id", "executedAt", "price", "quantity", "settles"), ',');
+        for (Trade trade : trades) {
+            out.append("\n  ");
+            ToonStrings.appendString(out, String.valueOf(trade.id()), ',');
+            out.append(',');
+            ToonStrings.appendString(out, String.valueOf(trade.executedAt()), ',');
+            out.append(',');
+            out.append(trade.price().stripTrailingZeros().toPlainString());
+            out.append(',');
+            out.append(trade.quantity());
+            out.append(',');
+            ToonStrings.appendString(out, String.valueOf(trade.settles()), ',');
+        }
+        return out.toString();
+    }
+
+    private static List<Trade> trades(int count, Random random) {
+        List<Trade> trades = new ArrayList<>(count);
+        long base = Instant.parse("2025-01-04T09:30:00Z").getEpochSecond();
+        for (int i = 0; i < count; i++) {
+            Instant executedAt = Instant.ofEpochSecond(base + random.nextInt(6 * 3600), random.nextInt(1000) * 1_000_000L);
+            BigDecimal price = BigDecimal.valueOf(5_000 + random.nextInt(20_000), 2);
+            trades.add(new Trade(new UUID(random.nextLong(), random.nextLong()), executedAt, price,
+                    1 + random.nextInt(500), LocalDate.of(2025, 1, 6)));
+        }
+        return trades;
+    }
+
+    private static void printSectionHeader(String title) {
+        System.out.println("═".repeat(65));
+        System.out.println(title);
+        System.out.println("═".repeat(65));
+    }
+}